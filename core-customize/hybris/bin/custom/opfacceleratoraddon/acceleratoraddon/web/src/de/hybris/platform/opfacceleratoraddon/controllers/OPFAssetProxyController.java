@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.opfacceleratoraddon.controllers;
+
+import de.hybris.platform.acceleratorstorefrontcommons.controllers.AbstractController;
+import de.hybris.platform.service.OPFAssetProxyService;
+import de.hybris.platform.service.OPFAssetType;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.annotation.Resource;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping(value = "/opf-payment")
+public class OPFAssetProxyController extends AbstractController {
+
+    @Resource(name = "opfAssetProxyService")
+    private OPFAssetProxyService opfAssetProxyService;
+
+    /**
+     * Serves a payment provider asset verified against its integrity. The url names the content by its integrity, so
+     * it is cached as immutable. Assets that cannot be proxied redirect to the payment provider host, where the browser
+     * checks the integrity again.
+     *
+     * @param signature signature of the proxy url
+     * @param extension js or css
+     * @param src url of the asset on the payment provider host
+     * @param integrity subresource integrity of the asset
+     * @return the asset
+     */
+    @GetMapping(value = "/assets/{signature}.{extension}")
+    public ResponseEntity<FileSystemResource> getAsset(@PathVariable("signature") final String signature,
+            @PathVariable("extension") final String extension, @RequestParam("src") final String src,
+            @RequestParam("integrity") final String integrity) {
+        final OPFAssetType type = OPFAssetType.fromExtension(extension);
+        if (!opfAssetProxyService.isSigned(integrity, src, type, signature)) {
+            return ResponseEntity.notFound().build();
+        }
+        final Optional<Path> asset = opfAssetProxyService.getAsset(integrity, src, type);
+        if (asset.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(src))
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .contentType(MediaType.parseMediaType(type.getContentType()))
+                .header("X-Content-Type-Options", "nosniff")
+                .body(new FileSystemResource(asset.get()));
+    }
+}
@@ -10,6 +10,7 @@ import de.hybris.platform.webservicescommons.dto.error.ErrorListWsDTO;
 import de.hybris.platform.webservicescommons.dto.error.ErrorWsDTO;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.log4j.Logger;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static de.hybris.platform.util.Sanitizer.sanitize;
@@ -38,10 +40,11 @@ public class OPFGlobalExceptionHandler {
      * Handle custom OPF Exception
      *
      * @param ex
-     *         The exception to handle, can either be an instance of OPFAcceleratorException or OPFRequestValidationException.
+     *         The exception to handle, can either be an instance of OPFAcceleratorException, OPFRequestValidationException
+     *         or a RejectedExecutionException raised when an OPF gateway call is shed locally under overload.
      * @return ResponseEntity containing the error details and corresponding HTTP status code.
      */
-    @ExceptionHandler({ OPFAcceleratorException.class, OPFRequestValidationException.class })
+    @ExceptionHandler({ OPFAcceleratorException.class, OPFRequestValidationException.class, RejectedExecutionException.class })
     public ResponseEntity<ErrorListWsDTO> handleOpfException(final Throwable ex) {
         LOG.error(sanitize(ex.getMessage()), ex);
         ErrorListWsDTO errorListWsDTO = handleErrorInternal(ex);
@@ -136,7 +139,12 @@ public class OPFGlobalExceptionHandler {
      */
     public ErrorListWsDTO handleException(ErrorListWsDTO errorListDto, Throwable cause) {
         Throwable rootCause = cause.getCause();
-        if (rootCause instanceof HttpClientErrorException httpEx) {
+        RejectedExecutionException rejection = ExceptionUtils.throwableOfType(cause, RejectedExecutionException.class);
+        if (rejection != null) {
+            errorListDto.setErrors(Collections.singletonList(
+                    populateErrorDTO("ServiceUnavailableError", "The payment service is busy, please try again shortly.",
+                            sanitize(rejection.getMessage()), String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()))));
+        } else if (rootCause instanceof HttpClientErrorException httpEx) {
             errorListDto.setErrors(Collections.singletonList(
                     populateErrorDTO(cause.getClass().getSimpleName().replace("Exception", "Error"),
                             "There was an error encountered during the processing of the request.", sanitize(httpEx.getMessage()),
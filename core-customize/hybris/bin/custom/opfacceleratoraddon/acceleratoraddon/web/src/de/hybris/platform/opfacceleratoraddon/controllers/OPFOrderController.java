@@ -16,6 +16,7 @@ import de.hybris.platform.opf.dto.error.ErrorListData;
 import de.hybris.platform.opfacceleratoraddon.exception.OPFAcceleratorException;
 import de.hybris.platform.opfacceleratoraddon.exception.OPFRequestValidationException;
 import de.hybris.platform.opfacceleratoraddon.validation.OPFOrderCartValidator;
+import de.hybris.platform.service.OPFCartSnapshot;
 import de.hybris.platform.servicelayer.i18n.I18NService;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
@@ -51,6 +52,8 @@ public class OPFOrderController {
     private CheckoutFacade checkoutFacade;
     @Resource(name = "opfAcceleratorFacade")
     private OPFAcceleratorFacade opfAcceleratorFacade;
+    @Resource(name = "opfCartSnapshot")
+    private OPFCartSnapshot opfCartSnapshot;
     @Resource(name = "messageSource")
     private MessageSource messageSource;
     @Resource(name = "i18nService")
@@ -71,7 +74,8 @@ public class OPFOrderController {
         if (!termsChecked) {
             throw new OPFRequestValidationException("Some required fields are missing or contain errors");
         }
-        final CartData cartData = checkoutFacade.getCheckoutCart();
+        opfAcceleratorFacade.awaitPaymentTransaction();
+        final CartData cartData = getSessionCart();
         final Errors errors = new BeanPropertyBindingResult(cartData, "sessionCart");
         opfOrderCartValidator.validate(cartData, errors);
         if (errors.hasErrors())
@@ -102,7 +106,7 @@ public class OPFOrderController {
     }
 
     protected CartData getSessionCart() {
-        return checkoutFacade.getCheckoutCart();
+        return opfCartSnapshot.getCheckoutCart();
     }
 
     public MessageSource getMessageSource() {
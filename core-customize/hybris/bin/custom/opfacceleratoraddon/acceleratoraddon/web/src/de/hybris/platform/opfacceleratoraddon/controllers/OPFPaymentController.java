@@ -3,28 +3,62 @@
  */
 package de.hybris.platform.opfacceleratoraddon.controllers;
 
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.opf.dto.cta.CTAAttributesDTO;
+import com.opf.dto.cta.CTABatchRequestDTO;
+import com.opf.dto.cta.CTABatchResponseDTO;
+import com.opf.dto.cta.CTAProductItemsDTO;
 import com.opf.dto.cta.CTARequestDTO;
 import com.opf.dto.cta.CTAResponseDTO;
 import com.opf.dto.cta.OPFActiveConfigDTO;
 import de.hybris.platform.acceleratorstorefrontcommons.controllers.AbstractController;
+import de.hybris.platform.commercefacades.user.UserFacade;
 
 import de.hybris.platform.facade.OPFAcceleratorFacade;
 import de.hybris.platform.opfacceleratoraddon.exception.OPFAcceleratorException;
+import de.hybris.platform.opfacceleratoraddon.exception.OPFRequestValidationException;
 import de.hybris.platform.opfservices.client.CCAdapterClientException;
+import de.hybris.platform.service.OPFCTAEdgeCacheService;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.log4j.Logger;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping(value = "/opf-payment")
 public class OPFPaymentController extends AbstractController {
     private static final Logger LOG = Logger.getLogger(OPFPaymentController.class);
+    private static final int MAX_CTA_SCRIPT_LOCATIONS = 8;
+    private static final int MAX_CTA_PAYMENT_ACCOUNTS = 20;
+    private static final long MAX_CTA_QUANTITY = 9999L;
+    // replaced by the storefront with the scriptIdentifier of the page, so one response fits every page view
+    private static final String SCRIPT_IDENTIFIER_PLACEHOLDER = "opfctascriptidentifier";
+    private static final Pattern CTA_TOKEN = Pattern.compile("[A-Za-z0-9_.-]{1,64}");
+    private static final Pattern CTA_CURRENCY = Pattern.compile("[A-Za-z]{3}");
+    private static final ObjectMapper CTA_RESPONSE_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
 
     @Resource(name = "opfAcceleratorFacade")
     private OPFAcceleratorFacade opfAcceleratorFacade;
 
+    @Resource(name = "opfCTAEdgeCacheService")
+    private OPFCTAEdgeCacheService opfCTAEdgeCacheService;
+
+    @Resource(name = "userFacade")
+    private UserFacade userFacade;
+
     /**
      * Handles CTA script rendering for OPF payments.
      *
@@ -43,6 +77,114 @@ public class OPFPaymentController extends AbstractController {
 
     }
 
+    /**
+     * Handles CTA script rendering of one product for CDN and browser caches. The response only depends on the query
+     * parameters, which are expected in canonical form (sorted names, sorted account ids), other forms are redirected
+     * to it so every rendering has a single cache key. Renderings of logged-in customers are only cached by the browser.
+     * The scripts carry a placeholder instead of a scriptIdentifier, which the storefront replaces after the response
+     * arrived. Requests whose If-None-Match matches the ETag of the rendering are answered with 304 Not Modified.
+     *
+     * @param accountIds
+     *         payment account ids, comma separated
+     * @param productId
+     *         product code
+     * @param quantity
+     *         quantity of the product
+     * @param locale
+     *         locale of the page
+     * @param currency
+     *         currency iso code of the page
+     * @param scriptLocation
+     *         script location context
+     * @param request
+     *         the http request
+     * @return the CTAResponseDTO as json
+     */
+    @GetMapping(value = "/cta-scripts-rendering", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> ctaScriptRendering(@RequestParam("accountIds") final List<String> accountIds,
+            @RequestParam("productId") final String productId, @RequestParam("quantity") final long quantity,
+            @RequestParam("locale") final String locale, @RequestParam("currency") final String currency,
+            @RequestParam("scriptLocation") final String scriptLocation, final HttpServletRequest request) {
+        final List<String> sortedAccountIds = accountIds.stream().filter(Objects::nonNull).map(String::trim).distinct()
+                .sorted().toList();
+        if (sortedAccountIds.isEmpty() || sortedAccountIds.size() > MAX_CTA_PAYMENT_ACCOUNTS
+                || !sortedAccountIds.stream().allMatch(accountId -> CTA_TOKEN.matcher(accountId).matches())
+                || productId.isBlank() || productId.length() > 255 || quantity < 1 || quantity > MAX_CTA_QUANTITY
+                || !CTA_TOKEN.matcher(locale).matches() || !CTA_CURRENCY.matcher(currency).matches()
+                || !CTA_TOKEN.matcher(scriptLocation).matches()) {
+            throw new OPFRequestValidationException("Some required fields are missing or contain errors");
+        }
+
+        final boolean anonymous = userFacade.isAnonymousUser();
+        final String canonicalQuery = opfCTAEdgeCacheService.getCanonicalQuery(Map.of(
+                "accountIds", String.join(",", sortedAccountIds),
+                "currency", currency,
+                "locale", locale,
+                "productId", productId,
+                "quantity", String.valueOf(quantity),
+                "scriptLocation", scriptLocation));
+        if (!canonicalQuery.equals(request.getQueryString())) {
+            return opfCTAEdgeCacheService.createRedirect(request.getRequestURI(), canonicalQuery, anonymous);
+        }
+
+        final CTAResponseDTO ctaResponse;
+        final byte[] body;
+        try {
+            ctaResponse = opfAcceleratorFacade.getCTAResponse(
+                    createCTARequest(sortedAccountIds, productId, quantity, locale, currency, scriptLocation));
+            body = CTA_RESPONSE_MAPPER.writeValueAsBytes(ctaResponse);
+        } catch (Exception exception) {
+            throw new OPFAcceleratorException("Error occurred while processing CTA script rendering for OPF payment", exception);
+        }
+        // gateway failures fall back to an empty response, which must not be cached
+        return opfCTAEdgeCacheService.createResponse(body,
+                ctaResponse != null && CollectionUtils.isNotEmpty(ctaResponse.getValue()),
+                request.getHeader(HttpHeaders.IF_NONE_MATCH), anonymous);
+    }
+
+    private static CTARequestDTO createCTARequest(final List<String> accountIds, final String productId,
+            final long quantity, final String locale, final String currency, final String scriptLocation) {
+        final CTAProductItemsDTO productItem = new CTAProductItemsDTO();
+        productItem.setProductId(productId);
+        productItem.setQuantity(quantity);
+        final CTARequestDTO ctaRequestWsDTO = new CTARequestDTO();
+        ctaRequestWsDTO.setPaymentAccountIds(accountIds);
+        ctaRequestWsDTO.setScriptLocations(List.of(scriptLocation));
+        ctaRequestWsDTO.setCtaProductItems(List.of(productItem));
+        ctaRequestWsDTO.setAdditionalData(List.of(createCTAAttribute("locale", locale),
+                createCTAAttribute("currency", currency),
+                createCTAAttribute("scriptIdentifier", SCRIPT_IDENTIFIER_PLACEHOLDER)));
+        return ctaRequestWsDTO;
+    }
+
+    private static CTAAttributesDTO createCTAAttribute(final String key, final String value) {
+        final CTAAttributesDTO attribute = new CTAAttributesDTO();
+        attribute.setKey(key);
+        attribute.setValue(value);
+        return attribute;
+    }
+
+    /**
+     * Handles CTA script rendering of several script locations of a page in one round trip, e.g. the cart body and the
+     * mini cart.
+     *
+     * @param ctaBatchRequestDTO
+     *         requests keyed by script location context
+     * @return a CTABatchResponseDTO keyed by the same contexts
+     */
+    @ResponseBody
+    @RequestMapping(value = "/cta-scripts-rendering/batch", method = RequestMethod.POST, produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CTABatchResponseDTO ctaScriptsRendering(@RequestBody final CTABatchRequestDTO ctaBatchRequestDTO) {
+        if (ctaBatchRequestDTO.getRequests() != null && ctaBatchRequestDTO.getRequests().size() > MAX_CTA_SCRIPT_LOCATIONS) {
+            throw new OPFRequestValidationException("At most " + MAX_CTA_SCRIPT_LOCATIONS + " script locations can be rendered at once");
+        }
+        try {
+            return opfAcceleratorFacade.getCTAResponses(ctaBatchRequestDTO);
+        } catch (Exception exception) {
+            throw new OPFAcceleratorException("Error occurred while processing CTA script rendering for OPF payment", exception);
+        }
+    }
+
     /**
      * get active configurations
      *
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.opfacceleratoraddon.controllers;
+
+import de.hybris.platform.acceleratorstorefrontcommons.controllers.AbstractController;
+import de.hybris.platform.opf.data.OPFGatewayStatsData;
+import de.hybris.platform.opf.data.OPFWarmUpStatsData;
+import de.hybris.platform.service.OPFGatewayMonitoringService;
+import de.hybris.platform.service.OPFWarmUpService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.annotation.Resource;
+
+@RestController
+@RequestMapping(value = "/opf-payment")
+public class OPFReadinessController extends AbstractController {
+
+    @Resource(name = "opfWarmUpService")
+    private OPFWarmUpService opfWarmUpService;
+
+    @Resource(name = "opfGatewayMonitoringService")
+    private OPFGatewayMonitoringService opfGatewayMonitoringService;
+
+    /**
+     * Readiness probe for the load balancer, 503 until the OPF warm-up of this node finished
+     *
+     * @return {@link OPFWarmUpStatsData}
+     */
+    @GetMapping(value = "/readiness", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OPFWarmUpStatsData> getReadiness() {
+        final OPFWarmUpStatsData warmUpStats = opfWarmUpService.getWarmUpStats();
+        return ResponseEntity.status(warmUpStats.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .cacheControl(CacheControl.noStore())
+                .body(warmUpStats);
+    }
+
+    /**
+     * Counters of the OPF gateway transport of this node for operators, 404 unless
+     * opf.monitoring.gateway.stats.enabled is set
+     *
+     * @return {@link OPFGatewayStatsData}
+     */
+    @GetMapping(value = "/gateway-stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OPFGatewayStatsData> getGatewayStats() {
+        if (!opfGatewayMonitoringService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(opfGatewayMonitoringService.getGatewayStats());
+    }
+}
@@ -31,10 +31,13 @@ $(document).ready(function () {
     sessionStorage.removeItem('globalError');
   }
 
-  const ctaScriptContext = $('input[name="cta-script-context"]').val();
+  // A page may render several script locations, e.g. the cart body and the mini cart
+  const ctaScriptContexts = [...new Set($('input[name="cta-script-context"]').map(function () {
+    return ($(this).val() || '').replace(/^\s+|\s+$/g, '');
+  }).get().filter(Boolean))];
 
   // Exit early if context is not available
-  if (!ctaScriptContext?.replace(/^\s+|\s+$/g, '')) return;
+  if (ctaScriptContexts.length === 0) return;
 
   const selectedLanguage = $('#lang-selector option:selected').val() || 'en';
 
@@ -42,9 +45,9 @@ $(document).ready(function () {
   OpfApis.fetchActiveConfigs().then((configs) => {
     const paymentAccountIds = configs.map((config) => config.id);
 
-    // Then: Call cta-scripts-rendering API using the retrieved merchantIds
+    // Then: Call cta-scripts-rendering API once for all script locations using the retrieved merchantIds
     if (paymentAccountIds.length > 0) {
-      loadOpfCtaScript(selectedLanguage, ctaScriptContext, paymentAccountIds);
+      loadOpfCtaScripts(selectedLanguage, ctaScriptContexts, paymentAccountIds);
     } else {
       console.warn('No valid merchantIds found in active configs.');
     }
@@ -74,10 +77,80 @@ function setupKlarnaFallbackHandlers() {
 }
 
 /**
- * Sends a POST request to the OPF CTA script rendering API and injects the returned dynamic script and HTML into the page.
+ * Sends one POST request to the OPF CTA script rendering API for all script locations of the page and injects the
+ * returned dynamic script and HTML of each location into its container.
  */
-function loadOpfCtaScript(selectedLanguage, ctaScriptContext, paymentAccountIds) {
-  const url = `${ACC.config.encodedContextPath}/opf-payment/cta-scripts-rendering`;
+function loadOpfCtaScripts(selectedLanguage, ctaScriptContexts, paymentAccountIds) {
+  if (ctaScriptContexts.length === 1 && ctaScriptContexts[0].indexOf('PDP') > -1) {
+    loadCacheableOpfCtaScript(selectedLanguage, ctaScriptContexts[0], paymentAccountIds);
+    return;
+  }
+
+  const url = `${ACC.config.encodedContextPath}/opf-payment/cta-scripts-rendering/batch`;
+  const scriptIdentifiers = {};
+  const requests = {};
+
+  ctaScriptContexts.forEach((ctaScriptContext) => {
+    scriptIdentifiers[ctaScriptContext] = getNewScriptIdentifier();
+    requests[ctaScriptContext] = buildCtaScriptPayload(selectedLanguage, ctaScriptContext, paymentAccountIds,
+        scriptIdentifiers[ctaScriptContext]);
+  });
+
+  $.ajax({
+    url: url,
+    data: JSON.stringify({ requests }),
+    method: "POST",
+    contentType: 'application/json',
+    success: function (response) {
+      ctaScriptContexts.forEach((ctaScriptContext) => {
+        renderCtaScript(ctaScriptContext, response?.responses?.[ctaScriptContext], scriptIdentifiers[ctaScriptContext]);
+      });
+    },
+    error: function (jqXHR, textStatus, errorThrown) {
+      console.error(`Failed to render CTA scripts. Error: [${errorThrown}]`);
+    }
+  });
+}
+
+/**
+ * Placeholder the cacheable CTA script rendering carries instead of a scriptIdentifier.
+ */
+const CTA_SCRIPT_IDENTIFIER_PLACEHOLDER = 'opfctascriptidentifier';
+
+/**
+ * Requests the CTA script of a product page with a GET, which CDN and browser caches can serve as it only depends on
+ * the query. The query is canonical: names in alphabetical order and sorted account ids. The scriptIdentifier of this
+ * page view is written into the cached payload once it arrived.
+ */
+function loadCacheableOpfCtaScript(selectedLanguage, ctaScriptContext, paymentAccountIds) {
+  const query = [
+    ['accountIds', [...new Set(paymentAccountIds.map(String))].sort().join(',')],
+    ['currency', ACC.common.currentCurrency],
+    ['locale', selectedLanguage],
+    ['productId', ($('.code').html() || '').trim()],
+    ['quantity', Math.max(1, parseInt($('#pdpAddtoCartInput').val()) || 1)],
+    ['scriptLocation', ctaScriptContext]
+  ].map(([name, value]) => `${name}=${encodeURIComponent(value)}`).join('&');
+  const scriptIdentifier = getNewScriptIdentifier();
+
+  $.ajax({
+    url: `${ACC.config.encodedContextPath}/opf-payment/cta-scripts-rendering?${query}`,
+    method: "GET",
+    dataType: 'text',
+    success: function (response) {
+      const ctaResponse = JSON.parse(response.split(CTA_SCRIPT_IDENTIFIER_PLACEHOLDER).join(scriptIdentifier));
+      renderCtaScript(ctaScriptContext, ctaResponse, scriptIdentifier);
+    },
+    error: function (jqXHR, textStatus, errorThrown) {
+      console.error(`Failed to render CTA script. Error: [${errorThrown}]`);
+    }
+  });
+}
+
+/**
+ * Builds the CTA script rendering request of one script location.
+ */
+function buildCtaScriptPayload(selectedLanguage, ctaScriptContext, paymentAccountIds, scriptIdentifier) {
   const ctaProductItemsArr = [];
 
   // Handle PDP context
@@ -104,9 +177,7 @@ function loadOpfCtaScript(selectedLanguage, ctaScriptContext, paymentAccountIds)
     });
   }
 
-  const scriptIdentifier = getNewScriptIdentifier();
-
-  const payload = {
+  return {
     additionalData: [
       { key: "locale", value: selectedLanguage },
       { key: "currency", value: ACC.common.currentCurrency },
@@ -116,41 +187,36 @@ function loadOpfCtaScript(selectedLanguage, ctaScriptContext, paymentAccountIds)
     ctaProductItems: ctaProductItemsArr,
     scriptLocations: [ctaScriptContext]
   };
+}
 
-  $.ajax({
-    url: url,
-    data: JSON.stringify(payload),
-    method: "POST",
-    contentType: 'application/json',
-    success: function (response) {
-      if (response?.value?.length > 0) {
-        const jsItem = response.value[0].dynamicScript.jsUrls[0];
-
-        createAndAppendResource({
-          type: 'script',
-          url: jsItem.url,
-          attributes: {
-            ...(jsItem.attributes || []).reduce((acc, attr) => {
-              acc[attr.key] = attr.value;
-              return acc;
-            }, {}),
-            'data-opf-resource': 'true'
-          }
-        });
-
-        const container = document.getElementById("opf-cta-script");
-        if (container) {
-          setupKlarnaFallbackHandlers();
-          container.innerHTML = response.value[0].dynamicScript.html;
-          executeScriptFromHtml(response.value[0].dynamicScript.html);
-          scriptReady(ctaScriptContext, scriptIdentifier);
-        }
+/**
+ * Injects the dynamic script and HTML rendered for one script location into its container.
+ */
+function renderCtaScript(ctaScriptContext, response, scriptIdentifier) {
+  if (response?.value?.length > 0) {
+    const jsItem = response.value[0].dynamicScript.jsUrls[0];
+
+    createAndAppendResource({
+      type: 'script',
+      url: jsItem.url,
+      attributes: {
+        ...(jsItem.attributes || []).reduce((acc, attr) => {
+          acc[attr.key] = attr.value;
+          return acc;
+        }, {}),
+        'data-opf-resource': 'true'
       }
-    },
-    error: function (jqXHR, textStatus, errorThrown) {
-      console.error(`Failed to close account. Error: [${errorThrown}]`);
+    });
+
+    const container = document.querySelector(`[data-cta-script-context="${ctaScriptContext}"]`)
+        || document.getElementById("opf-cta-script");
+    if (container) {
+      setupKlarnaFallbackHandlers();
+      container.innerHTML = response.value[0].dynamicScript.html;
+      executeScriptFromHtml(response.value[0].dynamicScript.html);
+      scriptReady(ctaScriptContext, scriptIdentifier);
     }
-  });
+  }
 }
 
 /**
@@ -473,7 +539,8 @@ function loadPaymentScript(resource, onLoad, onError) {
  */
 function isScriptAlreadyLoaded(url) {
   const scripts = document.querySelectorAll('script[src]');
-  return Array.from(scripts).some(script => script.src === url);
+  const src = new URL(resolveResourceUrl(url), window.location.href).href;
+  return Array.from(scripts).some(script => script.src === src);
 }
 
 /**
@@ -500,7 +567,19 @@ function loadPaymentStyles(resource, onLoad, onError) {
  */
 function isStyleAlreadyLoaded(url) {
   const links = document.querySelectorAll('link[rel="stylesheet"]');
-  return Array.from(links).some(link => link.href === url);
+  const href = new URL(resolveResourceUrl(url), window.location.href).href;
+  return Array.from(links).some(link => link.href === href);
+}
+
+/**
+ * Resolves the url of a payment resource. Resources served by the OPF asset proxy come as paths
+ * relative to the storefront context path, third-party urls are returned unchanged.
+ */
+function resolveResourceUrl(url) {
+  if (url.startsWith('/') && !url.startsWith('//')) {
+    return `${ACC.config.encodedContextPath}${url}`;
+  }
+  return url;
 }
 
 /**
@@ -536,13 +615,13 @@ function createAndAppendResource({ type, url, attributes = {}, sri, onLoad, onEr
   // Create the appropriate HTML element based on resource type
   if (type === 'script') {
     element = document.createElement('script');
-    element.src = url;
+    element.src = resolveResourceUrl(url);
     element.type = 'text/javascript';
     element.async = true;
     element.defer = true;
   } else if (type === 'style') {
     element = document.createElement('link');
-    element.href = url;
+    element.href = resolveResourceUrl(url);
     element.rel = 'stylesheet';
   } else {
     // Unsupported resource type
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import de.hybris.platform.opf.data.OPFAccessTokenStatsData;
+
+import java.util.List;
+
+/**
+ * Provides the OAuth access tokens sent to the OPF gateway, cached per tenant and base site.
+ */
+public interface OPFAccessTokenManager {
+
+    /**
+     * get a valid access token for the current tenant and base site, acquiring one if none is cached
+     *
+     * @return the access token
+     */
+    String getAccessToken();
+
+    /**
+     * drop the cached token of the current tenant and base site if it is still the given one, so the next
+     * {@link #getAccessToken()} acquires a new token
+     *
+     * @param accessToken token rejected by the gateway
+     */
+    void invalidate(String accessToken);
+
+    /**
+     * drop the cached tokens of all tenants and base sites, e.g. after the OPF credentials were changed
+     */
+    void invalidateAll();
+
+    /**
+     * get the token age and refresh counters per tenant and base site
+     *
+     * @return list of {@link OPFAccessTokenStatsData}
+     */
+    List<OPFAccessTokenStatsData> getAccessTokenStats();
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when a gateway call is rejected locally because the bulkhead of its operation class is saturated.
+ */
+public class OPFBulkheadFullException extends RejectedExecutionException {
+
+    private final OPFOperationClass operationClass;
+
+    /**
+     * Constructor for OPFBulkheadFullException
+     *
+     * @param operationClass
+     *         operation class whose bulkhead is saturated
+     * @param reason
+     *         why the call was rejected
+     */
+    public OPFBulkheadFullException(final OPFOperationClass operationClass, final String reason) {
+        super("Bulkhead for OPF operation class " + operationClass.getCode() + " rejected the call: " + reason);
+        this.operationClass = operationClass;
+    }
+
+    public OPFOperationClass getOperationClass() {
+        return operationClass;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+
+/**
+ * Degraded response for a gateway endpoint, served when its circuit breaker is open or a call to it fails.
+ */
+public interface OPFCircuitBreakerFallback {
+
+    /**
+     * @param endpoint
+     *         gateway endpoint
+     * @return true if this fallback can answer for the endpoint
+     */
+    boolean supports(OPFGatewayEndpoint endpoint);
+
+    /**
+     * Provide the degraded response
+     *
+     * @param endpoint
+     *         gateway endpoint
+     * @param request
+     *         request that could not be sent or failed
+     * @param <T>
+     *         response type
+     * @return the fallback response, or {@code null} if none is available
+     */
+    <T> T getFallback(OPFGatewayEndpoint endpoint, HttpClientRequestDto<T> request);
+
+    /**
+     * Called for every successful response of a supported endpoint, e.g. to remember the last good response
+     *
+     * @param endpoint
+     *         gateway endpoint
+     * @param request
+     *         request sent
+     * @param response
+     *         response received
+     * @param <T>
+     *         response type
+     */
+    default <T> void onSuccess(final OPFGatewayEndpoint endpoint, final HttpClientRequestDto<T> request, final T response) {
+        // no state by default
+    }
+}
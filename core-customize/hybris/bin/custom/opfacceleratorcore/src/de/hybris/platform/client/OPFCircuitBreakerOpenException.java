@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when a gateway call is rejected locally because the circuit breaker of its endpoint is open and no fallback
+ * is available.
+ */
+public class OPFCircuitBreakerOpenException extends RejectedExecutionException {
+
+    private final OPFGatewayEndpoint endpoint;
+
+    /**
+     * Constructor for OPFCircuitBreakerOpenException
+     *
+     * @param endpoint
+     *         endpoint whose circuit is open
+     */
+    public OPFCircuitBreakerOpenException(final OPFGatewayEndpoint endpoint) {
+        super("Circuit breaker for OPF endpoint " + endpoint.getCode() + " is open");
+        this.endpoint = endpoint;
+    }
+
+    public OPFGatewayEndpoint getEndpoint() {
+        return endpoint;
+    }
+}
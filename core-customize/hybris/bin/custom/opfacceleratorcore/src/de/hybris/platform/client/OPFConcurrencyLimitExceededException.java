@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when a gateway call is rejected locally because the adaptive concurrency limit of the OPF gateway is reached.
+ */
+public class OPFConcurrencyLimitExceededException extends RejectedExecutionException {
+
+    private final int limit;
+
+    /**
+     * Constructor for OPFConcurrencyLimitExceededException
+     *
+     * @param limit
+     *         concurrency limit in force when the call was rejected
+     */
+    public OPFConcurrencyLimitExceededException(final int limit) {
+        super("OPF gateway concurrency limit of " + limit + " calls reached");
+        this.limit = limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Optional;
+
+/**
+ * OPF gateway endpoints called by the accelerator, identified by the {@code opf.*.url} property holding their path.
+ * The code of an endpoint is used as suffix for endpoint specific properties, e.g.
+ * {@code opf.retry.deadline.ms.submit-complete}.
+ */
+public enum OPFGatewayEndpoint {
+    CTA("cta", "opf.cta.url", OPFOperationClass.BROWSE),
+    ACTIVE_CONFIG("active-config", "opf.active.config.url", OPFOperationClass.BROWSE),
+    INITIATE_PAYMENT("initiate", "opf.initiate.payment.session.url", OPFOperationClass.SESSION),
+    SUBMIT("submit", "opf.submit.url", OPFOperationClass.PAYMENT),
+    VERIFY("verify", "opf.verify.url", OPFOperationClass.PAYMENT),
+    SUBMIT_COMPLETE("submit-complete", "opf.complete.payment.url", OPFOperationClass.PAYMENT),
+    APPLE_PAY_WEB_SESSION("applepay-web-session", "opf.applepay.web.session.url", OPFOperationClass.SESSION);
+
+    private final String code;
+    private final String urlKey;
+    private final OPFOperationClass operationClass;
+
+    OPFGatewayEndpoint(final String code, final String urlKey, final OPFOperationClass operationClass) {
+        this.code = code;
+        this.urlKey = urlKey;
+        this.operationClass = operationClass;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getUrlKey() {
+        return urlKey;
+    }
+
+    public OPFOperationClass getOperationClass() {
+        return operationClass;
+    }
+
+    /**
+     * Resolve the endpoint whose global url matches the given request path; urls overridden per base site are
+     * resolved by {@code OPFConfig#getEndpoint(String)}
+     *
+     * @param path
+     *         request path
+     * @param configuration
+     *         current configuration
+     * @return the matching endpoint, empty for paths not owned by the accelerator (e.g. token calls)
+     */
+    public static Optional<OPFGatewayEndpoint> forPath(final String path, final Configuration configuration) {
+        if (StringUtils.isEmpty(path)) {
+            return Optional.empty();
+        }
+        for (final OPFGatewayEndpoint endpoint : values()) {
+            if (path.equals(configuration.getString(endpoint.urlKey, null))) {
+                return Optional.of(endpoint);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Read an endpoint specific long property, falling back to the shared default property
+     *
+     * @param configuration
+     *         current configuration
+     * @param keyPrefix
+     *         property prefix, e.g. {@code opf.retry.deadline.ms}
+     * @param defaultValue
+     *         value used when neither property is set
+     * @return the configured value
+     */
+    public long getLong(final Configuration configuration, final String keyPrefix, final long defaultValue) {
+        return configuration.getLong(keyPrefix + "." + code, configuration.getLong(keyPrefix, defaultValue));
+    }
+
+    /**
+     * Read an endpoint specific int property, falling back to the shared default property
+     *
+     * @param configuration
+     *         current configuration
+     * @param keyPrefix
+     *         property prefix
+     * @param defaultValue
+     *         value used when neither property is set
+     * @return the configured value
+     */
+    public int getInt(final Configuration configuration, final String keyPrefix, final int defaultValue) {
+        return configuration.getInt(keyPrefix + "." + code, configuration.getInt(keyPrefix, defaultValue));
+    }
+
+    /**
+     * Read an endpoint specific boolean property, falling back to the shared default property
+     *
+     * @param configuration
+     *         current configuration
+     * @param keyPrefix
+     *         property prefix
+     * @param defaultValue
+     *         value used when neither property is set
+     * @return the configured value
+     */
+    public boolean getBoolean(final Configuration configuration, final String keyPrefix, final boolean defaultValue) {
+        return configuration.getBoolean(keyPrefix + "." + code, configuration.getBoolean(keyPrefix, defaultValue));
+    }
+}
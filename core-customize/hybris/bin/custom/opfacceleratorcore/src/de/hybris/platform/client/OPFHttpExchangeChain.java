@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+
+/**
+ * Remaining part of an intercepted gateway exchange.
+ *
+ * @see OPFHttpExchangeInterceptor
+ */
+public interface OPFHttpExchangeChain {
+    /**
+     * Continue with the next interceptor, or perform the exchange when none is left
+     *
+     * @param baseUrl
+     *         OPF base url
+     * @param request
+     *         request to be sent
+     * @param <T>
+     *         response type
+     * @return the response
+     */
+    <T> T proceed(String baseUrl, HttpClientRequestDto<T> request);
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+
+/**
+ * Hook around {@link OPFHttpClient#httpExchange(String, HttpClientRequestDto)}. Interceptors are invoked in the order
+ * they are configured on the client and decide whether, when and how often the exchange proceeds.
+ */
+public interface OPFHttpExchangeInterceptor {
+    /**
+     * Intercept a gateway exchange
+     *
+     * @param baseUrl
+     *         OPF base url
+     * @param request
+     *         request to be sent
+     * @param chain
+     *         remaining interceptors followed by the actual exchange
+     * @param <T>
+     *         response type
+     * @return the response
+     */
+    <T> T intercept(String baseUrl, HttpClientRequestDto<T> request, OPFHttpExchangeChain chain);
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client;
+
+import org.apache.commons.configuration2.Configuration;
+
+/**
+ * Operation classes of the OPF gateway endpoints, isolated from each other by bulkheads so that storefront browsing
+ * traffic cannot delay payments. The code of a class is used as suffix for class specific properties, e.g.
+ * {@code opf.bulkhead.max.concurrent.payment}.
+ */
+public enum OPFOperationClass {
+    /**
+     * cosmetic calls made while browsing: CTA scripts and active configurations
+     */
+    BROWSE("browse"),
+    /**
+     * payment session set-up: initiate payment session and Apple Pay web session
+     */
+    SESSION("session"),
+    /**
+     * money moving calls: submit, submit-complete and verify
+     */
+    PAYMENT("payment");
+
+    private final String code;
+
+    OPFOperationClass(final String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Read a class specific int property
+     *
+     * @param configuration
+     *         current configuration
+     * @param keyPrefix
+     *         property prefix, e.g. {@code opf.bulkhead.max.concurrent}
+     * @param defaultValue
+     *         value used when the property is not set
+     * @return the configured value
+     */
+    public int getInt(final Configuration configuration, final String keyPrefix, final int defaultValue) {
+        return configuration.getInt(keyPrefix + "." + code, defaultValue);
+    }
+
+    /**
+     * Read a class specific long property
+     *
+     * @param configuration
+     *         current configuration
+     * @param keyPrefix
+     *         property prefix
+     * @param defaultValue
+     *         value used when the property is not set
+     * @return the configured value
+     */
+    public long getLong(final Configuration configuration, final String keyPrefix, final long defaultValue) {
+        return configuration.getLong(keyPrefix + "." + code, defaultValue);
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.basecommerce.model.site.BaseSiteModel;
+import de.hybris.platform.client.OPFAccessTokenManager;
+import de.hybris.platform.core.Registry;
+import de.hybris.platform.core.Tenant;
+import de.hybris.platform.opf.data.OPFAccessTokenStatsData;
+import de.hybris.platform.opfservices.client.OAuth2TokenException;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.site.BaseSiteService;
+import de.hybris.platform.util.OPFSessionContextUtil;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acquires OPF access tokens with the client credentials grant against {@code opf.oauth.token.url} and caches them per
+ * tenant and base site.
+ * <p>
+ * A cached token is refreshed on {@code opfGatewayExecutor} once less than
+ * {@code opf.oauth.token.refresh.ahead.seconds} of its lifetime is left, while callers keep using it. Only when no
+ * usable token is cached does a caller wait for the acquisition. Concurrent acquisitions for the same tenant and base
+ * site are collapsed into one token request.
+ */
+public class DefaultOPFAccessTokenManager implements OPFAccessTokenManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFAccessTokenManager.class);
+
+    private static final String OPF_OAUTH_TOKEN_REFRESH_AHEAD_SECONDS = "opf.oauth.token.refresh.ahead.seconds";
+    private static final String OPF_OAUTH_TOKEN_EXPIRY_SKEW_SECONDS = "opf.oauth.token.expiry.skew.seconds";
+    private static final String OPF_OAUTH_TOKEN_DEFAULT_EXPIRES_IN_SECONDS = "opf.oauth.token.default.expires.in.seconds";
+    private static final String OPF_OAUTH_TOKEN_ACQUIRE_TIMEOUT_MS = "opf.oauth.token.acquire.timeout.ms";
+    private static final String OPF_OAUTH_TOKEN_REFRESH_RETRY_MS = "opf.oauth.token.refresh.retry.ms";
+    private static final String CLIENT_ID = "client_id";
+    private static final String CLIENT_SECRET = "client_secret";
+    private static final String GRANT_TYPE = "grant_type";
+    private static final String CLIENT_CREDENTIALS = "client_credentials";
+    private static final String ACCESS_TOKEN = "access_token";
+    private static final String EXPIRES_IN = "expires_in";
+
+    private final String tokenUrlKey;
+    private final OPFSecurityCredentialsStore securityCredentialsStore;
+    private final RestTemplate restTemplate;
+    private final ConfigurationService configurationService;
+    private final BaseSiteService baseSiteService;
+    private final ExecutorService opfGatewayExecutor;
+    private final Map<String, TokenHolder> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for DefaultOPFAccessTokenManager
+     *
+     * @param tokenUrlKey key of the token url
+     * @param securityCredentialsStore store of the security file holding client_id and client_secret
+     * @param restTemplate restTemplate used for the token requests
+     * @param configurationService configurationService
+     * @param baseSiteService baseSiteService
+     * @param opfGatewayExecutor executor running the background refreshes
+     */
+    public DefaultOPFAccessTokenManager(final String tokenUrlKey,
+            final OPFSecurityCredentialsStore securityCredentialsStore, final RestTemplate restTemplate,
+            final ConfigurationService configurationService, final BaseSiteService baseSiteService,
+            final ExecutorService opfGatewayExecutor) {
+        this.tokenUrlKey = tokenUrlKey;
+        this.securityCredentialsStore = securityCredentialsStore;
+        this.restTemplate = restTemplate;
+        this.configurationService = configurationService;
+        this.baseSiteService = baseSiteService;
+        this.opfGatewayExecutor = opfGatewayExecutor;
+    }
+
+    @Override
+    public String getAccessToken() {
+        final Configuration configuration = configurationService.getConfiguration();
+        final TokenHolder holder = tokens.computeIfAbsent(getCacheKey(), TokenHolder::new);
+        final AccessToken token = holder.token;
+        final long now = currentTimeMillis();
+        if (token != null && now < token.expiresAt() - getSeconds(configuration, OPF_OAUTH_TOKEN_EXPIRY_SKEW_SECONDS, 5L)) {
+            if (now >= token.expiresAt() - getSeconds(configuration, OPF_OAUTH_TOKEN_REFRESH_AHEAD_SECONDS, 60L)
+                    && now >= holder.nextBackgroundRefresh) {
+                refresh(holder, true);
+            }
+            return token.value();
+        }
+        try {
+            return refresh(holder, false).get(configuration.getLong(OPF_OAUTH_TOKEN_ACQUIRE_TIMEOUT_MS, 10000L),
+                    TimeUnit.MILLISECONDS).value();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof OAuth2TokenException tokenException
+                    ? tokenException
+                    : new OAuth2TokenException("Cannot acquire OPF access token", e.getCause());
+        } catch (final TimeoutException e) {
+            throw new OAuth2TokenException("Timed out waiting for OPF access token", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OAuth2TokenException("Interrupted while waiting for OPF access token", e);
+        }
+    }
+
+    @Override
+    public void invalidate(final String accessToken) {
+        final TokenHolder holder = tokens.get(getCacheKey());
+        final AccessToken token = holder == null ? null : holder.token;
+        if (token != null && token.value().equals(accessToken)) {
+            holder.token = null;
+            holder.invalidations.increment();
+            LOGGER.debug("OPF access token of [{}] invalidated", holder.cacheKey);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (final TokenHolder holder : tokens.values()) {
+            if (holder.token != null) {
+                holder.token = null;
+                holder.invalidations.increment();
+            }
+        }
+        LOGGER.debug("All OPF access tokens invalidated");
+    }
+
+    private CompletableFuture<AccessToken> refresh(final TokenHolder holder, final boolean background) {
+        final CompletableFuture<AccessToken> flight = new CompletableFuture<>();
+        final CompletableFuture<AccessToken> running = holder.inFlight.compareAndExchange(null, flight);
+        if (running != null) {
+            return running;
+        }
+        final Runnable acquisition = () -> acquire(holder, flight, background);
+        if (!background) {
+            acquisition.run();
+            return flight;
+        }
+        try {
+            opfGatewayExecutor.execute(OPFSessionContextUtil.withCurrentSessionContext(acquisition));
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("OPF access token refresh of [{}] rejected, the cached token stays in use", holder.cacheKey);
+            holder.inFlight.set(null);
+            flight.completeExceptionally(e);
+        }
+        return flight;
+    }
+
+    private void acquire(final TokenHolder holder, final CompletableFuture<AccessToken> flight, final boolean background) {
+        final long start = System.nanoTime();
+        try {
+            final AccessToken token = requestToken();
+            holder.token = token;
+            holder.refreshes.increment();
+            holder.inFlight.set(null);
+            flight.complete(token);
+        } catch (final RuntimeException e) {
+            holder.refreshFailures.increment();
+            if (background) {
+                holder.nextBackgroundRefresh = currentTimeMillis()
+                        + configurationService.getConfiguration().getLong(OPF_OAUTH_TOKEN_REFRESH_RETRY_MS, 5000L);
+                LOGGER.warn("Background refresh of OPF access token of [{}] failed, the cached token stays in use",
+                        holder.cacheKey, e);
+            }
+            holder.inFlight.set(null);
+            flight.completeExceptionally(e);
+        } finally {
+            final long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            holder.lastRefreshLatencyMs = latencyMs;
+            holder.maxRefreshLatencyMs = Math.max(holder.maxRefreshLatencyMs, latencyMs);
+        }
+    }
+
+    protected AccessToken requestToken() {
+        final Configuration configuration = configurationService.getConfiguration();
+        final Map<String, String> credentials = securityCredentialsStore.getCredentials();
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.setBasicAuth(credentials.getOrDefault(CLIENT_ID, StringUtils.EMPTY),
+                credentials.getOrDefault(CLIENT_SECRET, StringUtils.EMPTY));
+        final MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add(GRANT_TYPE, CLIENT_CREDENTIALS);
+        final Map<?, ?> response;
+        try {
+            response = restTemplate.postForObject(configuration.getString(tokenUrlKey), new HttpEntity<>(form, headers),
+                    Map.class);
+        } catch (final RestClientException e) {
+            throw new OAuth2TokenException("Cannot acquire OPF access token", e);
+        }
+        final Object accessToken = response == null ? null : response.get(ACCESS_TOKEN);
+        if (accessToken == null || StringUtils.isBlank(accessToken.toString())) {
+            throw new OAuth2TokenException("OPF token response does not contain an access token");
+        }
+        final long expiresInSeconds = response.get(EXPIRES_IN) == null
+                ? configuration.getLong(OPF_OAUTH_TOKEN_DEFAULT_EXPIRES_IN_SECONDS, 300L)
+                : Long.parseLong(response.get(EXPIRES_IN).toString());
+        final long now = currentTimeMillis();
+        return new AccessToken(accessToken.toString(), now, now + TimeUnit.SECONDS.toMillis(expiresInSeconds));
+    }
+
+    private String getCacheKey() {
+        final Tenant tenant = Registry.getCurrentTenantNoFallback();
+        final BaseSiteModel site = baseSiteService.getCurrentBaseSite();
+        return (tenant == null ? StringUtils.EMPTY : tenant.getTenantID()) + "/"
+                + (site == null ? StringUtils.EMPTY : StringUtils.defaultString(site.getUid()));
+    }
+
+    private static long getSeconds(final Configuration configuration, final String key, final long defaultSeconds) {
+        return TimeUnit.SECONDS.toMillis(configuration.getLong(key, defaultSeconds));
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public List<OPFAccessTokenStatsData> getAccessTokenStats() {
+        final long now = currentTimeMillis();
+        return tokens.values().stream().map(holder -> {
+            final AccessToken token = holder.token;
+            final OPFAccessTokenStatsData stats = new OPFAccessTokenStatsData();
+            stats.setCacheKey(holder.cacheKey);
+            stats.setTokenAgeMs(token == null ? -1L : now - token.issuedAt());
+            stats.setExpiresInMs(token == null ? -1L : token.expiresAt() - now);
+            stats.setRefreshes(holder.refreshes.sum());
+            stats.setRefreshFailures(holder.refreshFailures.sum());
+            stats.setInvalidations(holder.invalidations.sum());
+            stats.setLastRefreshLatencyMs(holder.lastRefreshLatencyMs);
+            stats.setMaxRefreshLatencyMs(holder.maxRefreshLatencyMs);
+            return stats;
+        }).toList();
+    }
+
+    /**
+     * Access token with its issue and expiry time in epoch milliseconds
+     *
+     * @param value token sent as bearer
+     * @param issuedAt time the token was received
+     * @param expiresAt time the token expires
+     */
+    protected record AccessToken(String value, long issuedAt, long expiresAt) {
+    }
+
+    private static final class TokenHolder {
+        private final String cacheKey;
+        private final AtomicReference<CompletableFuture<AccessToken>> inFlight = new AtomicReference<>();
+        private final LongAdder refreshes = new LongAdder();
+        private final LongAdder refreshFailures = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+        private volatile AccessToken token;
+        private volatile long nextBackgroundRefresh;
+        private volatile long lastRefreshLatencyMs;
+        private volatile long maxRefreshLatencyMs;
+
+        private TokenHolder(final String cacheKey) {
+            this.cacheKey = cacheKey;
+        }
+    }
+}
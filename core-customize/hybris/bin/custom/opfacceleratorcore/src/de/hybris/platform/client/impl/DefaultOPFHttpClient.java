@@ -4,8 +4,11 @@
 package de.hybris.platform.client.impl;
 
 import de.hybris.platform.client.OPFHttpClient;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFHttpExchangeInterceptor;
 import de.hybris.platform.opfservices.client.OAuth2TokenException;
 import de.hybris.platform.opfservices.client.impl.DefaultCCAdapterHttpClient;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
 import de.hybris.platform.servicelayer.config.ConfigurationService;
 import org.apache.commons.configuration2.Configuration;
 
@@ -16,6 +19,9 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static de.hybris.platform.constants.OpfacceleratorcoreConstants.OPF_CLIENT_ID;
@@ -23,6 +29,9 @@ import static de.hybris.platform.constants.OpfacceleratorcoreConstants.OPF_PUBLI
 
 public class DefaultOPFHttpClient extends DefaultCCAdapterHttpClient implements OPFHttpClient {
 
+    private List<OPFHttpExchangeInterceptor> exchangeInterceptors = Collections.emptyList();
+    private OPFSecurityCredentialsStore securityCredentialsStore;
+
     /**
      * Constructs a new DefaultOPFHttpClient with the specified parameters.
      *
@@ -37,11 +46,30 @@ public class DefaultOPFHttpClient extends DefaultCCAdapterHttpClient implements
     }
 
     /**
-     * To get CLIENT ID and PUBLIC KEY from the security file
+     * Perform the exchange through the configured {@link OPFHttpExchangeInterceptor}s
+     *
+     * @param baseUrl OPF base url
+     * @param request request to be sent
+     * @return the response
+     */
+    @Override
+    public <T> T httpExchange(final String baseUrl, final HttpClientRequestDto<T> request)
+    {
+        return new InterceptorChain(0).proceed(baseUrl, request);
+    }
+
+    /**
+     * To get CLIENT ID and PUBLIC KEY from the security file, served from the {@link OPFSecurityCredentialsStore}
+     * snapshot when one is configured
      * @return
      */
     public Pair<String, String> getSecurityProperties()
     {
+        if (securityCredentialsStore != null)
+        {
+            final Map<String, String> credentials = securityCredentialsStore.getCredentials();
+            return Pair.of(credentials.get(OPF_CLIENT_ID), credentials.get(OPF_PUBLIC_KEY));
+        }
         final Configuration configuration = this.getConfigurationService().getConfiguration();
         final String securityFile = configuration.getString(this.getSecurityFileLocationKey()) + File.separator
                 + configuration.getString(this.getSecurityFileKey());
@@ -56,4 +84,44 @@ public class DefaultOPFHttpClient extends DefaultCCAdapterHttpClient implements
             throw new OAuth2TokenException("Cannot load OPF tenant client id & public key", e);
         }
     }
+
+    public void setExchangeInterceptors(final List<OPFHttpExchangeInterceptor> exchangeInterceptors)
+    {
+        this.exchangeInterceptors = exchangeInterceptors == null ? Collections.emptyList() : List.copyOf(exchangeInterceptors);
+    }
+
+    protected List<OPFHttpExchangeInterceptor> getExchangeInterceptors()
+    {
+        return exchangeInterceptors;
+    }
+
+    public void setSecurityCredentialsStore(final OPFSecurityCredentialsStore securityCredentialsStore)
+    {
+        this.securityCredentialsStore = securityCredentialsStore;
+    }
+
+    protected OPFSecurityCredentialsStore getSecurityCredentialsStore()
+    {
+        return securityCredentialsStore;
+    }
+
+    private final class InterceptorChain implements OPFHttpExchangeChain
+    {
+        private final int index;
+
+        private InterceptorChain(final int index)
+        {
+            this.index = index;
+        }
+
+        @Override
+        public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request)
+        {
+            if (index < exchangeInterceptors.size())
+            {
+                return exchangeInterceptors.get(index).intercept(baseUrl, request, new InterceptorChain(index + 1));
+            }
+            return DefaultOPFHttpClient.super.httpExchange(baseUrl, request);
+        }
+    }
 }
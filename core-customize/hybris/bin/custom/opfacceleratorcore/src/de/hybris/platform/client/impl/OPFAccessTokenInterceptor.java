@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFAccessTokenManager;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFHttpExchangeInterceptor;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends OAuth requests with the bearer token of the {@link OPFAccessTokenManager} instead of acquiring a token per
+ * request. A 401 answer, also when wrapped by the opfservices client, invalidates the token and the request is sent
+ * once more with a new one.
+ * <p>
+ * The interceptor is the last of the chain so that every retry and hedge carries a current token. It sends a copy of
+ * the request, as the same request may be in flight more than once. Disabled with
+ * {@code opf.oauth.token.manager.enabled=false}, which leaves the token acquisition to the http client.
+ */
+public class OPFAccessTokenInterceptor implements OPFHttpExchangeInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFAccessTokenInterceptor.class);
+
+    private static final String OPF_OAUTH_TOKEN_MANAGER_ENABLED = "opf.oauth.token.manager.enabled";
+    private static final String BEARER = "Bearer ";
+
+    private final ConfigurationService configurationService;
+    private final OPFAccessTokenManager accessTokenManager;
+
+    /**
+     * Constructor for OPFAccessTokenInterceptor
+     *
+     * @param configurationService configurationService
+     * @param accessTokenManager accessTokenManager
+     */
+    public OPFAccessTokenInterceptor(final ConfigurationService configurationService,
+            final OPFAccessTokenManager accessTokenManager) {
+        this.configurationService = configurationService;
+        this.accessTokenManager = accessTokenManager;
+    }
+
+    @Override
+    public <T> T intercept(final String baseUrl, final HttpClientRequestDto<T> request, final OPFHttpExchangeChain chain) {
+        if (!request.isOAuth() || !configurationService.getConfiguration().getBoolean(OPF_OAUTH_TOKEN_MANAGER_ENABLED, true)) {
+            return chain.proceed(baseUrl, request);
+        }
+        final String accessToken = accessTokenManager.getAccessToken();
+        try {
+            return chain.proceed(baseUrl, withAccessToken(request, accessToken));
+        } catch (final RuntimeException e) {
+            // the opfservices client wraps 4xx responses, e.g. in CCAdapterClientException
+            if (ExceptionUtils.throwableOfType(e, HttpClientErrorException.Unauthorized.class) == null) {
+                throw e;
+            }
+            LOGGER.debug("OPF gateway rejected the access token for [{}], retrying with a new token", request.getPath());
+            accessTokenManager.invalidate(accessToken);
+            return chain.proceed(baseUrl, withAccessToken(request, accessTokenManager.getAccessToken()));
+        }
+    }
+
+    private static <T> HttpClientRequestDto<T> withAccessToken(final HttpClientRequestDto<T> request,
+            final String accessToken) {
+        final Map<String, String> headers = request.getHeaders() == null ? new HashMap<>() : new HashMap<>(request.getHeaders());
+        headers.put(HttpHeaders.AUTHORIZATION, BEARER + accessToken);
+        final HttpClientRequestDto<T> authorized = new HttpClientRequestDto<>();
+        authorized.setResponseType(request.getResponseType());
+        authorized.setHttpMethod(request.getHttpMethod());
+        authorized.setPath(request.getPath());
+        authorized.setQueryParams(request.getQueryParams());
+        authorized.setRequestBody(request.getRequestBody());
+        authorized.setHeaders(headers);
+        authorized.setOAuth(false);
+        return authorized;
+    }
+}
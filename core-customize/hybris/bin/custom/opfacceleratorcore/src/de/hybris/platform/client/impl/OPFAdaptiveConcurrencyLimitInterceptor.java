@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFConcurrencyLimitExceededException;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFHttpExchangeInterceptor;
+import de.hybris.platform.client.OPFOperationClass;
+import de.hybris.platform.opf.data.OPFConcurrencyLimitStatsData;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the calls in flight to the OPF gateway with an {@link OPFAdaptiveLimit} fed by the observed latency: the limit
+ * drops when the gateway slows down or fails and rises again when it recovers. Browse and session calls over the limit
+ * fail fast with {@link OPFConcurrencyLimitExceededException}; payment calls are counted and sampled but never rejected,
+ * they are bounded by their bulkhead instead.
+ * <p>
+ * The algorithm is selected with {@code opf.limiter.algorithm}: {@code gradient} (default) or {@code aimd}. The limiter
+ * is off unless {@code opf.limiter.enabled=true}.
+ */
+public class OPFAdaptiveConcurrencyLimitInterceptor implements OPFHttpExchangeInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFAdaptiveConcurrencyLimitInterceptor.class);
+
+    private static final String OPF_LIMITER_ENABLED = "opf.limiter.enabled";
+    private static final String OPF_LIMITER_ALGORITHM = "opf.limiter.algorithm";
+    private static final String OPF_LIMITER_INITIAL_LIMIT = "opf.limiter.initial.limit";
+    private static final String OPF_LIMITER_MIN_LIMIT = "opf.limiter.min.limit";
+    private static final String OPF_LIMITER_MAX_LIMIT = "opf.limiter.max.limit";
+    private static final String OPF_LIMITER_AIMD_LATENCY_THRESHOLD_MS = "opf.limiter.aimd.latency.threshold.ms";
+    private static final String OPF_LIMITER_AIMD_BACKOFF_RATIO = "opf.limiter.aimd.backoff.ratio";
+    private static final String OPF_LIMITER_GRADIENT_TOLERANCE = "opf.limiter.gradient.tolerance";
+    private static final String OPF_LIMITER_GRADIENT_SMOOTHING = "opf.limiter.gradient.smoothing";
+    private static final String OPF_LIMITER_GRADIENT_LONG_WINDOW = "opf.limiter.gradient.long.window";
+    private static final String OPF_LIMITER_GRADIENT_QUEUE_SIZE = "opf.limiter.gradient.queue.size";
+    private static final String ALGORITHM_AIMD = "aimd";
+
+    private final ConfigurationService configurationService;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile OPFAdaptiveLimit limit;
+
+    /**
+     * Constructor for OPFAdaptiveConcurrencyLimitInterceptor
+     *
+     * @param configurationService configurationService
+     */
+    public OPFAdaptiveConcurrencyLimitInterceptor(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public <T> T intercept(final String baseUrl, final HttpClientRequestDto<T> request, final OPFHttpExchangeChain chain) {
+        final Configuration configuration = configurationService.getConfiguration();
+        final OPFGatewayEndpoint endpoint = OPFGatewayCallContext.endpointOf(request.getPath(), configuration).orElse(null);
+        if (endpoint == null || !configuration.getBoolean(OPF_LIMITER_ENABLED, false)) {
+            return chain.proceed(baseUrl, request);
+        }
+        final OPFAdaptiveLimit adaptiveLimit = getLimit(configuration);
+        final int currentLimit = adaptiveLimit.getLimit();
+        final int callsInFlight = inFlight.incrementAndGet();
+        if (callsInFlight > currentLimit && endpoint.getOperationClass() != OPFOperationClass.PAYMENT) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            LOGGER.debug("OPF gateway concurrency limit of {} reached, rejecting call to [{}]", currentLimit,
+                    endpoint.getCode());
+            throw new OPFConcurrencyLimitExceededException(currentLimit);
+        }
+        accepted.increment();
+        final long start = System.nanoTime();
+        boolean sample = true;
+        boolean failed = false;
+        try {
+            return chain.proceed(baseUrl, request);
+        } catch (final RuntimeException e) {
+            // a client error, also wrapped by the opfservices client, is a timely answer of the gateway
+            if (ExceptionUtils.throwableOfType(e, HttpClientErrorException.class) == null) {
+                if (ExceptionUtils.throwableOfType(e, RejectedExecutionException.class) != null) {
+                    sample = false;
+                } else {
+                    failed = true;
+                    dropped.increment();
+                }
+            }
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            if (sample) {
+                adaptiveLimit.onSample(System.nanoTime() - start, callsInFlight, failed);
+            }
+        }
+    }
+
+    private OPFAdaptiveLimit getLimit(final Configuration configuration) {
+        OPFAdaptiveLimit adaptiveLimit = limit;
+        if (adaptiveLimit == null) {
+            synchronized (this) {
+                adaptiveLimit = limit;
+                if (adaptiveLimit == null) {
+                    adaptiveLimit = createLimit(configuration);
+                    limit = adaptiveLimit;
+                }
+            }
+        }
+        return adaptiveLimit;
+    }
+
+    protected OPFAdaptiveLimit createLimit(final Configuration configuration) {
+        final int initialLimit = configuration.getInt(OPF_LIMITER_INITIAL_LIMIT, 20);
+        final int minLimit = configuration.getInt(OPF_LIMITER_MIN_LIMIT, 2);
+        final int maxLimit = configuration.getInt(OPF_LIMITER_MAX_LIMIT, 100);
+        if (ALGORITHM_AIMD.equalsIgnoreCase(configuration.getString(OPF_LIMITER_ALGORITHM, null))) {
+            return new OPFAimdLimit(initialLimit, minLimit, maxLimit,
+                    configuration.getLong(OPF_LIMITER_AIMD_LATENCY_THRESHOLD_MS, 2000L),
+                    configuration.getDouble(OPF_LIMITER_AIMD_BACKOFF_RATIO, 0.9d));
+        }
+        return new OPFGradientLimit(initialLimit, minLimit, maxLimit,
+                configuration.getDouble(OPF_LIMITER_GRADIENT_TOLERANCE, 1.5d),
+                configuration.getDouble(OPF_LIMITER_GRADIENT_SMOOTHING, 0.2d),
+                configuration.getInt(OPF_LIMITER_GRADIENT_LONG_WINDOW, 600),
+                configuration.getInt(OPF_LIMITER_GRADIENT_QUEUE_SIZE, 4));
+    }
+
+    /**
+     * get the current limit and the accepted and rejected call counts
+     *
+     * @return {@link OPFConcurrencyLimitStatsData}
+     */
+    public OPFConcurrencyLimitStatsData getConcurrencyLimitStats() {
+        final OPFAdaptiveLimit adaptiveLimit = limit;
+        final OPFConcurrencyLimitStatsData stats = new OPFConcurrencyLimitStatsData();
+        stats.setAlgorithm(adaptiveLimit == null ? null : adaptiveLimit.getName());
+        stats.setLimit(adaptiveLimit == null ? 0 : adaptiveLimit.getLimit());
+        stats.setInFlight(inFlight.get());
+        stats.setAccepted(accepted.sum());
+        stats.setRejected(rejected.sum());
+        stats.setDropped(dropped.sum());
+        return stats;
+    }
+}
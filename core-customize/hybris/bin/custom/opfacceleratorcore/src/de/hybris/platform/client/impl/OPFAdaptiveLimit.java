@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+/**
+ * Concurrency limit that adapts to the latency observed for the calls it admits.
+ */
+public interface OPFAdaptiveLimit {
+
+    /**
+     * @return the number of calls currently allowed in flight
+     */
+    int getLimit();
+
+    /**
+     * Update the limit with a completed call
+     *
+     * @param rttNanos
+     *         round trip time of the call
+     * @param inFlight
+     *         calls in flight when the call was started, including itself
+     * @param dropped
+     *         true if the call failed on the gateway side or timed out
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+
+    /**
+     * @return name of the algorithm, for monitoring
+     */
+    String getName();
+}
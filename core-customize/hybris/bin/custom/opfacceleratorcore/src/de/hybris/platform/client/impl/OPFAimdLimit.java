@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive increase, multiplicative decrease: a dropped call or a call slower than the latency threshold multiplies the
+ * limit with the back off ratio, a call completed in time while at least half of the limit was in use raises it by one.
+ */
+public class OPFAimdLimit implements OPFAdaptiveLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private int limit;
+
+    /**
+     * Constructor for OPFAimdLimit
+     *
+     * @param initialLimit limit before the first sample
+     * @param minLimit lower bound of the limit
+     * @param maxLimit upper bound of the limit
+     * @param latencyThresholdMs latency from which a call counts as an overload signal
+     * @param backoffRatio factor applied to the limit on an overload signal, between 0.5 and 1
+     */
+    public OPFAimdLimit(final int initialLimit, final int minLimit, final int maxLimit, final long latencyThresholdMs,
+            final double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.backoffRatio = Math.min(1.0, Math.max(0.5, backoffRatio));
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(final long rttNanos, final int inFlight, final boolean dropped) {
+        if (dropped || rttNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, Math.min(limit - 1, (int) (limit * backoffRatio)));
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "aimd";
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFBulkheadFullException;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFHttpExchangeInterceptor;
+import de.hybris.platform.client.OPFOperationClass;
+import de.hybris.platform.opf.data.OPFBulkheadStatsData;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Isolates the {@link OPFOperationClass operation classes} of the OPF gateway from each other. Every class has its own
+ * concurrency limit and a bounded queue of callers waiting up to {@code opf.bulkhead.max.wait.ms.<class>}, but never
+ * past the request deadline, for a permit; callers that find the queue full or time out fail fast with
+ * {@link OPFBulkheadFullException}.
+ * <p>
+ * The payment class has priority: browse and session calls additionally share {@code opf.bulkhead.shared.max.concurrent}
+ * permits, sized so that the connections left in the gateway route pool stay reserved for payment calls, which never
+ * wait for them. Off unless {@code opf.bulkhead.enabled} is set, as the limits have to match the size of the pool.
+ */
+public class OPFBulkheadInterceptor implements OPFHttpExchangeInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFBulkheadInterceptor.class);
+
+    static final String REJECTED_QUEUE_FULL = "queue full";
+    static final String REJECTED_TIMEOUT = "timeout";
+    static final String REJECTED_RESERVED = "capacity reserved for payment";
+
+    private static final String OPF_BULKHEAD_ENABLED = "opf.bulkhead.enabled";
+    private static final String OPF_BULKHEAD_MAX_CONCURRENT = "opf.bulkhead.max.concurrent";
+    private static final String OPF_BULKHEAD_MAX_WAITING = "opf.bulkhead.max.waiting";
+    private static final String OPF_BULKHEAD_MAX_WAIT_MS = "opf.bulkhead.max.wait.ms";
+    private static final String OPF_BULKHEAD_SHARED_MAX_CONCURRENT = "opf.bulkhead.shared.max.concurrent";
+
+    private final ConfigurationService configurationService;
+    private final Map<OPFOperationClass, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private volatile Semaphore sharedPermits;
+
+    /**
+     * Constructor for OPFBulkheadInterceptor
+     *
+     * @param configurationService configurationService
+     */
+    public OPFBulkheadInterceptor(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public <T> T intercept(final String baseUrl, final HttpClientRequestDto<T> request, final OPFHttpExchangeChain chain) {
+        final Configuration configuration = configurationService.getConfiguration();
+        final OPFGatewayEndpoint endpoint = OPFGatewayCallContext.endpointOf(request.getPath(), configuration).orElse(null);
+        if (endpoint == null || !configuration.getBoolean(OPF_BULKHEAD_ENABLED, false)) {
+            return chain.proceed(baseUrl, request);
+        }
+        final OPFOperationClass operationClass = endpoint.getOperationClass();
+        final Bulkhead bulkhead = bulkheads.computeIfAbsent(operationClass, key -> createBulkhead(key, configuration));
+        final long deadlineNanos = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(OPFGatewayCallContext.capToDeadline(bulkhead.maxWaitMs));
+
+        bulkhead.acquire(deadlineNanos);
+        final Semaphore shared = operationClass == OPFOperationClass.PAYMENT ? null : getSharedPermits(configuration);
+        if (shared != null && !tryAcquire(shared, deadlineNanos)) {
+            bulkhead.permits.release();
+            throw bulkhead.reject(bulkhead.rejectedReserved, REJECTED_RESERVED);
+        }
+        bulkhead.accepted.increment();
+        try {
+            return chain.proceed(baseUrl, request);
+        } finally {
+            if (shared != null) {
+                shared.release();
+            }
+            bulkhead.permits.release();
+        }
+    }
+
+    protected Bulkhead createBulkhead(final OPFOperationClass operationClass, final Configuration configuration) {
+        return new Bulkhead(operationClass, operationClass.getInt(configuration, OPF_BULKHEAD_MAX_CONCURRENT, 8),
+                operationClass.getInt(configuration, OPF_BULKHEAD_MAX_WAITING, 16),
+                operationClass.getLong(configuration, OPF_BULKHEAD_MAX_WAIT_MS, 500L));
+    }
+
+    private Semaphore getSharedPermits(final Configuration configuration) {
+        Semaphore permits = sharedPermits;
+        if (permits == null) {
+            synchronized (this) {
+                permits = sharedPermits;
+                if (permits == null) {
+                    permits = new Semaphore(configuration.getInt(OPF_BULKHEAD_SHARED_MAX_CONCURRENT, 12), true);
+                    sharedPermits = permits;
+                }
+            }
+        }
+        return permits;
+    }
+
+    private static boolean tryAcquire(final Semaphore semaphore, final long deadlineNanos) {
+        try {
+            return semaphore.tryAcquire(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * get in-flight, waiting and rejected call counts per operation class
+     *
+     * @return list of {@link OPFBulkheadStatsData}
+     */
+    public List<OPFBulkheadStatsData> getBulkheadStats() {
+        return bulkheads.values().stream().map(bulkhead -> {
+            final OPFBulkheadStatsData stats = new OPFBulkheadStatsData();
+            stats.setOperationClass(bulkhead.operationClass.getCode());
+            stats.setMaxConcurrent(bulkhead.maxConcurrent);
+            stats.setInFlight(bulkhead.maxConcurrent - bulkhead.permits.availablePermits());
+            stats.setWaiting(bulkhead.waiting.get());
+            stats.setAccepted(bulkhead.accepted.sum());
+            stats.setRejectedQueueFull(bulkhead.rejectedQueueFull.sum());
+            stats.setRejectedTimeout(bulkhead.rejectedTimeout.sum());
+            stats.setRejectedReserved(bulkhead.rejectedReserved.sum());
+            return stats;
+        }).toList();
+    }
+
+    /**
+     * Concurrency limit and wait queue of one operation class
+     */
+    protected static final class Bulkhead {
+        private final OPFOperationClass operationClass;
+        private final int maxConcurrent;
+        private final int maxWaiting;
+        private final long maxWaitMs;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejectedQueueFull = new LongAdder();
+        private final LongAdder rejectedTimeout = new LongAdder();
+        private final LongAdder rejectedReserved = new LongAdder();
+
+        /**
+         * Constructor for Bulkhead
+         *
+         * @param operationClass operation class
+         * @param maxConcurrent maximum number of calls in flight
+         * @param maxWaiting maximum number of callers waiting for a permit
+         * @param maxWaitMs maximum time a caller waits for a permit
+         */
+        public Bulkhead(final OPFOperationClass operationClass, final int maxConcurrent, final int maxWaiting,
+                final long maxWaitMs) {
+            this.operationClass = operationClass;
+            this.maxConcurrent = maxConcurrent;
+            this.maxWaiting = maxWaiting;
+            this.maxWaitMs = maxWaitMs;
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+
+        private void acquire(final long deadlineNanos) {
+            if (permits.tryAcquire()) {
+                return;
+            }
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                throw reject(rejectedQueueFull, REJECTED_QUEUE_FULL);
+            }
+            try {
+                if (!tryAcquire(permits, deadlineNanos)) {
+                    throw reject(rejectedTimeout, REJECTED_TIMEOUT);
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private OPFBulkheadFullException reject(final LongAdder counter, final String reason) {
+            counter.increment();
+            LOGGER.warn("OPF bulkhead [{}] rejected a call: {}", operationClass.getCode(), reason);
+            return new OPFBulkheadFullException(operationClass, reason);
+        }
+    }
+}
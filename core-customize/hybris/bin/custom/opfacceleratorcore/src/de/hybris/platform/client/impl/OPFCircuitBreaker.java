@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of a single OPF endpoint, evaluated over a count based sliding window of the last calls.
+ * <ul>
+ * <li>CLOSED: calls pass; the circuit opens when the failure rate or the slow call rate of a window with at least
+ * {@code minimumCalls} calls reaches its threshold.</li>
+ * <li>OPEN: calls are rejected until {@code openWaitMs} has passed.</li>
+ * <li>HALF_OPEN: {@code halfOpenProbes} probe calls pass; the circuit closes when all of them succeed in time and
+ * opens again on the first failed or slow probe.</li>
+ * </ul>
+ */
+public class OPFCircuitBreaker {
+
+    /**
+     * circuit breaker states
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallMs;
+    private final long openWaitMs;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int bufferedCalls;
+    private int nextSlot;
+    private int failures;
+    private int slow;
+
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int probesStarted;
+    private int probesSucceeded;
+    private long rejectedCalls;
+
+    /**
+     * Constructor for OPFCircuitBreaker
+     *
+     * @param windowSize number of calls in the sliding window
+     * @param minimumCalls calls needed in the window before the rates are evaluated
+     * @param failureRateThreshold failure rate in percent that opens the circuit
+     * @param slowCallRateThreshold slow call rate in percent that opens the circuit
+     * @param slowCallMs duration from which a call counts as slow
+     * @param openWaitMs time the circuit stays open before probing
+     * @param halfOpenProbes number of probe calls in half-open state
+     * @param clock millisecond clock
+     */
+    public OPFCircuitBreaker(final int windowSize, final int minimumCalls, final int failureRateThreshold,
+            final int slowCallRateThreshold, final long slowCallMs, final long openWaitMs, final int halfOpenProbes,
+            final LongSupplier clock) {
+        this.failedCalls = new boolean[Math.max(1, windowSize)];
+        this.slowCalls = new boolean[failedCalls.length];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, failedCalls.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallMs = slowCallMs;
+        this.openWaitMs = openWaitMs;
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.clock = clock;
+    }
+
+    /**
+     * @return true if a call may be sent now
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && clock.getAsLong() >= openUntil) {
+            state = State.HALF_OPEN;
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && probesStarted < halfOpenProbes) {
+            probesStarted++;
+            return true;
+        }
+        rejectedCalls++;
+        return false;
+    }
+
+    /**
+     * record a successful call
+     *
+     * @param durationMs call duration
+     */
+    public synchronized void onSuccess(final long durationMs) {
+        final boolean slowCall = durationMs >= slowCallMs;
+        if (state == State.HALF_OPEN) {
+            if (slowCall) {
+                open();
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false, slowCall);
+        }
+    }
+
+    /**
+     * record a failed call
+     *
+     * @param durationMs call duration
+     */
+    public synchronized void onFailure(final long durationMs) {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true, durationMs >= slowCallMs);
+        }
+    }
+
+    /**
+     * release a permission that did not lead to a call, e.g. because the call was rejected locally
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+            probesStarted--;
+        }
+    }
+
+    private void record(final boolean failed, final boolean slowCall) {
+        if (bufferedCalls == failedCalls.length) {
+            failures -= failedCalls[nextSlot] ? 1 : 0;
+            slow -= slowCalls[nextSlot] ? 1 : 0;
+        } else {
+            bufferedCalls++;
+        }
+        failedCalls[nextSlot] = failed;
+        slowCalls[nextSlot] = slowCall;
+        failures += failed ? 1 : 0;
+        slow += slowCall ? 1 : 0;
+        nextSlot = (nextSlot + 1) % failedCalls.length;
+
+        if (bufferedCalls >= minimumCalls && (failures * 100 >= failureRateThreshold * bufferedCalls
+                || slow * 100 >= slowCallRateThreshold * bufferedCalls)) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = clock.getAsLong() + openWaitMs;
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        bufferedCalls = 0;
+        nextSlot = 0;
+        failures = 0;
+        slow = 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    public synchronized int getFailureRate() {
+        return bufferedCalls == 0 ? 0 : failures * 100 / bufferedCalls;
+    }
+
+    public synchronized int getSlowCallRate() {
+        return bufferedCalls == 0 ? 0 : slow * 100 / bufferedCalls;
+    }
+
+    public synchronized long getRejectedCalls() {
+        return rejectedCalls;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFCircuitBreakerFallback;
+import de.hybris.platform.client.OPFCircuitBreakerOpenException;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFHttpExchangeInterceptor;
+import de.hybris.platform.opf.data.OPFCircuitBreakerStatsData;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Guards every OPF endpoint with its own {@link OPFCircuitBreaker}, so a degraded endpoint is cut off after a burst of
+ * failed or slow calls instead of holding every storefront request until its timeout. While the circuit is open, or
+ * when a call fails, the first {@link OPFCircuitBreakerFallback} supporting the endpoint answers instead; without a
+ * fallback an open circuit fails fast with {@link OPFCircuitBreakerOpenException}. Client errors (4xx), also when
+ * wrapped by the opfservices client, are answers of a healthy gateway and local rejections (e.g. by a bulkhead) never
+ * reached it, so neither counts as a failure.
+ */
+public class OPFCircuitBreakerInterceptor implements OPFHttpExchangeInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFCircuitBreakerInterceptor.class);
+
+    private static final String OPF_CIRCUITBREAKER_ENABLED = "opf.circuitbreaker.enabled";
+    private static final String OPF_CIRCUITBREAKER_WINDOW_SIZE = "opf.circuitbreaker.window.size";
+    private static final String OPF_CIRCUITBREAKER_MINIMUM_CALLS = "opf.circuitbreaker.minimum.calls";
+    private static final String OPF_CIRCUITBREAKER_FAILURE_RATE_THRESHOLD = "opf.circuitbreaker.failure.rate.threshold";
+    private static final String OPF_CIRCUITBREAKER_SLOW_CALL_RATE_THRESHOLD = "opf.circuitbreaker.slow.call.rate.threshold";
+    private static final String OPF_CIRCUITBREAKER_SLOW_CALL_MS = "opf.circuitbreaker.slow.call.ms";
+    private static final String OPF_CIRCUITBREAKER_OPEN_WAIT_MS = "opf.circuitbreaker.open.wait.ms";
+    private static final String OPF_CIRCUITBREAKER_HALF_OPEN_PROBES = "opf.circuitbreaker.half.open.probes";
+
+    private final ConfigurationService configurationService;
+    private final Map<OPFGatewayEndpoint, OPFCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<OPFGatewayEndpoint, LongAdder> fallbacksServed = new ConcurrentHashMap<>();
+    private List<OPFCircuitBreakerFallback> fallbacks = Collections.emptyList();
+
+    /**
+     * Constructor for OPFCircuitBreakerInterceptor
+     *
+     * @param configurationService configurationService
+     */
+    public OPFCircuitBreakerInterceptor(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public <T> T intercept(final String baseUrl, final HttpClientRequestDto<T> request, final OPFHttpExchangeChain chain) {
+        final Configuration configuration = configurationService.getConfiguration();
+        final OPFGatewayEndpoint endpoint = OPFGatewayCallContext.endpointOf(request.getPath(), configuration).orElse(null);
+        if (endpoint == null || !configuration.getBoolean(OPF_CIRCUITBREAKER_ENABLED, true)) {
+            return chain.proceed(baseUrl, request);
+        }
+        final OPFCircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(endpoint,
+                key -> createCircuitBreaker(key, configuration));
+        if (!circuitBreaker.tryAcquirePermission()) {
+            final T fallback = getFallback(endpoint, request);
+            if (fallback == null) {
+                throw new OPFCircuitBreakerOpenException(endpoint);
+            }
+            return fallback;
+        }
+
+        final long start = System.nanoTime();
+        final T response;
+        try {
+            response = chain.proceed(baseUrl, request);
+        } catch (final RuntimeException e) {
+            // the opfservices client wraps 4xx responses, e.g. in CCAdapterClientException
+            if (ExceptionUtils.throwableOfType(e, HttpClientErrorException.class) != null) {
+                circuitBreaker.onSuccess(elapsedMs(start));
+                throw e;
+            }
+            if (ExceptionUtils.throwableOfType(e, RejectedExecutionException.class) != null) {
+                circuitBreaker.releasePermission();
+                final T fallback = getFallback(endpoint, request);
+                if (fallback == null) {
+                    throw e;
+                }
+                return fallback;
+            }
+            circuitBreaker.onFailure(elapsedMs(start));
+            final T fallback = getFallback(endpoint, request);
+            if (fallback == null) {
+                throw e;
+            }
+            LOGGER.warn("OPF endpoint [{}] failed, serving fallback response: {}", endpoint.getCode(), e.getMessage());
+            return fallback;
+        }
+        circuitBreaker.onSuccess(elapsedMs(start));
+        fallbacks.stream().filter(fallback -> fallback.supports(endpoint))
+                .forEach(fallback -> fallback.onSuccess(endpoint, request, response));
+        return response;
+    }
+
+    protected OPFCircuitBreaker createCircuitBreaker(final OPFGatewayEndpoint endpoint, final Configuration configuration) {
+        return new OPFCircuitBreaker(endpoint.getInt(configuration, OPF_CIRCUITBREAKER_WINDOW_SIZE, 20),
+                endpoint.getInt(configuration, OPF_CIRCUITBREAKER_MINIMUM_CALLS, 10),
+                endpoint.getInt(configuration, OPF_CIRCUITBREAKER_FAILURE_RATE_THRESHOLD, 50),
+                endpoint.getInt(configuration, OPF_CIRCUITBREAKER_SLOW_CALL_RATE_THRESHOLD, 80),
+                endpoint.getLong(configuration, OPF_CIRCUITBREAKER_SLOW_CALL_MS, 3000L),
+                endpoint.getLong(configuration, OPF_CIRCUITBREAKER_OPEN_WAIT_MS, 30000L),
+                endpoint.getInt(configuration, OPF_CIRCUITBREAKER_HALF_OPEN_PROBES, 3),
+                () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+    }
+
+    private <T> T getFallback(final OPFGatewayEndpoint endpoint, final HttpClientRequestDto<T> request) {
+        for (final OPFCircuitBreakerFallback fallback : fallbacks) {
+            if (fallback.supports(endpoint)) {
+                final T response = fallback.getFallback(endpoint, request);
+                if (response != null) {
+                    fallbacksServed.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+                    return response;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long elapsedMs(final long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * get the state of the circuit breaker of every endpoint called so far
+     *
+     * @return list of {@link OPFCircuitBreakerStatsData}
+     */
+    public List<OPFCircuitBreakerStatsData> getCircuitBreakerStats() {
+        return circuitBreakers.entrySet().stream().map(entry -> {
+            final OPFCircuitBreaker circuitBreaker = entry.getValue();
+            final OPFCircuitBreakerStatsData stats = new OPFCircuitBreakerStatsData();
+            stats.setEndpoint(entry.getKey().getCode());
+            stats.setState(circuitBreaker.getState().name());
+            stats.setFailureRate(circuitBreaker.getFailureRate());
+            stats.setSlowCallRate(circuitBreaker.getSlowCallRate());
+            stats.setBufferedCalls(circuitBreaker.getBufferedCalls());
+            stats.setRejectedCalls(circuitBreaker.getRejectedCalls());
+            final LongAdder served = fallbacksServed.get(entry.getKey());
+            stats.setFallbacksServed(served == null ? 0L : served.sum());
+            return stats;
+        }).toList();
+    }
+
+    public void setFallbacks(final List<OPFCircuitBreakerFallback> fallbacks) {
+        this.fallbacks = List.copyOf(fallbacks);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports the status and the cache validators ({@code ETag}, {@code Last-Modified}) of gateway responses, which the
+ * http client does not return with the response body. A caller marks its request with a unique
+ * {@link #EXCHANGE_ID_HEADER}, which is removed before the request is sent, and takes the result with
+ * {@link #takeResult(String)} once the exchange returned. The result is recorded by exchange id rather than per thread
+ * because retries and hedges may send the request from other threads.
+ */
+public class OPFConditionalRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String EXCHANGE_ID_HEADER = "X-OPF-Exchange-Id";
+
+    private static final int MAX_RESULTS = 256;
+    private static final long ABANDONED_RESULT_MS = 60_000L;
+
+    private final Map<String, ExchangeResult> results = new ConcurrentHashMap<>();
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+            final ClientHttpRequestExecution execution) throws IOException {
+        final String exchangeId = request.getHeaders().getFirst(EXCHANGE_ID_HEADER);
+        if (exchangeId == null) {
+            return execution.execute(request, body);
+        }
+        request.getHeaders().remove(EXCHANGE_ID_HEADER);
+        final ClientHttpResponse response = execution.execute(request, body);
+        final HttpHeaders headers = response.getHeaders();
+        if (results.size() >= MAX_RESULTS) {
+            // results of hedges answering after the caller returned are never taken
+            final long abandonedBefore = System.currentTimeMillis() - ABANDONED_RESULT_MS;
+            results.values().removeIf(result -> result.recordedAt() < abandonedBefore);
+        }
+        results.put(exchangeId, new ExchangeResult(response.getStatusCode().value(), headers.getETag(),
+                headers.getFirst(HttpHeaders.LAST_MODIFIED), System.currentTimeMillis()));
+        return response;
+    }
+
+    /**
+     * take the result of an exchange
+     *
+     * @param exchangeId value of the {@link #EXCHANGE_ID_HEADER} sent with the request
+     * @return the result of the last response received for the exchange, {@code null} when none was received
+     */
+    public ExchangeResult takeResult(final String exchangeId) {
+        return results.remove(exchangeId);
+    }
+
+    /**
+     * Status and validators of a gateway response
+     *
+     * @param status HTTP status
+     * @param eTag {@code ETag} header, may be null
+     * @param lastModified {@code Last-Modified} header, may be null
+     * @param recordedAt time the response was received
+     */
+    public record ExchangeResult(int status, String eTag, String lastModified, long recordedAt) {
+
+        public boolean hasValidators() {
+            return eTag != null || lastModified != null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFCircuitBreakerFallback;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+
+import java.util.Collections;
+
+/**
+ * Answers the CTA endpoint with an empty script list while it is unavailable, so pages render without the CTA scripts
+ * instead of waiting for the gateway.
+ */
+public class OPFEmptyCTAResponseFallback implements OPFCircuitBreakerFallback {
+
+    @Override
+    public boolean supports(final OPFGatewayEndpoint endpoint) {
+        return OPFGatewayEndpoint.CTA == endpoint;
+    }
+
+    @Override
+    public <T> T getFallback(final OPFGatewayEndpoint endpoint, final HttpClientRequestDto<T> request) {
+        if (!request.getResponseType().isAssignableFrom(OPFPaymentCTAResponse.class)) {
+            return null;
+        }
+        final OPFPaymentCTAResponse response = new OPFPaymentCTAResponse();
+        response.setValue(Collections.emptyList());
+        return request.getResponseType().cast(response);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFHttpExchangeInterceptor;
+import de.hybris.platform.constants.OpfacceleratorcoreConstants;
+import de.hybris.platform.opf.data.OPFEndpointConcurrencyStatsData;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of concurrent exchanges per OPF endpoint when the gateway calls run on virtual threads
+ * ({@code opf.http.executor=virtual}). Virtual threads are cheap, so without a cap a slow endpoint would absorb an
+ * unbounded number of calls; callers that cannot get a permit in time fail fast with a
+ * {@link RejectedExecutionException}.
+ */
+public class OPFEndpointConcurrencyInterceptor implements OPFHttpExchangeInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFEndpointConcurrencyInterceptor.class);
+
+    private static final String OPF_HTTP_ENDPOINT_MAX_CONCURRENT = "opf.http.virtual.endpoint.max.concurrent";
+    private static final String OPF_HTTP_ENDPOINT_ACQUIRE_TIMEOUT_MS = "opf.http.virtual.endpoint.acquire.timeout.ms";
+
+    private final ConfigurationService configurationService;
+    private final Map<String, EndpointPermits> endpointPermits = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for OPFEndpointConcurrencyInterceptor
+     *
+     * @param configurationService configurationService
+     */
+    public OPFEndpointConcurrencyInterceptor(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public <T> T intercept(final String baseUrl, final HttpClientRequestDto<T> request, final OPFHttpExchangeChain chain) {
+        final Configuration configuration = configurationService.getConfiguration();
+        if (!OpfacceleratorcoreConstants.OPF_HTTP_EXECUTOR_VIRTUAL.equalsIgnoreCase(
+                configuration.getString(OpfacceleratorcoreConstants.OPF_HTTP_EXECUTOR, StringUtils.EMPTY))) {
+            return chain.proceed(baseUrl, request);
+        }
+        final String endpoint = StringUtils.defaultString(request.getPath());
+        final EndpointPermits permits = endpointPermits.computeIfAbsent(endpoint,
+                key -> new EndpointPermits(configuration.getInt(OPF_HTTP_ENDPOINT_MAX_CONCURRENT, 64)));
+        if (!permits.tryAcquire(
+                OPFGatewayCallContext.capToDeadline(configuration.getLong(OPF_HTTP_ENDPOINT_ACQUIRE_TIMEOUT_MS, 1000L)))) {
+            permits.rejected.increment();
+            LOGGER.warn("OPF endpoint [{}] reached its concurrency cap of {} calls", endpoint, permits.maxConcurrent);
+            throw new RejectedExecutionException("OPF endpoint " + endpoint + " reached its concurrency cap");
+        }
+        try {
+            return chain.proceed(baseUrl, request);
+        } finally {
+            permits.semaphore.release();
+        }
+    }
+
+    /**
+     * get in-flight and rejected call counts per endpoint
+     *
+     * @return list of {@link OPFEndpointConcurrencyStatsData}
+     */
+    public List<OPFEndpointConcurrencyStatsData> getEndpointStats() {
+        return endpointPermits.entrySet().stream().map(entry -> {
+            final OPFEndpointConcurrencyStatsData stats = new OPFEndpointConcurrencyStatsData();
+            stats.setEndpoint(entry.getKey());
+            stats.setMaxConcurrent(entry.getValue().maxConcurrent);
+            stats.setInFlight(entry.getValue().maxConcurrent - entry.getValue().semaphore.availablePermits());
+            stats.setRejected(entry.getValue().rejected.sum());
+            return stats;
+        }).toList();
+    }
+
+    private static final class EndpointPermits {
+        private final int maxConcurrent;
+        private final Semaphore semaphore;
+        private final LongAdder rejected = new LongAdder();
+
+        private EndpointPermits(final int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+            this.semaphore = new Semaphore(maxConcurrent);
+        }
+
+        private boolean tryAcquire(final long timeoutMs) {
+            try {
+                return semaphore.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential back off with full jitter: before retry {@code n} the caller sleeps a random time between 0 and
+ * {@code min(maxInterval, initialInterval * 2^(n-1))}, so callers that failed together do not retry together. The sleep
+ * never exceeds the time left until the deadline of the current {@link OPFGatewayCallContext}.
+ */
+public class OPFExponentialJitterBackOffPolicy implements BackOffPolicy {
+
+    private long initialInterval = 200L;
+    private long maxInterval = 5000L;
+    private Sleeper sleeper = new ThreadWaitSleeper();
+
+    @Override
+    public BackOffContext start(final RetryContext context) {
+        return new JitterBackOffContext();
+    }
+
+    @Override
+    public void backOff(final BackOffContext backOffContext) {
+        final JitterBackOffContext context = (JitterBackOffContext) backOffContext;
+        long sleepMs = computeSleep(context.attempt++);
+        final OPFGatewayCallContext callContext = OPFGatewayCallContext.current();
+        if (callContext != null) {
+            sleepMs = Math.min(sleepMs, callContext.getRemainingMs());
+        }
+        if (sleepMs <= 0) {
+            return;
+        }
+        try {
+            sleeper.sleep(sleepMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BackOffInterruptedException("Thread interrupted while sleeping", e);
+        }
+    }
+
+    /**
+     * compute the jittered sleep before the given retry
+     *
+     * @param attempt zero based retry number
+     * @return sleep in milliseconds
+     */
+    protected long computeSleep(final int attempt) {
+        final int shift = Math.min(attempt, 30);
+        final long ceiling = initialInterval > (maxInterval >> shift) ? maxInterval : initialInterval << shift;
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public void setInitialInterval(final long initialInterval) {
+        this.initialInterval = initialInterval;
+    }
+
+    public void setMaxInterval(final long maxInterval) {
+        this.maxInterval = maxInterval;
+    }
+
+    public void setSleeper(final Sleeper sleeper) {
+        this.sleeper = sleeper;
+    }
+
+    private static final class JitterBackOffContext implements BackOffContext {
+        private int attempt;
+    }
+}
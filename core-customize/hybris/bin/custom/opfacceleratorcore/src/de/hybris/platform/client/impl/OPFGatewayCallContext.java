@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.hc.core5.concurrent.Cancellable;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread state of the gateway exchange in progress. It is opened by {@link OPFRequestDeadlineInterceptor}, the
+ * first interceptor of the chain, and read by the interceptors, the retry and back off policies and the http transport,
+ * which cap their waits to the time left until the deadline.
+ * <p>
+ * A context created with {@link #newAttempt()} belongs to a single attempt of the exchange: the http transport registers
+ * the request it sends with {@link #register(Cancellable)}, so another thread can abort the attempt with
+ * {@link #cancel()}, e.g. the hedge that answered first.
+ */
+public final class OPFGatewayCallContext {
+
+    private static final ThreadLocal<OPFGatewayCallContext> CURRENT = new ThreadLocal<>();
+
+    private final OPFGatewayEndpoint endpoint;
+    private final String path;
+    private final long deadlineNanos;
+    private volatile Cancellable request;
+    private volatile boolean cancelled;
+
+    private OPFGatewayCallContext(final OPFGatewayEndpoint endpoint, final String path, final long deadlineNanos) {
+        this.endpoint = endpoint;
+        this.path = path;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * bind a new context to the current thread
+     *
+     * @param endpoint
+     *         endpoint being called, may be {@code null} for calls not owned by the accelerator
+     * @param deadlineMs
+     *         total time budget of the call in milliseconds, {@code 0} for none
+     * @return the previous context, to be restored with {@link #restore(OPFGatewayCallContext)}
+     */
+    public static OPFGatewayCallContext open(final OPFGatewayEndpoint endpoint, final long deadlineMs) {
+        return open(endpoint, null, deadlineMs);
+    }
+
+    /**
+     * bind a new context for the request path to the current thread
+     *
+     * @param endpoint
+     *         endpoint being called, may be {@code null} for calls not owned by the accelerator
+     * @param path
+     *         request path the endpoint was resolved for
+     * @param deadlineMs
+     *         total time budget of the call in milliseconds, {@code 0} for none
+     * @return the previous context, to be restored with {@link #restore(OPFGatewayCallContext)}
+     */
+    public static OPFGatewayCallContext open(final OPFGatewayEndpoint endpoint, final String path, final long deadlineMs) {
+        final OPFGatewayCallContext previous = CURRENT.get();
+        CURRENT.set(new OPFGatewayCallContext(endpoint, path,
+                deadlineMs > 0 ? System.nanoTime() + deadlineMs * 1_000_000L : Long.MAX_VALUE));
+        return previous;
+    }
+
+    /**
+     * create a context for one attempt of the exchange in progress on the current thread, with its endpoint, path and
+     * deadline, to be bound with {@link #call(Supplier)}
+     *
+     * @return the attempt context, without endpoint and deadline outside of a gateway exchange
+     */
+    public static OPFGatewayCallContext newAttempt() {
+        final OPFGatewayCallContext context = CURRENT.get();
+        return context == null ? new OPFGatewayCallContext(null, null, Long.MAX_VALUE)
+                : new OPFGatewayCallContext(context.endpoint, context.path, context.deadlineNanos);
+    }
+
+    /**
+     * get the endpoint of a request, as resolved by {@link OPFRequestDeadlineInterceptor} for the site of the exchange
+     *
+     * @param path
+     *         request path
+     * @param configuration
+     *         current configuration, used outside of an exchange for the request path
+     * @return the endpoint, empty for paths not owned by the accelerator
+     */
+    public static Optional<OPFGatewayEndpoint> endpointOf(final String path, final Configuration configuration) {
+        final OPFGatewayCallContext context = CURRENT.get();
+        if (context != null && context.path != null && context.path.equals(path)) {
+            return Optional.ofNullable(context.endpoint);
+        }
+        return OPFGatewayEndpoint.forPath(path, configuration);
+    }
+
+    /**
+     * restore the context that was active before {@link #open(OPFGatewayEndpoint, long)}
+     *
+     * @param previous
+     *         previous context
+     */
+    public static void restore(final OPFGatewayCallContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @return the context of the current thread, {@code null} outside of a gateway exchange
+     */
+    public static OPFGatewayCallContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * cap a wait by the time left until the deadline of the current context
+     *
+     * @param timeoutMs
+     *         wait in milliseconds
+     * @return the smaller of the wait and the remaining time, the wait itself outside of a gateway exchange
+     */
+    public static long capToDeadline(final long timeoutMs) {
+        final OPFGatewayCallContext context = CURRENT.get();
+        return context == null ? timeoutMs : Math.min(timeoutMs, context.getRemainingMs());
+    }
+
+    /**
+     * wrap a task so that it runs in the context of the current thread, e.g. on a worker of the gateway executor
+     *
+     * @param task
+     *         task to be run on another thread
+     * @return the wrapped task, the task itself outside of a gateway exchange
+     */
+    public static <T> Supplier<T> withCurrentContext(final Supplier<T> task) {
+        final OPFGatewayCallContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            final OPFGatewayCallContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * run a task with this context bound to the current thread
+     *
+     * @param task
+     *         task to be run
+     * @return the result of the task
+     */
+    public <T> T call(final Supplier<T> task) {
+        final OPFGatewayCallContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * register the http request sent in this context, it is aborted right away when the context is already cancelled
+     *
+     * @param request
+     *         request being sent
+     */
+    public void register(final Cancellable request) {
+        this.request = request;
+        if (cancelled) {
+            request.cancel();
+        }
+    }
+
+    /**
+     * abort the http request sent in this context and any request registered after it
+     */
+    public void cancel() {
+        cancelled = true;
+        final Cancellable current = request;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public OPFGatewayEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public boolean hasDeadline() {
+        return deadlineNanos != Long.MAX_VALUE;
+    }
+
+    /**
+     * @return remaining time until the deadline in milliseconds, {@link Long#MAX_VALUE} without a deadline
+     */
+    public long getRemainingMs() {
+        if (!hasDeadline()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, (deadlineNanos - System.nanoTime()) / 1_000_000L);
+    }
+}
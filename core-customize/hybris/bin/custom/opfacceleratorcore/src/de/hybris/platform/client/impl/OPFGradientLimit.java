@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+/**
+ * Latency gradient limit: the latency of each call is compared with a slowly moving average of past latencies. While
+ * the ratio stays within the tolerance the limit grows by the queue size; when calls get slower the limit shrinks in
+ * proportion, down to half per sample. The long-term average is pulled down quickly once latency recovers, so the limit
+ * grows back without waiting for the average to forget the overload.
+ */
+public class OPFGradientLimit implements OPFAdaptiveLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longWindowFactor;
+    private final int queueSize;
+
+    private double estimatedLimit;
+    private double longRtt;
+
+    /**
+     * Constructor for OPFGradientLimit
+     *
+     * @param initialLimit limit before the first sample
+     * @param minLimit lower bound of the limit
+     * @param maxLimit upper bound of the limit
+     * @param tolerance latency increase over the long-term average tolerated before the limit shrinks, e.g. 1.5
+     * @param smoothing weight of a new limit estimate, between 0 and 1
+     * @param longWindow number of samples of the long-term latency average
+     * @param queueSize growth of the limit per sample while the latency is within tolerance
+     */
+    public OPFGradientLimit(final int initialLimit, final int minLimit, final int maxLimit, final double tolerance,
+            final double smoothing, final int longWindow, final int queueSize) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.tolerance = Math.max(1.0, tolerance);
+        this.smoothing = Math.min(1.0, Math.max(0.01, smoothing));
+        this.longWindowFactor = 2.0 / (Math.max(1, longWindow) + 1);
+        this.queueSize = Math.max(1, queueSize);
+        this.estimatedLimit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    @Override
+    public synchronized void onSample(final long rttNanos, final int inFlight, final boolean dropped) {
+        final double rtt = Math.max(1L, rttNanos);
+        if (longRtt == 0) {
+            longRtt = rtt;
+            return;
+        }
+        longRtt = longRtt + (rtt - longRtt) * longWindowFactor;
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.9;
+        }
+        final double gradient = dropped ? 0.5 : Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+        if (gradient == 1.0 && inFlight * 2 < estimatedLimit) {
+            // the limit is not what holds the calls back, so there is no reason to raise it
+            return;
+        }
+        final double newLimit = estimatedLimit * gradient + (gradient == 1.0 ? queueSize : 0);
+        estimatedLimit = Math.min(maxLimit,
+                Math.max(minLimit, estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+    }
+
+    @Override
+    public String getName() {
+        return "gradient";
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFHttpExchangeInterceptor;
+import de.hybris.platform.opf.data.OPFHedgingStatsData;
+import de.hybris.platform.opfservices.client.CCAdapterClientException;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.util.OPFSessionContextUtil;
+import org.apache.commons.configuration2.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hedges the idempotent OPF reads (CTA scripts and active configurations): when the primary call has not answered
+ * within the {@code opf.hedging.percentile} latency percentile of recent calls to the endpoint, a second identical call
+ * is sent, the first successful answer is returned and the http request of the other call is aborted through its
+ * {@link OPFGatewayCallContext}. The primary call runs on the calling thread, only the hedge on the gateway executor.
+ * <p>
+ * Hedges are paid from a node-wide token bucket that every call fills by {@code opf.hedging.max.rate.percent} percent
+ * of a token up to {@code opf.hedging.max.tokens}, so hedging never adds more than that share of traffic, also when the
+ * gateway is down and every call is slow. Hedging is off unless enabled with {@code opf.hedging.enabled[.<endpoint code>]}.
+ */
+public class OPFHedgingInterceptor implements OPFHttpExchangeInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFHedgingInterceptor.class);
+
+    private static final Set<OPFGatewayEndpoint> IDEMPOTENT_ENDPOINTS = EnumSet.of(OPFGatewayEndpoint.CTA,
+            OPFGatewayEndpoint.ACTIVE_CONFIG);
+
+    private static final String OPF_HEDGING_ENABLED = "opf.hedging.enabled";
+    private static final String OPF_HEDGING_PERCENTILE = "opf.hedging.percentile";
+    private static final String OPF_HEDGING_WINDOW_SIZE = "opf.hedging.window.size";
+    private static final String OPF_HEDGING_MIN_SAMPLES = "opf.hedging.min.samples";
+    private static final String OPF_HEDGING_INITIAL_DELAY_MS = "opf.hedging.initial.delay.ms";
+    private static final String OPF_HEDGING_MIN_DELAY_MS = "opf.hedging.min.delay.ms";
+    private static final String OPF_HEDGING_MAX_RATE_PERCENT = "opf.hedging.max.rate.percent";
+    private static final String OPF_HEDGING_MAX_TOKENS = "opf.hedging.max.tokens";
+    private static final long MILLI_TOKENS = 1000L;
+
+    private final ConfigurationService configurationService;
+    private final ExecutorService opfGatewayExecutor;
+    private final Map<OPFGatewayEndpoint, EndpointHedging> hedging = new ConcurrentHashMap<>();
+    private final AtomicLong tokens;
+
+    /**
+     * Constructor for OPFHedgingInterceptor
+     *
+     * @param configurationService configurationService
+     * @param opfGatewayExecutor executor running the hedged call
+     */
+    public OPFHedgingInterceptor(final ConfigurationService configurationService, final ExecutorService opfGatewayExecutor) {
+        this.configurationService = configurationService;
+        this.opfGatewayExecutor = opfGatewayExecutor;
+        this.tokens = new AtomicLong(configurationService.getConfiguration().getLong(OPF_HEDGING_MAX_TOKENS, 20L) * MILLI_TOKENS);
+    }
+
+    @Override
+    public <T> T intercept(final String baseUrl, final HttpClientRequestDto<T> request, final OPFHttpExchangeChain chain) {
+        final Configuration configuration = configurationService.getConfiguration();
+        final OPFGatewayEndpoint endpoint = OPFGatewayCallContext.endpointOf(request.getPath(), configuration).orElse(null);
+        if (endpoint == null || !IDEMPOTENT_ENDPOINTS.contains(endpoint)
+                || !endpoint.getBoolean(configuration, OPF_HEDGING_ENABLED, false)) {
+            return chain.proceed(baseUrl, request);
+        }
+        final EndpointHedging endpointHedging = hedging.computeIfAbsent(endpoint,
+                key -> new EndpointHedging(key.getInt(configuration, OPF_HEDGING_WINDOW_SIZE, 200)));
+        endpointHedging.calls.increment();
+        final long maxTokens = configuration.getLong(OPF_HEDGING_MAX_TOKENS, 20L) * MILLI_TOKENS;
+        final long deposit = configuration.getLong(OPF_HEDGING_MAX_RATE_PERCENT, 5L) * MILLI_TOKENS / 100L;
+        tokens.accumulateAndGet(deposit, (current, added) -> Math.min(maxTokens, current + added));
+
+        final Supplier<T> timedCall = () -> {
+            final long start = System.nanoTime();
+            final T response = chain.proceed(baseUrl, request);
+            endpointHedging.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return response;
+        };
+        final OPFGatewayCallContext primary = OPFGatewayCallContext.newAttempt();
+        final OPFGatewayCallContext hedgeAttempt = OPFGatewayCallContext.newAttempt();
+        final Hedge<T> hedge = new Hedge<>(
+                OPFSessionContextUtil.withCurrentSessionContext(() -> hedgeAttempt.call(timedCall)), hedgeAttempt,
+                primary, endpointHedging);
+        // a hedge rejected by the executor is never started and the primary answers alone
+        CompletableFuture.delayedExecutor(getHedgeDelay(endpoint, endpointHedging, configuration), TimeUnit.MILLISECONDS,
+                opfGatewayExecutor).execute(hedge);
+
+        final T response;
+        try {
+            response = primary.call(timedCall);
+        } catch (final RuntimeException e) {
+            if (hedge.skip()) {
+                throw e;
+            }
+            LOGGER.debug("Primary call to OPF endpoint [{}] failed, waiting for the hedged call", endpoint.getCode());
+            return awaitHedge(hedge, e, endpoint);
+        }
+        if (!hedge.skip()) {
+            hedgeAttempt.cancel();
+        }
+        return response;
+    }
+
+    private static <T> T awaitHedge(final Hedge<T> hedge, final RuntimeException primaryFailure,
+            final OPFGatewayEndpoint endpoint) {
+        try {
+            final T response = hedge.result.get();
+            hedge.endpointHedging.hedgeWins.increment();
+            return response;
+        } catch (final ExecutionException | CancellationException e) {
+            throw primaryFailure;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            hedge.attempt.cancel();
+            throw new CCAdapterClientException("Interrupted while waiting for OPF endpoint " + endpoint.getCode(), e);
+        }
+    }
+
+    private long getHedgeDelay(final OPFGatewayEndpoint endpoint, final EndpointHedging endpointHedging,
+            final Configuration configuration) {
+        final long percentileMs = endpointHedging.percentile(endpoint.getInt(configuration, OPF_HEDGING_PERCENTILE, 95),
+                endpoint.getInt(configuration, OPF_HEDGING_MIN_SAMPLES, 20));
+        final long delayMs = percentileMs < 0 ? endpoint.getLong(configuration, OPF_HEDGING_INITIAL_DELAY_MS, 1000L)
+                : Math.max(percentileMs, endpoint.getLong(configuration, OPF_HEDGING_MIN_DELAY_MS, 20L));
+        endpointHedging.lastDelayMs = delayMs;
+        return delayMs;
+    }
+
+    private boolean tryAcquireHedge(final EndpointHedging endpointHedging) {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < MILLI_TOKENS) {
+                endpointHedging.deniedByRate.increment();
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - MILLI_TOKENS));
+        endpointHedging.hedges.increment();
+        return true;
+    }
+
+    /**
+     * get the hedging counters per endpoint
+     *
+     * @return list of {@link OPFHedgingStatsData}
+     */
+    public List<OPFHedgingStatsData> getHedgingStats() {
+        return hedging.entrySet().stream().map(entry -> {
+            final EndpointHedging endpointHedging = entry.getValue();
+            final OPFHedgingStatsData stats = new OPFHedgingStatsData();
+            stats.setEndpoint(entry.getKey().getCode());
+            stats.setCalls(endpointHedging.calls.sum());
+            stats.setHedges(endpointHedging.hedges.sum());
+            stats.setHedgeWins(endpointHedging.hedgeWins.sum());
+            stats.setDeniedByRate(endpointHedging.deniedByRate.sum());
+            stats.setDelayMs(endpointHedging.lastDelayMs);
+            return stats;
+        }).toList();
+    }
+
+    /**
+     * Hedged call, started by the gateway executor once the hedge delay has passed unless the primary call has finished
+     * by then. When it answers first it aborts the request of the primary call, which then returns its answer.
+     */
+    private final class Hedge<T> implements Runnable {
+        private static final int PENDING = 0;
+        private static final int STARTED = 1;
+        private static final int SKIPPED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Supplier<T> call;
+        private final OPFGatewayCallContext attempt;
+        private final OPFGatewayCallContext primary;
+        private final EndpointHedging endpointHedging;
+
+        private Hedge(final Supplier<T> call, final OPFGatewayCallContext attempt, final OPFGatewayCallContext primary,
+                final EndpointHedging endpointHedging) {
+            this.call = call;
+            this.attempt = attempt;
+            this.primary = primary;
+            this.endpointHedging = endpointHedging;
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(PENDING, STARTED)) {
+                return;
+            }
+            if (!tryAcquireHedge(endpointHedging)) {
+                result.cancel(false);
+                return;
+            }
+            try {
+                result.complete(call.get());
+                primary.cancel();
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * @return {@code true} if the hedge had not been started and never will be
+         */
+        private boolean skip() {
+            return state.compareAndSet(PENDING, SKIPPED);
+        }
+    }
+
+    private static final class EndpointHedging {
+        private final long[] latencies;
+        private int next;
+        private int recorded;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+        private final LongAdder deniedByRate = new LongAdder();
+        private volatile long lastDelayMs;
+
+        private EndpointHedging(final int windowSize) {
+            this.latencies = new long[Math.max(1, windowSize)];
+        }
+
+        private synchronized void record(final long latencyMs) {
+            latencies[next] = latencyMs;
+            next = (next + 1) % latencies.length;
+            recorded = Math.min(recorded + 1, latencies.length);
+        }
+
+        /**
+         * @return the latency percentile of the recorded window, -1 while fewer than minSamples were recorded
+         */
+        private long percentile(final int percentile, final int minSamples) {
+            final long[] window;
+            synchronized (this) {
+                if (recorded < Math.max(1, minSamples)) {
+                    return -1L;
+                }
+                window = Arrays.copyOf(latencies, recorded);
+            }
+            Arrays.sort(window);
+            final int index = (int) Math.ceil(window.length * Math.min(100, Math.max(1, percentile)) / 100d) - 1;
+            return window[Math.max(0, index)];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFCircuitBreakerFallback;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the last good {@link OPFActiveConfigResponse} received for the same query (division, page, configuration id)
+ * while the active configuration endpoint is unavailable.
+ */
+public class OPFLastGoodActiveConfigFallback implements OPFCircuitBreakerFallback {
+
+    private final Map<String, OPFActiveConfigResponse> lastGoodResponses = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(final OPFGatewayEndpoint endpoint) {
+        return OPFGatewayEndpoint.ACTIVE_CONFIG == endpoint;
+    }
+
+    @Override
+    public <T> T getFallback(final OPFGatewayEndpoint endpoint, final HttpClientRequestDto<T> request) {
+        final OPFActiveConfigResponse response = lastGoodResponses.get(getKey(request));
+        return response != null && request.getResponseType().isInstance(response)
+                ? request.getResponseType().cast(response)
+                : null;
+    }
+
+    @Override
+    public <T> void onSuccess(final OPFGatewayEndpoint endpoint, final HttpClientRequestDto<T> request, final T response) {
+        if (response instanceof OPFActiveConfigResponse activeConfigResponse) {
+            lastGoodResponses.put(getKey(request), activeConfigResponse);
+        }
+    }
+
+    private static String getKey(final HttpClientRequestDto<?> request) {
+        return request.getQueryParams() == null ? "" : new TreeMap<>(request.getQueryParams()).toString();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.opf.data.OPFHttpPoolStatsData;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.URI;
+
+/**
+ * Pooled, keep-alive HTTP transport for the OPF gateway. All connection pool settings are read from the
+ * {@code opf.http.pool.*} properties so the pool can be sized per environment without code changes.
+ * <p>
+ * Inside a gateway exchange with a deadline the connection lease and the response of every attempt are limited to the
+ * time left until the deadline, so a single slow attempt cannot outlive the request. Every request is registered with
+ * the {@link OPFGatewayCallContext} of its attempt, which can abort it from another thread.
+ */
+public class OPFPoolingClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFPoolingClientHttpRequestFactory.class);
+
+    private static final String OPF_BASE_URL = "opf.base.url";
+    private static final String OPF_HTTP_POOL_MAX_TOTAL = "opf.http.pool.max.total";
+    private static final String OPF_HTTP_POOL_MAX_PER_ROUTE = "opf.http.pool.max.per.route";
+    private static final String OPF_HTTP_POOL_MAX_PER_ROUTE_GATEWAY = "opf.http.pool.max.per.route.gateway";
+    private static final String OPF_HTTP_POOL_IDLE_EVICTION_MS = "opf.http.pool.idle.eviction.ms";
+    private static final String OPF_HTTP_POOL_TTL_MS = "opf.http.pool.ttl.ms";
+    private static final String OPF_HTTP_POOL_VALIDATE_AFTER_INACTIVITY_MS = "opf.http.pool.validate.after.inactivity.ms";
+    private static final String OPF_HTTP_CONNECT_TIMEOUT_MS = "opf.http.connect.timeout.ms";
+    private static final String OPF_HTTP_SOCKET_TIMEOUT_MS = "opf.http.socket.timeout.ms";
+    private static final String OPF_HTTP_CONNECTION_REQUEST_TIMEOUT_MS = "opf.http.connection.request.timeout.ms";
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private RequestConfig requestConfig;
+    private long socketTimeoutMs;
+
+    /**
+     * Builds the pooled transport from the current configuration.
+     *
+     * @param configurationService configuration service used to read the {@code opf.http.*} settings
+     */
+    public OPFPoolingClientHttpRequestFactory(final ConfigurationService configurationService) {
+        final Configuration configuration = configurationService.getConfiguration();
+        this.connectionManager = createConnectionManager(configuration);
+        setHttpClient(createHttpClient(configuration, connectionManager));
+        LOGGER.info("OPF HTTP pool initialised: maxTotal={}, defaultMaxPerRoute={}", connectionManager.getMaxTotal(),
+                connectionManager.getDefaultMaxPerRoute());
+    }
+
+    protected PoolingHttpClientConnectionManager createConnectionManager(final Configuration configuration) {
+        final ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(configuration.getLong(OPF_HTTP_CONNECT_TIMEOUT_MS, 5000L)))
+                .setSocketTimeout(Timeout.ofMilliseconds(configuration.getLong(OPF_HTTP_SOCKET_TIMEOUT_MS, 30000L)))
+                .setTimeToLive(TimeValue.ofMilliseconds(configuration.getLong(OPF_HTTP_POOL_TTL_MS, 300000L)))
+                .setValidateAfterInactivity(
+                        TimeValue.ofMilliseconds(configuration.getLong(OPF_HTTP_POOL_VALIDATE_AFTER_INACTIVITY_MS, 2000L)))
+                .build();
+
+        final PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(configuration.getInt(OPF_HTTP_POOL_MAX_TOTAL, 100))
+                .setMaxConnPerRoute(configuration.getInt(OPF_HTTP_POOL_MAX_PER_ROUTE, 20))
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        final int gatewayMaxPerRoute = configuration.getInt(OPF_HTTP_POOL_MAX_PER_ROUTE_GATEWAY, 0);
+        final String baseUrl = configuration.getString(OPF_BASE_URL, StringUtils.EMPTY);
+        if (gatewayMaxPerRoute > 0 && StringUtils.isNotBlank(baseUrl)) {
+            final URI uri = URI.create(baseUrl);
+            final boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+            final int port = uri.getPort() > 0 ? uri.getPort() : secure ? 443 : 80;
+            manager.setMaxPerRoute(new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure),
+                    gatewayMaxPerRoute);
+        }
+        return manager;
+    }
+
+    protected CloseableHttpClient createHttpClient(final Configuration configuration,
+            final PoolingHttpClientConnectionManager manager) {
+        requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(
+                        Timeout.ofMilliseconds(configuration.getLong(OPF_HTTP_CONNECTION_REQUEST_TIMEOUT_MS, 2000L)))
+                .build();
+        socketTimeoutMs = configuration.getLong(OPF_HTTP_SOCKET_TIMEOUT_MS, 30000L);
+        return HttpClients.custom()
+                .setConnectionManager(manager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(configuration.getLong(OPF_HTTP_POOL_IDLE_EVICTION_MS, 30000L)))
+                .build();
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(final HttpMethod httpMethod, final URI uri) {
+        final ClassicHttpRequest httpRequest = super.createHttpUriRequest(httpMethod, uri);
+        final OPFGatewayCallContext callContext = OPFGatewayCallContext.current();
+        if (callContext != null && httpRequest instanceof Cancellable cancellable) {
+            callContext.register(cancellable);
+        }
+        return httpRequest;
+    }
+
+    @Override
+    protected HttpContext createHttpContext(final HttpMethod httpMethod, final URI uri) {
+        final OPFGatewayCallContext callContext = OPFGatewayCallContext.current();
+        if (callContext == null || !callContext.hasDeadline() || requestConfig == null) {
+            return super.createHttpContext(httpMethod, uri);
+        }
+        // a timeout of 0 disables the timeout, an expired deadline waits 1ms instead
+        final long remainingMs = Math.max(1L, callContext.getRemainingMs());
+        final HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.copy(requestConfig)
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(
+                        Math.min(requestConfig.getConnectionRequestTimeout().toMilliseconds(), remainingMs)))
+                .setResponseTimeout(Timeout.ofMilliseconds(Math.min(socketTimeoutMs, remainingMs)))
+                .build());
+        return context;
+    }
+
+    /**
+     * get a snapshot of the connection pool usage
+     *
+     * @return {@link OPFHttpPoolStatsData}
+     */
+    public OPFHttpPoolStatsData getPoolStats() {
+        final PoolStats totalStats = connectionManager.getTotalStats();
+        final OPFHttpPoolStatsData stats = new OPFHttpPoolStatsData();
+        stats.setLeased(totalStats.getLeased());
+        stats.setPending(totalStats.getPending());
+        stats.setAvailable(totalStats.getAvailable());
+        stats.setMax(totalStats.getMax());
+        stats.setRoutes(connectionManager.getRoutes().size());
+        return stats;
+    }
+
+    protected PoolingHttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFHttpExchangeInterceptor;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+
+import java.util.Optional;
+
+/**
+ * Opens the {@link OPFGatewayCallContext} of an exchange: resolves the endpoint from the {@link OPFConfig} of the
+ * current site, so per-site url overrides are recognised by every interceptor, starts the request deadline
+ * configured by {@code opf.retry.deadline.ms[.<endpoint code>]} and records the call in the {@link OPFRetryBudget}.
+ * It is the first interceptor of the chain, so the deadline also covers the waits for a bulkhead or endpoint permit,
+ * hedged attempts and the response of each attempt.
+ */
+public class OPFRequestDeadlineInterceptor implements OPFHttpExchangeInterceptor {
+
+    private static final String OPF_RETRY_DEADLINE_MS = "opf.retry.deadline.ms";
+
+    private final ConfigurationService configurationService;
+    private final OPFRetryBudget retryBudget;
+    private OPFConfigService opfConfigService;
+
+    /**
+     * Constructor for OPFRequestDeadlineInterceptor
+     *
+     * @param configurationService configurationService
+     * @param retryBudget node-wide retry budget
+     */
+    public OPFRequestDeadlineInterceptor(final ConfigurationService configurationService, final OPFRetryBudget retryBudget) {
+        this.configurationService = configurationService;
+        this.retryBudget = retryBudget;
+    }
+
+    @Override
+    public <T> T intercept(final String baseUrl, final HttpClientRequestDto<T> request, final OPFHttpExchangeChain chain) {
+        final Configuration configuration = configurationService.getConfiguration();
+        final OPFGatewayEndpoint endpoint = getEndpoint(request.getPath(), configuration).orElse(null);
+        final long deadlineMs = endpoint == null
+                ? configuration.getLong(OPF_RETRY_DEADLINE_MS, 0L)
+                : endpoint.getLong(configuration, OPF_RETRY_DEADLINE_MS, 0L);
+        retryBudget.recordCall();
+        final OPFGatewayCallContext previous = OPFGatewayCallContext.open(endpoint, request.getPath(), deadlineMs);
+        try {
+            return chain.proceed(baseUrl, request);
+        } finally {
+            OPFGatewayCallContext.restore(previous);
+        }
+    }
+
+    protected Optional<OPFGatewayEndpoint> getEndpoint(final String path, final Configuration configuration) {
+        if (opfConfigService != null) {
+            final Optional<OPFGatewayEndpoint> endpoint = opfConfigService.getConfig().getEndpoint(path);
+            if (endpoint.isPresent()) {
+                return endpoint;
+            }
+        }
+        return OPFGatewayEndpoint.forPath(path, configuration);
+    }
+
+    public void setOpfConfigService(final OPFConfigService opfConfigService) {
+        this.opfConfigService = opfConfigService;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.opf.data.OPFRetryStatsData;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node-wide retry budget for OPF gateway calls. Every call deposits {@code opf.retry.budget.percent} percent of a
+ * token and every retry withdraws a whole token, so retries stay below that share of the traffic even when the
+ * gateway fails completely. The balance is capped by {@code opf.retry.budget.max.tokens} and starts at
+ * {@code opf.retry.budget.min.tokens} so a quiet node can still retry a transient failure.
+ */
+public class OPFRetryBudget {
+
+    public static final String DENIED_BY_BUDGET = "budget";
+    public static final String DENIED_BY_DEADLINE = "deadline";
+
+    private static final String OPF_RETRY_BUDGET_PERCENT = "opf.retry.budget.percent";
+    private static final String OPF_RETRY_BUDGET_MIN_TOKENS = "opf.retry.budget.min.tokens";
+    private static final String OPF_RETRY_BUDGET_MAX_TOKENS = "opf.retry.budget.max.tokens";
+    private static final long MILLI_TOKENS = 1000L;
+
+    private final ConfigurationService configurationService;
+    private final AtomicLong balance;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder deniedByBudget = new LongAdder();
+    private final LongAdder deniedByDeadline = new LongAdder();
+    private final Map<OPFGatewayEndpoint, LongAdder> retriesByEndpoint = new EnumMap<>(OPFGatewayEndpoint.class);
+    private final AtomicReference<String> lastDenial = new AtomicReference<>();
+
+    /**
+     * Constructor for OPFRetryBudget
+     *
+     * @param configurationService configurationService
+     */
+    public OPFRetryBudget(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+        this.balance = new AtomicLong(configurationService.getConfiguration().getLong(OPF_RETRY_BUDGET_MIN_TOKENS, 10L) * MILLI_TOKENS);
+        for (final OPFGatewayEndpoint endpoint : OPFGatewayEndpoint.values()) {
+            retriesByEndpoint.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * record a gateway call and deposit its share of retry tokens
+     */
+    public void recordCall() {
+        calls.increment();
+        final Configuration configuration = configurationService.getConfiguration();
+        final long deposit = configuration.getLong(OPF_RETRY_BUDGET_PERCENT, 10L) * MILLI_TOKENS / 100L;
+        final long max = configuration.getLong(OPF_RETRY_BUDGET_MAX_TOKENS, 100L) * MILLI_TOKENS;
+        balance.accumulateAndGet(deposit, (current, added) -> Math.min(max, current + added));
+    }
+
+    /**
+     * withdraw one retry token
+     *
+     * @param endpoint endpoint to be retried, may be {@code null}
+     * @return true if the retry is within budget
+     */
+    public boolean tryAcquireRetry(final OPFGatewayEndpoint endpoint) {
+        long current;
+        do {
+            current = balance.get();
+            if (current < MILLI_TOKENS) {
+                recordDenial(endpoint, DENIED_BY_BUDGET);
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - MILLI_TOKENS));
+        retries.increment();
+        if (endpoint != null) {
+            retriesByEndpoint.get(endpoint).increment();
+        }
+        return true;
+    }
+
+    /**
+     * record a retry that was refused
+     *
+     * @param endpoint endpoint that was not retried, may be {@code null}
+     * @param reason {@link #DENIED_BY_BUDGET} or {@link #DENIED_BY_DEADLINE}
+     */
+    public void recordDenial(final OPFGatewayEndpoint endpoint, final String reason) {
+        if (DENIED_BY_DEADLINE.equals(reason)) {
+            deniedByDeadline.increment();
+        } else {
+            deniedByBudget.increment();
+        }
+        lastDenial.set((endpoint == null ? "unknown" : endpoint.getCode()) + ":" + reason);
+    }
+
+    /**
+     * get the retry counters since startup
+     *
+     * @return {@link OPFRetryStatsData}
+     */
+    public OPFRetryStatsData getRetryStats() {
+        final OPFRetryStatsData stats = new OPFRetryStatsData();
+        stats.setCalls(calls.sum());
+        stats.setRetries(retries.sum());
+        stats.setDeniedByBudget(deniedByBudget.sum());
+        stats.setDeniedByDeadline(deniedByDeadline.sum());
+        stats.setAvailableTokens(balance.get() / MILLI_TOKENS);
+        stats.setLastDenial(lastDenial.get());
+        final Map<String, Long> perEndpoint = new LinkedHashMap<>();
+        retriesByEndpoint.forEach((endpoint, count) -> perEndpoint.put(endpoint.getCode(), count.sum()));
+        stats.setRetriesByEndpoint(perEndpoint);
+        return stats;
+    }
+}
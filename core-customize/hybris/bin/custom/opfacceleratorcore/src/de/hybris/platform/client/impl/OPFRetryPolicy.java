@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import java.util.Map;
+
+/**
+ * Retry policy for OPF gateway calls. On top of the retryable exception classification and maximum attempts of
+ * {@link SimpleRetryPolicy}, a retry must fit into the request deadline of the current {@link OPFGatewayCallContext}
+ * and into the node-wide {@link OPFRetryBudget}. The decision is taken once per failure and kept in the retry context,
+ * as the retry template asks {@link #canRetry(RetryContext)} more than once per attempt. An attempt that was cancelled,
+ * e.g. because its hedge answered first, is not retried.
+ */
+public class OPFRetryPolicy extends SimpleRetryPolicy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFRetryPolicy.class);
+
+    private static final String RETRY_DENIED = "opf.retry.denied";
+
+    private final OPFRetryBudget retryBudget;
+    private long minRemainingMs = 100L;
+
+    /**
+     * Constructor for OPFRetryPolicy
+     *
+     * @param maxAttempts maximum number of attempts including the first one
+     * @param retryableExceptions exception classification, {@code true} for retryable exceptions
+     * @param retryBudget node-wide retry budget
+     */
+    public OPFRetryPolicy(final int maxAttempts, final Map<Class<? extends Throwable>, Boolean> retryableExceptions,
+            final OPFRetryBudget retryBudget) {
+        super(maxAttempts, retryableExceptions, true);
+        this.retryBudget = retryBudget;
+    }
+
+    @Override
+    public boolean canRetry(final RetryContext context) {
+        final OPFGatewayCallContext callContext = OPFGatewayCallContext.current();
+        return context.getAttribute(RETRY_DENIED) == null && (callContext == null || !callContext.isCancelled())
+                && super.canRetry(context);
+    }
+
+    @Override
+    public void registerThrowable(final RetryContext context, final Throwable throwable) {
+        super.registerThrowable(context, throwable);
+        if (!super.canRetry(context)) {
+            return;
+        }
+        final OPFGatewayCallContext callContext = OPFGatewayCallContext.current();
+        final OPFGatewayEndpoint endpoint = callContext == null ? null : callContext.getEndpoint();
+        if (callContext != null && callContext.getRemainingMs() < minRemainingMs) {
+            deny(context, endpoint, OPFRetryBudget.DENIED_BY_DEADLINE, throwable);
+            retryBudget.recordDenial(endpoint, OPFRetryBudget.DENIED_BY_DEADLINE);
+        } else if (!retryBudget.tryAcquireRetry(endpoint)) {
+            deny(context, endpoint, OPFRetryBudget.DENIED_BY_BUDGET, throwable);
+        } else {
+            LOGGER.debug("Retrying OPF endpoint [{}], attempt {} failed with {}", endpointCode(endpoint),
+                    context.getRetryCount(), throwable.getClass().getSimpleName());
+        }
+    }
+
+    private void deny(final RetryContext context, final OPFGatewayEndpoint endpoint, final String reason,
+            final Throwable throwable) {
+        context.setAttribute(RETRY_DENIED, reason);
+        LOGGER.warn("Not retrying OPF endpoint [{}] after {} attempt(s), retry {} exhausted: {}", endpointCode(endpoint),
+                context.getRetryCount(), reason, throwable.getMessage());
+    }
+
+    private static String endpointCode(final OPFGatewayEndpoint endpoint) {
+        return endpoint == null ? "unknown" : endpoint.getCode();
+    }
+
+    /**
+     * set the minimum time that has to be left until the request deadline for a retry to be attempted
+     *
+     * @param minRemainingMs minimum remaining time in milliseconds
+     */
+    public void setMinRemainingMs(final long minRemainingMs) {
+        this.minRemainingMs = minRemainingMs;
+    }
+}
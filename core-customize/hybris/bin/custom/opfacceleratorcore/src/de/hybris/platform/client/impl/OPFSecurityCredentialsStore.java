@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.opf.data.OPFSecurityCredentialsStatsData;
+import de.hybris.platform.opfservices.client.OAuth2TokenException;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static de.hybris.platform.constants.OpfacceleratorcoreConstants.OPF_CLIENT_ID;
+import static de.hybris.platform.constants.OpfacceleratorcoreConstants.OPF_PUBLIC_KEY;
+
+/**
+ * Keeps the content of the OPF security file as an immutable in-memory snapshot, so payment calls do not read the
+ * file. The snapshot is swapped atomically when a {@link WatchService} on {@code opf.oauth.client-secret.file.location}
+ * reports a change. A file that cannot be parsed or lacks the tenant client id or public key is rejected and the last
+ * good snapshot stays in use.
+ */
+public class OPFSecurityCredentialsStore implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFSecurityCredentialsStore.class);
+
+    private static final String OPF_OAUTH_CLIENT_SECRET_WATCH_ENABLED = "opf.oauth.client-secret.watch.enabled";
+    private static final List<String> REQUIRED_KEYS = List.of(OPF_CLIENT_ID, OPF_PUBLIC_KEY);
+
+    private final String securityFileKey;
+    private final String securityFileLocationKey;
+    private final ConfigurationService configurationService;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder rejectedReloads = new LongAdder();
+    private volatile WatchService watchService;
+    private Thread watcher;
+
+    /**
+     * Constructor for OPFSecurityCredentialsStore
+     *
+     * @param securityFileKey key of the security file name
+     * @param securityFileLocationKey key of the security file location
+     * @param configurationService configurationService
+     */
+    public OPFSecurityCredentialsStore(final String securityFileKey, final String securityFileLocationKey,
+            final ConfigurationService configurationService) {
+        this.securityFileKey = securityFileKey;
+        this.securityFileLocationKey = securityFileLocationKey;
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        final Configuration configuration = configurationService.getConfiguration();
+        if (StringUtils.isBlank(configuration.getString(securityFileKey))) {
+            LOGGER.info("No OPF security file configured, credentials are not loaded");
+            return;
+        }
+        if (!reload()) {
+            LOGGER.warn("OPF security file [{}] could not be loaded at startup", getSecurityFile());
+        }
+        if (configuration.getBoolean(OPF_OAUTH_CLIENT_SECRET_WATCH_ENABLED, true)) {
+            startWatching(getSecurityFile().getParent());
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        final WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            service.close();
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    /**
+     * get the credentials of the current snapshot, loading the security file if no snapshot exists yet
+     *
+     * @return immutable map of the security file properties
+     */
+    public Map<String, String> getCredentials() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot.get();
+                if (current == null) {
+                    current = load(getSecurityFile());
+                    snapshot.set(current);
+                    reloads.increment();
+                }
+            }
+        }
+        return current.credentials();
+    }
+
+    /**
+     * read the security file again and swap the snapshot if the file is valid
+     *
+     * @return true if the snapshot was replaced
+     */
+    public boolean reload() {
+        final Path securityFile = getSecurityFile();
+        try {
+            snapshot.set(load(securityFile));
+            reloads.increment();
+            LOGGER.info("OPF security file [{}] loaded", securityFile);
+            return true;
+        } catch (final OAuth2TokenException e) {
+            rejectedReloads.increment();
+            LOGGER.warn("OPF security file [{}] rejected, keeping the previous credentials: {}", securityFile,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private static Snapshot load(final Path securityFile) {
+        final Properties properties = new Properties();
+        try (final Reader reader = Files.newBufferedReader(securityFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (final IOException | IllegalArgumentException e) {
+            throw new OAuth2TokenException("Cannot load OPF tenant client id & public key", e);
+        }
+        for (final String key : REQUIRED_KEYS) {
+            if (StringUtils.isBlank(properties.getProperty(key))) {
+                throw new OAuth2TokenException("OPF security file has no " + key);
+            }
+        }
+        final Map<String, String> credentials = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> credentials.put(key, properties.getProperty(key)));
+        return new Snapshot(Map.copyOf(credentials), System.currentTimeMillis());
+    }
+
+    private void startWatching(final Path directory) {
+        try {
+            final WatchService service = FileSystems.getDefault().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            watchService = service;
+            watcher = Thread.ofPlatform().daemon().name("opf-security-credentials-watcher").start(() -> watch(service));
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn("Cannot watch OPF security file location [{}], credentials are loaded once", directory, e);
+        }
+    }
+
+    private void watch(final WatchService service) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey key = service.take();
+                // mounted secrets are replaced through symlink swaps, so any change in the directory triggers a reload
+                key.pollEvents();
+                key.reset();
+                reload();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            LOGGER.debug("OPF security file watcher stopped");
+        }
+    }
+
+    private Path getSecurityFile() {
+        final Configuration configuration = configurationService.getConfiguration();
+        return Paths.get(configuration.getString(securityFileLocationKey), configuration.getString(securityFileKey));
+    }
+
+    /**
+     * get the state of the credentials snapshot
+     *
+     * @return {@link OPFSecurityCredentialsStatsData}
+     */
+    public OPFSecurityCredentialsStatsData getSecurityCredentialsStats() {
+        final Snapshot current = snapshot.get();
+        final OPFSecurityCredentialsStatsData stats = new OPFSecurityCredentialsStatsData();
+        stats.setLoadedAt(current == null ? 0L : current.loadedAt());
+        stats.setReloads(reloads.sum());
+        stats.setRejectedReloads(rejectedReloads.sum());
+        stats.setWatching(watchService != null);
+        return stats;
+    }
+
+    private record Snapshot(Map<String, String> credentials, long loadedAt) {
+    }
+}
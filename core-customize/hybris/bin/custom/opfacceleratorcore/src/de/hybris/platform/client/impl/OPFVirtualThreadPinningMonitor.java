@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.constants.OpfacceleratorcoreConstants;
+import de.hybris.platform.opf.data.OPFVirtualThreadPinningStatsData;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records carrier-thread pinning of virtual threads through the JFR {@code jdk.VirtualThreadPinned} event while the
+ * OPF gateway runs in virtual-thread mode. Pinned virtual threads block their carrier, so a growing pinned time during
+ * a gateway brownout means storefront throughput is at risk.
+ */
+public class OPFVirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFVirtualThreadPinningMonitor.class);
+
+    private static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String OPF_HTTP_PINNING_THRESHOLD_MS = "opf.http.virtual.pinning.threshold.ms";
+
+    private final ConfigurationService configurationService;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final AtomicReference<String> lastPinnedFrame = new AtomicReference<>();
+    private RecordingStream recordingStream;
+
+    /**
+     * Constructor for OPFVirtualThreadPinningMonitor
+     *
+     * @param configurationService configurationService
+     */
+    public OPFVirtualThreadPinningMonitor(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        final Configuration configuration = configurationService.getConfiguration();
+        if (!OpfacceleratorcoreConstants.OPF_HTTP_EXECUTOR_VIRTUAL.equalsIgnoreCase(
+                configuration.getString(OpfacceleratorcoreConstants.OPF_HTTP_EXECUTOR, StringUtils.EMPTY))) {
+            return;
+        }
+        try {
+            final RecordingStream stream = new RecordingStream();
+            stream.enable(VIRTUAL_THREAD_PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(configuration.getLong(OPF_HTTP_PINNING_THRESHOLD_MS, 20L)))
+                    .withStackTrace();
+            stream.onEvent(VIRTUAL_THREAD_PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            recordingStream = stream;
+            LOGGER.info("OPF virtual thread pinning monitor started");
+        } catch (final RuntimeException e) {
+            LOGGER.warn("JFR is not available, virtual thread pinning will not be recorded", e);
+        }
+    }
+
+    protected void onPinned(final RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        final RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null && !stackTrace.getFrames().isEmpty()) {
+            final List<RecordedFrame> frames = stackTrace.getFrames();
+            final RecordedFrame top = frames.get(0);
+            lastPinnedFrame.set(top.getMethod().getType().getName() + "." + top.getMethod().getName());
+        }
+    }
+
+    /**
+     * get the pinning counters recorded since startup
+     *
+     * @return {@link OPFVirtualThreadPinningStatsData}
+     */
+    public OPFVirtualThreadPinningStatsData getPinningStats() {
+        final OPFVirtualThreadPinningStatsData stats = new OPFVirtualThreadPinningStatsData();
+        stats.setEnabled(recordingStream != null);
+        stats.setPinnedEvents(pinnedEvents.sum());
+        stats.setPinnedTimeMs(Duration.ofNanos(pinnedNanos.sum()).toMillis());
+        stats.setLastPinnedFrame(lastPinnedFrame.get());
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
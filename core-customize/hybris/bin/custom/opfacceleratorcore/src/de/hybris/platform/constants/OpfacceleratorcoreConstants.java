@@ -16,6 +16,8 @@ public final class OpfacceleratorcoreConstants extends GeneratedOpfacceleratorco
     public static final String APPLE_PAY = "APPLE_PAY";
     public static final String PAYMENT_PROVIDER = "OPF";
     public static final String PAYMENT_SESSION_ID_KEY = "opfPaymentSessionId";
+    public static final String OPF_HTTP_EXECUTOR = "opf.http.executor";
+    public static final String OPF_HTTP_EXECUTOR_VIRTUAL = "virtual";
 
     private OpfacceleratorcoreConstants() {
         //empty to avoid instantiating this constant class
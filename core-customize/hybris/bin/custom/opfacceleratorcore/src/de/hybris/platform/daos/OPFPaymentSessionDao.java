@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.daos;
+
+import de.hybris.platform.core.model.order.AbstractOrderModel;
+import de.hybris.platform.model.OPFPaymentSessionModel;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lookups of {@link OPFPaymentSessionModel}, each one query on an indexed attribute
+ */
+public interface OPFPaymentSessionDao {
+
+    /**
+     * find the payment session of an OPF payment session id
+     *
+     * @param sessionId OPF payment session id
+     * @return the payment session, empty when unknown
+     */
+    Optional<OPFPaymentSessionModel> findBySessionId(String sessionId);
+
+    /**
+     * find the payment session created last for a cart or order
+     *
+     * @param order cart or order
+     * @return the latest payment session, empty when the cart has none
+     */
+    Optional<OPFPaymentSessionModel> findLatestByOrder(AbstractOrderModel order);
+
+    /**
+     * find the payment sessions of a cart or order
+     *
+     * @param order cart or order
+     * @return the payment sessions, latest first
+     */
+    List<OPFPaymentSessionModel> findByOrder(AbstractOrderModel order);
+}
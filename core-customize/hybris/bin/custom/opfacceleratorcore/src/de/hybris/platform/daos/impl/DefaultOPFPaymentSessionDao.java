@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.daos.impl;
+
+import de.hybris.platform.core.model.ItemModel;
+import de.hybris.platform.core.model.order.AbstractOrderModel;
+import de.hybris.platform.daos.OPFPaymentSessionDao;
+import de.hybris.platform.model.OPFPaymentSessionModel;
+import de.hybris.platform.servicelayer.internal.dao.DefaultGenericDao;
+import de.hybris.platform.servicelayer.internal.dao.SortParameters;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static de.hybris.platform.servicelayer.util.ServicesUtil.validateParameterNotNullStandardMessage;
+
+/**
+ * Looks payment sessions up through the unique index on sessionId and the index on order
+ */
+public class DefaultOPFPaymentSessionDao extends DefaultGenericDao<OPFPaymentSessionModel> implements OPFPaymentSessionDao {
+
+    /**
+     * Constructor for DefaultOPFPaymentSessionDao
+     */
+    public DefaultOPFPaymentSessionDao() {
+        super(OPFPaymentSessionModel._TYPECODE);
+    }
+
+    @Override
+    public Optional<OPFPaymentSessionModel> findBySessionId(final String sessionId) {
+        validateParameterNotNullStandardMessage("sessionId", sessionId);
+        return first(find(Map.of(OPFPaymentSessionModel.SESSIONID, sessionId)));
+    }
+
+    @Override
+    public Optional<OPFPaymentSessionModel> findLatestByOrder(final AbstractOrderModel order) {
+        validateParameterNotNullStandardMessage("order", order);
+        return first(find(Map.of(OPFPaymentSessionModel.ORDER, order), SortParameters.singletonDescending(ItemModel.CREATIONTIME), 1));
+    }
+
+    @Override
+    public List<OPFPaymentSessionModel> findByOrder(final AbstractOrderModel order) {
+        validateParameterNotNullStandardMessage("order", order);
+        return find(Map.of(OPFPaymentSessionModel.ORDER, order), SortParameters.singletonDescending(ItemModel.CREATIONTIME));
+    }
+
+    private static Optional<OPFPaymentSessionModel> first(final List<OPFPaymentSessionModel> sessions) {
+        return sessions == null || sessions.isEmpty() ? Optional.empty() : Optional.of(sessions.get(0));
+    }
+}
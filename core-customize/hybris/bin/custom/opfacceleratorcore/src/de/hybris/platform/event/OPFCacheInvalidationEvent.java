@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.event;
+
+import de.hybris.platform.service.OPFCacheRegion;
+import de.hybris.platform.servicelayer.event.ClusterAwareEvent;
+import de.hybris.platform.servicelayer.event.PublishEventContext;
+import de.hybris.platform.servicelayer.event.events.AbstractEvent;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Invalidation of node local OPF caches, delivered to every node of the cluster including the one publishing it
+ */
+public class OPFCacheInvalidationEvent extends AbstractEvent implements ClusterAwareEvent {
+
+    private final String invalidationId;
+    private final String siteUid;
+    private final EnumSet<OPFCacheRegion> regions;
+
+    /**
+     * Constructor for OPFCacheInvalidationEvent
+     *
+     * @param invalidationId unique id of the invalidation, a node applies it once however often it is delivered
+     * @param siteUid base site whose entries are dropped, null for all sites
+     * @param regions caches to invalidate
+     */
+    public OPFCacheInvalidationEvent(final String invalidationId, final String siteUid, final Set<OPFCacheRegion> regions) {
+        super();
+        this.invalidationId = invalidationId;
+        this.siteUid = siteUid;
+        this.regions = regions.isEmpty() ? EnumSet.noneOf(OPFCacheRegion.class) : EnumSet.copyOf(regions);
+    }
+
+    @Override
+    public boolean canPublish(final PublishEventContext publishEventContext) {
+        return true;
+    }
+
+    public String getInvalidationId() {
+        return invalidationId;
+    }
+
+    public String getSiteUid() {
+        return siteUid;
+    }
+
+    public Set<OPFCacheRegion> getRegions() {
+        return Collections.unmodifiableSet(regions);
+    }
+}
@@ -3,6 +3,8 @@
  */
 package de.hybris.platform.facade;
 
+import com.opf.dto.cta.CTABatchRequestDTO;
+import com.opf.dto.cta.CTABatchResponseDTO;
 import com.opf.dto.cta.CTARequestDTO;
 import com.opf.dto.cta.CTAResponseDTO;
 import com.opf.dto.cta.OPFActiveConfigDTO;
@@ -23,6 +25,7 @@ import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteRequest;
 import de.hybris.platform.opf.dto.user.AddressWsDTO;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Open Payment Framework Accelerator SDK Facade
@@ -39,6 +42,27 @@ public interface OPFAcceleratorFacade {
      */
     CTAResponseDTO getCTAResponse(final CTARequestDTO ctaRequestWsDTO);
 
+    /**
+     * Get CTA script rendering response without blocking the calling thread
+     *
+     * @param ctaRequestWsDTO
+     *         ctaRequestWsDTO
+     * @return future of {@link CTAResponseDTO}
+     * @see #getCTAResponse(CTARequestDTO)
+     */
+    CompletableFuture<CTAResponseDTO> getCTAResponseAsync(final CTARequestDTO ctaRequestWsDTO);
+
+    /**
+     * Get the CTA script rendering responses of several script locations, requested from the gateway concurrently. A
+     * location whose scripts could not be rendered gets an empty response.
+     *
+     * @param ctaBatchRequestDTO
+     *         requests keyed by script location context
+     * @return {@link CTABatchResponseDTO} keyed by the same contexts
+     * @see #getCTAResponse(CTARequestDTO)
+     */
+    CTABatchResponseDTO getCTAResponses(final CTABatchRequestDTO ctaBatchRequestDTO);
+
     /**
      * Get active configurations
      *
@@ -47,6 +71,14 @@ public interface OPFAcceleratorFacade {
      */
     OPFActiveConfigDTO getActiveConfigurations();
 
+    /**
+     * Get active configurations without blocking the calling thread
+     *
+     * @return future of {@link OPFActiveConfigDTO}
+     * @see #getActiveConfigurations()
+     */
+    CompletableFuture<OPFActiveConfigDTO> getActiveConfigurationsAsync();
+
     /**
      * Initiate OPF Payment Session and get the response
      *
@@ -56,6 +88,16 @@ public interface OPFAcceleratorFacade {
      */
     OPFInitiatePaymentData getInitiatePaymentResponse(final OPFInitiatePaymentSessionRequest paymentRequest);
 
+    /**
+     * Initiate OPF Payment Session without blocking the calling thread
+     *
+     * @param paymentRequest
+     *         Payment request data
+     * @return future of OPFInitiatePaymentData
+     * @see #getInitiatePaymentResponse(OPFInitiatePaymentSessionRequest)
+     */
+    CompletableFuture<OPFInitiatePaymentData> getInitiatePaymentResponseAsync(final OPFInitiatePaymentSessionRequest paymentRequest);
+
     /**
      * Submit payment
      *
@@ -72,6 +114,21 @@ public interface OPFAcceleratorFacade {
     OPFPaymentSubmitResponseDTO submitPayment(final OPFPaymentSubmitRequestDTO opfPaymentSubmitRequestDTO, final String paymentSessionId,
             final String ipAddress);
 
+    /**
+     * Submit payment without blocking the calling thread
+     *
+     * @param opfPaymentSubmitRequestDTO
+     *         opfPaymentSubmitRequestDTO
+     * @param paymentSessionId
+     *         paymentSessionId
+     * @param ipAddress
+     *         ipAddress
+     * @return future of {@link OPFPaymentSubmitResponseDTO}
+     * @see #submitPayment(OPFPaymentSubmitRequestDTO, String, String)
+     */
+    CompletableFuture<OPFPaymentSubmitResponseDTO> submitPaymentAsync(final OPFPaymentSubmitRequestDTO opfPaymentSubmitRequestDTO,
+            final String paymentSessionId, final String ipAddress);
+
     /**
      * verify payment
      *
@@ -82,6 +139,16 @@ public interface OPFAcceleratorFacade {
      */
     OPFPaymentVerifyResponse verifyPayment(final OPFPaymentVerifyRequestDTO opfPaymentVerifyRequestDTO);
 
+    /**
+     * verify payment without blocking the calling thread
+     *
+     * @param opfPaymentVerifyRequestDTO
+     *         opfPaymentVerifyRequestDTO
+     * @return future of {@link OPFPaymentVerifyResponse}
+     * @see #verifyPayment(OPFPaymentVerifyRequestDTO)
+     */
+    CompletableFuture<OPFPaymentVerifyResponse> verifyPaymentAsync(final OPFPaymentVerifyRequestDTO opfPaymentVerifyRequestDTO);
+
 
     /**
      * Submit and complete payment and get the response
@@ -90,6 +157,21 @@ public interface OPFAcceleratorFacade {
      */
     OPFPaymentSubmitCompleteResponseData getCompletedPaymentResponse(final OPFPaymentSubmitCompleteRequest paymentRequest);
 
+    /**
+     * Submit and complete payment without blocking the calling thread
+     * @param paymentRequest OPFPaymentSubmitCompleteRequest
+     * @return future of OPFPaymentSubmitCompleteResponseData
+     * @see #getCompletedPaymentResponse(OPFPaymentSubmitCompleteRequest)
+     */
+    CompletableFuture<OPFPaymentSubmitCompleteResponseData> getCompletedPaymentResponseAsync(
+            final OPFPaymentSubmitCompleteRequest paymentRequest);
+
+    /**
+     * Wait for the payment transaction of the session cart written behind the initiate or quick buy response,
+     * before the order is placed.
+     */
+    void awaitPaymentTransaction();
+
     /**
      * set payment info on cart
      *
@@ -104,6 +186,16 @@ public interface OPFAcceleratorFacade {
      * @see OPFApplePayResponse
      */
     OPFApplePayResponse getApplePayWebSession(final OPFApplePayRequestDTO opfApplePayRequestDTO);
+
+    /**
+     * Get apple pay web session without blocking the calling thread
+     *
+     * @param opfApplePayRequestDTO opfApplePayRequestDTO
+     * @return future of {@link OPFApplePayResponse}
+     * @see #getApplePayWebSession(OPFApplePayRequestDTO)
+     */
+    CompletableFuture<OPFApplePayResponse> getApplePayWebSessionAsync(final OPFApplePayRequestDTO opfApplePayRequestDTO);
+
     /**
      * Maps an {@link AddressWsDTO} object to an {@link AddressData} object. This method performs a shallow copy of simple properties using
      * {@link org.springframework.beans.BeanUtils} and explicitly maps nested objects such as {@code CountryWsDTO} to {@code CountryData}.
@@ -124,6 +216,14 @@ public interface OPFAcceleratorFacade {
      */
    List<OPFB2BPaymentTypeData> getB2BActiveConfigurations();
 
+    /**
+     * Retrieves the active B2B payment configurations without blocking the calling thread.
+     *
+     * @return future of the list of {@link OPFB2BPaymentTypeData}
+     * @see #getB2BActiveConfigurations()
+     */
+    CompletableFuture<List<OPFB2BPaymentTypeData>> getB2BActiveConfigurationsAsync();
+
     /**
      * Sets payment information on the cart for an account.
      * This method is used to associate payment details with the cart
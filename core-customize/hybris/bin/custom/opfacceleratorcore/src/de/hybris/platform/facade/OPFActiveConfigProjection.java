@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.facade;
+
+import com.opf.dto.cta.OPFActiveConfigDTO;
+import com.opf.order.data.OPFB2BPaymentTypeData;
+
+import java.util.List;
+
+/**
+ * Converted views of one active configurations response, without the inactive payment types. The views are shared by
+ * all requests and must not be modified.
+ *
+ * @param activeConfig B2C view, its list of values is unmodifiable
+ * @param b2bPaymentTypes B2B view, unmodifiable
+ */
+public record OPFActiveConfigProjection(OPFActiveConfigDTO activeConfig, List<OPFB2BPaymentTypeData> b2bPaymentTypes) {
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.facade;
+
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.opf.data.OPFActiveConfigProjectionStatsData;
+
+/**
+ * Store of the B2C and B2B views of the active configurations, converted once per fetched response
+ */
+public interface OPFActiveConfigProjectionStore {
+
+    /**
+     * get the views of the active configurations, converting them when the response or the configuration of the
+     * current base site changed
+     *
+     * @param activeConfigResponse active configurations returned by the service, may be null
+     * @return {@link OPFActiveConfigProjection}
+     */
+    OPFActiveConfigProjection getProjection(OPFActiveConfigResponse activeConfigResponse);
+
+    /**
+     * @return {@link OPFActiveConfigProjectionStatsData}
+     */
+    OPFActiveConfigProjectionStatsData getProjectionStats();
+}
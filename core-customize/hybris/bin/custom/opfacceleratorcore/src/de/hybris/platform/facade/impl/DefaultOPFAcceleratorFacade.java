@@ -3,6 +3,8 @@
  */
 package de.hybris.platform.facade.impl;
 
+import com.opf.dto.cta.CTABatchRequestDTO;
+import com.opf.dto.cta.CTABatchResponseDTO;
 import com.opf.dto.cta.CTARequestDTO;
 import com.opf.dto.cta.CTAResponseDTO;
 import com.opf.dto.cta.OPFActiveConfigDTO;
@@ -20,6 +22,7 @@ import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
 import de.hybris.platform.data.response.OPFActiveConfigResponse;
 import de.hybris.platform.data.response.OPFActiveConfigValue;
 import de.hybris.platform.facade.OPFAcceleratorFacade;
+import de.hybris.platform.facade.OPFActiveConfigProjectionStore;
 
 import de.hybris.platform.opf.data.OPFInitiatePaymentData;
 import de.hybris.platform.opf.data.OPFInitiatePaymentSessionRequestData;
@@ -41,17 +44,24 @@ import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
 import de.hybris.platform.opf.dto.user.AddressWsDTO;
 import de.hybris.platform.opf.dto.user.CountryWsDTO;
 import de.hybris.platform.service.OPFAcceleratorService;
+import de.hybris.platform.service.OPFAsyncAcceleratorService;
 import de.hybris.platform.servicelayer.dto.converter.Converter;
 import de.hybris.platform.util.OPFAcceleratorCoreUtil;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Open Payment Framework Accelerator SDK Facade Impl
@@ -59,6 +69,8 @@ import java.util.Optional;
 public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFAcceleratorFacade.class);
     private OPFAcceleratorService opfAcceleratorService;
+    private OPFAsyncAcceleratorService opfAsyncAcceleratorService;
+    private OPFActiveConfigProjectionStore opfActiveConfigProjectionStore;
     private Converter<CTARequestDTO, OPFPaymentCTARequest> opfAcceleratorCTARequestConverter;
     private Converter<OPFPaymentCTAResponse, CTAResponseDTO> opfAcceleratorCTAResponseConverter;
     private Converter<OPFActiveConfigResponse, OPFActiveConfigDTO> opfAcceleratorActiveConfigResponseConverter;
@@ -138,14 +150,75 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
      */
     @Override
     public CTAResponseDTO getCTAResponse(CTARequestDTO ctaRequestWsDTO) {
-        CTAResponseDTO ctaResponseWsDTO = new CTAResponseDTO();
-        if (ctaRequestWsDTO != null) {
-            OPFPaymentCTARequest request = new OPFPaymentCTARequest();
-            opfAcceleratorCTARequestConverter.convert(ctaRequestWsDTO, request);
-            OPFPaymentCTAResponse ctaResponse = opfAcceleratorService.getCTAResponse(request);
-            if (ctaResponse != null) {
-                opfAcceleratorCTAResponseConverter.convert(ctaResponse, ctaResponseWsDTO);
+        if (ctaRequestWsDTO == null) {
+            return new CTAResponseDTO();
+        }
+        return convertCTAResponse(opfAcceleratorService.getCTAResponse(convertCTARequest(ctaRequestWsDTO)));
+    }
+
+    /**
+     * @param ctaRequestWsDTO
+     *         ctaRequestWsDTO
+     * @return future of {@link CTAResponseDTO}
+     */
+    @Override
+    public CompletableFuture<CTAResponseDTO> getCTAResponseAsync(CTARequestDTO ctaRequestWsDTO) {
+        if (ctaRequestWsDTO == null) {
+            return CompletableFuture.completedFuture(new CTAResponseDTO());
+        }
+        return opfAsyncAcceleratorService.getCTAResponse(convertCTARequest(ctaRequestWsDTO)).thenApply(this::convertCTAResponse);
+    }
+
+    /**
+     * @param ctaBatchRequestDTO
+     *         requests keyed by script location context
+     * @return {@link CTABatchResponseDTO}
+     */
+    @Override
+    public CTABatchResponseDTO getCTAResponses(CTABatchRequestDTO ctaBatchRequestDTO) {
+        final Map<String, CTAResponseDTO> responses = new LinkedHashMap<>();
+        final CTABatchResponseDTO ctaBatchResponseDTO = new CTABatchResponseDTO();
+        ctaBatchResponseDTO.setResponses(responses);
+        if (ctaBatchRequestDTO == null || MapUtils.isEmpty(ctaBatchRequestDTO.getRequests())) {
+            return ctaBatchResponseDTO;
+        }
+        final Map<String, CompletableFuture<CTAResponseDTO>> pending = new LinkedHashMap<>();
+        ctaBatchRequestDTO.getRequests().forEach((context, ctaRequestWsDTO) -> {
+            if (ctaRequestWsDTO != null && CollectionUtils.isEmpty(ctaRequestWsDTO.getScriptLocations())) {
+                ctaRequestWsDTO.setScriptLocations(List.of(context));
+            }
+            pending.put(context, requestCTAResponse(ctaRequestWsDTO));
+        });
+        pending.forEach((context, ctaResponse) -> {
+            try {
+                responses.put(context, ctaResponse.join());
+            } catch (CompletionException | CancellationException exception) {
+                LOGGER.warn("CTA scripts for script location [{}] could not be rendered", context, exception);
+                responses.put(context, new CTAResponseDTO());
             }
+        });
+        return ctaBatchResponseDTO;
+    }
+
+    private CompletableFuture<CTAResponseDTO> requestCTAResponse(CTARequestDTO ctaRequestWsDTO) {
+        try {
+            return opfAsyncAcceleratorService == null ? CompletableFuture.completedFuture(getCTAResponse(ctaRequestWsDTO))
+                    : getCTAResponseAsync(ctaRequestWsDTO);
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private OPFPaymentCTARequest convertCTARequest(CTARequestDTO ctaRequestWsDTO) {
+        OPFPaymentCTARequest request = new OPFPaymentCTARequest();
+        opfAcceleratorCTARequestConverter.convert(ctaRequestWsDTO, request);
+        return request;
+    }
+
+    private CTAResponseDTO convertCTAResponse(OPFPaymentCTAResponse ctaResponse) {
+        CTAResponseDTO ctaResponseWsDTO = new CTAResponseDTO();
+        if (ctaResponse != null) {
+            opfAcceleratorCTAResponseConverter.convert(ctaResponse, ctaResponseWsDTO);
         }
         return ctaResponseWsDTO;
     }
@@ -155,8 +228,22 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
      */
     @Override
     public OPFActiveConfigDTO getActiveConfigurations() {
+        return convertActiveConfigurations(opfAcceleratorService.getActiveConfigurations());
+    }
+
+    /**
+     * @return future of {@link OPFActiveConfigDTO}
+     */
+    @Override
+    public CompletableFuture<OPFActiveConfigDTO> getActiveConfigurationsAsync() {
+        return opfAsyncAcceleratorService.getActiveConfigurations().thenApply(this::convertActiveConfigurations);
+    }
+
+    private OPFActiveConfigDTO convertActiveConfigurations(OPFActiveConfigResponse activeConfigResponse) {
+        if (opfActiveConfigProjectionStore != null) {
+            return opfActiveConfigProjectionStore.getProjection(activeConfigResponse).activeConfig();
+        }
         OPFActiveConfigDTO activeConfigWsDTO = new OPFActiveConfigDTO();
-        OPFActiveConfigResponse activeConfigResponse = opfAcceleratorService.getActiveConfigurations();
         opfAcceleratorActiveConfigResponseConverter.convert(activeConfigResponse, activeConfigWsDTO);
         return activeConfigWsDTO;
     }
@@ -176,7 +263,28 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
         }
         OPFInitiatePaymentSessionRequestData requestData = new OPFInitiatePaymentSessionRequestData();
         opfPaymentSessionRequestConverter.convert(paymentRequest, requestData);
-        OPFInitiatePaymentSessionResponse response = opfAcceleratorService.getInitiatePaymentResponse(requestData);
+        return convertInitiatePaymentResponse(opfAcceleratorService.getInitiatePaymentResponse(requestData));
+    }
+
+    /**
+     * Initiate OPF Payment Session asynchronously
+     *
+     * @param paymentRequest
+     *         Payment request data
+     * @return future of OPFInitiatePaymentData
+     */
+    @Override
+    public CompletableFuture<OPFInitiatePaymentData> getInitiatePaymentResponseAsync(OPFInitiatePaymentSessionRequest paymentRequest) {
+        if (paymentRequest == null) {
+            LOGGER.warn("Initiate payment request is null.");
+            return CompletableFuture.completedFuture(new OPFInitiatePaymentData());
+        }
+        OPFInitiatePaymentSessionRequestData requestData = new OPFInitiatePaymentSessionRequestData();
+        opfPaymentSessionRequestConverter.convert(paymentRequest, requestData);
+        return opfAsyncAcceleratorService.getInitiatePaymentResponse(requestData).thenApply(this::convertInitiatePaymentResponse);
+    }
+
+    private OPFInitiatePaymentData convertInitiatePaymentResponse(OPFInitiatePaymentSessionResponse response) {
         OPFInitiatePaymentData paymentResponse = new OPFInitiatePaymentData();
         if (response != null) {
             opfPaymentSessionResponseConverter.convert(response, paymentResponse);
@@ -201,25 +309,59 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
     @Override
     public OPFPaymentSubmitResponseDTO submitPayment(OPFPaymentSubmitRequestDTO opfPaymentSubmitRequestDTO, String paymentSessionId,
             String ipAddress) {
+        if (opfPaymentSubmitRequestDTO == null) {
+            return new OPFPaymentSubmitResponseDTO();
+        }
+        boolean isQuickBuy = OPFAcceleratorCoreUtil.isQuickBuy(opfPaymentSubmitRequestDTO.getPaymentMethod());
+        OPFPaymentSubmitRequest opfPaymentSubmitRequest = convertSubmitRequest(opfPaymentSubmitRequestDTO, paymentSessionId,
+                ipAddress, isQuickBuy);
+        return convertSubmitResponse(opfAcceleratorService.submitPayment(opfPaymentSubmitRequest, isQuickBuy));
+    }
+
+    /**
+     * submit payment asynchronously
+     *
+     * @param opfPaymentSubmitRequestDTO
+     *         opfPaymentSubmitRequestDTO
+     * @param paymentSessionId
+     *         paymentSessionId
+     * @param ipAddress
+     *         ipAddress
+     * @return future of {@link OPFPaymentSubmitResponseDTO}
+     */
+    @Override
+    public CompletableFuture<OPFPaymentSubmitResponseDTO> submitPaymentAsync(OPFPaymentSubmitRequestDTO opfPaymentSubmitRequestDTO,
+            String paymentSessionId, String ipAddress) {
+        if (opfPaymentSubmitRequestDTO == null) {
+            return CompletableFuture.completedFuture(new OPFPaymentSubmitResponseDTO());
+        }
+        boolean isQuickBuy = OPFAcceleratorCoreUtil.isQuickBuy(opfPaymentSubmitRequestDTO.getPaymentMethod());
+        OPFPaymentSubmitRequest opfPaymentSubmitRequest = convertSubmitRequest(opfPaymentSubmitRequestDTO, paymentSessionId,
+                ipAddress, isQuickBuy);
+        return opfAsyncAcceleratorService.submitPayment(opfPaymentSubmitRequest, isQuickBuy).thenApply(this::convertSubmitResponse);
+    }
+
+    private OPFPaymentSubmitRequest convertSubmitRequest(OPFPaymentSubmitRequestDTO opfPaymentSubmitRequestDTO,
+            String paymentSessionId, String ipAddress, boolean isQuickBuy) {
+        OPFPaymentSubmitRequest opfPaymentSubmitRequest = new OPFPaymentSubmitRequest();
+        opfAcceleratorSubmitRequestConverter.convert(opfPaymentSubmitRequestDTO, opfPaymentSubmitRequest);
+        //PaymentSessionId is not required for Quick Buy with GPay or Apple Pay
+        if(!isQuickBuy){
+            opfPaymentSubmitRequest.setPaymentSessionId(paymentSessionId);
+        }
+        OPFPaymentBrowserInfoData browserInfoData = opfPaymentSubmitRequest.getBrowserInfo();
+        if(browserInfoData == null) {
+            browserInfoData = new OPFPaymentBrowserInfoData();
+        }
+        browserInfoData.setIpAddress(ipAddress);
+        opfPaymentSubmitRequest.setBrowserInfo(browserInfoData);
+        return opfPaymentSubmitRequest;
+    }
+
+    private OPFPaymentSubmitResponseDTO convertSubmitResponse(OPFPaymentSubmitResponse opfPaymentSubmitResponse) {
         OPFPaymentSubmitResponseDTO opfPaymentSubmitResponseDTO = new OPFPaymentSubmitResponseDTO();
-        if (opfPaymentSubmitRequestDTO != null) {
-            OPFPaymentSubmitRequest opfPaymentSubmitRequest = new OPFPaymentSubmitRequest();
-            opfAcceleratorSubmitRequestConverter.convert(opfPaymentSubmitRequestDTO, opfPaymentSubmitRequest);
-            //PaymentSessionId is not required for Quick Buy with GPay or Apple Pay
-            boolean isQuickBuy = OPFAcceleratorCoreUtil.isQuickBuy(opfPaymentSubmitRequestDTO.getPaymentMethod());
-            if(!isQuickBuy){
-                opfPaymentSubmitRequest.setPaymentSessionId(paymentSessionId);
-            }
-            OPFPaymentBrowserInfoData browserInfoData = opfPaymentSubmitRequest.getBrowserInfo();
-            if(browserInfoData == null) {
-                browserInfoData = new OPFPaymentBrowserInfoData();
-            }
-            browserInfoData.setIpAddress(ipAddress);
-            opfPaymentSubmitRequest.setBrowserInfo(browserInfoData);
-            OPFPaymentSubmitResponse opfPaymentSubmitResponse = opfAcceleratorService.submitPayment(opfPaymentSubmitRequest, isQuickBuy);
-            if (opfPaymentSubmitResponse != null) {
-                opfAcceleratorSubmitResponseConverter.convert(opfPaymentSubmitResponse, opfPaymentSubmitResponseDTO);
-            }
+        if (opfPaymentSubmitResponse != null) {
+            opfAcceleratorSubmitResponseConverter.convert(opfPaymentSubmitResponse, opfPaymentSubmitResponseDTO);
         }
         return opfPaymentSubmitResponseDTO;
     }
@@ -237,6 +379,26 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
         return validateAndConvertResponse(response);
     }
 
+    /** OPF Submit Complete payment asynchronously
+     *
+     * @param paymentRequest
+     *         Payment request data
+     * @return future of OPFPaymentSubmitCompleteResponseData
+     */
+    @Override
+    public CompletableFuture<OPFPaymentSubmitCompleteResponseData> getCompletedPaymentResponseAsync(
+            OPFPaymentSubmitCompleteRequest paymentRequest) {
+        OPFPaymentSubmitCompleteRequestData requestData = convertToRequestData(paymentRequest);
+        // the queued payment transaction writes share the gateway executor, so they are awaited before it is entered
+        opfAcceleratorService.awaitPaymentTransaction();
+        return opfAsyncAcceleratorService.getCompletedPaymentResponse(requestData).thenApply(this::validateAndConvertResponse);
+    }
+
+    @Override
+    public void awaitPaymentTransaction() {
+        opfAcceleratorService.awaitPaymentTransaction();
+    }
+
     /**
      * set payment info on cart
      *
@@ -268,6 +430,23 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
         return opfApplePayResponse;
     }
 
+    /**
+     * get apple pay web session asynchronously
+     *
+     * @param opfApplePayRequestDTO opfApplePayRequestDTO
+     * @return future of {@link OPFApplePayResponse}
+     */
+    @Override
+    public CompletableFuture<OPFApplePayResponse> getApplePayWebSessionAsync(OPFApplePayRequestDTO opfApplePayRequestDTO) {
+        if (opfApplePayRequestDTO == null) {
+            return CompletableFuture.completedFuture(new OPFApplePayResponse());
+        }
+        OPFApplePayRequest opfApplePayRequest = new OPFApplePayRequest();
+        opfApplePayRequestConverter.convert(opfApplePayRequestDTO, opfApplePayRequest);
+        return opfAsyncAcceleratorService.getApplePayWebSession(opfApplePayRequest)
+                .thenApply(response -> response != null ? response : new OPFApplePayResponse());
+    }
+
     /**
      * verify payment
      *
@@ -282,6 +461,19 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
         return opfAcceleratorService.verifyPayment(opfPaymentVerifyRequest);
     }
 
+    /**
+     * verify payment asynchronously
+     *
+     * @param opfPaymentVerifyRequestDTO opfPaymentVerifyRequestDTO
+     * @return future of {@link OPFPaymentVerifyResponse}
+     */
+    @Override
+    public CompletableFuture<OPFPaymentVerifyResponse> verifyPaymentAsync(OPFPaymentVerifyRequestDTO opfPaymentVerifyRequestDTO) {
+        OPFPaymentVerifyRequest opfPaymentVerifyRequest = new OPFPaymentVerifyRequest();
+        opfAcceleratorVerifyRequestConverter.convert(opfPaymentVerifyRequestDTO, opfPaymentVerifyRequest);
+        return opfAsyncAcceleratorService.verifyPayment(opfPaymentVerifyRequest);
+    }
+
     /**
      * Convert the request to data
      *
@@ -347,8 +539,19 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
 
     @Override
     public List<OPFB2BPaymentTypeData> getB2BActiveConfigurations() {
+        return convertB2BActiveConfigurations(opfAcceleratorService.getActiveConfigurations());
+    }
+
+    @Override
+    public CompletableFuture<List<OPFB2BPaymentTypeData>> getB2BActiveConfigurationsAsync() {
+        return opfAsyncAcceleratorService.getActiveConfigurations().thenApply(this::convertB2BActiveConfigurations);
+    }
+
+    private List<OPFB2BPaymentTypeData> convertB2BActiveConfigurations(OPFActiveConfigResponse activeConfigResponse) {
+        if (opfActiveConfigProjectionStore != null) {
+            return opfActiveConfigProjectionStore.getProjection(activeConfigResponse).b2bPaymentTypes();
+        }
         List<OPFB2BPaymentTypeData> b2BPaymentTypeDataList = new ArrayList<>();
-        OPFActiveConfigResponse activeConfigResponse = opfAcceleratorService.getActiveConfigurations();
         List<OPFActiveConfigValue> activeConfigList=activeConfigResponse.getValue();
         if(!CollectionUtils.isEmpty(activeConfigList)){
             b2BPaymentTypeDataList=  opfB2BAcceleratorActiveConfigResponseConverter.convertAll(activeConfigList);
@@ -370,4 +573,23 @@ public class DefaultOPFAcceleratorFacade implements OPFAcceleratorFacade {
         opfAcceleratorService.clearSapPaymentOptionId();
     }
 
+    /**
+     * set the asynchronous accelerator service backing the *Async operations
+     *
+     * @param opfAsyncAcceleratorService opfAsyncAcceleratorService
+     */
+    public void setOpfAsyncAcceleratorService(OPFAsyncAcceleratorService opfAsyncAcceleratorService) {
+        this.opfAsyncAcceleratorService = opfAsyncAcceleratorService;
+    }
+
+    /**
+     * set the store serving the active configurations converted once per response, they are converted on every call
+     * without it
+     *
+     * @param opfActiveConfigProjectionStore opfActiveConfigProjectionStore
+     */
+    public void setOpfActiveConfigProjectionStore(OPFActiveConfigProjectionStore opfActiveConfigProjectionStore) {
+        this.opfActiveConfigProjectionStore = opfActiveConfigProjectionStore;
+    }
+
 }
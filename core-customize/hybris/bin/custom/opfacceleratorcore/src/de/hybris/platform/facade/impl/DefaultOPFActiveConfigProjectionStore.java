@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.facade.impl;
+
+import com.opf.dto.cta.OPFActiveConfigDTO;
+import com.opf.order.data.OPFB2BPaymentTypeData;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.data.response.OPFActiveConfigValue;
+import de.hybris.platform.facade.OPFActiveConfigProjection;
+import de.hybris.platform.facade.OPFActiveConfigProjectionStore;
+import de.hybris.platform.opf.data.OPFActiveConfigProjectionStatsData;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.servicelayer.dto.converter.Converter;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The service returns the same response instance until the active configurations changed, so the views are kept per
+ * response instance and per configuration snapshot of the base site, which decides whether inactive payment types are
+ * shown. Entries go with the responses no longer cached by the service.
+ */
+public class DefaultOPFActiveConfigProjectionStore implements OPFActiveConfigProjectionStore {
+
+    private final OPFConfigService opfConfigService;
+    private final Converter<OPFActiveConfigResponse, OPFActiveConfigDTO> opfAcceleratorActiveConfigResponseConverter;
+    private final Converter<OPFActiveConfigValue, OPFB2BPaymentTypeData> opfB2BAcceleratorActiveConfigResponseConverter;
+    private final Map<OPFActiveConfigResponse, Projection> projections = Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder conversions = new LongAdder();
+    private final LongAdder removedInactive = new LongAdder();
+
+    /**
+     * Constructor for DefaultOPFActiveConfigProjectionStore
+     *
+     * @param opfConfigService opfConfigService
+     * @param opfAcceleratorActiveConfigResponseConverter active config response converter
+     * @param opfB2BAcceleratorActiveConfigResponseConverter B2B active config response converter
+     */
+    public DefaultOPFActiveConfigProjectionStore(final OPFConfigService opfConfigService,
+            final Converter<OPFActiveConfigResponse, OPFActiveConfigDTO> opfAcceleratorActiveConfigResponseConverter,
+            final Converter<OPFActiveConfigValue, OPFB2BPaymentTypeData> opfB2BAcceleratorActiveConfigResponseConverter) {
+        this.opfConfigService = opfConfigService;
+        this.opfAcceleratorActiveConfigResponseConverter = opfAcceleratorActiveConfigResponseConverter;
+        this.opfB2BAcceleratorActiveConfigResponseConverter = opfB2BAcceleratorActiveConfigResponseConverter;
+    }
+
+    @Override
+    public OPFActiveConfigProjection getProjection(final OPFActiveConfigResponse activeConfigResponse) {
+        if (activeConfigResponse == null) {
+            return new OPFActiveConfigProjection(new OPFActiveConfigDTO(), List.of());
+        }
+        final OPFConfig config = opfConfigService.getConfig();
+        final Projection projection = projections.get(activeConfigResponse);
+        if (projection != null && projection.config() == config) {
+            hits.increment();
+            return projection.views();
+        }
+        // concurrent first calls may both convert, the views are equal
+        final OPFActiveConfigProjection views = project(activeConfigResponse, config);
+        projections.put(activeConfigResponse, new Projection(config, views));
+        return views;
+    }
+
+    /**
+     * convert the response into both views, leaving out the inactive payment types when the base site only shows the
+     * active ones
+     *
+     * @param activeConfigResponse activeConfigResponse
+     * @param config configuration snapshot of the base site
+     * @return {@link OPFActiveConfigProjection}
+     */
+    protected OPFActiveConfigProjection project(final OPFActiveConfigResponse activeConfigResponse, final OPFConfig config) {
+        conversions.increment();
+        final List<OPFActiveConfigValue> values = CollectionUtils.emptyIfNull(activeConfigResponse.getValue()).stream()
+                .filter(value -> !config.isActiveConfigPaymentType() || value.isActive())
+                .toList();
+        if (activeConfigResponse.getValue() != null) {
+            removedInactive.add(activeConfigResponse.getValue().size() - values.size());
+        }
+
+        final OPFActiveConfigResponse activeOnly = new OPFActiveConfigResponse();
+        activeOnly.setValue(values);
+        activeOnly.setPageable(activeConfigResponse.getPageable());
+        final OPFActiveConfigDTO activeConfig = new OPFActiveConfigDTO();
+        opfAcceleratorActiveConfigResponseConverter.convert(activeOnly, activeConfig);
+        if (activeConfig.getValue() != null) {
+            activeConfig.setValue(List.copyOf(activeConfig.getValue()));
+        }
+
+        final List<OPFB2BPaymentTypeData> b2bPaymentTypes = values.isEmpty() ? List.of()
+                : List.copyOf(opfB2BAcceleratorActiveConfigResponseConverter.convertAll(values));
+        return new OPFActiveConfigProjection(activeConfig, b2bPaymentTypes);
+    }
+
+    @Override
+    public OPFActiveConfigProjectionStatsData getProjectionStats() {
+        final OPFActiveConfigProjectionStatsData stats = new OPFActiveConfigProjectionStatsData();
+        stats.setSize(projections.size());
+        stats.setHits(hits.sum());
+        stats.setConversions(conversions.sum());
+        stats.setRemovedInactive(removedInactive.sum());
+        return stats;
+    }
+
+    private record Projection(OPFConfig config, OPFActiveConfigProjection views) {
+    }
+}
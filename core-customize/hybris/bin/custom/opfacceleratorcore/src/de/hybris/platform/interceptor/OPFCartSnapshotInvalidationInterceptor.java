@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.interceptor;
+
+import de.hybris.platform.core.model.ItemModel;
+import de.hybris.platform.service.OPFCartSnapshot;
+import de.hybris.platform.servicelayer.interceptor.InterceptorContext;
+import de.hybris.platform.servicelayer.interceptor.PrepareInterceptor;
+import de.hybris.platform.servicelayer.interceptor.RemoveInterceptor;
+
+/**
+ * Drops the {@link OPFCartSnapshot} of the current request when a cart or cart entry is saved or removed.
+ */
+public class OPFCartSnapshotInvalidationInterceptor implements PrepareInterceptor<ItemModel>, RemoveInterceptor<ItemModel> {
+
+    private final OPFCartSnapshot opfCartSnapshot;
+
+    /**
+     * Constructor for OPFCartSnapshotInvalidationInterceptor
+     *
+     * @param opfCartSnapshot snapshot of the request
+     */
+    public OPFCartSnapshotInvalidationInterceptor(final OPFCartSnapshot opfCartSnapshot) {
+        this.opfCartSnapshot = opfCartSnapshot;
+    }
+
+    @Override
+    public void onPrepare(final ItemModel model, final InterceptorContext ctx) {
+        opfCartSnapshot.invalidate();
+    }
+
+    @Override
+    public void onRemove(final ItemModel model, final InterceptorContext ctx) {
+        opfCartSnapshot.invalidate();
+    }
+}
@@ -11,7 +11,7 @@ import de.hybris.platform.converters.Populator;
 import de.hybris.platform.data.response.OPFActiveConfigDigitalWallet;
 import de.hybris.platform.data.response.OPFActiveConfigResponse;
 import de.hybris.platform.data.response.OPFPageableData;
-import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.service.OPFConfigService;
 import de.hybris.platform.servicelayer.dto.converter.ConversionException;
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -25,30 +25,28 @@ import java.util.stream.Collectors;
  * This class handles the mapping of data between the source and target objects.
  */
 public class OPFAcceleratorPaymentActiveConfigResponsePopulator implements Populator<OPFActiveConfigResponse, OPFActiveConfigDTO> {
-    private static final String OPF_ACTIVE_CONFIG_PAYMENT_TYPE = "opf.active.config.payment.type";
     private static final String CARD_PAYMENT_TYPE = "CARD";
-    @Resource(name = "configurationService")
-    private ConfigurationService configurationService;
+    @Resource(name = "opfConfigService")
+    private OPFConfigService opfConfigService;
 
     @Override
     public void populate(OPFActiveConfigResponse source, OPFActiveConfigDTO target) throws ConversionException {
         if (source != null && target != null) {
-
-            target.setValue(source.getValue().stream().map(activeConfigValue -> {
-                OPFActiveConfigValueDTO activeConfigValueWsDTO = new OPFActiveConfigValueDTO();
-                Boolean considerActiveFlag = configurationService.getConfiguration()
-                        .getBoolean(OPF_ACTIVE_CONFIG_PAYMENT_TYPE, Boolean.FALSE);
-                if ((considerActiveFlag && activeConfigValue.isActive()) || !considerActiveFlag) {
-                    activeConfigValueWsDTO.setId(activeConfigValue.getId());
-                    activeConfigValueWsDTO.setDisplayName(activeConfigValue.getDisplayName());
-                    activeConfigValueWsDTO.setProviderType(activeConfigValue.getProvider());
-                    activeConfigValueWsDTO.setLogoUrl(activeConfigValue.getLogoUrl());
-                    activeConfigValueWsDTO.setMerchantId(activeConfigValue.getMerchantId());
-                    activeConfigValueWsDTO.setPaymentType(CARD_PAYMENT_TYPE);
-                    activeConfigValueWsDTO.setDigitalWalletQuickBuy(populateDigitalWalletDTO(activeConfigValue.getDigitalWalletQuickBuy()));
-                }
-                return activeConfigValueWsDTO;
-            }).collect(Collectors.toList()));
+            final boolean considerActiveFlag = opfConfigService.getConfig().isActiveConfigPaymentType();
+            // inactive payment types are left out rather than emitted as empty entries
+            target.setValue(CollectionUtils.emptyIfNull(source.getValue()).stream()
+                    .filter(activeConfigValue -> !considerActiveFlag || activeConfigValue.isActive())
+                    .map(activeConfigValue -> {
+                        OPFActiveConfigValueDTO activeConfigValueWsDTO = new OPFActiveConfigValueDTO();
+                        activeConfigValueWsDTO.setId(activeConfigValue.getId());
+                        activeConfigValueWsDTO.setDisplayName(activeConfigValue.getDisplayName());
+                        activeConfigValueWsDTO.setProviderType(activeConfigValue.getProvider());
+                        activeConfigValueWsDTO.setLogoUrl(activeConfigValue.getLogoUrl());
+                        activeConfigValueWsDTO.setMerchantId(activeConfigValue.getMerchantId());
+                        activeConfigValueWsDTO.setPaymentType(CARD_PAYMENT_TYPE);
+                        activeConfigValueWsDTO.setDigitalWalletQuickBuy(populateDigitalWalletDTO(activeConfigValue.getDigitalWalletQuickBuy()));
+                        return activeConfigValueWsDTO;
+                    }).collect(Collectors.toList()));
             target.setPageable(populatePageableData(source.getPageable()));
         }
     }
@@ -14,6 +14,8 @@ import de.hybris.platform.converters.Populator;
 import de.hybris.platform.cta.response.OPFPaymentCTAAttributes;
 import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
 import de.hybris.platform.cta.response.OPFPaymentCTAUrlsData;
+import de.hybris.platform.service.OPFAssetProxyService;
+import de.hybris.platform.service.OPFAssetType;
 import de.hybris.platform.servicelayer.dto.converter.ConversionException;
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -26,6 +28,9 @@ import java.util.stream.Collectors;
  * This class handles the mapping of data between the source and target objects.
  */
 public class OPFAcceleratorPaymentCTAResponsePopulator implements Populator<OPFPaymentCTAResponse, CTAResponseDTO> {
+
+    private OPFAssetProxyService opfAssetProxyService;
+
     @Override
     public void populate(OPFPaymentCTAResponse source, CTAResponseDTO target) throws ConversionException {
         if (source != null && target != null) {
@@ -35,8 +40,8 @@ public class OPFAcceleratorPaymentCTAResponsePopulator implements Populator<OPFP
                 ctaValueWsDTO.setPaymentAccountId(ctaValue.getAccountId());
                 CTADynamicScriptDTO dynamicScriptWsDTO = new CTADynamicScriptDTO();
                 dynamicScriptWsDTO.setHtml(ctaValue.getDynamicScript().getHtml());
-                dynamicScriptWsDTO.setCssUrls(populateUrlData(ctaValue.getDynamicScript().getCssUrls()));
-                dynamicScriptWsDTO.setJsUrls(populateUrlData(ctaValue.getDynamicScript().getJsUrls()));
+                dynamicScriptWsDTO.setCssUrls(populateUrlData(ctaValue.getDynamicScript().getCssUrls(), OPFAssetType.STYLE));
+                dynamicScriptWsDTO.setJsUrls(populateUrlData(ctaValue.getDynamicScript().getJsUrls(), OPFAssetType.SCRIPT));
                 ctaValueWsDTO.setDynamicScript(dynamicScriptWsDTO);
                 return ctaValueWsDTO;
             }).collect(Collectors.toList()));
@@ -47,16 +52,18 @@ public class OPFAcceleratorPaymentCTAResponsePopulator implements Populator<OPFP
      * Populates a list of CTAUrlDataDTO objects from a list of OPFPaymentCTAUrlsData objects.
      *
      * @param ctaUrlsList The list of OPFPaymentCTAUrlsData objects to be converted.
+     * @param type The kind of asset the urls load, used to serve them through the asset proxy when enabled.
      * @return A list of CTAUrlDataDTO objects containing the mapped data.
      */
-    private List<CTAUrlDataDTO> populateUrlData(List<OPFPaymentCTAUrlsData> ctaUrlsList) {
+    private List<CTAUrlDataDTO> populateUrlData(List<OPFPaymentCTAUrlsData> ctaUrlsList, OPFAssetType type) {
         List<CTAUrlDataDTO> ctaUrlDataWsDTOList = new ArrayList<>();
         if (CollectionUtils.isEmpty(ctaUrlsList)) {
             return ctaUrlDataWsDTOList;
         }
         for (OPFPaymentCTAUrlsData ctaCssUrl : ctaUrlsList) {
             CTAUrlDataDTO ctaUrlDataWsDTO = new CTAUrlDataDTO();
-            ctaUrlDataWsDTO.setUrl(ctaCssUrl.getUrl());
+            ctaUrlDataWsDTO.setUrl(opfAssetProxyService == null ? ctaCssUrl.getUrl()
+                    : opfAssetProxyService.getProxyUrl(ctaCssUrl.getUrl(), ctaCssUrl.getSri(), type));
             ctaUrlDataWsDTO.setSri(ctaCssUrl.getSri());
             List<OPFPaymentCTAAttributes> ctaAttributesList = ctaCssUrl.getAttributes();
             List<CTAAttributesDTO> attributesList = new ArrayList<>();
@@ -73,4 +80,8 @@ public class OPFAcceleratorPaymentCTAResponsePopulator implements Populator<OPFP
         }
         return ctaUrlDataWsDTOList;
     }
+
+    public void setOpfAssetProxyService(OPFAssetProxyService opfAssetProxyService) {
+        this.opfAssetProxyService = opfAssetProxyService;
+    }
 }
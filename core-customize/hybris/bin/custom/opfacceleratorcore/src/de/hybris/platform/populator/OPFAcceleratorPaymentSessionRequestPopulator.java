@@ -10,6 +10,7 @@ import de.hybris.platform.opf.data.OPFInitiatePaymentSessionRequestData;
 import de.hybris.platform.opf.data.OPFOrderData;
 import de.hybris.platform.opf.data.OPFPaymentBrowserInfoData;
 import de.hybris.platform.opf.dto.OPFInitiatePaymentSessionRequest;
+import de.hybris.platform.service.OPFCartSnapshot;
 import de.hybris.platform.servicelayer.dto.converter.ConversionException;
 import de.hybris.platform.servicelayer.dto.converter.Converter;
 import org.apache.commons.lang3.StringUtils;
@@ -23,6 +24,7 @@ public class OPFAcceleratorPaymentSessionRequestPopulator
 
     private Converter<AbstractOrderData, OPFOrderData> opfPaymentOrderConverter;
     private CartFacade cartFacade;
+    private OPFCartSnapshot opfCartSnapshot;
 
     @Override
     public void populate(OPFInitiatePaymentSessionRequest source, OPFInitiatePaymentSessionRequestData target) throws ConversionException {
@@ -31,6 +33,11 @@ public class OPFAcceleratorPaymentSessionRequestPopulator
         populateBasicFields(source, target);
         populateBrowserInfo(source, target);
         // Fetch the session cart and set the order and payment ID
+        if (opfCartSnapshot != null) {
+            target.setOrder(opfCartSnapshot.getOrder());
+            target.setOrderPaymentId(opfCartSnapshot.getSessionCart().getCode());
+            return;
+        }
         AbstractOrderData cartData = getCartFacade().getSessionCart();
         target.setOrder(getOpfPaymentOrderConverter().convert(cartData));
         target.setOrderPaymentId(cartData.getCode());
@@ -107,4 +114,8 @@ public class OPFAcceleratorPaymentSessionRequestPopulator
     public void setOpfPaymentOrderConverter(Converter<AbstractOrderData, OPFOrderData> opfPaymentOrderConverter) {
         this.opfPaymentOrderConverter = opfPaymentOrderConverter;
     }
+
+    public void setOpfCartSnapshot(OPFCartSnapshot opfCartSnapshot) {
+        this.opfCartSnapshot = opfCartSnapshot;
+    }
 }
@@ -14,6 +14,8 @@ import de.hybris.platform.opf.dto.OPFInitiatePaymentSessionResponse;
 import de.hybris.platform.opf.dto.OPFPaymentAttribute;
 import de.hybris.platform.opf.dto.OPFPaymentDestination;
 import de.hybris.platform.opf.dto.OPFPaymentUrls;
+import de.hybris.platform.service.OPFAssetProxyService;
+import de.hybris.platform.service.OPFAssetType;
 import de.hybris.platform.servicelayer.dto.converter.ConversionException;
 
 import java.util.ArrayList;
@@ -25,6 +27,9 @@ import java.util.List;
  * This populator is used to map internal payment data into a format suitable for frontend consumption during the payment session flow.
  */
 public class OPFAcceleratorPaymentSessionResponsePopulator implements Populator<OPFInitiatePaymentSessionResponse, OPFInitiatePaymentData> {
+
+    private OPFAssetProxyService opfAssetProxyService;
+
     @Override
     public void populate(OPFInitiatePaymentSessionResponse response, OPFInitiatePaymentData data) throws ConversionException {
         data.setPattern(response.getPattern());
@@ -48,8 +53,8 @@ public class OPFAcceleratorPaymentSessionResponsePopulator implements Populator<
             OPFDynamicScript dynamicScript = response.getDynamicScript();
             OPFDynamicScriptData dynamicScriptData = new OPFDynamicScriptData();
             dynamicScriptData.setHtml(dynamicScript.getHtml());
-            dynamicScriptData.setCssUrls(convertUrls(dynamicScript.getCssUrls()));
-            dynamicScriptData.setJsUrls(convertUrls(dynamicScript.getJsUrls()));
+            dynamicScriptData.setCssUrls(convertUrls(dynamicScript.getCssUrls(), OPFAssetType.STYLE));
+            dynamicScriptData.setJsUrls(convertUrls(dynamicScript.getJsUrls(), OPFAssetType.SCRIPT));
             data.setDynamicScript(dynamicScriptData);
         }
     }
@@ -58,18 +63,20 @@ public class OPFAcceleratorPaymentSessionResponsePopulator implements Populator<
      * convert urls
      *
      * @param urlDTOs urlDTOs
+     * @param type kind of asset the urls load, served through the asset proxy when enabled
      * @return {@link List}
      * @see List
      * @see OPFPaymentUrlsData
      */
-    private List<OPFPaymentUrlsData> convertUrls(List<OPFPaymentUrls> urlDTOs) {
+    private List<OPFPaymentUrlsData> convertUrls(List<OPFPaymentUrls> urlDTOs, OPFAssetType type) {
         List<OPFPaymentUrlsData> urlDataList = new ArrayList<>();
 
         if (urlDTOs != null) {
             for (OPFPaymentUrls url : urlDTOs) {
                 if (url != null) {
                     OPFPaymentUrlsData urlData = new OPFPaymentUrlsData();
-                    urlData.setUrl(url.getUrl());
+                    urlData.setUrl(opfAssetProxyService == null ? url.getUrl()
+                            : opfAssetProxyService.getProxyUrl(url.getUrl(), url.getSri(), type));
                     urlData.setSri(url.getSri());
                     urlData.setAttributes(convertAttributes(url.getAttributes()));
                     urlDataList.add(urlData);
@@ -104,4 +111,8 @@ public class OPFAcceleratorPaymentSessionResponsePopulator implements Populator<
 
         return attributeDataList;
     }
+
+    public void setOpfAssetProxyService(OPFAssetProxyService opfAssetProxyService) {
+        this.opfAssetProxyService = opfAssetProxyService;
+    }
 }
@@ -12,6 +12,7 @@ import de.hybris.platform.opf.data.OPFPaymentAttributeData;
 import de.hybris.platform.opf.data.OPFPaymentBrowserInfoData;
 import de.hybris.platform.opf.data.request.OPFPaymentSubmitRequest;
 import de.hybris.platform.opf.dto.OPFPaymentBrowserInfo;
+import de.hybris.platform.service.OPFCartSnapshot;
 import de.hybris.platform.servicelayer.dto.converter.ConversionException;
 import de.hybris.platform.servicelayer.dto.converter.Converter;
 import de.hybris.platform.util.OPFAcceleratorCoreUtil;
@@ -27,6 +28,7 @@ public class OPFAcceleratorPaymentSubmitRequestPopulator implements Populator<OP
 
     private Converter<AbstractOrderData, OPFOrderData> opfPaymentOrderConverter;
     private CartFacade cartFacade;
+    private OPFCartSnapshot opfCartSnapshot;
 
     /**
      * Constructor for OPFAcceleratorPaymentSubmitRequestPopulator.
@@ -52,15 +54,18 @@ public class OPFAcceleratorPaymentSubmitRequestPopulator implements Populator<OP
                 return opfAdditionalData;
             }).collect(Collectors.toList()));
             // Fetch the session cart and set the order and payment ID
-            AbstractOrderData cartData = cartFacade.getSessionCart();
+            AbstractOrderData cartData = opfCartSnapshot != null ? opfCartSnapshot.getSessionCart() : cartFacade.getSessionCart();
             if (cartData == null) {
                 throw new ConversionException("Session cart is not available");
             }
-            target.setOrder(opfPaymentOrderConverter.convert(cartData));
+            final boolean quickBuy = OPFAcceleratorCoreUtil.isQuickBuy(source.getPaymentMethod());
+            // the quick buy order gets its own division, so it is not taken from the shared snapshot
+            target.setOrder(opfCartSnapshot != null && !quickBuy ? opfCartSnapshot.getOrder()
+                    : opfPaymentOrderConverter.convert(cartData));
             populateBrowserInfoData(source, target);
 
             //Quick Buy
-            if(OPFAcceleratorCoreUtil.isQuickBuy(source.getPaymentMethod())){
+            if(quickBuy){
                 target.setPaymentMethod(source.getPaymentMethod().toUpperCase());
                 target.setEncryptedToken(source.getEncryptedToken());
                 target.setOrderPaymentId(cartData.getCode());
@@ -97,4 +102,7 @@ public class OPFAcceleratorPaymentSubmitRequestPopulator implements Populator<OP
         }
     }
 
+    public void setOpfCartSnapshot(OPFCartSnapshot opfCartSnapshot) {
+        this.opfCartSnapshot = opfCartSnapshot;
+    }
 }
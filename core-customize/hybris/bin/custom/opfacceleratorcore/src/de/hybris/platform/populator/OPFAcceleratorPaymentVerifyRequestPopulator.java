@@ -9,7 +9,7 @@ import de.hybris.platform.converters.Populator;
 import de.hybris.platform.opf.data.request.OPFAdditionalData;
 import de.hybris.platform.opf.dto.OPFPaymentAttribute;
 import de.hybris.platform.opf.dto.OPFPaymentVerifyRequest;
-import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.service.OPFConfigService;
 import de.hybris.platform.servicelayer.dto.converter.ConversionException;
 import org.apache.commons.lang3.StringUtils;
 
@@ -21,8 +21,8 @@ import java.util.stream.Collectors;
  * This class handles the mapping of data between the source and target objects.
  */
 public class OPFAcceleratorPaymentVerifyRequestPopulator implements Populator<OPFPaymentVerifyRequestDTO, OPFPaymentVerifyRequest> {
-    @Resource(name = "configurationService")
-    private ConfigurationService configurationService;
+    @Resource(name = "opfConfigService")
+    private OPFConfigService opfConfigService;
     @Override
     public void populate(OPFPaymentVerifyRequestDTO source, OPFPaymentVerifyRequest target) throws ConversionException {
         if (source != null && target != null) {
@@ -38,7 +38,7 @@ public class OPFAcceleratorPaymentVerifyRequestPopulator implements Populator<OP
                 .findFirst()
                 .map(OPFPaymentAttribute::getValue)
                 .orElse(StringUtils.EMPTY)));
-        target.setDivisionId(configurationService.getConfiguration().getString(OpfacceleratorcoreConstants.OPF_ACTIVE_CONFIG_DIVISION_ID, StringUtils.EMPTY));
+        target.setDivisionId(opfConfigService.getConfig().getDivisionId());
 
     }
 
@@ -12,6 +12,7 @@ import de.hybris.platform.data.request.OPFPaymentAddressData;
 import de.hybris.platform.opf.data.OPFOrderData;
 import de.hybris.platform.opf.data.OPFOrderLineData;
 import de.hybris.platform.opf.data.OPFShippingMethodData;
+import de.hybris.platform.service.OPFConfigService;
 import de.hybris.platform.servicelayer.config.ConfigurationService;
 import de.hybris.platform.servicelayer.dto.converter.ConversionException;
 import org.apache.commons.collections4.CollectionUtils;
@@ -21,8 +22,6 @@ import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.List;
 
-import static de.hybris.platform.constants.OpfacceleratorcoreConstants.OPF_ACTIVE_CONFIG_DIVISION_ID;
-
 /**
  * Populator implementation for converting an AbstractOrderData object to an OPFOrderData object.
  * This class handles the mapping of data between the source and target objects.
@@ -30,6 +29,7 @@ import static de.hybris.platform.constants.OpfacceleratorcoreConstants.OPF_ACTIV
 public class OPFPaymentOrderPopulator implements Populator<AbstractOrderData, OPFOrderData> {
 
     private ConfigurationService configurationService;
+    private OPFConfigService opfConfigService;
     @Resource(name = "commerceCommonI18NService")
     private CommerceCommonI18NService commerceCommonI18NService;
     /**
@@ -83,7 +83,7 @@ public class OPFPaymentOrderPopulator implements Populator<AbstractOrderData, OP
             order.setLanguageAtCreation(commerceCommonI18NService.getCurrentLanguage().getIsocode());
         }
 
-        order.setDivisionId(getConfigurationValueForKey(OPF_ACTIVE_CONFIG_DIVISION_ID));
+        order.setDivisionId(opfConfigService.getConfig().getDivisionId());
         order.setShFeeWithTax(0.0);
         order.setShFeeTax(0.0);
     }
@@ -205,17 +205,6 @@ public class OPFPaymentOrderPopulator implements Populator<AbstractOrderData, OP
         }
         return shippingMethodData;
     }
-    /**
-     * get configuration value for key
-     *
-     * @param key
-     *         key
-     * @return {@link String}
-     * @see String
-     */
-    private String getConfigurationValueForKey(final String key) {
-        return getConfigurationService().getConfiguration().getString(key, StringUtils.EMPTY);
-    }
 
     public ConfigurationService getConfigurationService() {
         return configurationService;
@@ -225,6 +214,14 @@ public class OPFPaymentOrderPopulator implements Populator<AbstractOrderData, OP
         this.configurationService = configurationService;
     }
 
+    public OPFConfigService getOpfConfigService() {
+        return opfConfigService;
+    }
+
+    public void setOpfConfigService(OPFConfigService opfConfigService) {
+        this.opfConfigService = opfConfigService;
+    }
+
     public CommerceCommonI18NService getCommerceCommonI18NService() {
         return commerceCommonI18NService;
     }
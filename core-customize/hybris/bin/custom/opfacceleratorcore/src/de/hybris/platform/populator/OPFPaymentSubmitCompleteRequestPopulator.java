@@ -10,6 +10,7 @@ import de.hybris.platform.opf.data.OPFOrderData;
 import de.hybris.platform.opf.data.OPFPaymentAttributeData;
 import de.hybris.platform.opf.data.OPFPaymentSubmitCompleteRequestData;
 import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteRequest;
+import de.hybris.platform.service.OPFCartSnapshot;
 import de.hybris.platform.servicelayer.dto.converter.ConversionException;
 import de.hybris.platform.servicelayer.dto.converter.Converter;
 
@@ -24,6 +25,7 @@ public class OPFPaymentSubmitCompleteRequestPopulator
         implements Populator<OPFPaymentSubmitCompleteRequest, OPFPaymentSubmitCompleteRequestData> {
     private Converter<AbstractOrderData, OPFOrderData> opfPaymentOrderConverter;
     private CartFacade cartFacade;
+    private OPFCartSnapshot opfCartSnapshot;
 
     /**
      * @param source
@@ -41,7 +43,8 @@ public class OPFPaymentSubmitCompleteRequestPopulator
             ctaAttributes.setValue(data.getValue());
             return ctaAttributes;
         }).collect(Collectors.toList()));
-        target.setOrder(getOpfPaymentOrderConverter().convert(getCartFacade().getSessionCart()));
+        target.setOrder(opfCartSnapshot != null ? opfCartSnapshot.getOrder()
+                : getOpfPaymentOrderConverter().convert(getCartFacade().getSessionCart()));
     }
 
     public Converter<AbstractOrderData, OPFOrderData> getOpfPaymentOrderConverter() {
@@ -59,4 +62,8 @@ public class OPFPaymentSubmitCompleteRequestPopulator
     public void setCartFacade(CartFacade cartFacade) {
         this.cartFacade = cartFacade;
     }
+
+    public void setOpfCartSnapshot(OPFCartSnapshot opfCartSnapshot) {
+        this.opfCartSnapshot = opfCartSnapshot;
+    }
 }
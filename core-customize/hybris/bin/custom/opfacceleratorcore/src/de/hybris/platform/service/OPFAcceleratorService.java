@@ -6,6 +6,7 @@ package de.hybris.platform.service;
 import de.hybris.platform.cta.request.OPFPaymentCTARequest;
 import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
 import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.model.OPFPaymentSessionModel;
 import de.hybris.platform.opf.data.OPFInitiatePaymentSessionRequestData;
 import de.hybris.platform.opf.data.OPFPaymentSubmitCompleteRequestData;
 import de.hybris.platform.opf.data.request.OPFApplePayRequest;
@@ -19,6 +20,8 @@ import de.hybris.platform.opf.dto.OPFPaymentVerifyResponse;
 
 import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
 
+import java.util.Optional;
+
 /**
  * Open Payment Framework Accelerator SDK Service
  */
@@ -41,6 +44,14 @@ public interface OPFAcceleratorService {
      */
     OPFActiveConfigResponse getActiveConfigurations();
 
+    /**
+     * Load active configurations from the gateway, replacing the cached ones
+     *
+     * @return {@link OPFActiveConfigResponse}
+     * @see #getActiveConfigurations()
+     */
+    OPFActiveConfigResponse refreshActiveConfigurations();
+
     /**
      * Initiate OPF Payment session
      *
@@ -77,6 +88,20 @@ public interface OPFAcceleratorService {
      */
     OPFPaymentSubmitCompleteResponse getCompletedPaymentResponse(final OPFPaymentSubmitCompleteRequestData paymentRequest);
 
+    /**
+     * Wait for the payment transaction of the session cart and its preparation for checkout when they are written
+     * behind the initiate or quick buy response, before the cart is completed or placed.
+     */
+    void awaitPaymentTransaction();
+
+    /**
+     * get the payment session of an OPF payment session id, for verify, submit complete and notification processing
+     *
+     * @param paymentSessionId OPF payment session id
+     * @return the payment session with its cart or order and payment transaction, empty when unknown
+     */
+    Optional<OPFPaymentSessionModel> getPaymentSession(String paymentSessionId);
+
     /**
      * Return valid payment status
      * @param response OPFPaymentSubmitCompleteResponse
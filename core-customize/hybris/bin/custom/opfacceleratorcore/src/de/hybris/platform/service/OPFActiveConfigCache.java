@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.opf.data.OPFActiveConfigCacheStatsData;
+
+import java.util.function.Function;
+
+/**
+ * Cache of the active configurations, shared by the B2C and B2B payment steps
+ */
+public interface OPFActiveConfigCache {
+
+    /**
+     * get the active configurations of a base site, loading them when missing or expired
+     *
+     * @param config configuration snapshot of the base site, the cache key is taken from it
+     * @param loader remote call to the active configurations endpoint, given the validators kept with the entry
+     * @return {@link OPFActiveConfigResponse}
+     */
+    OPFActiveConfigResponse get(OPFConfig config, Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader);
+
+    /**
+     * load the active configurations of a base site and replace the cached ones, which keep being served meanwhile
+     *
+     * @param config configuration snapshot of the base site, the cache key is taken from it
+     * @param loader remote call to the active configurations endpoint, given the validators kept with the entry
+     * @return {@link OPFActiveConfigResponse}
+     */
+    OPFActiveConfigResponse refresh(OPFConfig config,
+            Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader);
+
+    /**
+     * drop the active configurations of all base sites, with their validators
+     */
+    void invalidate();
+
+    /**
+     * drop the active configurations of a base site, with their validators
+     *
+     * @param siteUid base site uid
+     */
+    void invalidate(String siteUid);
+
+    /**
+     * @return {@link OPFActiveConfigCacheStatsData}
+     */
+    OPFActiveConfigCacheStatsData getActiveConfigCacheStats();
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validators (ETag, Last-Modified) and last responses of the pages of one active configurations query. The
+ * {@link OPFActiveConfigCache} keeps them next to the cached response, so they are dropped together when the entry is
+ * evicted or invalidated. A load uses them to send conditional requests and to return the previous response instances
+ * for pages answered with 304 Not Modified.
+ */
+public final class OPFActiveConfigValidators {
+
+    private final Map<Integer, ValidatedPage> pages = new ConcurrentHashMap<>();
+    private volatile MergedPages mergedPages;
+
+    /**
+     * @param pageNumber page of the query
+     * @return the last response of the page with its validators, null when none were sent
+     */
+    public ValidatedPage getPage(final int pageNumber) {
+        return pages.get(pageNumber);
+    }
+
+    /**
+     * keep the last response of a page with its validators, or forget it when the response carried none
+     *
+     * @param pageNumber page of the query
+     * @param page response with its validators, null to forget the page
+     */
+    public void setPage(final int pageNumber, final ValidatedPage page) {
+        if (page == null) {
+            pages.remove(pageNumber);
+        } else {
+            pages.put(pageNumber, page);
+        }
+    }
+
+    /**
+     * @param candidates pages just loaded, in page order
+     * @return the response merged from the same page instances by the previous load, null when any page changed
+     */
+    public OPFActiveConfigResponse getMerged(final List<OPFActiveConfigResponse> candidates) {
+        final MergedPages previous = mergedPages;
+        return previous != null && previous.isMergeOf(candidates) ? previous.merged() : null;
+    }
+
+    /**
+     * keep the response merged from the pages
+     *
+     * @param pageResponses pages in page order
+     * @param merged merged response
+     */
+    public void setMerged(final List<OPFActiveConfigResponse> pageResponses, final OPFActiveConfigResponse merged) {
+        mergedPages = new MergedPages(pageResponses, merged);
+    }
+
+    /**
+     * last response of an active configuration page with the validators it was sent with
+     *
+     * @param eTag ETag of the response, may be null
+     * @param lastModified Last-Modified of the response, may be null
+     * @param page response
+     */
+    public record ValidatedPage(String eTag, String lastModified, OPFActiveConfigResponse page) {
+    }
+
+    /**
+     * pages merged into the last returned response of the query
+     */
+    private record MergedPages(List<OPFActiveConfigResponse> pages, OPFActiveConfigResponse merged) {
+
+        private boolean isMergeOf(final List<OPFActiveConfigResponse> candidates) {
+            if (pages.size() != candidates.size()) {
+                return false;
+            }
+            for (int i = 0; i < pages.size(); i++) {
+                if (pages.get(i) != candidates.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
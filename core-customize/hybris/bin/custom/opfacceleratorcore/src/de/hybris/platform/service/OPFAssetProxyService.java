@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.opf.data.OPFAssetProxyStatsData;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Serves the js and css assets of the CTA and payment scripts from the storefront domain instead of the payment
+ * provider hosts. Assets are only proxied together with their subresource integrity hash, which every downloaded copy
+ * is verified against.
+ */
+public interface OPFAssetProxyService {
+
+    /**
+     * url the storefront loads an asset from
+     *
+     * @param url url of the asset on the payment provider host
+     * @param sri subresource integrity of the asset
+     * @param type kind of asset
+     * @return signed proxy url, the given url when the proxy is disabled or the asset cannot be verified
+     */
+    String getProxyUrl(String url, String sri, OPFAssetType type);
+
+    /**
+     * check that a proxy url was handed out by {@link #getProxyUrl(String, String, OPFAssetType)}, so only assets of
+     * the payment responses are fetched
+     *
+     * @param sri subresource integrity of the asset
+     * @param src url of the asset on the payment provider host
+     * @param type kind of asset
+     * @param signature signature of the proxy url
+     * @return true when the proxy is enabled and the signature matches
+     */
+    boolean isSigned(String sri, String src, OPFAssetType type, String signature);
+
+    /**
+     * get the verified copy of an asset, downloading it when not cached yet
+     *
+     * @param sri subresource integrity of the asset
+     * @param src url of the asset on the payment provider host
+     * @param type kind of asset
+     * @return cached file, empty when the asset could not be downloaded or does not match its integrity
+     */
+    Optional<Path> getAsset(String sri, String src, OPFAssetType type);
+
+    /**
+     * @return {@link OPFAssetProxyStatsData}
+     */
+    OPFAssetProxyStatsData getAssetProxyStats();
+}
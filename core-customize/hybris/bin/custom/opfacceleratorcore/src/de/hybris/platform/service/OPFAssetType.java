@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import java.util.Arrays;
+
+/**
+ * Kinds of payment provider assets the storefront loads, with the extension and content type they are served with
+ */
+public enum OPFAssetType {
+
+    SCRIPT("js", "text/javascript"),
+    STYLE("css", "text/css");
+
+    private final String extension;
+    private final String contentType;
+
+    OPFAssetType(final String extension, final String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @param extension file extension of a proxied asset
+     * @return the matching {@link OPFAssetType}, null when unknown
+     */
+    public static OPFAssetType fromExtension(final String extension) {
+        return Arrays.stream(values()).filter(type -> type.extension.equals(extension)).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.cta.request.OPFPaymentCTARequest;
+import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.opf.data.OPFInitiatePaymentSessionRequestData;
+import de.hybris.platform.opf.data.OPFPaymentSubmitCompleteRequestData;
+import de.hybris.platform.opf.data.request.OPFApplePayRequest;
+import de.hybris.platform.opf.data.request.OPFPaymentSubmitRequest;
+import de.hybris.platform.opf.data.response.OPFApplePayResponse;
+import de.hybris.platform.opf.data.response.OPFPaymentSubmitResponse;
+import de.hybris.platform.opf.dto.OPFInitiatePaymentSessionResponse;
+import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
+import de.hybris.platform.opf.dto.OPFPaymentVerifyRequest;
+import de.hybris.platform.opf.dto.OPFPaymentVerifyResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Open Payment Framework Accelerator SDK asynchronous Service. Each operation is the non-blocking variant of the
+ * matching {@link OPFAcceleratorService} operation and completes on the OPF gateway executor.
+ */
+public interface OPFAsyncAcceleratorService {
+    /**
+     * Get CTA scripting response
+     *
+     * @param request
+     *         request
+     * @return future of {@link OPFPaymentCTAResponse}
+     * @see OPFAcceleratorService#getCTAResponse(OPFPaymentCTARequest)
+     */
+    CompletableFuture<OPFPaymentCTAResponse> getCTAResponse(OPFPaymentCTARequest request);
+
+    /**
+     * Get active configurations
+     *
+     * @return future of {@link OPFActiveConfigResponse}
+     * @see OPFAcceleratorService#getActiveConfigurations()
+     */
+    CompletableFuture<OPFActiveConfigResponse> getActiveConfigurations();
+
+    /**
+     * Initiate OPF Payment session
+     *
+     * @param paymentRequest
+     *         Payment request data
+     * @return future of {@link OPFInitiatePaymentSessionResponse}
+     * @see OPFAcceleratorService#getInitiatePaymentResponse(OPFInitiatePaymentSessionRequestData)
+     */
+    CompletableFuture<OPFInitiatePaymentSessionResponse> getInitiatePaymentResponse(OPFInitiatePaymentSessionRequestData paymentRequest);
+
+    /**
+     * OPF Payment Submit
+     *
+     * @param opfPaymentSubmitRequest payment submit request data
+     * @param isQuickBuy flag to identify if this submit request is for Quick Buy payments
+     * @return future of {@link OPFPaymentSubmitResponse}
+     * @see OPFAcceleratorService#submitPayment(OPFPaymentSubmitRequest, boolean)
+     */
+    CompletableFuture<OPFPaymentSubmitResponse> submitPayment(OPFPaymentSubmitRequest opfPaymentSubmitRequest, boolean isQuickBuy);
+
+    /**
+     * verify payment
+     *
+     * @param opfPaymentVerifyRequest
+     *         opfPaymentVerifyRequest
+     * @return future of {@link OPFPaymentVerifyResponse}
+     * @see OPFAcceleratorService#verifyPayment(OPFPaymentVerifyRequest)
+     */
+    CompletableFuture<OPFPaymentVerifyResponse> verifyPayment(OPFPaymentVerifyRequest opfPaymentVerifyRequest);
+
+    /**
+     * Submit and Completed OPF Payment
+     *
+     * @param paymentRequest
+     *         Payment request data
+     * @return future of {@link OPFPaymentSubmitCompleteResponse}
+     * @see OPFAcceleratorService#getCompletedPaymentResponse(OPFPaymentSubmitCompleteRequestData)
+     */
+    CompletableFuture<OPFPaymentSubmitCompleteResponse> getCompletedPaymentResponse(OPFPaymentSubmitCompleteRequestData paymentRequest);
+
+    /**
+     * get apple pay web session
+     *
+     * @param request request
+     * @return future of {@link OPFApplePayResponse}
+     * @see OPFAcceleratorService#getApplePayWebSession(OPFApplePayRequest)
+     */
+    CompletableFuture<OPFApplePayResponse> getApplePayWebSession(OPFApplePayRequest request);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+/**
+ * Caching of the CTA script renderings that are served by GET, so browsers and shared caches such as the CDN can keep
+ * them. Every rendering has a single canonical url, renderings of anonymous sessions are cached publicly and those of
+ * logged-in customers by the browser only.
+ */
+public interface OPFCTAEdgeCacheService {
+
+    /**
+     * query string of the canonical url of a rendering
+     *
+     * @param parameters query parameter values by name
+     * @return parameters sorted by name and encoded like encodeURIComponent of the storefront
+     */
+    String getCanonicalQuery(Map<String, String> parameters);
+
+    /**
+     * temporary redirect to the canonical url of a rendering
+     *
+     * @param path path of the request
+     * @param canonicalQuery query of {@link #getCanonicalQuery(Map)}
+     * @param anonymous true when the session belongs to an anonymous user
+     * @return redirect response
+     */
+    ResponseEntity<byte[]> createRedirect(String path, String canonicalQuery, boolean anonymous);
+
+    /**
+     * response carrying a rendering, or 304 Not Modified when the If-None-Match of the request matches its ETag
+     *
+     * @param body json of the rendering
+     * @param cacheable false for renderings that must not be kept, such as the empty fallback of a gateway failure
+     * @param ifNoneMatch If-None-Match header of the request, may be null
+     * @param anonymous true when the session belongs to an anonymous user
+     * @return response with caching headers
+     */
+    ResponseEntity<byte[]> createResponse(byte[] body, boolean cacheable, String ifNoneMatch, boolean anonymous);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.cta.request.OPFPaymentCTARequest;
+import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.opf.data.OPFCTAResponseCacheStatsData;
+
+import java.util.function.Function;
+
+/**
+ * Cache of the CTA scripts the gateway renders for the product and cart pages
+ */
+public interface OPFCTAResponseCache {
+
+    /**
+     * get the CTA scripts for a request, loading them when missing or expired. The {@code scriptIdentifier} of the
+     * request is not part of the cache key, it is substituted into the cached scripts.
+     *
+     * @param config configuration snapshot of the current base site
+     * @param request CTA request of the storefront
+     * @param loader remote call to the CTA scripts endpoint, given the request to send
+     * @return {@link OPFPaymentCTAResponse}
+     */
+    OPFPaymentCTAResponse get(OPFConfig config, OPFPaymentCTARequest request,
+            Function<OPFPaymentCTARequest, OPFPaymentCTAResponse> loader);
+
+    /**
+     * drop the CTA scripts of all base sites
+     */
+    void invalidate();
+
+    /**
+     * drop the CTA scripts of a base site
+     *
+     * @param siteUid base site uid
+     */
+    void invalidate(String siteUid);
+
+    /**
+     * @return {@link OPFCTAResponseCacheStatsData}
+     */
+    OPFCTAResponseCacheStatsData getCTAResponseCacheStats();
+}
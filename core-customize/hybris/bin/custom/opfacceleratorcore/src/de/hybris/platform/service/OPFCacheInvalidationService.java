@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.opf.data.OPFCacheInvalidationStatsData;
+
+import java.util.Set;
+
+/**
+ * Invalidates the node local OPF caches on every node of the cluster
+ */
+public interface OPFCacheInvalidationService {
+
+    /**
+     * broadcast an invalidation to all nodes, including this one
+     *
+     * @param siteUid base site whose entries are dropped, null for all sites
+     * @param regions caches to invalidate
+     * @return id of the invalidation
+     */
+    String invalidateClusterWide(String siteUid, Set<OPFCacheRegion> regions);
+
+    /**
+     * apply an invalidation to the caches of this node, unless it was applied already
+     *
+     * @param invalidationId unique id of the invalidation
+     * @param siteUid base site whose entries are dropped, null for all sites
+     * @param regions caches to invalidate
+     * @return true if the invalidation was applied, false if it had been applied before
+     */
+    boolean applyInvalidation(String invalidationId, String siteUid, Set<OPFCacheRegion> regions);
+
+    /**
+     * get the invalidation counters of this node
+     *
+     * @return {@link OPFCacheInvalidationStatsData}
+     */
+    OPFCacheInvalidationStatsData getCacheInvalidationStats();
+}
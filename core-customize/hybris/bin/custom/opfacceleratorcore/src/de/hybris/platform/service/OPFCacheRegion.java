@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+/**
+ * Node local OPF caches that can be invalidated across the cluster
+ *
+ * @see OPFCacheInvalidationService
+ */
+public enum OPFCacheRegion {
+    /**
+     * {@link OPFConfig} snapshots of the base sites
+     */
+    CONFIGURATION,
+    /**
+     * active configurations of the base sites
+     */
+    ACTIVE_CONFIGURATIONS,
+    /**
+     * CTA scripts of the product and cart pages
+     */
+    CTA_SCRIPTS,
+    /**
+     * client id and public key of the OPF security file
+     */
+    CREDENTIALS,
+    /**
+     * OAuth access tokens of the OPF gateway
+     */
+    ACCESS_TOKENS
+}
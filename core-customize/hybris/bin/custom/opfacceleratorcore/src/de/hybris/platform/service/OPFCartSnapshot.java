@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.commercefacades.order.data.CartData;
+import de.hybris.platform.opf.data.OPFCartSnapshotStatsData;
+import de.hybris.platform.opf.data.OPFOrderData;
+
+import java.util.function.Supplier;
+
+/**
+ * Conversions of the session cart shared by the OPF populators, services and controllers of one request. The
+ * conversions are dropped whenever a cart or cart entry is saved or removed, outside a request every call converts.
+ * The returned data is shared, callers must not modify it.
+ */
+public interface OPFCartSnapshot {
+
+    /**
+     * name of the checkout cart of the B2B checkout facade, see {@link #get(String, Supplier)}
+     */
+    String B2B_CHECKOUT_CART = "b2bCheckoutCart";
+
+    /**
+     * @return session cart of the cart facade
+     */
+    CartData getSessionCart();
+
+    /**
+     * @return checkout cart of the checkout facade
+     */
+    CartData getCheckoutCart();
+
+    /**
+     * @return OPF order of the session cart
+     */
+    OPFOrderData getOrder();
+
+    /**
+     * get another conversion of the session cart
+     *
+     * @param name name of the conversion, unique per converting component, e.g. {@link #B2B_CHECKOUT_CART}
+     * @param conversion converts the session cart
+     * @param <T> type of the conversion
+     * @return the conversion of this request
+     */
+    <T> T get(String name, Supplier<T> conversion);
+
+    /**
+     * drop the conversions of the current request
+     */
+    void invalidate();
+
+    /**
+     * @return {@link OPFCartSnapshotStatsData} of the current request and of all requests
+     */
+    OPFCartSnapshotStatsData getSnapshotStats();
+}
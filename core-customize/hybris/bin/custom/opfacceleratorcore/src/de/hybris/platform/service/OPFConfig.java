@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the OPF configuration of one base site, built by {@link OPFConfigService}. A value configured
+ * as {@code <key>.<base site uid>} overrides {@code <key>} for that site.
+ */
+public final class OPFConfig {
+
+    private final String siteUid;
+    private final String baseUrl;
+    private final String ctaUrl;
+    private final String activeConfigUrl;
+    private final Map<String, String> activeConfigQueryParams;
+    private final boolean activeConfigPaymentType;
+    private final String initiatePaymentUrl;
+    private final String submitUrl;
+    private final String verifyUrl;
+    private final String submitCompleteUrl;
+    private final String applePayWebSessionUrl;
+    private final OPFPaymentStatusMatcher paymentStatusMatcher;
+    private final Map<String, OPFPaymentStatusMatcher> providerPaymentStatusMatchers;
+    private final String divisionId;
+    private final Map<String, OPFGatewayEndpoint> endpointsByPath;
+
+    private OPFConfig(final Builder builder) {
+        this.siteUid = builder.siteUid;
+        this.baseUrl = builder.baseUrl;
+        this.ctaUrl = builder.ctaUrl;
+        this.activeConfigUrl = builder.activeConfigUrl;
+        this.activeConfigQueryParams = Map.copyOf(builder.activeConfigQueryParams);
+        this.activeConfigPaymentType = builder.activeConfigPaymentType;
+        this.initiatePaymentUrl = builder.initiatePaymentUrl;
+        this.submitUrl = builder.submitUrl;
+        this.verifyUrl = builder.verifyUrl;
+        this.submitCompleteUrl = builder.submitCompleteUrl;
+        this.applePayWebSessionUrl = builder.applePayWebSessionUrl;
+        this.paymentStatusMatcher = builder.paymentStatusMatcher;
+        this.providerPaymentStatusMatchers = Map.copyOf(builder.providerPaymentStatusMatchers);
+        this.divisionId = builder.divisionId;
+        final Map<String, OPFGatewayEndpoint> endpoints = new HashMap<>();
+        putEndpoint(endpoints, ctaUrl, OPFGatewayEndpoint.CTA);
+        putEndpoint(endpoints, activeConfigUrl, OPFGatewayEndpoint.ACTIVE_CONFIG);
+        putEndpoint(endpoints, initiatePaymentUrl, OPFGatewayEndpoint.INITIATE_PAYMENT);
+        putEndpoint(endpoints, submitUrl, OPFGatewayEndpoint.SUBMIT);
+        putEndpoint(endpoints, verifyUrl, OPFGatewayEndpoint.VERIFY);
+        putEndpoint(endpoints, submitCompleteUrl, OPFGatewayEndpoint.SUBMIT_COMPLETE);
+        putEndpoint(endpoints, applePayWebSessionUrl, OPFGatewayEndpoint.APPLE_PAY_WEB_SESSION);
+        this.endpointsByPath = Map.copyOf(endpoints);
+    }
+
+    private static void putEndpoint(final Map<String, OPFGatewayEndpoint> endpoints, final String path,
+            final OPFGatewayEndpoint endpoint) {
+        if (StringUtils.isNotEmpty(path)) {
+            endpoints.putIfAbsent(path, endpoint);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return uid of the base site the snapshot was built for, empty outside of a site
+     */
+    public String getSiteUid() {
+        return siteUid;
+    }
+
+    /**
+     * @return {@code opf.base.url}
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * @return {@code opf.cta.url}
+     */
+    public String getCtaUrl() {
+        return ctaUrl;
+    }
+
+    /**
+     * @return {@code opf.active.config.url}
+     */
+    public String getActiveConfigUrl() {
+        return activeConfigUrl;
+    }
+
+    /**
+     * @return query parameters of the active configurations call: page size, page number, configuration id and the
+     * site uid as division id, each only when set
+     */
+    public Map<String, String> getActiveConfigQueryParams() {
+        return activeConfigQueryParams;
+    }
+
+    /**
+     * @return {@code opf.active.config.payment.type}, true when only active payment options are shown
+     */
+    public boolean isActiveConfigPaymentType() {
+        return activeConfigPaymentType;
+    }
+
+    /**
+     * @return {@code opf.initiate.payment.session.url}
+     */
+    public String getInitiatePaymentUrl() {
+        return initiatePaymentUrl;
+    }
+
+    /**
+     * @return {@code opf.submit.url}
+     */
+    public String getSubmitUrl() {
+        return submitUrl;
+    }
+
+    /**
+     * @return {@code opf.verify.url}
+     */
+    public String getVerifyUrl() {
+        return verifyUrl;
+    }
+
+    /**
+     * @return {@code opf.complete.payment.url}
+     */
+    public String getSubmitCompleteUrl() {
+        return submitCompleteUrl;
+    }
+
+    /**
+     * @return {@code opf.applepay.web.session.url}
+     */
+    public String getApplePayWebSessionUrl() {
+        return applePayWebSessionUrl;
+    }
+
+    /**
+     * @return {@code opf.payment.statuses}, compiled
+     */
+    public OPFPaymentStatusMatcher getPaymentStatusMatcher() {
+        return paymentStatusMatcher;
+    }
+
+    /**
+     * @param provider payment provider, may be null
+     * @return {@code opf.payment.statuses.provider.<provider>} when configured, otherwise
+     * {@link #getPaymentStatusMatcher()}
+     */
+    public OPFPaymentStatusMatcher getPaymentStatusMatcher(final String provider) {
+        return provider == null ? paymentStatusMatcher
+                : providerPaymentStatusMatchers.getOrDefault(provider, paymentStatusMatcher);
+    }
+
+    /**
+     * @return {@code opf.active.config.division.id}
+     */
+    public String getDivisionId() {
+        return divisionId;
+    }
+
+    /**
+     * @param path request path
+     * @return the endpoint whose url of this site, including a {@code <key>.<base site uid>} override, is the path,
+     * empty for paths not owned by the accelerator
+     */
+    public Optional<OPFGatewayEndpoint> getEndpoint(final String path) {
+        return path == null ? Optional.empty() : Optional.ofNullable(endpointsByPath.get(path));
+    }
+
+    /**
+     * Builder of {@link OPFConfig}
+     */
+    public static final class Builder {
+        private String siteUid;
+        private String baseUrl;
+        private String ctaUrl;
+        private String activeConfigUrl;
+        private Map<String, String> activeConfigQueryParams = Map.of();
+        private boolean activeConfigPaymentType;
+        private String initiatePaymentUrl;
+        private String submitUrl;
+        private String verifyUrl;
+        private String submitCompleteUrl;
+        private String applePayWebSessionUrl;
+        private OPFPaymentStatusMatcher paymentStatusMatcher = OPFPaymentStatusMatcher.compile(null);
+        private Map<String, OPFPaymentStatusMatcher> providerPaymentStatusMatchers = Map.of();
+        private String divisionId;
+
+        private Builder() {
+        }
+
+        public Builder siteUid(final String siteUid) {
+            this.siteUid = siteUid;
+            return this;
+        }
+
+        public Builder baseUrl(final String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public Builder ctaUrl(final String ctaUrl) {
+            this.ctaUrl = ctaUrl;
+            return this;
+        }
+
+        public Builder activeConfigUrl(final String activeConfigUrl) {
+            this.activeConfigUrl = activeConfigUrl;
+            return this;
+        }
+
+        public Builder activeConfigQueryParams(final Map<String, String> activeConfigQueryParams) {
+            this.activeConfigQueryParams = activeConfigQueryParams;
+            return this;
+        }
+
+        public Builder activeConfigPaymentType(final boolean activeConfigPaymentType) {
+            this.activeConfigPaymentType = activeConfigPaymentType;
+            return this;
+        }
+
+        public Builder initiatePaymentUrl(final String initiatePaymentUrl) {
+            this.initiatePaymentUrl = initiatePaymentUrl;
+            return this;
+        }
+
+        public Builder submitUrl(final String submitUrl) {
+            this.submitUrl = submitUrl;
+            return this;
+        }
+
+        public Builder verifyUrl(final String verifyUrl) {
+            this.verifyUrl = verifyUrl;
+            return this;
+        }
+
+        public Builder submitCompleteUrl(final String submitCompleteUrl) {
+            this.submitCompleteUrl = submitCompleteUrl;
+            return this;
+        }
+
+        public Builder applePayWebSessionUrl(final String applePayWebSessionUrl) {
+            this.applePayWebSessionUrl = applePayWebSessionUrl;
+            return this;
+        }
+
+        public Builder paymentStatusMatcher(final OPFPaymentStatusMatcher paymentStatusMatcher) {
+            this.paymentStatusMatcher = paymentStatusMatcher;
+            return this;
+        }
+
+        public Builder providerPaymentStatusMatchers(
+                final Map<String, OPFPaymentStatusMatcher> providerPaymentStatusMatchers) {
+            this.providerPaymentStatusMatchers = providerPaymentStatusMatchers;
+            return this;
+        }
+
+        public Builder divisionId(final String divisionId) {
+            this.divisionId = divisionId;
+            return this;
+        }
+
+        public OPFConfig build() {
+            return new OPFConfig(this);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+/**
+ * Provides the {@link OPFConfig} snapshot per base site
+ */
+public interface OPFConfigService {
+
+    /**
+     * get the configuration snapshot of the current base site
+     *
+     * @return {@link OPFConfig}
+     */
+    OPFConfig getConfig();
+
+    /**
+     * get the configuration snapshot of a base site
+     *
+     * @param siteUid base site uid, empty for the configuration without site overrides
+     * @return {@link OPFConfig}
+     */
+    OPFConfig getConfig(String siteUid);
+
+    /**
+     * drop all snapshots, they are rebuilt on next use
+     */
+    void invalidate();
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.opf.data.OPFGatewayStatsData;
+
+/**
+ * Collects the counters of the OPF gateway transport of this node, so operators can size the connection pool and the
+ * virtual thread limits against real traffic
+ */
+public interface OPFGatewayMonitoringService {
+
+    /**
+     * @return true when the gateway counters may be published
+     */
+    boolean isEnabled();
+
+    /**
+     * @return {@link OPFGatewayStatsData}
+     */
+    OPFGatewayStatsData getGatewayStats();
+}
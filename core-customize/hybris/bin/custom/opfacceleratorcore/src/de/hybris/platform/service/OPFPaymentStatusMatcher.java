@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Accepted payment statuses compiled once from a comma separated property value. Statuses are matched ignoring case
+ * against a {@link String#CASE_INSENSITIVE_ORDER} set, so a lookup neither upper-cases nor allocates.
+ */
+public final class OPFPaymentStatusMatcher {
+
+    private static final OPFPaymentStatusMatcher NONE = new OPFPaymentStatusMatcher(new TreeSet<>(String.CASE_INSENSITIVE_ORDER));
+
+    private final Set<String> statuses;
+
+    private OPFPaymentStatusMatcher(final TreeSet<String> statuses) {
+        this.statuses = Collections.unmodifiableSortedSet(statuses);
+    }
+
+    /**
+     * compile a comma separated list of statuses, blank entries are dropped
+     *
+     * @param statuses comma separated statuses, e.g. {@code SUCCESS,ACCEPTED,Authorised}
+     * @return {@link OPFPaymentStatusMatcher} accepting the given statuses in any case
+     */
+    public static OPFPaymentStatusMatcher compile(final String statuses) {
+        final String[] entries = StringUtils.split(statuses, ',');
+        if (entries == null) {
+            return NONE;
+        }
+        final TreeSet<String> compiled = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (final String entry : entries) {
+            if (StringUtils.isNotBlank(entry)) {
+                compiled.add(entry.trim());
+            }
+        }
+        return compiled.isEmpty() ? NONE : new OPFPaymentStatusMatcher(compiled);
+    }
+
+    /**
+     * @param status status returned by the gateway, may be null
+     * @return true when the status is accepted, ignoring case
+     */
+    public boolean matches(final String status) {
+        return status != null && statuses.contains(status);
+    }
+
+    /**
+     * @return accepted statuses as configured, unmodifiable
+     */
+    public Set<String> getStatuses() {
+        return statuses;
+    }
+}
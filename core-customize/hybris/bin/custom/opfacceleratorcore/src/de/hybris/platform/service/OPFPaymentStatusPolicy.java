@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
+
+/**
+ * Decides whether a submit-complete response carries an accepted payment status
+ */
+public interface OPFPaymentStatusPolicy {
+
+    /**
+     * check the top level status and the {@code resultCode} custom field of the response
+     *
+     * @param response OPFPaymentSubmitCompleteResponse
+     * @return true when both statuses are accepted for the current base site and payment provider
+     */
+    boolean isAccepted(OPFPaymentSubmitCompleteResponse response);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.opf.data.OPFPaymentTransactionQueueStatsData;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Write-behind queue of the payment transactions created after the initiate and quick buy calls, so the payment session
+ * goes back to the storefront before the transaction is persisted. Writes of the same cart run one after the other in
+ * the order they were queued.
+ */
+public interface OPFPaymentTransactionQueue {
+
+    /**
+     * queue a write of a cart, to run once the writes queued before for the cart finished
+     *
+     * @param cartCode code of the cart
+     * @param write the write, bound to the session of the caller
+     * @return future of the write, completed exceptionally when the write failed
+     */
+    CompletableFuture<Void> enqueue(String cartCode, Runnable write);
+
+    /**
+     * wait for the writes queued for a cart
+     *
+     * @param cartCode code of the cart
+     * @param timeoutMillis maximum time to wait
+     * @return true when no write of the cart is queued or running anymore
+     */
+    boolean awaitDrained(String cartCode, long timeoutMillis);
+
+    /**
+     * @return {@link OPFPaymentTransactionQueueStatsData}
+     */
+    OPFPaymentTransactionQueueStatsData getQueueStats();
+}
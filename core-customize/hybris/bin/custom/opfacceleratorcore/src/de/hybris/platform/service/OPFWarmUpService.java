@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service;
+
+import de.hybris.platform.opf.data.OPFWarmUpStatsData;
+
+/**
+ * Pre-warms the OPF access tokens, gateway connections and active configurations of all base sites on this node
+ */
+public interface OPFWarmUpService {
+
+    /**
+     * warm up every base site, a failing site does not stop the others
+     *
+     * @return true when all base sites were warmed up
+     */
+    boolean warmUp();
+
+    /**
+     * @return true once the first warm-up finished, or it ran longer than allowed
+     */
+    boolean isReady();
+
+    /**
+     * @return {@link OPFWarmUpStatsData}
+     */
+    OPFWarmUpStatsData getWarmUpStats();
+}
@@ -4,15 +4,22 @@
 package de.hybris.platform.service.impl;
 
 import de.hybris.platform.client.OPFHttpClient;
+import de.hybris.platform.client.impl.OPFConditionalRequestInterceptor;
 import de.hybris.platform.commercefacades.order.CheckoutFacade;
 import de.hybris.platform.commercefacades.order.data.CartData;
 import de.hybris.platform.constants.OpfacceleratorcoreConstants;
+import de.hybris.platform.core.model.order.AbstractOrderModel;
 import de.hybris.platform.core.model.order.CartModel;
 import de.hybris.platform.core.model.order.payment.InvoicePaymentInfoModel;
 import de.hybris.platform.core.model.order.payment.SAPGenericPaymentInfoModel;
 import de.hybris.platform.cta.request.OPFPaymentCTARequest;
+import de.hybris.platform.daos.OPFPaymentSessionDao;
 import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
 import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.data.response.OPFActiveConfigValue;
+import de.hybris.platform.data.response.OPFPageableData;
+import de.hybris.platform.enums.OPFPaymentSessionStatus;
+import de.hybris.platform.model.OPFPaymentSessionModel;
 import de.hybris.platform.opf.data.OPFInitiatePaymentSessionRequestData;
 import de.hybris.platform.opf.data.OPFPaymentSubmitCompleteRequestData;
 import de.hybris.platform.opf.data.request.OPFApplePayRequest;
@@ -20,7 +27,6 @@ import de.hybris.platform.opf.data.request.OPFPaymentSubmitRequest;
 import de.hybris.platform.opf.data.response.OPFApplePayResponse;
 import de.hybris.platform.opf.data.response.OPFPaymentSubmitResponse;
 import de.hybris.platform.opf.dto.OPFInitiatePaymentSessionResponse;
-import de.hybris.platform.opf.dto.OPFPaymentAttribute;
 import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
 import de.hybris.platform.opf.dto.OPFPaymentVerifyRequest;
 import de.hybris.platform.opf.dto.OPFPaymentVerifyResponse;
@@ -29,24 +35,47 @@ import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
 import de.hybris.platform.order.CartService;
 import de.hybris.platform.payment.model.PaymentTransactionModel;
 import de.hybris.platform.service.OPFAcceleratorService;
+import de.hybris.platform.service.OPFActiveConfigCache;
+import de.hybris.platform.service.OPFActiveConfigValidators;
+import de.hybris.platform.service.OPFCTAResponseCache;
+import de.hybris.platform.service.OPFCartSnapshot;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.service.OPFPaymentStatusPolicy;
+import de.hybris.platform.service.OPFPaymentTransactionQueue;
 import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.servicelayer.exceptions.ModelSavingException;
 import de.hybris.platform.servicelayer.model.ModelService;
-import de.hybris.platform.site.BaseSiteService;
+import de.hybris.platform.util.OPFSessionContextUtil;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.client.RestTemplate;
 
 import jakarta.annotation.Resource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static de.hybris.platform.servicelayer.util.ServicesUtil.validateParameterNotNullStandardMessage;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
@@ -57,19 +86,28 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
  */
 public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
 
-    private static final String OPF_BASE_URL = "opf.base.url";
-    private static final String OPF_CTA_URL = "opf.cta.url";
-    private static final String OPF_ACTIVE_CONFIG_URL = "opf.active.config.url";
-    private static final String OPF_ACTIVE_CONFIG_PAGE_SIZE = "opf.active.config.pageSize";
-    private static final String OPF_ACTIVE_CONFIG_PAGE_NUMBER = "opf.active.config.pageNumber";
-    private static final String OPF_ACTIVE_CONFIG_CONFIGURATIONID = "opf.active.config.configuration.id";
-    private static final String OPF_PAYMENT_INITIATE_URL = "opf.initiate.payment.session.url";
-    private static final String OPF_SUBMIT_URL = "opf.submit.url";
-    private static final String OPF_VERIFY_URL = "opf.verify.url";
-    private static final String OPF_SUBMIT_COMPLETE_URL = "opf.complete.payment.url";
-    private static final String OPF_PAYMENT_STATUSES = "opf.payment.statuses";
-    private static final String OPF_APPLE_PAY_WEB_SESSION_URL = "opf.applepay.web.session.url";
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFAcceleratorService.class);
+
+    private static final String PAGE_NUMBER = "pageNumber";
+    private static final String OPF_ACTIVE_CONFIG_PAGE_PARALLELISM = "opf.active.config.page.parallelism";
+    private static final String OPF_ACTIVE_CONFIG_MAX_PAGES = "opf.active.config.max.pages";
+    private static final String OPF_ACTIVE_CONFIG_CONDITIONAL_ENABLED = "opf.active.config.conditional.enabled";
+    private static final int DEFAULT_PAGE_PARALLELISM = 4;
+    private static final int DEFAULT_MAX_PAGES = 50;
+    private static final String OPF_PAYMENT_TRANSACTION_WRITE_BEHIND_ENABLED = "opf.payment.transaction.writebehind.enabled";
+    private static final String OPF_PAYMENT_TRANSACTION_DRAIN_TIMEOUT = "opf.payment.transaction.writebehind.drain.timeout.ms";
+    private static final long DEFAULT_DRAIN_TIMEOUT = 10000L;
+
     private ConfigurationService configurationService;
+    private OPFConfigService opfConfigService;
+    private OPFPaymentStatusPolicy opfPaymentStatusPolicy;
+    private OPFActiveConfigCache opfActiveConfigCache;
+    private OPFCTAResponseCache opfCTAResponseCache;
+    private ExecutorService opfGatewayExecutor;
+    private OPFConditionalRequestInterceptor opfConditionalRequestInterceptor;
+    private OPFPaymentTransactionQueue opfPaymentTransactionQueue;
+    private OPFCartSnapshot opfCartSnapshot;
+    private OPFPaymentSessionDao opfPaymentSessionDao;
     @Resource(name = "opfAcceleratorRestTemplate")
     RestTemplate opfAcceleratorRestTemplate;
 
@@ -77,8 +115,6 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
     private ModelService modelService;
     private CheckoutFacade checkoutFacade;
     private OPFHttpClient opfHttpClient;
-    @Resource(name = "baseSiteService")
-    private BaseSiteService baseSiteService;
 
     /**
      * Constructor for DefaultOPFAcceleratorPaymentService
@@ -101,25 +137,229 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
     /**
      * @param opfPaymentCTARequest
      *         request
-     * @return OPFPaymentCTAResponse
+     * @return OPFPaymentCTAResponse, served from the {@link OPFCTAResponseCache} when one is set
      */
     @Override
     public OPFPaymentCTAResponse getCTAResponse(final OPFPaymentCTARequest opfPaymentCTARequest) {
 
+        final OPFConfig config = getOPFConfig();
+        return opfCTAResponseCache == null ? loadCTAResponse(config, opfPaymentCTARequest)
+                : opfCTAResponseCache.get(config, opfPaymentCTARequest, ctaRequest -> loadCTAResponse(config, ctaRequest));
+    }
+
+    /**
+     * call the CTA scripts endpoint
+     *
+     * @param config configuration snapshot of the current base site
+     * @param opfPaymentCTARequest request
+     * @return OPFPaymentCTAResponse
+     */
+    protected OPFPaymentCTAResponse loadCTAResponse(final OPFConfig config, final OPFPaymentCTARequest opfPaymentCTARequest) {
         final HttpClientRequestDto<OPFPaymentCTAResponse> request = createPostRequest(OPFPaymentCTAResponse.class);
-        request.setPath(getConfigurationValueForKey(OPF_CTA_URL));
+        request.setPath(config.getCtaUrl());
         request.setRequestBody(opfPaymentCTARequest);
-        return opfHttpClient.httpExchange(getConfigurationValueForKey(OPF_BASE_URL), request);
+        return opfHttpClient.httpExchange(config.getBaseUrl(), request);
     }
 
     /**
-     * @return OPFActiveConfigResponse
+     * @return OPFActiveConfigResponse, served from the {@link OPFActiveConfigCache} when one is set
      */
     @Override
     public OPFActiveConfigResponse getActiveConfigurations() {
+        final OPFConfig config = getOPFConfig();
+        return opfActiveConfigCache == null ? loadActiveConfigurations(config, new OPFActiveConfigValidators())
+                : opfActiveConfigCache.get(config, validators -> loadActiveConfigurations(config, validators));
+    }
+
+    @Override
+    public OPFActiveConfigResponse refreshActiveConfigurations() {
+        final OPFConfig config = getOPFConfig();
+        return opfActiveConfigCache == null ? loadActiveConfigurations(config, new OPFActiveConfigValidators())
+                : opfActiveConfigCache.refresh(config, validators -> loadActiveConfigurations(config, validators));
+    }
+
+    /**
+     * call the active configurations endpoint for the configured page, then fetch the remaining pages reported by
+     * {@link OPFPageableData#getTotalPages()} in parallel and merge them in page order. When every page was answered
+     * with 304 Not Modified the previously returned response instance is returned again.
+     *
+     * @param config configuration snapshot of the current base site
+     * @param validators validators of the last load of the query, kept by the {@link OPFActiveConfigCache}
+     * @return OPFActiveConfigResponse holding the active configurations of all pages
+     */
+    protected OPFActiveConfigResponse loadActiveConfigurations(final OPFConfig config,
+            final OPFActiveConfigValidators validators) {
+        final OPFActiveConfigResponse firstPage = loadActiveConfigurationPage(config, null, validators);
+        final List<Integer> remainingPages = getRemainingPageNumbers(config, firstPage);
+        if (remainingPages.isEmpty()) {
+            return firstPage;
+        }
+        final List<OPFActiveConfigResponse> pages = new ArrayList<>(remainingPages.size() + 1);
+        pages.add(firstPage);
+        pages.addAll(loadActiveConfigurationPages(config, remainingPages, validators));
+        if (!isConditionalRequestEnabled()) {
+            return mergePages(pages);
+        }
+        final OPFActiveConfigResponse previous = validators.getMerged(pages);
+        if (previous != null) {
+            return previous;
+        }
+        final OPFActiveConfigResponse merged = mergePages(pages);
+        validators.setMerged(pages, merged);
+        return merged;
+    }
+
+    /**
+     * call the active configurations endpoint for one page. With {@code opf.active.config.conditional.enabled} the
+     * request carries the validators of the last response for the page, a 304 Not Modified answer returns that
+     * response instance again.
+     *
+     * @param config configuration snapshot of the current base site
+     * @param pageNumber page to fetch, null for the configured page
+     * @param validators validators of the last load of the query, kept by the {@link OPFActiveConfigCache}
+     * @return OPFActiveConfigResponse of the page
+     */
+    protected OPFActiveConfigResponse loadActiveConfigurationPage(final OPFConfig config, final Integer pageNumber,
+            final OPFActiveConfigValidators validators) {
         final HttpClientRequestDto<OPFActiveConfigResponse> request = createRequestForActiveConfig();
-        request.setPath(getConfigurationValueForKey(OPF_ACTIVE_CONFIG_URL));
-        return opfHttpClient.httpExchange(getConfigurationValueForKey(OPF_BASE_URL), request);
+        request.setPath(config.getActiveConfigUrl());
+        if (pageNumber != null) {
+            final Map<String, String> queryParams = new HashMap<>(MapUtils.emptyIfNull(request.getQueryParams()));
+            queryParams.put(PAGE_NUMBER, String.valueOf(pageNumber));
+            request.setQueryParams(queryParams);
+        }
+        if (!isConditionalRequestEnabled()) {
+            return opfHttpClient.httpExchange(config.getBaseUrl(), request);
+        }
+        final int page = pageNumber != null ? pageNumber : getConfiguredPageNumber(config);
+        final OPFActiveConfigValidators.ValidatedPage validated = validators.getPage(page);
+        final String exchangeId = UUID.randomUUID().toString();
+        final Map<String, String> headers = new HashMap<>(MapUtils.emptyIfNull(request.getHeaders()));
+        headers.put(OPFConditionalRequestInterceptor.EXCHANGE_ID_HEADER, exchangeId);
+        if (validated != null && validated.eTag() != null) {
+            headers.put(HttpHeaders.IF_NONE_MATCH, validated.eTag());
+        }
+        if (validated != null && validated.lastModified() != null) {
+            headers.put(HttpHeaders.IF_MODIFIED_SINCE, validated.lastModified());
+        }
+        request.setHeaders(headers);
+
+        final OPFActiveConfigResponse response;
+        try {
+            response = opfHttpClient.httpExchange(config.getBaseUrl(), request);
+        } catch (final RuntimeException e) {
+            opfConditionalRequestInterceptor.takeResult(exchangeId);
+            throw e;
+        }
+        final OPFConditionalRequestInterceptor.ExchangeResult result = opfConditionalRequestInterceptor.takeResult(exchangeId);
+        if (result == null) {
+            // served without reaching the gateway, e.g. by the circuit breaker fallback
+            return response;
+        }
+        if (result.status() == HttpStatus.NOT_MODIFIED.value() && validated != null) {
+            return validated.page();
+        }
+        validators.setPage(page, response != null && result.hasValidators()
+                ? new OPFActiveConfigValidators.ValidatedPage(result.eTag(), result.lastModified(), response) : null);
+        return response;
+    }
+
+    private boolean isConditionalRequestEnabled() {
+        return opfConditionalRequestInterceptor != null
+                && configurationService.getConfiguration().getBoolean(OPF_ACTIVE_CONFIG_CONDITIONAL_ENABLED, true);
+    }
+
+    private List<Integer> getRemainingPageNumbers(final OPFConfig config, final OPFActiveConfigResponse firstPage) {
+        final OPFPageableData pageable = firstPage == null ? null : firstPage.getPageable();
+        if (pageable == null || pageable.getTotalPages() == null) {
+            return List.of();
+        }
+        final int firstPageNumber = getConfiguredPageNumber(config);
+        // the gateway counts pages from one, a configured page number of zero means counting from zero
+        final int lastPageNumber = (firstPageNumber > 0 ? 0 : -1) + pageable.getTotalPages();
+        final int maxPages = Math.max(1, configurationService.getConfiguration()
+                .getInt(OPF_ACTIVE_CONFIG_MAX_PAGES, DEFAULT_MAX_PAGES));
+        if (lastPageNumber - firstPageNumber >= maxPages) {
+            LOGGER.warn("Gateway reports {} pages of active configurations, only the first {} are fetched",
+                    pageable.getTotalPages(), maxPages);
+        }
+        final List<Integer> remainingPages = new ArrayList<>();
+        for (int page = firstPageNumber + 1; page <= lastPageNumber && remainingPages.size() < maxPages - 1; page++) {
+            remainingPages.add(page);
+        }
+        return remainingPages;
+    }
+
+    private static int getConfiguredPageNumber(final OPFConfig config) {
+        return NumberUtils.toInt(MapUtils.emptyIfNull(config.getActiveConfigQueryParams()).get(PAGE_NUMBER), 1);
+    }
+
+    /**
+     * Fetch the pages with at most {@code opf.active.config.page.parallelism} calls in flight. The calling thread
+     * fetches pages too, so the pages are fetched even when the gateway executor is saturated or is the caller itself.
+     */
+    private List<OPFActiveConfigResponse> loadActiveConfigurationPages(final OPFConfig config,
+            final List<Integer> pageNumbers, final OPFActiveConfigValidators validators) {
+        final OPFActiveConfigResponse[] pages = new OPFActiveConfigResponse[pageNumbers.size()];
+        final AtomicInteger nextPage = new AtomicInteger();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final CountDownLatch fetched = new CountDownLatch(pages.length);
+        final Runnable worker = () -> {
+            for (int i = nextPage.getAndIncrement(); i < pages.length; i = nextPage.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        pages[i] = loadActiveConfigurationPage(config, pageNumbers.get(i), validators);
+                    }
+                } catch (final RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    fetched.countDown();
+                }
+            }
+        };
+        final int parallelism = configurationService.getConfiguration()
+                .getInt(OPF_ACTIVE_CONFIG_PAGE_PARALLELISM, DEFAULT_PAGE_PARALLELISM);
+        final int helpers = opfGatewayExecutor == null ? 0 : Math.min(parallelism, pages.length) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                opfGatewayExecutor.execute(OPFSessionContextUtil.withCurrentSessionContext(worker));
+            } catch (final RejectedExecutionException e) {
+                LOGGER.debug("Gateway executor is saturated, fetching the active configuration pages with {} helpers", i);
+                break;
+            }
+        }
+        worker.run();
+        try {
+            // the pages still in flight were claimed by helpers, which always count them down
+            fetched.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CCAdapterClientException("Interrupted while fetching the active configuration pages", e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return Arrays.asList(pages);
+    }
+
+    /**
+     * Merge the pages into one response. Its pageable describes the merged result as a single page.
+     */
+    private static OPFActiveConfigResponse mergePages(final List<OPFActiveConfigResponse> pages) {
+        final OPFActiveConfigResponse firstPage = pages.get(0);
+        final List<OPFActiveConfigValue> values = new ArrayList<>();
+        for (final OPFActiveConfigResponse page : pages) {
+            values.addAll(ListUtils.emptyIfNull(page.getValue()));
+        }
+        final OPFPageableData pageable = new OPFPageableData();
+        pageable.setNumber(firstPage.getPageable().getNumber());
+        pageable.setSize(values.size());
+        pageable.setTotalElements(firstPage.getPageable().getTotalElements());
+        pageable.setTotalPages(1);
+        final OPFActiveConfigResponse merged = new OPFActiveConfigResponse();
+        merged.setValue(values);
+        merged.setPageable(pageable);
+        return merged;
     }
 
     /**
@@ -133,21 +373,7 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
         final HttpClientRequestDto<OPFActiveConfigResponse> request = new HttpClientRequestDto<>();
         request.setResponseType(OPFActiveConfigResponse.class);
         request.setHttpMethod(HttpMethod.GET);
-        Map<String, String> queryParams = new HashMap<>();
-        if (StringUtils.isNotEmpty(getConfigurationValueForKey(OPF_ACTIVE_CONFIG_PAGE_SIZE))) {
-            queryParams.put("pageSize", getConfigurationValueForKey(OPF_ACTIVE_CONFIG_PAGE_SIZE));
-        }
-        if (StringUtils.isNotEmpty(getConfigurationValueForKey(OPF_ACTIVE_CONFIG_PAGE_NUMBER))) {
-            queryParams.put("pageNumber", getConfigurationValueForKey(OPF_ACTIVE_CONFIG_PAGE_NUMBER));
-        }
-
-        if (StringUtils.isNotEmpty(getConfigurationValueForKey(OPF_ACTIVE_CONFIG_CONFIGURATIONID))) {
-            queryParams.put("configurationId", getConfigurationValueForKey(OPF_ACTIVE_CONFIG_CONFIGURATIONID));
-        }
-        String siteId = baseSiteService.getCurrentBaseSite().getUid();
-        if (StringUtils.isNotEmpty(siteId)) {
-            queryParams.put("divisionId", siteId);
-        }
+        final Map<String, String> queryParams = getOPFConfig().getActiveConfigQueryParams();
         if (MapUtils.isNotEmpty(queryParams)) {
             request.setQueryParams(queryParams);
         }
@@ -164,20 +390,23 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
      */
     @Override
     public OPFInitiatePaymentSessionResponse getInitiatePaymentResponse(final OPFInitiatePaymentSessionRequestData paymentSessionRequest) {
+        final OPFConfig config = getOPFConfig();
         final HttpClientRequestDto<OPFInitiatePaymentSessionResponse> request = createPostRequest(OPFInitiatePaymentSessionResponse.class);
-        request.setPath(getConfigurationValueForKey(OPF_PAYMENT_INITIATE_URL));
+        request.setPath(config.getInitiatePaymentUrl());
         Pair<String, String> properties = opfHttpClient.getSecurityProperties();
         paymentSessionRequest.setClientId(properties.getKey());
         paymentSessionRequest.setPublicKey(properties.getValue());
         request.setRequestBody(paymentSessionRequest);
 
-        OPFInitiatePaymentSessionResponse initiatePaymentSessionResponse = opfHttpClient.httpExchange(getConfigurationValueForKey(OPF_BASE_URL), request);
+        OPFInitiatePaymentSessionResponse initiatePaymentSessionResponse = opfHttpClient.httpExchange(config.getBaseUrl(), request);
         createPaymentTransaction(initiatePaymentSessionResponse.getPaymentSessionId());
         return initiatePaymentSessionResponse;
     }
 
     /**
-     * Create Payment Transaction Model for initiate API and gateway submit API for Quick Buy
+     * Create Payment Transaction Model for initiate API and gateway submit API for Quick Buy. With write-behind enabled
+     * the payment session is recorded as pending, the transaction is written and the cart is prepared for checkout by the
+     * {@link OPFPaymentTransactionQueue}, see {@link #awaitPaymentTransaction()}.
      * @param paymentSessionId unique payment session id to be used as code for Payment Transaction
      */
     private void createPaymentTransaction(String paymentSessionId){
@@ -185,22 +414,176 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
         validateParameterNotNullStandardMessage("Payment Session Id", paymentSessionId);
 
         final CartModel cartModel = cartService.getSessionCart();
-        final CartData cartData = checkoutFacade.getCheckoutCart();
+        // the session cart has the total of the checkout cart and is usually converted already by the request populator
+        final CartData cartData = opfCartSnapshot != null ? opfCartSnapshot.getSessionCart() : checkoutFacade.getCheckoutCart();
+        final BigDecimal amount = cartData.getTotalPrice().getValue();
+        if (isPaymentTransactionWriteBehind()) {
+            savePendingPaymentSession(cartModel, paymentSessionId, amount);
+            // the queued write reloads the cart through the payment session in a session of its own, placing the order
+            // and completing the payment wait for it
+            opfPaymentTransactionQueue.enqueue(cartModel.getCode(), OPFSessionContextUtil.withCurrentSessionContext(() -> {
+                writePendingPaymentTransaction(paymentSessionId);
+                checkoutFacade.prepareCartForCheckout();
+            }));
+        } else {
+            final OPFPaymentSessionModel latestPaymentSession = opfPaymentSessionDao != null
+                    ? opfPaymentSessionDao.findLatestByOrder(cartModel).orElse(null) : null;
+            writePaymentTransaction(cartModel, paymentSessionId, amount, latestPaymentSession);
+            checkoutFacade.prepareCartForCheckout();
+        }
+    }
+
+    /**
+     * Records a pending payment session without looking its session id up first. The session id is unique, so the save
+     * fails for a session id OPF returned before, whose payment session is then updated instead.
+     */
+    private void savePendingPaymentSession(final CartModel cartModel, final String paymentSessionId,
+            final BigDecimal amount) {
+        final OPFPaymentSessionModel paymentSession = modelService.create(OPFPaymentSessionModel.class);
+        try {
+            savePaymentSession(paymentSession, cartModel, null, paymentSessionId, amount, OPFPaymentSessionStatus.PENDING);
+        } catch (final ModelSavingException e) {
+            LOGGER.debug("Payment session [{}] is already recorded, updating it", paymentSessionId, e);
+            modelService.detach(paymentSession);
+            savePaymentSession(cartModel, null, paymentSessionId, amount, OPFPaymentSessionStatus.PENDING);
+        }
+    }
+
+    /**
+     * Writes the payment transaction of a pending payment session, unless it was written or superseded meanwhile
+     */
+    private void writePendingPaymentTransaction(final String paymentSessionId) {
+        final OPFPaymentSessionModel paymentSession = opfPaymentSessionDao.findBySessionId(paymentSessionId).orElse(null);
+        if (paymentSession == null || paymentSession.getStatus() != OPFPaymentSessionStatus.PENDING) {
+            return;
+        }
+        final List<OPFPaymentSessionModel> paymentSessions = opfPaymentSessionDao.findByOrder(paymentSession.getOrder());
+        final int index = paymentSessions.indexOf(paymentSession);
+        final OPFPaymentSessionModel previousPaymentSession = index >= 0 && index + 1 < paymentSessions.size()
+                ? paymentSessions.get(index + 1) : null;
+        writePaymentTransaction(paymentSession.getOrder(), paymentSessionId, paymentSession.getAmount(),
+                previousPaymentSession);
+    }
+
+    private void writePaymentTransaction(final AbstractOrderModel order, final String paymentSessionId,
+            final BigDecimal amount, final OPFPaymentSessionModel latestPaymentSession) {
         PaymentTransactionModel paymentTransactionModel;
-        if(CollectionUtils.isNotEmpty(cartModel.getPaymentTransactions())){
-            paymentTransactionModel = cartModel.getPaymentTransactions().get(0);
+        if (latestPaymentSession != null && latestPaymentSession.getPaymentTransaction() != null) {
+            // the transaction of a completed payment is kept, otherwise it moves to the new payment session
+            paymentTransactionModel = latestPaymentSession.getStatus() == OPFPaymentSessionStatus.COMPLETED
+                    ? modelService.create(PaymentTransactionModel.class) : latestPaymentSession.getPaymentTransaction();
+            if (!paymentSessionId.equals(latestPaymentSession.getSessionId())) {
+                supersedePaymentSession(latestPaymentSession, paymentTransactionModel);
+            }
+        } else if (latestPaymentSession != null && !paymentSessionId.equals(latestPaymentSession.getSessionId())) {
+            supersedePaymentSession(latestPaymentSession, null);
+            paymentTransactionModel = modelService.create(PaymentTransactionModel.class);
+        } else if (latestPaymentSession == null && CollectionUtils.isNotEmpty(order.getPaymentTransactions())) {
+            // carts without a payment session yet, e.g. initiated before payment sessions were recorded
+            paymentTransactionModel = order.getPaymentTransactions().get(0);
         }else{
             paymentTransactionModel = modelService.create(PaymentTransactionModel.class);
         }
         paymentTransactionModel.setCode(paymentSessionId);
-        paymentTransactionModel.setInfo(cartModel.getPaymentInfo());
-        paymentTransactionModel.setOrder(cartModel);
-        paymentTransactionModel.setCurrency(cartModel.getCurrency());
-        paymentTransactionModel.setPlannedAmount(cartData.getTotalPrice().getValue());
+        paymentTransactionModel.setInfo(order.getPaymentInfo());
+        paymentTransactionModel.setOrder(order);
+        paymentTransactionModel.setCurrency(order.getCurrency());
+        paymentTransactionModel.setPlannedAmount(amount);
         paymentTransactionModel.setPaymentProvider(OpfacceleratorcoreConstants.PAYMENT_PROVIDER);
         modelService.save(paymentTransactionModel);
         modelService.refresh(paymentTransactionModel);
-        checkoutFacade.prepareCartForCheckout();
+        if (opfPaymentSessionDao != null) {
+            savePaymentSession(order, paymentTransactionModel, paymentSessionId, amount, OPFPaymentSessionStatus.INITIATED);
+        }
+    }
+
+    /**
+     * Unlinks the payment transaction taken over by a new payment session of the same cart, an initiated payment
+     * session is superseded by it
+     */
+    private void supersedePaymentSession(final OPFPaymentSessionModel paymentSession,
+            final PaymentTransactionModel paymentTransactionModel) {
+        if (paymentSession.getPaymentTransaction() == paymentTransactionModel) {
+            paymentSession.setPaymentTransaction(null);
+        }
+        if (paymentSession.getStatus() == OPFPaymentSessionStatus.INITIATED
+                || paymentSession.getStatus() == OPFPaymentSessionStatus.PENDING) {
+            paymentSession.setStatus(OPFPaymentSessionStatus.SUPERSEDED);
+        }
+        modelService.save(paymentSession);
+    }
+
+    private void savePaymentSession(final AbstractOrderModel order, final PaymentTransactionModel paymentTransactionModel,
+            final String paymentSessionId, final BigDecimal amount, final OPFPaymentSessionStatus status) {
+        final OPFPaymentSessionModel paymentSession = opfPaymentSessionDao.findBySessionId(paymentSessionId)
+                .orElseGet(() -> modelService.create(OPFPaymentSessionModel.class));
+        savePaymentSession(paymentSession, order, paymentTransactionModel, paymentSessionId, amount, status);
+    }
+
+    private void savePaymentSession(final OPFPaymentSessionModel paymentSession, final AbstractOrderModel order,
+            final PaymentTransactionModel paymentTransactionModel, final String paymentSessionId, final BigDecimal amount,
+            final OPFPaymentSessionStatus status) {
+        paymentSession.setSessionId(paymentSessionId);
+        paymentSession.setOrder(order);
+        paymentSession.setPaymentTransaction(paymentTransactionModel);
+        paymentSession.setStatus(status);
+        paymentSession.setAmount(amount);
+        paymentSession.setCurrency(order.getCurrency());
+        paymentSession.setPaymentProvider(OpfacceleratorcoreConstants.PAYMENT_PROVIDER);
+        modelService.save(paymentSession);
+    }
+
+    /**
+     * get the payment session of an OPF payment session id
+     *
+     * @param paymentSessionId OPF payment session id
+     * @return the payment session with its cart or order and payment transaction, empty when unknown
+     */
+    @Override
+    public Optional<OPFPaymentSessionModel> getPaymentSession(final String paymentSessionId) {
+        if (opfPaymentSessionDao == null || StringUtils.isBlank(paymentSessionId)) {
+            return Optional.empty();
+        }
+        return opfPaymentSessionDao.findBySessionId(paymentSessionId);
+    }
+
+    private void completePaymentSession(final String paymentSessionId, final OPFPaymentSessionStatus status) {
+        getPaymentSession(paymentSessionId).ifPresent(paymentSession -> {
+            paymentSession.setStatus(status);
+            paymentSession.setCompletedTime(new Date());
+            modelService.save(paymentSession);
+        });
+    }
+
+    private boolean isPaymentTransactionWriteBehind() {
+        return opfPaymentTransactionQueue != null && opfPaymentSessionDao != null && configurationService.getConfiguration()
+                .getBoolean(OPF_PAYMENT_TRANSACTION_WRITE_BEHIND_ENABLED, false);
+    }
+
+    /**
+     * Waits for the payment transactions queued for the session cart and writes the one of a pending payment session
+     * whose queued write was lost or failed, preparing the cart for checkout like the queued write.
+     *
+     * @throws IllegalStateException when the queued writes do not finish in time
+     */
+    @Override
+    public void awaitPaymentTransaction() {
+        if (opfPaymentSessionDao == null || !cartService.hasSessionCart()) {
+            return;
+        }
+        final CartModel cartModel = cartService.getSessionCart();
+        final long timeout = configurationService.getConfiguration()
+                .getLong(OPF_PAYMENT_TRANSACTION_DRAIN_TIMEOUT, DEFAULT_DRAIN_TIMEOUT);
+        if (opfPaymentTransactionQueue != null && !opfPaymentTransactionQueue.awaitDrained(cartModel.getCode(), timeout)) {
+            throw new IllegalStateException(
+                    String.format("Payment transaction of cart [%s] was not written within %d ms", cartModel.getCode(), timeout));
+        }
+        final OPFPaymentSessionModel latestPaymentSession = opfPaymentSessionDao.findLatestByOrder(cartModel).orElse(null);
+        if (latestPaymentSession != null && latestPaymentSession.getStatus() == OPFPaymentSessionStatus.PENDING) {
+            LOGGER.warn("Writing pending payment transaction of cart [{}] on the request thread", cartModel.getCode());
+            writePendingPaymentTransaction(latestPaymentSession.getSessionId());
+            checkoutFacade.prepareCartForCheckout();
+        }
     }
 
     /**
@@ -211,8 +594,9 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
      */
     @Override
     public OPFPaymentSubmitResponse submitPayment(OPFPaymentSubmitRequest opfPaymentSubmitRequest, boolean isQuickBuy) {
+        final OPFConfig config = getOPFConfig();
         final HttpClientRequestDto<OPFPaymentSubmitResponse> request = createPostRequest(OPFPaymentSubmitResponse.class);
-        request.setPath(getConfigurationValueForKey(OPF_SUBMIT_URL));
+        request.setPath(config.getSubmitUrl());
 
         //Quick Buy: Client id and public key are required for PaymentTransaction integration.
         if(isQuickBuy){
@@ -221,7 +605,7 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
             opfPaymentSubmitRequest.setPublicKey(properties.getValue());
         }
         request.setRequestBody(opfPaymentSubmitRequest);
-        OPFPaymentSubmitResponse paymentSubmitResponse = opfHttpClient.httpExchange(getConfigurationValueForKey(OPF_BASE_URL), request);
+        OPFPaymentSubmitResponse paymentSubmitResponse = opfHttpClient.httpExchange(config.getBaseUrl(), request);
 
         //Quick Buy: create PaymentTransactionModel
         if(isQuickBuy){
@@ -240,10 +624,11 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
      */
     @Override
     public OPFPaymentVerifyResponse verifyPayment(OPFPaymentVerifyRequest opfPaymentVerifyRequest) {
+        final OPFConfig config = getOPFConfig();
         final HttpClientRequestDto<OPFPaymentVerifyResponse> request = this.createPostRequest(OPFPaymentVerifyResponse.class);
-        request.setPath(getConfigurationValueForKey(OPF_VERIFY_URL));
+        request.setPath(config.getVerifyUrl());
         request.setRequestBody(opfPaymentVerifyRequest);
-        return opfHttpClient.httpExchange(getConfigurationValueForKey(OPF_BASE_URL), request);
+        return opfHttpClient.httpExchange(config.getBaseUrl(), request);
     }
 
     /**
@@ -254,11 +639,15 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
      * @return OPFPaymentSubmitCompleteResponse as response
      */
     public OPFPaymentSubmitCompleteResponse getCompletedPaymentResponse(final OPFPaymentSubmitCompleteRequestData paymentRequest) {
+        awaitPaymentTransaction();
+        final OPFConfig config = getOPFConfig();
         final HttpClientRequestDto<OPFPaymentSubmitCompleteResponse> request = createPostRequest(OPFPaymentSubmitCompleteResponse.class);
-        request.setPath(getConfigurationValueForKey(OPF_SUBMIT_COMPLETE_URL));
+        request.setPath(config.getSubmitCompleteUrl());
         request.setRequestBody(paymentRequest);
-        OPFPaymentSubmitCompleteResponse response = opfHttpClient.httpExchange(getConfigurationValueForKey(OPF_BASE_URL), request);
+        OPFPaymentSubmitCompleteResponse response = opfHttpClient.httpExchange(config.getBaseUrl(), request);
         Boolean paymentStatus = validatePaymentStatus(response);
+        completePaymentSession(paymentRequest.getPaymentSessionId(),
+                BooleanUtils.isFalse(paymentStatus) ? OPFPaymentSessionStatus.FAILED : OPFPaymentSessionStatus.COMPLETED);
         if (BooleanUtils.isFalse(paymentStatus)) {
             throw new CCAdapterClientException(
                     String.format("Payment validation failed: top-level status '%s' is not in the list of accepted statuses.",
@@ -293,7 +682,7 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
      * @return Boolean True/False
      */
     public Boolean validatePaymentStatus(OPFPaymentSubmitCompleteResponse response) {
-        return isStatusValid(response.getStatus()) && isCustomFieldStatusValid(response);
+        return opfPaymentStatusPolicy.isAccepted(response);
     }
 
     @Override
@@ -322,10 +711,11 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
      */
     @Override
     public OPFApplePayResponse getApplePayWebSession(OPFApplePayRequest opfApplePayRequest) {
+        final OPFConfig config = getOPFConfig();
         final HttpClientRequestDto<OPFApplePayResponse> request = this.createPostRequest(OPFApplePayResponse.class);
-        request.setPath(getConfigurationValueForKey(OPF_APPLE_PAY_WEB_SESSION_URL));
+        request.setPath(config.getApplePayWebSessionUrl());
         request.setRequestBody(opfApplePayRequest);
-        return opfHttpClient.httpExchange(getConfigurationValueForKey(OPF_BASE_URL), request);
+        return opfHttpClient.httpExchange(config.getBaseUrl(), request);
     }
 
     @Override
@@ -358,32 +748,6 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
         }
     }
 
-    /**
-     * Check top level status is valid or not
-     *
-     * @param status
-     *         of type String
-     * @return Boolean True/False
-     */
-    private Boolean isStatusValid(String status) {
-        String paymentStatuses = getConfigurationValueForKey(OPF_PAYMENT_STATUSES);
-        List<String> statusList = Arrays.asList(paymentStatuses.toUpperCase(Locale.ENGLISH).split(","));
-        return statusList.contains(status.toUpperCase(Locale.ENGLISH));
-    }
-
-    /**
-     * Check custom field status is valid or not
-     *
-     * @param response
-     *         OPFPaymentSubmitCompleteResponse
-     * @return Boolean True/False
-     */
-    private Boolean isCustomFieldStatusValid(OPFPaymentSubmitCompleteResponse response) {
-        String customFieldStatus = response.getCustomFields().stream().filter(cf -> StringUtils.equalsIgnoreCase("resultCode", cf.getKey()))
-                .map(OPFPaymentAttribute::getValue).filter(String.class::isInstance).map(String.class::cast).findFirst().orElse(null);
-        return customFieldStatus != null && isStatusValid(customFieldStatus);
-    }
-
     /**
      * get configuration value for key
      *
@@ -396,4 +760,49 @@ public class DefaultOPFAcceleratorService implements OPFAcceleratorService {
         return configurationService.getConfiguration().getString(key, StringUtils.EMPTY);
     }
 
+    /**
+     * get the OPF configuration snapshot of the current base site
+     *
+     * @return {@link OPFConfig}
+     */
+    protected OPFConfig getOPFConfig() {
+        return opfConfigService.getConfig();
+    }
+
+    public void setOpfConfigService(final OPFConfigService opfConfigService) {
+        this.opfConfigService = opfConfigService;
+    }
+
+    public void setOpfPaymentStatusPolicy(final OPFPaymentStatusPolicy opfPaymentStatusPolicy) {
+        this.opfPaymentStatusPolicy = opfPaymentStatusPolicy;
+    }
+
+    public void setOpfActiveConfigCache(final OPFActiveConfigCache opfActiveConfigCache) {
+        this.opfActiveConfigCache = opfActiveConfigCache;
+    }
+
+    public void setOpfCTAResponseCache(final OPFCTAResponseCache opfCTAResponseCache) {
+        this.opfCTAResponseCache = opfCTAResponseCache;
+    }
+
+    public void setOpfGatewayExecutor(final ExecutorService opfGatewayExecutor) {
+        this.opfGatewayExecutor = opfGatewayExecutor;
+    }
+
+    public void setOpfConditionalRequestInterceptor(final OPFConditionalRequestInterceptor opfConditionalRequestInterceptor) {
+        this.opfConditionalRequestInterceptor = opfConditionalRequestInterceptor;
+    }
+
+    public void setOpfPaymentTransactionQueue(final OPFPaymentTransactionQueue opfPaymentTransactionQueue) {
+        this.opfPaymentTransactionQueue = opfPaymentTransactionQueue;
+    }
+
+    public void setOpfCartSnapshot(final OPFCartSnapshot opfCartSnapshot) {
+        this.opfCartSnapshot = opfCartSnapshot;
+    }
+
+    public void setOpfPaymentSessionDao(final OPFPaymentSessionDao opfPaymentSessionDao) {
+        this.opfPaymentSessionDao = opfPaymentSessionDao;
+    }
+
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.opf.data.OPFActiveConfigCacheStatsData;
+import de.hybris.platform.service.OPFActiveConfigCache;
+import de.hybris.platform.service.OPFActiveConfigValidators;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.util.OPFSessionContextUtil;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the active configurations keyed by base site, endpoint and query parameters, evicting the least
+ * recently used key when {@code opf.active.config.cache.max.entries} is exceeded. A response younger than
+ * {@code opf.active.config.cache.ttl.ms} is served as is; within the following {@code opf.active.config.cache.stale.ms}
+ * it is still served while one background refresh runs on the OPF gateway executor; older responses are loaded on the
+ * calling thread, once per key however many callers wait. Every entry keeps the {@link OPFActiveConfigValidators} of
+ * its query, which are dropped with it.
+ */
+public class DefaultOPFActiveConfigCache implements OPFActiveConfigCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFActiveConfigCache.class);
+
+    private static final String ENABLED = "opf.active.config.cache.enabled";
+    private static final String TTL_MS = "opf.active.config.cache.ttl.ms";
+    private static final String STALE_MS = "opf.active.config.cache.stale.ms";
+    private static final String MAX_ENTRIES = "opf.active.config.cache.max.entries";
+
+    private final ConfigurationService configurationService;
+    private final ExecutorService opfGatewayExecutor;
+    private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder unchangedLoads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor for DefaultOPFActiveConfigCache
+     *
+     * @param configurationService configurationService
+     * @param opfGatewayExecutor executor running the background refreshes
+     */
+    public DefaultOPFActiveConfigCache(final ConfigurationService configurationService,
+            final ExecutorService opfGatewayExecutor) {
+        this.configurationService = configurationService;
+        this.opfGatewayExecutor = opfGatewayExecutor;
+    }
+
+    @Override
+    public OPFActiveConfigResponse get(final OPFConfig config,
+            final Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader) {
+        final Configuration configuration = configurationService.getConfiguration();
+        if (!configuration.getBoolean(ENABLED, true)) {
+            return loader.apply(new OPFActiveConfigValidators());
+        }
+        final Entry entry = getEntry(configuration, config);
+        final long now = currentTimeMillis();
+        entry.usedAt = now;
+        final OPFActiveConfigResponse response = entry.response;
+        if (response != null) {
+            final long age = now - entry.loadedAt;
+            final long ttl = configuration.getLong(TTL_MS, 300_000L);
+            if (age < ttl) {
+                hits.increment();
+                return response;
+            }
+            if (age < ttl + configuration.getLong(STALE_MS, 600_000L)) {
+                staleHits.increment();
+                refreshInBackground(entry, loader);
+                return response;
+            }
+        }
+        misses.increment();
+        return join(load(entry, loader));
+    }
+
+    @Override
+    public OPFActiveConfigResponse refresh(final OPFConfig config,
+            final Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader) {
+        final Configuration configuration = configurationService.getConfiguration();
+        if (!configuration.getBoolean(ENABLED, true)) {
+            return loader.apply(new OPFActiveConfigValidators());
+        }
+        refreshes.increment();
+        return join(load(getEntry(configuration, config), loader));
+    }
+
+    @Override
+    public void invalidate() {
+        entries.clear();
+    }
+
+    @Override
+    public void invalidate(final String siteUid) {
+        entries.keySet().removeIf(key -> key.siteUid().equals(StringUtils.defaultString(siteUid)));
+    }
+
+    @Override
+    public OPFActiveConfigCacheStatsData getActiveConfigCacheStats() {
+        final OPFActiveConfigCacheStatsData stats = new OPFActiveConfigCacheStatsData();
+        stats.setEnabled(configurationService.getConfiguration().getBoolean(ENABLED, true));
+        stats.setSize(entries.size());
+        stats.setHits(hits.sum());
+        stats.setStaleHits(staleHits.sum());
+        stats.setMisses(misses.sum());
+        stats.setRefreshes(refreshes.sum());
+        stats.setRefreshFailures(refreshFailures.sum());
+        stats.setUnchangedLoads(unchangedLoads.sum());
+        stats.setEvictions(evictions.sum());
+        return stats;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private Entry getEntry(final Configuration configuration, final OPFConfig config) {
+        final CacheKey key = new CacheKey(StringUtils.defaultString(config.getSiteUid()),
+                config.getBaseUrl() + config.getActiveConfigUrl(), config.getActiveConfigQueryParams());
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(key, k -> new Entry(currentTimeMillis()));
+            evictIfFull(configuration.getInt(MAX_ENTRIES, 64));
+        }
+        return entry;
+    }
+
+    private static OPFActiveConfigResponse join(final CompletableFuture<OPFActiveConfigResponse> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    /**
+     * load the entry unless a load is already running, in which case its result is shared
+     */
+    private CompletableFuture<OPFActiveConfigResponse> load(final Entry entry,
+            final Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader) {
+        final CompletableFuture<OPFActiveConfigResponse> future = new CompletableFuture<>();
+        final CompletableFuture<OPFActiveConfigResponse> running = entry.loading.compareAndExchange(null, future);
+        if (running != null) {
+            return running;
+        }
+        try {
+            final OPFActiveConfigResponse response = loader.apply(entry.validators);
+            if (response != null && response == entry.response) {
+                // revalidated by the gateway (304 Not Modified), only the age is reset
+                unchangedLoads.increment();
+            }
+            if (response != null) {
+                entry.loadedAt = currentTimeMillis();
+                entry.response = response;
+            }
+            future.complete(response);
+        } catch (final RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            entry.loading.set(null);
+        }
+        return future;
+    }
+
+    private void refreshInBackground(final Entry entry,
+            final Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader) {
+        if (entry.loading.get() != null) {
+            return;
+        }
+        try {
+            opfGatewayExecutor.execute(OPFSessionContextUtil.withCurrentSessionContext(() -> {
+                refreshes.increment();
+                load(entry, loader).whenComplete((response, failure) -> {
+                    if (failure != null) {
+                        refreshFailures.increment();
+                        LOGGER.warn("Background refresh of the active configurations failed, serving the stale ones", failure);
+                    }
+                });
+            }));
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("OPF gateway executor saturated, active configurations refresh skipped", e);
+        }
+    }
+
+    private void evictIfFull(final int maxEntries) {
+        while (entries.size() > maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(candidate -> candidate.getValue().usedAt))
+                    .ifPresent(eldest -> {
+                        if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                            evictions.increment();
+                        }
+                    });
+        }
+    }
+
+    private record CacheKey(String siteUid, String url, Map<String, String> queryParams) {
+    }
+
+    private static final class Entry {
+        private final AtomicReference<CompletableFuture<OPFActiveConfigResponse>> loading = new AtomicReference<>();
+        private final OPFActiveConfigValidators validators = new OPFActiveConfigValidators();
+        private volatile OPFActiveConfigResponse response;
+        private volatile long loadedAt;
+        private volatile long usedAt;
+
+        private Entry(final long usedAt) {
+            this.usedAt = usedAt;
+        }
+    }
+}
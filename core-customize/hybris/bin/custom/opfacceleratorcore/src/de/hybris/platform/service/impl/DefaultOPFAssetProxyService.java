@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.opf.data.OPFAssetProxyStatsData;
+import de.hybris.platform.service.OPFAssetProxyService;
+import de.hybris.platform.service.OPFAssetType;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Asset proxy keeping the verified assets in a directory bounded by {@code opf.asset.proxy.cache.max.bytes}, the least
+ * recently served files are deleted first. A file is named after the integrity hash of its asset, so its content never
+ * changes and the storefront can serve it as immutable.
+ * <p>
+ * Proxy urls are signed with {@code opf.asset.proxy.secret} so the proxy only downloads the assets of the payment
+ * responses. The secret has to be the same on all nodes of the cluster, the proxy stays disabled without it. Only the
+ * hosts of {@code opf.asset.proxy.hosts} are proxied and redirects are not followed.
+ * <p>
+ * Files left by an earlier run are checked against the integrity once before they are served, evicted files are
+ * deleted after {@code opf.asset.proxy.evict.grace.ms} as responses may still be reading them, and a failed download
+ * is not repeated within {@code opf.asset.proxy.failure.ttl.ms}.
+ */
+public class DefaultOPFAssetProxyService implements OPFAssetProxyService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFAssetProxyService.class);
+
+    private static final String ENABLED = "opf.asset.proxy.enabled";
+    private static final String SECRET = "opf.asset.proxy.secret";
+    private static final String PATH = "opf.asset.proxy.path";
+    private static final String HOSTS = "opf.asset.proxy.hosts";
+    private static final String CACHE_DIR = "opf.asset.proxy.cache.dir";
+    private static final String CACHE_MAX_BYTES = "opf.asset.proxy.cache.max.bytes";
+    private static final String ASSET_MAX_BYTES = "opf.asset.proxy.asset.max.bytes";
+    private static final String TIMEOUT_MS = "opf.asset.proxy.timeout.ms";
+    private static final String EVICT_GRACE_MS = "opf.asset.proxy.evict.grace.ms";
+    private static final String FAILURE_TTL_MS = "opf.asset.proxy.failure.ttl.ms";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // strongest last, as the browser only checks the hashes of the strongest algorithm
+    private static final List<String> INTEGRITY_ALGORITHMS = List.of("sha256", "sha384", "sha512");
+
+    private final ConfigurationService configurationService;
+    private final Map<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> verified = new HashSet<>();
+    private final Map<String, Long> retired = new LinkedHashMap<>();
+    private final Map<String, CompletableFuture<Optional<Path>>> downloads = new ConcurrentHashMap<>();
+    private final Map<String, Long> failedDownloads = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder downloaded = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder integrityFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Path indexedDirectory;
+    private long cachedBytes;
+    private volatile HttpClient httpClient;
+
+    /**
+     * Constructor for DefaultOPFAssetProxyService
+     *
+     * @param configurationService configurationService
+     */
+    public DefaultOPFAssetProxyService(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public String getProxyUrl(final String url, final String sri, final OPFAssetType type) {
+        if (!isEnabled() || type == null || getIntegrityDigests(sri).isEmpty() || !isProxiedHost(url)) {
+            return url;
+        }
+        return getConfiguration().getString(PATH, "/opf-payment/assets") + "/" + sign(sri, url, type) + "."
+                + type.getExtension() + "?src=" + URLEncoder.encode(url, StandardCharsets.UTF_8) + "&integrity="
+                + URLEncoder.encode(sri, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean isSigned(final String sri, final String src, final OPFAssetType type, final String signature) {
+        if (!isEnabled() || type == null || StringUtils.isAnyBlank(sri, src, signature)) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(sri, src, type).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public Optional<Path> getAsset(final String sri, final String src, final OPFAssetType type) {
+        final Map<String, List<byte[]>> digests = getIntegrityDigests(sri);
+        if (!isEnabled() || type == null || digests.isEmpty() || !isProxiedHost(src)) {
+            return Optional.empty();
+        }
+        final String fileName = getFileName(sri, type);
+        final Path directory = getCacheDirectory();
+        final Path file = directory.resolve(fileName);
+        if (isCached(fileName, file, digests)) {
+            hits.increment();
+            return Optional.of(file);
+        }
+        final String failureKey = fileName + "\n" + src;
+        final Long retryAt = failedDownloads.get(failureKey);
+        if (retryAt != null && retryAt > System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+
+        final CompletableFuture<Optional<Path>> download = new CompletableFuture<>();
+        final CompletableFuture<Optional<Path>> running = downloads.putIfAbsent(fileName, download);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            final Optional<Path> asset = download(src, digests, directory, file);
+            if (asset.isEmpty()) {
+                rememberFailure(failureKey);
+            }
+            download.complete(asset);
+            return asset;
+        } catch (final RuntimeException e) {
+            download.completeExceptionally(e);
+            throw e;
+        } finally {
+            downloads.remove(fileName, download);
+        }
+    }
+
+    /**
+     * whether the file is cached and verified, a file left by an earlier run is checked against the integrity first
+     */
+    private boolean isCached(final String fileName, final Path file, final Map<String, List<byte[]>> digests) {
+        synchronized (files) {
+            if (files.get(fileName) == null || !Files.isRegularFile(file)) {
+                return false;
+            }
+            if (verified.contains(fileName)) {
+                return true;
+            }
+        }
+        boolean matches;
+        try {
+            matches = matchesIntegrity(Files.readAllBytes(file), digests);
+        } catch (final IOException e) {
+            matches = false;
+        }
+        synchronized (files) {
+            if (matches || verified.contains(fileName)) {
+                verified.add(fileName);
+                return true;
+            }
+            final Long size = files.remove(fileName);
+            cachedBytes -= size == null ? 0L : size;
+            integrityFailures.increment();
+            LOGGER.warn("Cached OPF asset [{}] does not match its integrity, it is downloaded again", fileName);
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                LOGGER.warn("OPF asset [{}] could not be deleted", fileName, e);
+            }
+            return false;
+        }
+    }
+
+    private void rememberFailure(final String failureKey) {
+        final long ttl = getConfiguration().getLong(FAILURE_TTL_MS, 60000L);
+        if (ttl <= 0) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        failedDownloads.values().removeIf(retryAt -> retryAt <= now);
+        failedDownloads.put(failureKey, now + ttl);
+    }
+
+    private Optional<Path> download(final String src, final Map<String, List<byte[]>> digests, final Path directory,
+            final Path file) {
+        final byte[] content;
+        try {
+            content = download(URI.create(src), getConfiguration().getInt(ASSET_MAX_BYTES, 2 * 1024 * 1024));
+        } catch (final IOException | IllegalArgumentException e) {
+            failures.increment();
+            LOGGER.warn("OPF asset [{}] could not be downloaded", src, e);
+            return Optional.empty();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.increment();
+            return Optional.empty();
+        }
+        if (!matchesIntegrity(content, digests)) {
+            integrityFailures.increment();
+            LOGGER.warn("OPF asset [{}] does not match its integrity, it is not proxied", src);
+            return Optional.empty();
+        }
+        downloaded.increment();
+
+        try {
+            final Path temp = Files.createTempFile(directory, file.getFileName().toString(), TEMP_SUFFIX);
+            Files.write(temp, content);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            failures.increment();
+            LOGGER.warn("OPF asset [{}] could not be stored in [{}]", src, directory, e);
+            return Optional.empty();
+        }
+        synchronized (files) {
+            final String fileName = file.getFileName().toString();
+            final Long replaced = files.put(fileName, (long) content.length);
+            cachedBytes += content.length - (replaced == null ? 0L : replaced);
+            verified.add(fileName);
+            retired.remove(fileName);
+            evict(directory, getConfiguration().getLong(CACHE_MAX_BYTES, 50L * 1024 * 1024));
+        }
+        return Optional.of(file);
+    }
+
+    /**
+     * download an asset of a payment provider host
+     *
+     * @param uri url of the asset
+     * @param maxBytes size limit of the asset
+     * @return content of the asset
+     * @throws IOException when the asset could not be downloaded or exceeds the size limit
+     * @throws InterruptedException when interrupted while waiting for the host
+     */
+    protected byte[] download(final URI uri, final int maxBytes) throws IOException, InterruptedException {
+        if (!"https".equalsIgnoreCase(uri.getScheme()) && !"http".equalsIgnoreCase(uri.getScheme())) {
+            throw new IOException("Unsupported asset url " + uri);
+        }
+        final HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(getConfiguration().getLong(TIMEOUT_MS, 5000L)))
+                .GET()
+                .build();
+        final HttpResponse<InputStream> response = getHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Asset answered with status " + response.statusCode());
+            }
+            final byte[] content = body.readNBytes(maxBytes + 1);
+            if (content.length > maxBytes) {
+                throw new IOException("Asset exceeds " + maxBytes + " bytes");
+            }
+            return content;
+        }
+    }
+
+    /**
+     * evict the least recently served files until the cache fits, keeping the newest file
+     */
+    private void evict(final Path directory, final long maxBytes) {
+        final long now = System.currentTimeMillis();
+        final Iterator<Map.Entry<String, Long>> eldest = files.entrySet().iterator();
+        while (cachedBytes > maxBytes && files.size() > 1 && eldest.hasNext()) {
+            final Map.Entry<String, Long> entry = eldest.next();
+            eldest.remove();
+            cachedBytes -= entry.getValue();
+            verified.remove(entry.getKey());
+            retired.put(entry.getKey(), now);
+            evictions.increment();
+        }
+        deleteRetired(directory, now - getConfiguration().getLong(EVICT_GRACE_MS, 60000L));
+    }
+
+    /**
+     * delete the files evicted before the grace period, a response may still be reading a file evicted after it
+     */
+    private void deleteRetired(final Path directory, final long evictedBefore) {
+        final Iterator<Map.Entry<String, Long>> eldest = retired.entrySet().iterator();
+        while (eldest.hasNext()) {
+            final Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getValue() > evictedBefore) {
+                return;
+            }
+            eldest.remove();
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey()));
+            } catch (final IOException e) {
+                LOGGER.warn("Evicted OPF asset [{}] could not be deleted", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * the configured cache directory, indexing the files left by an earlier run when it changed
+     */
+    private Path getCacheDirectory() {
+        final Path directory = Paths.get(getConfiguration().getString(CACHE_DIR,
+                Paths.get(System.getProperty("java.io.tmpdir"), "opfassets").toString()));
+        synchronized (files) {
+            if (directory.equals(indexedDirectory)) {
+                return directory;
+            }
+            files.clear();
+            verified.clear();
+            retired.clear();
+            cachedBytes = 0L;
+            try {
+                Files.createDirectories(directory);
+                try (Stream<Path> existing = Files.list(directory)) {
+                    existing.filter(Files::isRegularFile)
+                            .sorted(Comparator.comparing(DefaultOPFAssetProxyService::lastModified))
+                            .forEach(this::index);
+                }
+            } catch (final IOException | UncheckedIOException e) {
+                throw new IllegalStateException("OPF asset cache directory " + directory + " is not usable", e);
+            }
+            indexedDirectory = directory;
+            return directory;
+        }
+    }
+
+    private void index(final Path file) {
+        try {
+            final String fileName = file.getFileName().toString();
+            if (fileName.endsWith(TEMP_SUFFIX)) {
+                Files.deleteIfExists(file);
+            } else {
+                final long size = Files.size(file);
+                files.put(fileName, size);
+                cachedBytes += size;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpClient getHttpClient() {
+        if (httpClient == null) {
+            synchronized (this) {
+                if (httpClient == null) {
+                    httpClient = HttpClient.newBuilder()
+                            .connectTimeout(Duration.ofMillis(getConfiguration().getLong(TIMEOUT_MS, 5000L)))
+                            // a redirect could leave the configured hosts, it fails the download instead
+                            .followRedirects(HttpClient.Redirect.NEVER)
+                            .build();
+                }
+            }
+        }
+        return httpClient;
+    }
+
+    private boolean isEnabled() {
+        final Configuration configuration = getConfiguration();
+        return configuration.getBoolean(ENABLED, false) && StringUtils.isNotBlank(configuration.getString(SECRET, null));
+    }
+
+    private boolean isProxiedHost(final String url) {
+        final URI uri;
+        try {
+            uri = URI.create(StringUtils.defaultString(url));
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+        if (!"https".equalsIgnoreCase(uri.getScheme()) && !"http".equalsIgnoreCase(uri.getScheme())
+                || uri.getHost() == null) {
+            return false;
+        }
+        final Set<String> hosts = Arrays.stream(StringUtils.split(getConfiguration().getString(HOSTS, ""), ','))
+                .map(String::trim).filter(StringUtils::isNotEmpty).map(host -> host.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        return hosts.contains(uri.getHost().toLowerCase(Locale.ROOT));
+    }
+
+    private String sign(final String sri, final String src, final OPFAssetType type) {
+        try {
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(getConfiguration().getString(SECRET).getBytes(StandardCharsets.UTF_8),
+                    HMAC_ALGORITHM));
+            final byte[] signature = mac.doFinal(String.join("\n", type.getExtension(), sri, src)
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+        }
+    }
+
+    /**
+     * the digests of the strongest supported algorithm of an integrity value such as {@code sha384-<base64>}
+     */
+    private static Map<String, List<byte[]>> getIntegrityDigests(final String sri) {
+        final Map<String, List<byte[]>> digests = new LinkedHashMap<>();
+        for (final String hash : StringUtils.split(StringUtils.defaultString(sri))) {
+            final int separator = hash.indexOf('-');
+            final String algorithm = separator > 0 ? hash.substring(0, separator).toLowerCase(Locale.ROOT) : "";
+            if (!INTEGRITY_ALGORITHMS.contains(algorithm)) {
+                continue;
+            }
+            try {
+                // options after '?' are ignored, as by the browser
+                final byte[] digest = Base64.getDecoder().decode(StringUtils.substringBefore(hash.substring(separator + 1), "?"));
+                digests.computeIfAbsent(algorithm, key -> new ArrayList<>()).add(digest);
+            } catch (final IllegalArgumentException e) {
+                LOGGER.debug("Invalid integrity hash [{}]", hash);
+            }
+        }
+        return digests.keySet().stream().max(Comparator.comparingInt(INTEGRITY_ALGORITHMS::indexOf))
+                .map(strongest -> Map.of(strongest, digests.get(strongest)))
+                .orElse(Map.of());
+    }
+
+    private static boolean matchesIntegrity(final byte[] content, final Map<String, List<byte[]>> digests) {
+        return digests.entrySet().stream().anyMatch(entry -> {
+            final byte[] actual = digest(entry.getKey().replace("sha", "SHA-"), content);
+            return entry.getValue().stream().anyMatch(expected -> MessageDigest.isEqual(expected, actual));
+        });
+    }
+
+    private static String getFileName(final String sri, final OPFAssetType type) {
+        return HexFormat.of().formatHex(digest("SHA-256", sri.trim().getBytes(StandardCharsets.UTF_8))) + "."
+                + type.getExtension();
+    }
+
+    private static byte[] digest(final String algorithm, final byte[] content) {
+        try {
+            return MessageDigest.getInstance(algorithm).digest(content);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(algorithm + " not available", e);
+        }
+    }
+
+    private Configuration getConfiguration() {
+        return configurationService.getConfiguration();
+    }
+
+    @Override
+    public OPFAssetProxyStatsData getAssetProxyStats() {
+        final OPFAssetProxyStatsData stats = new OPFAssetProxyStatsData();
+        stats.setEnabled(isEnabled());
+        synchronized (files) {
+            stats.setFiles(files.size());
+            stats.setBytes(cachedBytes);
+        }
+        stats.setHits(hits.sum());
+        stats.setDownloads(downloaded.sum());
+        stats.setFailures(failures.sum());
+        stats.setIntegrityFailures(integrityFailures.sum());
+        stats.setEvictions(evictions.sum());
+        return stats;
+    }
+}
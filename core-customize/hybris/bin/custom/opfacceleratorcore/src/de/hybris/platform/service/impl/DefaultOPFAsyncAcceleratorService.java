@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.cta.request.OPFPaymentCTARequest;
+import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.opf.data.OPFInitiatePaymentSessionRequestData;
+import de.hybris.platform.opf.data.OPFPaymentSubmitCompleteRequestData;
+import de.hybris.platform.opf.data.request.OPFApplePayRequest;
+import de.hybris.platform.opf.data.request.OPFPaymentSubmitRequest;
+import de.hybris.platform.opf.data.response.OPFApplePayResponse;
+import de.hybris.platform.opf.data.response.OPFPaymentSubmitResponse;
+import de.hybris.platform.opf.dto.OPFInitiatePaymentSessionResponse;
+import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
+import de.hybris.platform.opf.dto.OPFPaymentVerifyRequest;
+import de.hybris.platform.opf.dto.OPFPaymentVerifyResponse;
+import de.hybris.platform.service.OPFAcceleratorService;
+import de.hybris.platform.service.OPFAsyncAcceleratorService;
+import de.hybris.platform.util.OPFSessionContextUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Open Payment Framework Accelerator SDK asynchronous Service Impl. Delegates to the blocking
+ * {@link OPFAcceleratorService} on the bounded OPF gateway executor, carrying a copy of the caller's session context over.
+ */
+public class DefaultOPFAsyncAcceleratorService implements OPFAsyncAcceleratorService {
+
+    private final OPFAcceleratorService opfAcceleratorService;
+    private final ExecutorService opfGatewayExecutor;
+
+    /**
+     * Constructor for DefaultOPFAsyncAcceleratorService
+     *
+     * @param opfAcceleratorService blocking accelerator service
+     * @param opfGatewayExecutor executor running the gateway calls
+     */
+    public DefaultOPFAsyncAcceleratorService(final OPFAcceleratorService opfAcceleratorService,
+            final ExecutorService opfGatewayExecutor) {
+        this.opfAcceleratorService = opfAcceleratorService;
+        this.opfGatewayExecutor = opfGatewayExecutor;
+    }
+
+    @Override
+    public CompletableFuture<OPFPaymentCTAResponse> getCTAResponse(final OPFPaymentCTARequest request) {
+        return supplyAsync(() -> opfAcceleratorService.getCTAResponse(request));
+    }
+
+    @Override
+    public CompletableFuture<OPFActiveConfigResponse> getActiveConfigurations() {
+        return supplyAsync(opfAcceleratorService::getActiveConfigurations);
+    }
+
+    @Override
+    public CompletableFuture<OPFInitiatePaymentSessionResponse> getInitiatePaymentResponse(
+            final OPFInitiatePaymentSessionRequestData paymentRequest) {
+        return supplyAsync(() -> opfAcceleratorService.getInitiatePaymentResponse(paymentRequest));
+    }
+
+    @Override
+    public CompletableFuture<OPFPaymentSubmitResponse> submitPayment(final OPFPaymentSubmitRequest opfPaymentSubmitRequest,
+            final boolean isQuickBuy) {
+        return supplyAsync(() -> opfAcceleratorService.submitPayment(opfPaymentSubmitRequest, isQuickBuy));
+    }
+
+    @Override
+    public CompletableFuture<OPFPaymentVerifyResponse> verifyPayment(final OPFPaymentVerifyRequest opfPaymentVerifyRequest) {
+        return supplyAsync(() -> opfAcceleratorService.verifyPayment(opfPaymentVerifyRequest));
+    }
+
+    @Override
+    public CompletableFuture<OPFPaymentSubmitCompleteResponse> getCompletedPaymentResponse(
+            final OPFPaymentSubmitCompleteRequestData paymentRequest) {
+        return supplyAsync(() -> opfAcceleratorService.getCompletedPaymentResponse(paymentRequest));
+    }
+
+    @Override
+    public CompletableFuture<OPFApplePayResponse> getApplePayWebSession(final OPFApplePayRequest request) {
+        return supplyAsync(() -> opfAcceleratorService.getApplePayWebSession(request));
+    }
+
+    /**
+     * run the gateway call on the OPF executor; a saturated executor yields a failed future instead of an exception
+     *
+     * @param call gateway call
+     * @param <T> response type
+     * @return {@link CompletableFuture}
+     */
+    protected <T> CompletableFuture<T> supplyAsync(final Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(OPFSessionContextUtil.withCurrentSessionContext(call), opfGatewayExecutor);
+        } catch (final RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    protected ExecutorService getOpfGatewayExecutor() {
+        return opfGatewayExecutor;
+    }
+}
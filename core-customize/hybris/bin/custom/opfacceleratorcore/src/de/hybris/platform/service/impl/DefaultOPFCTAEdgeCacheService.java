@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.service.OPFCTAEdgeCacheService;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Edge caching of the CTA script renderings driven by the {@code opf.cta.edge.*} properties. Anonymous renderings are
+ * sent with public max-age and s-maxage, renderings of logged-in customers with private max-age so shared caches never
+ * store them. Redirects to the canonical url are temporary and only kept for
+ * {@code opf.cta.edge.redirect.max-age.seconds}, so a changed canonical form is picked up quickly.
+ */
+public class DefaultOPFCTAEdgeCacheService implements OPFCTAEdgeCacheService {
+
+    private static final String CTA_EDGE_MAX_AGE = "opf.cta.edge.max-age.seconds";
+    private static final String CTA_EDGE_S_MAX_AGE = "opf.cta.edge.s-maxage.seconds";
+    private static final String CTA_EDGE_REDIRECT_MAX_AGE = "opf.cta.edge.redirect.max-age.seconds";
+
+    private final ConfigurationService configurationService;
+
+    /**
+     * Constructor for DefaultOPFCTAEdgeCacheService
+     *
+     * @param configurationService configurationService
+     */
+    public DefaultOPFCTAEdgeCacheService(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public String getCanonicalQuery(final Map<String, String> parameters) {
+        return new TreeMap<>(parameters).entrySet().stream()
+                .map(parameter -> parameter.getKey() + "=" + encodeQueryValue(parameter.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    @Override
+    public ResponseEntity<byte[]> createRedirect(final String path, final String canonicalQuery, final boolean anonymous) {
+        final long maxAge = configurationService.getConfiguration().getLong(CTA_EDGE_REDIRECT_MAX_AGE, 60L);
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(path + "?" + canonicalQuery))
+                .cacheControl(anonymous
+                        ? CacheControl.maxAge(maxAge, TimeUnit.SECONDS).sMaxAge(maxAge, TimeUnit.SECONDS).cachePublic()
+                        : CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePrivate())
+                .build();
+    }
+
+    @Override
+    public ResponseEntity<byte[]> createResponse(final byte[] body, final boolean cacheable, final String ifNoneMatch,
+            final boolean anonymous) {
+        if (!cacheable) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+        }
+        final CacheControl cacheControl = createCacheControl(anonymous);
+        final String eTag = createETag(body);
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .eTag(eTag)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(eTag)
+                .body(body);
+    }
+
+    protected CacheControl createCacheControl(final boolean anonymous) {
+        final Configuration configuration = configurationService.getConfiguration();
+        final CacheControl cacheControl = CacheControl.maxAge(configuration.getLong(CTA_EDGE_MAX_AGE, 60L), TimeUnit.SECONDS);
+        if (!anonymous) {
+            return cacheControl.cachePrivate();
+        }
+        return cacheControl.sMaxAge(configuration.getLong(CTA_EDGE_S_MAX_AGE, 300L), TimeUnit.SECONDS).cachePublic();
+    }
+
+    /**
+     * encode like encodeURIComponent of the storefront, which builds the canonical query
+     */
+    private static String encodeQueryValue(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20").replace("%21", "!")
+                .replace("%27", "'").replace("%28", "(").replace("%29", ")").replace("%7E", "~");
+    }
+
+    private static String createETag(final byte[] body) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            // weak, the representation may be compressed on the way
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static boolean matchesETag(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        final String opaqueTag = eTag.substring(2);
+        return Arrays.stream(ifNoneMatch.split(",")).map(String::trim)
+                .anyMatch(tag -> "*".equals(tag) || opaqueTag.equals(tag.startsWith("W/") ? tag.substring(2) : tag));
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.cta.request.OPFPaymentCTAProductItems;
+import de.hybris.platform.cta.request.OPFPaymentCTARequest;
+import de.hybris.platform.cta.response.OPFPaymentCTAAttributes;
+import de.hybris.platform.cta.response.OPFPaymentCTADynamicScript;
+import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.cta.response.OPFPaymentCTAUrlsData;
+import de.hybris.platform.cta.response.OPFPaymentCTAValue;
+import de.hybris.platform.opf.data.OPFCTAResponseCacheStatsData;
+import de.hybris.platform.service.OPFCTAResponseCache;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded cache of the CTA scripts keyed by base site, payment accounts, script locations, the additional data such as
+ * locale and currency, and a fingerprint of the product items that ignores their order. Scripts younger than
+ * {@code opf.cta.cache.ttl.ms} are served as is, the least recently used key is evicted when
+ * {@code opf.cta.cache.max.entries} is exceeded.
+ * <p>
+ * The storefront sends a new {@code scriptIdentifier} with every request, which the gateway writes into the scripts.
+ * On a miss the gateway is therefore called with a unique placeholder instead, and the placeholder is replaced by the
+ * identifier of each request the scripts are served to.
+ */
+public class DefaultOPFCTAResponseCache implements OPFCTAResponseCache {
+
+    static final String SCRIPT_IDENTIFIER = "scriptIdentifier";
+
+    private static final String ENABLED = "opf.cta.cache.enabled";
+    private static final String TTL_MS = "opf.cta.cache.ttl.ms";
+    private static final String MAX_ENTRIES = "opf.cta.cache.max.entries";
+    private static final String PLACEHOLDER_PREFIX = "opfcta";
+
+    private final ConfigurationService configurationService;
+    private final Map<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<CacheKey, Entry> eldest) {
+            final boolean full = size() > configurationService.getConfiguration().getInt(MAX_ENTRIES, 2000);
+            if (full) {
+                evictions.increment();
+            }
+            return full;
+        }
+    };
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor for DefaultOPFCTAResponseCache
+     *
+     * @param configurationService configurationService
+     */
+    public DefaultOPFCTAResponseCache(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public OPFPaymentCTAResponse get(final OPFConfig config, final OPFPaymentCTARequest request,
+            final Function<OPFPaymentCTARequest, OPFPaymentCTAResponse> loader) {
+        final Configuration configuration = configurationService.getConfiguration();
+        if (!configuration.getBoolean(ENABLED, true)) {
+            return loader.apply(request);
+        }
+        final String scriptIdentifier = getScriptIdentifier(request);
+        final CacheKey key = createKey(config, request, scriptIdentifier != null);
+        final long now = currentTimeMillis();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && now - entry.loadedAt() < configuration.getLong(TTL_MS, 300_000L)) {
+            hits.increment();
+            return entry.render(scriptIdentifier);
+        }
+        misses.increment();
+
+        final String placeholder = scriptIdentifier == null ? null
+                : PLACEHOLDER_PREFIX + UUID.randomUUID().toString().replace("-", "");
+        final OPFPaymentCTAResponse response = loader.apply(
+                placeholder == null ? request : withScriptIdentifier(request, placeholder));
+        entry = new Entry(response, placeholder, placeholder != null && contains(response, placeholder), now);
+        if (isCacheable(response)) {
+            synchronized (entries) {
+                entries.put(key, entry);
+            }
+        }
+        return entry.render(scriptIdentifier);
+    }
+
+    @Override
+    public void invalidate() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public void invalidate(final String siteUid) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.siteUid().equals(StringUtils.defaultString(siteUid)));
+        }
+    }
+
+    @Override
+    public OPFCTAResponseCacheStatsData getCTAResponseCacheStats() {
+        final OPFCTAResponseCacheStatsData stats = new OPFCTAResponseCacheStatsData();
+        stats.setEnabled(configurationService.getConfiguration().getBoolean(ENABLED, true));
+        synchronized (entries) {
+            stats.setSize(entries.size());
+        }
+        final long hitCount = hits.sum();
+        final long missCount = misses.sum();
+        stats.setHits(hitCount);
+        stats.setMisses(missCount);
+        stats.setEvictions(evictions.sum());
+        stats.setHitRatio(hitCount + missCount == 0 ? 0.0d : (double) hitCount / (hitCount + missCount));
+        return stats;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * scripts are cached only when the gateway rendered some, an empty answer may come from a failure fallback
+     */
+    protected boolean isCacheable(final OPFPaymentCTAResponse response) {
+        return response != null && CollectionUtils.isNotEmpty(response.getValue())
+                && response.getValue().stream().allMatch(value -> value != null && value.getDynamicScript() != null);
+    }
+
+    private static CacheKey createKey(final OPFConfig config, final OPFPaymentCTARequest request,
+            final boolean identified) {
+        final Map<String, String> additionalData = new TreeMap<>();
+        for (final OPFPaymentCTAAttributes attribute : CollectionUtils.emptyIfNull(request.getAdditionalData())) {
+            if (attribute != null && attribute.getKey() != null && !SCRIPT_IDENTIFIER.equals(attribute.getKey())) {
+                additionalData.put(attribute.getKey(), StringUtils.defaultString(attribute.getValue()));
+            }
+        }
+        return new CacheKey(StringUtils.defaultString(config.getSiteUid()), config.getBaseUrl() + config.getCtaUrl(),
+                CollectionUtils.emptyIfNull(request.getAccountIds()).stream().filter(Objects::nonNull).toList(),
+                CollectionUtils.emptyIfNull(request.getScriptLocations()).stream().filter(Objects::nonNull).toList(),
+                additionalData, getProductFingerprint(request.getCtaProductItems()), identified);
+    }
+
+    /**
+     * hash of the product items with the quantities of each product summed up, in product order
+     */
+    static String getProductFingerprint(final List<OPFPaymentCTAProductItems> productItems) {
+        final Map<String, Long> quantities = new TreeMap<>();
+        for (final OPFPaymentCTAProductItems item : CollectionUtils.emptyIfNull(productItems)) {
+            if (item != null && item.getProductId() != null) {
+                quantities.merge(item.getProductId(), item.getQuantity() == null ? 0L : item.getQuantity(), Long::sum);
+            }
+        }
+        final StringBuilder normalized = new StringBuilder();
+        quantities.forEach((productId, quantity) -> normalized.append(productId).append('\u0000').append(quantity).append('\n'));
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(normalized.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String getScriptIdentifier(final OPFPaymentCTARequest request) {
+        return CollectionUtils.emptyIfNull(request.getAdditionalData()).stream()
+                .filter(attribute -> attribute != null && SCRIPT_IDENTIFIER.equals(attribute.getKey()))
+                .map(OPFPaymentCTAAttributes::getValue)
+                .filter(StringUtils::isNotEmpty)
+                .findFirst().orElse(null);
+    }
+
+    private static OPFPaymentCTARequest withScriptIdentifier(final OPFPaymentCTARequest request, final String scriptIdentifier) {
+        final OPFPaymentCTARequest copy = new OPFPaymentCTARequest();
+        copy.setAccountIds(request.getAccountIds());
+        copy.setScriptLocations(request.getScriptLocations());
+        copy.setCtaProductItems(request.getCtaProductItems());
+        copy.setAdditionalData(request.getAdditionalData().stream().map(attribute -> {
+            if (attribute == null || !SCRIPT_IDENTIFIER.equals(attribute.getKey())) {
+                return attribute;
+            }
+            final OPFPaymentCTAAttributes identifier = new OPFPaymentCTAAttributes();
+            identifier.setKey(SCRIPT_IDENTIFIER);
+            identifier.setValue(scriptIdentifier);
+            return identifier;
+        }).toList());
+        return copy;
+    }
+
+    private static boolean contains(final OPFPaymentCTAResponse response, final String placeholder) {
+        final AtomicBoolean found = new AtomicBoolean();
+        copy(response, value -> {
+            if (value.contains(placeholder)) {
+                found.set(true);
+            }
+            return value;
+        });
+        return found.get();
+    }
+
+    /**
+     * copy the response, mapping every text the gateway rendered
+     */
+    private static OPFPaymentCTAResponse copy(final OPFPaymentCTAResponse response, final UnaryOperator<String> text) {
+        if (response == null) {
+            return null;
+        }
+        final UnaryOperator<String> nullSafe = value -> value == null ? null : text.apply(value);
+        final OPFPaymentCTAResponse copy = new OPFPaymentCTAResponse();
+        copy.setValue(response.getValue() == null ? null : response.getValue().stream().map(value -> {
+            if (value == null) {
+                return null;
+            }
+            final OPFPaymentCTAValue valueCopy = new OPFPaymentCTAValue();
+            valueCopy.setAccountId(value.getAccountId());
+            final OPFPaymentCTADynamicScript script = value.getDynamicScript();
+            if (script != null) {
+                final OPFPaymentCTADynamicScript scriptCopy = new OPFPaymentCTADynamicScript();
+                scriptCopy.setHtml(nullSafe.apply(script.getHtml()));
+                scriptCopy.setCssUrls(copyUrls(script.getCssUrls(), nullSafe));
+                scriptCopy.setJsUrls(copyUrls(script.getJsUrls(), nullSafe));
+                valueCopy.setDynamicScript(scriptCopy);
+            }
+            return valueCopy;
+        }).toList());
+        return copy;
+    }
+
+    private static List<OPFPaymentCTAUrlsData> copyUrls(final List<OPFPaymentCTAUrlsData> urls, final UnaryOperator<String> text) {
+        if (urls == null) {
+            return null;
+        }
+        return urls.stream().map(url -> {
+            if (url == null) {
+                return null;
+            }
+            final OPFPaymentCTAUrlsData urlCopy = new OPFPaymentCTAUrlsData();
+            urlCopy.setUrl(text.apply(url.getUrl()));
+            urlCopy.setSri(url.getSri());
+            urlCopy.setAttributes(url.getAttributes() == null ? null : url.getAttributes().stream().map(attribute -> {
+                if (attribute == null) {
+                    return null;
+                }
+                final OPFPaymentCTAAttributes attributeCopy = new OPFPaymentCTAAttributes();
+                attributeCopy.setKey(attribute.getKey());
+                attributeCopy.setValue(text.apply(attribute.getValue()));
+                return attributeCopy;
+            }).toList());
+            return urlCopy;
+        }).toList();
+    }
+
+    private record CacheKey(String siteUid, String url, List<String> accountIds, List<String> scriptLocations,
+            Map<String, String> additionalData, String productFingerprint, boolean identified) {
+    }
+
+    /**
+     * scripts as rendered for the placeholder, copied for every request when the gateway wrote the placeholder into them
+     */
+    private record Entry(OPFPaymentCTAResponse response, String placeholder, boolean templated, long loadedAt) {
+
+        private OPFPaymentCTAResponse render(final String scriptIdentifier) {
+            return templated ? copy(response, value -> value.replace(placeholder, scriptIdentifier)) : response;
+        }
+    }
+}
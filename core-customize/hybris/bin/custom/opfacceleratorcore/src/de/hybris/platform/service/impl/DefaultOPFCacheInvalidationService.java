@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.client.OPFAccessTokenManager;
+import de.hybris.platform.client.impl.OPFSecurityCredentialsStore;
+import de.hybris.platform.event.OPFCacheInvalidationEvent;
+import de.hybris.platform.opf.data.OPFCacheInvalidationStatsData;
+import de.hybris.platform.service.OPFActiveConfigCache;
+import de.hybris.platform.service.OPFCTAResponseCache;
+import de.hybris.platform.service.OPFCacheInvalidationService;
+import de.hybris.platform.service.OPFCacheRegion;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.servicelayer.event.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes invalidations as cluster aware {@link OPFCacheInvalidationEvent}s and applies the received ones to the
+ * caches of this node. The ids of the last applied invalidations are remembered, so an invalidation delivered more than
+ * once, e.g. by the local publication and the cluster broadcast, is applied once.
+ */
+public class DefaultOPFCacheInvalidationService implements OPFCacheInvalidationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFCacheInvalidationService.class);
+
+    private static final int REMEMBERED_INVALIDATIONS = 1024;
+
+    private final EventService eventService;
+    private final OPFConfigService opfConfigService;
+    private final OPFActiveConfigCache opfActiveConfigCache;
+    private final OPFAccessTokenManager opfAccessTokenManager;
+    private OPFSecurityCredentialsStore securityCredentialsStore;
+    private OPFCTAResponseCache opfCTAResponseCache;
+    private final Map<String, Long> appliedInvalidations = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Long> eldest) {
+            return size() > REMEMBERED_INVALIDATIONS;
+        }
+    };
+    private final LongAdder published = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private volatile String lastInvalidationId;
+    private volatile long lastAppliedAt;
+
+    /**
+     * Constructor for DefaultOPFCacheInvalidationService
+     *
+     * @param eventService eventService
+     * @param opfConfigService opfConfigService
+     * @param opfActiveConfigCache opfActiveConfigCache
+     * @param opfAccessTokenManager opfAccessTokenManager
+     */
+    public DefaultOPFCacheInvalidationService(final EventService eventService, final OPFConfigService opfConfigService,
+            final OPFActiveConfigCache opfActiveConfigCache, final OPFAccessTokenManager opfAccessTokenManager) {
+        this.eventService = eventService;
+        this.opfConfigService = opfConfigService;
+        this.opfActiveConfigCache = opfActiveConfigCache;
+        this.opfAccessTokenManager = opfAccessTokenManager;
+    }
+
+    @Override
+    public String invalidateClusterWide(final String siteUid, final Set<OPFCacheRegion> regions) {
+        final String invalidationId = UUID.randomUUID().toString();
+        LOGGER.info("Publishing OPF cache invalidation [{}] of {} for site [{}]", invalidationId, regions,
+                siteUid == null ? "*" : siteUid);
+        eventService.publishEvent(new OPFCacheInvalidationEvent(invalidationId, siteUid, regions));
+        published.increment();
+        return invalidationId;
+    }
+
+    @Override
+    public boolean applyInvalidation(final String invalidationId, final String siteUid, final Set<OPFCacheRegion> regions) {
+        synchronized (appliedInvalidations) {
+            if (appliedInvalidations.putIfAbsent(invalidationId, System.currentTimeMillis()) != null) {
+                duplicates.increment();
+                LOGGER.debug("OPF cache invalidation [{}] already applied", invalidationId);
+                return false;
+            }
+        }
+        if (regions.contains(OPFCacheRegion.CONFIGURATION)) {
+            opfConfigService.invalidate();
+        }
+        if (regions.contains(OPFCacheRegion.ACTIVE_CONFIGURATIONS)) {
+            if (siteUid == null) {
+                opfActiveConfigCache.invalidate();
+            } else {
+                opfActiveConfigCache.invalidate(siteUid);
+            }
+        }
+        if (regions.contains(OPFCacheRegion.CTA_SCRIPTS) && opfCTAResponseCache != null) {
+            if (siteUid == null) {
+                opfCTAResponseCache.invalidate();
+            } else {
+                opfCTAResponseCache.invalidate(siteUid);
+            }
+        }
+        if (regions.contains(OPFCacheRegion.CREDENTIALS) && securityCredentialsStore != null) {
+            securityCredentialsStore.reload();
+        }
+        if (regions.contains(OPFCacheRegion.ACCESS_TOKENS)) {
+            opfAccessTokenManager.invalidateAll();
+        }
+        applied.increment();
+        lastInvalidationId = invalidationId;
+        lastAppliedAt = System.currentTimeMillis();
+        LOGGER.info("OPF cache invalidation [{}] of {} applied", invalidationId, regions);
+        return true;
+    }
+
+    @Override
+    public OPFCacheInvalidationStatsData getCacheInvalidationStats() {
+        final OPFCacheInvalidationStatsData stats = new OPFCacheInvalidationStatsData();
+        stats.setPublished(published.sum());
+        stats.setApplied(applied.sum());
+        stats.setDuplicates(duplicates.sum());
+        stats.setLastInvalidationId(lastInvalidationId);
+        stats.setLastAppliedAt(lastAppliedAt);
+        return stats;
+    }
+
+    public void setSecurityCredentialsStore(final OPFSecurityCredentialsStore securityCredentialsStore) {
+        this.securityCredentialsStore = securityCredentialsStore;
+    }
+
+    public void setOpfCTAResponseCache(final OPFCTAResponseCache opfCTAResponseCache) {
+        this.opfCTAResponseCache = opfCTAResponseCache;
+    }
+}
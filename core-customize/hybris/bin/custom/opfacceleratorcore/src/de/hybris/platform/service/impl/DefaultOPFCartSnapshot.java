@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.commercefacades.order.CartFacade;
+import de.hybris.platform.commercefacades.order.CheckoutFacade;
+import de.hybris.platform.commercefacades.order.data.AbstractOrderData;
+import de.hybris.platform.commercefacades.order.data.CartData;
+import de.hybris.platform.opf.data.OPFCartSnapshotStatsData;
+import de.hybris.platform.opf.data.OPFOrderData;
+import de.hybris.platform.service.OPFCartSnapshot;
+import de.hybris.platform.servicelayer.dto.converter.Converter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the conversions in an attribute of the current request. Worker threads of the gateway executor see no request
+ * and convert on every call.
+ */
+public class DefaultOPFCartSnapshot implements OPFCartSnapshot {
+
+    private static final String SNAPSHOT_ATTRIBUTE = DefaultOPFCartSnapshot.class.getName() + ".snapshot";
+    private static final String SESSION_CART = "sessionCart";
+    private static final String CHECKOUT_CART = "checkoutCart";
+    private static final String ORDER = "order";
+
+    private final CartFacade cartFacade;
+    private final CheckoutFacade checkoutFacade;
+    private final Converter<AbstractOrderData, OPFOrderData> opfPaymentOrderConverter;
+    private final LongAdder totalConversions = new LongAdder();
+    private final LongAdder totalHits = new LongAdder();
+    private final LongAdder totalInvalidations = new LongAdder();
+
+    /**
+     * Constructor for DefaultOPFCartSnapshot
+     *
+     * @param cartFacade facade of the session cart
+     * @param checkoutFacade facade of the checkout cart
+     * @param opfPaymentOrderConverter converter of the OPF order
+     */
+    public DefaultOPFCartSnapshot(final CartFacade cartFacade, final CheckoutFacade checkoutFacade,
+            final Converter<AbstractOrderData, OPFOrderData> opfPaymentOrderConverter) {
+        this.cartFacade = cartFacade;
+        this.checkoutFacade = checkoutFacade;
+        this.opfPaymentOrderConverter = opfPaymentOrderConverter;
+    }
+
+    @Override
+    public CartData getSessionCart() {
+        return get(SESSION_CART, cartFacade::getSessionCart);
+    }
+
+    @Override
+    public CartData getCheckoutCart() {
+        return get(CHECKOUT_CART, checkoutFacade::getCheckoutCart);
+    }
+
+    @Override
+    public OPFOrderData getOrder() {
+        return get(ORDER, () -> opfPaymentOrderConverter.convert(getSessionCart()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String name, final Supplier<T> conversion) {
+        final RequestSnapshot snapshot = getRequestSnapshot(true);
+        if (snapshot == null) {
+            totalConversions.increment();
+            return conversion.get();
+        }
+        final Object value = snapshot.values.get(name);
+        if (value != null) {
+            snapshot.hits++;
+            totalHits.increment();
+            return (T) value;
+        }
+        final int generation = snapshot.generation;
+        final T converted = conversion.get();
+        snapshot.conversions++;
+        totalConversions.increment();
+        // a conversion that saved the cart, e.g. by creating it, is not kept
+        if (converted != null && generation == snapshot.generation) {
+            snapshot.values.put(name, converted);
+        }
+        return converted;
+    }
+
+    @Override
+    public void invalidate() {
+        final RequestSnapshot snapshot = getRequestSnapshot(false);
+        if (snapshot == null) {
+            return;
+        }
+        snapshot.generation++;
+        if (!snapshot.values.isEmpty()) {
+            snapshot.values.clear();
+            snapshot.invalidations++;
+            totalInvalidations.increment();
+        }
+    }
+
+    @Override
+    public OPFCartSnapshotStatsData getSnapshotStats() {
+        final OPFCartSnapshotStatsData stats = new OPFCartSnapshotStatsData();
+        final RequestSnapshot snapshot = getRequestSnapshot(false);
+        if (snapshot != null) {
+            stats.setConversions(snapshot.conversions);
+            stats.setHits(snapshot.hits);
+            stats.setInvalidations(snapshot.invalidations);
+        }
+        stats.setTotalConversions(totalConversions.sum());
+        stats.setTotalHits(totalHits.sum());
+        stats.setTotalInvalidations(totalInvalidations.sum());
+        return stats;
+    }
+
+    private static RequestSnapshot getRequestSnapshot(final boolean create) {
+        final RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return null;
+        }
+        RequestSnapshot snapshot = (RequestSnapshot) request.getAttribute(SNAPSHOT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (snapshot == null && create) {
+            snapshot = new RequestSnapshot();
+            request.setAttribute(SNAPSHOT_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot;
+    }
+
+    /**
+     * conversions and counters of one request, only used by the request thread
+     */
+    private static final class RequestSnapshot {
+        private final Map<String, Object> values = new HashMap<>();
+        private int generation;
+        private long conversions;
+        private long hits;
+        private long invalidations;
+    }
+}
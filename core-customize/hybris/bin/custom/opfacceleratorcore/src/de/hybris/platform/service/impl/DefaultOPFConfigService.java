@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.basecommerce.model.site.BaseSiteModel;
+import de.hybris.platform.constants.OpfacceleratorcoreConstants;
+import de.hybris.platform.core.Registry;
+import de.hybris.platform.core.Tenant;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.service.OPFPaymentStatusMatcher;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.site.BaseSiteService;
+import de.hybris.platform.util.config.ConfigIntf;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the {@link OPFConfig} snapshot of a base site on first use and keeps it until an {@code opf.*} property is
+ * changed, which drops all snapshots through a {@link ConfigIntf.ConfigChangeListener} on the tenant configuration.
+ */
+public class DefaultOPFConfigService implements OPFConfigService, ConfigIntf.ConfigChangeListener, InitializingBean,
+        DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFConfigService.class);
+
+    private static final String OPF_KEY_PREFIX = "opf.";
+    private static final String OPF_BASE_URL = "opf.base.url";
+    private static final String OPF_CTA_URL = "opf.cta.url";
+    private static final String OPF_ACTIVE_CONFIG_URL = "opf.active.config.url";
+    private static final String OPF_ACTIVE_CONFIG_PAGE_SIZE = "opf.active.config.pageSize";
+    private static final String OPF_ACTIVE_CONFIG_PAGE_NUMBER = "opf.active.config.pageNumber";
+    private static final String OPF_ACTIVE_CONFIG_CONFIGURATIONID = "opf.active.config.configuration.id";
+    private static final String OPF_ACTIVE_CONFIG_PAYMENT_TYPE = "opf.active.config.payment.type";
+    private static final String OPF_PAYMENT_INITIATE_URL = "opf.initiate.payment.session.url";
+    private static final String OPF_SUBMIT_URL = "opf.submit.url";
+    private static final String OPF_VERIFY_URL = "opf.verify.url";
+    private static final String OPF_SUBMIT_COMPLETE_URL = "opf.complete.payment.url";
+    private static final String OPF_PAYMENT_STATUSES = "opf.payment.statuses";
+    private static final String OPF_PROVIDER_PAYMENT_STATUSES = "opf.payment.statuses.provider";
+    private static final String OPF_APPLE_PAY_WEB_SESSION_URL = "opf.applepay.web.session.url";
+
+    private final ConfigurationService configurationService;
+    private final BaseSiteService baseSiteService;
+    private volatile Map<String, OPFConfig> configs = new ConcurrentHashMap<>();
+    private ConfigIntf tenantConfig;
+
+    /**
+     * Constructor for DefaultOPFConfigService
+     *
+     * @param configurationService configurationService
+     * @param baseSiteService baseSiteService
+     */
+    public DefaultOPFConfigService(final ConfigurationService configurationService, final BaseSiteService baseSiteService) {
+        this.configurationService = configurationService;
+        this.baseSiteService = baseSiteService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        final Tenant tenant = Registry.getCurrentTenantNoFallback();
+        if (tenant != null && tenant.getConfig() != null) {
+            tenantConfig = tenant.getConfig();
+            tenantConfig.registerConfigChangeListener(this);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (tenantConfig != null) {
+            tenantConfig.unregisterConfigChangeListener(this);
+        }
+    }
+
+    @Override
+    public void configChanged(final String key, final String newValue) {
+        if (StringUtils.startsWith(key, OPF_KEY_PREFIX)) {
+            LOGGER.debug("OPF property [{}] changed, dropping the OPF configuration snapshots", key);
+            invalidate();
+        }
+    }
+
+    @Override
+    public OPFConfig getConfig() {
+        final BaseSiteModel site = baseSiteService.getCurrentBaseSite();
+        return getConfig(site == null ? StringUtils.EMPTY : site.getUid());
+    }
+
+    @Override
+    public OPFConfig getConfig(final String siteUid) {
+        final String key = StringUtils.defaultString(siteUid);
+        final OPFConfig config = configs.get(key);
+        return config != null ? config : configs.computeIfAbsent(key, this::buildConfig);
+    }
+
+    @Override
+    public void invalidate() {
+        // a snapshot still being built lands in the dropped map
+        configs = new ConcurrentHashMap<>();
+    }
+
+    protected OPFConfig buildConfig(final String siteUid) {
+        final Configuration configuration = configurationService.getConfiguration();
+        final Map<String, String> queryParams = new HashMap<>();
+        putIfNotEmpty(queryParams, "pageSize", getValue(configuration, OPF_ACTIVE_CONFIG_PAGE_SIZE, siteUid));
+        putIfNotEmpty(queryParams, "pageNumber", getValue(configuration, OPF_ACTIVE_CONFIG_PAGE_NUMBER, siteUid));
+        putIfNotEmpty(queryParams, "configurationId", getValue(configuration, OPF_ACTIVE_CONFIG_CONFIGURATIONID, siteUid));
+        putIfNotEmpty(queryParams, "divisionId", siteUid);
+        final Map<String, OPFPaymentStatusMatcher> providerPaymentStatusMatchers = new HashMap<>();
+        final Iterator<String> providerKeys = configuration.getKeys(OPF_PROVIDER_PAYMENT_STATUSES);
+        while (providerKeys != null && providerKeys.hasNext()) {
+            final String providerKey = providerKeys.next();
+            final String provider = StringUtils.substringAfter(providerKey, OPF_PROVIDER_PAYMENT_STATUSES + ".");
+            if (StringUtils.isNotEmpty(provider)) {
+                providerPaymentStatusMatchers.put(provider,
+                        OPFPaymentStatusMatcher.compile(configuration.getString(providerKey, StringUtils.EMPTY)));
+            }
+        }
+        return OPFConfig.builder()
+                .siteUid(siteUid)
+                .baseUrl(getValue(configuration, OPF_BASE_URL, siteUid))
+                .ctaUrl(getValue(configuration, OPF_CTA_URL, siteUid))
+                .activeConfigUrl(getValue(configuration, OPF_ACTIVE_CONFIG_URL, siteUid))
+                .activeConfigQueryParams(queryParams)
+                .activeConfigPaymentType(BooleanUtils.toBoolean(getValue(configuration, OPF_ACTIVE_CONFIG_PAYMENT_TYPE, siteUid)))
+                .initiatePaymentUrl(getValue(configuration, OPF_PAYMENT_INITIATE_URL, siteUid))
+                .submitUrl(getValue(configuration, OPF_SUBMIT_URL, siteUid))
+                .verifyUrl(getValue(configuration, OPF_VERIFY_URL, siteUid))
+                .submitCompleteUrl(getValue(configuration, OPF_SUBMIT_COMPLETE_URL, siteUid))
+                .applePayWebSessionUrl(getValue(configuration, OPF_APPLE_PAY_WEB_SESSION_URL, siteUid))
+                .paymentStatusMatcher(OPFPaymentStatusMatcher.compile(getValue(configuration, OPF_PAYMENT_STATUSES, siteUid)))
+                .providerPaymentStatusMatchers(providerPaymentStatusMatchers)
+                .divisionId(getValue(configuration, OpfacceleratorcoreConstants.OPF_ACTIVE_CONFIG_DIVISION_ID, siteUid))
+                .build();
+    }
+
+    private static String getValue(final Configuration configuration, final String key, final String siteUid) {
+        if (StringUtils.isNotEmpty(siteUid)) {
+            final String siteValue = configuration.getString(key + "." + siteUid, null);
+            if (siteValue != null) {
+                return siteValue;
+            }
+        }
+        return StringUtils.defaultString(configuration.getString(key, StringUtils.EMPTY));
+    }
+
+    private static void putIfNotEmpty(final Map<String, String> map, final String key, final String value) {
+        if (StringUtils.isNotEmpty(value)) {
+            map.put(key, value);
+        }
+    }
+}
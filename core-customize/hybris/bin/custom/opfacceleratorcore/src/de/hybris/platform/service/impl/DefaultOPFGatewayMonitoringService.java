@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.client.impl.OPFEndpointConcurrencyInterceptor;
+import de.hybris.platform.client.impl.OPFPoolingClientHttpRequestFactory;
+import de.hybris.platform.client.impl.OPFVirtualThreadPinningMonitor;
+import de.hybris.platform.opf.data.OPFGatewayStatsData;
+import de.hybris.platform.service.OPFGatewayMonitoringService;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+
+import java.util.Collections;
+
+/**
+ * Reads the counters of the pooled transport, the per-endpoint concurrency caps and the pinning monitor. A collaborator
+ * that is not wired leaves its part of the stats empty. Publishing is switched on with
+ * {@code opf.monitoring.gateway.stats.enabled}.
+ */
+public class DefaultOPFGatewayMonitoringService implements OPFGatewayMonitoringService {
+
+    private static final String OPF_MONITORING_GATEWAY_STATS_ENABLED = "opf.monitoring.gateway.stats.enabled";
+
+    private final ConfigurationService configurationService;
+    private OPFPoolingClientHttpRequestFactory opfPoolingClientHttpRequestFactory;
+    private OPFEndpointConcurrencyInterceptor opfEndpointConcurrencyInterceptor;
+    private OPFVirtualThreadPinningMonitor opfVirtualThreadPinningMonitor;
+
+    /**
+     * Constructor for DefaultOPFGatewayMonitoringService
+     *
+     * @param configurationService configurationService
+     */
+    public DefaultOPFGatewayMonitoringService(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return configurationService.getConfiguration().getBoolean(OPF_MONITORING_GATEWAY_STATS_ENABLED, false);
+    }
+
+    @Override
+    public OPFGatewayStatsData getGatewayStats() {
+        final OPFGatewayStatsData stats = new OPFGatewayStatsData();
+        if (opfPoolingClientHttpRequestFactory != null) {
+            stats.setHttpPool(opfPoolingClientHttpRequestFactory.getPoolStats());
+        }
+        stats.setEndpointConcurrency(opfEndpointConcurrencyInterceptor != null
+                ? opfEndpointConcurrencyInterceptor.getEndpointStats()
+                : Collections.emptyList());
+        if (opfVirtualThreadPinningMonitor != null) {
+            stats.setVirtualThreadPinning(opfVirtualThreadPinningMonitor.getPinningStats());
+        }
+        return stats;
+    }
+
+    public void setOpfPoolingClientHttpRequestFactory(
+            final OPFPoolingClientHttpRequestFactory opfPoolingClientHttpRequestFactory) {
+        this.opfPoolingClientHttpRequestFactory = opfPoolingClientHttpRequestFactory;
+    }
+
+    public void setOpfEndpointConcurrencyInterceptor(
+            final OPFEndpointConcurrencyInterceptor opfEndpointConcurrencyInterceptor) {
+        this.opfEndpointConcurrencyInterceptor = opfEndpointConcurrencyInterceptor;
+    }
+
+    public void setOpfVirtualThreadPinningMonitor(final OPFVirtualThreadPinningMonitor opfVirtualThreadPinningMonitor) {
+        this.opfVirtualThreadPinningMonitor = opfVirtualThreadPinningMonitor;
+    }
+}
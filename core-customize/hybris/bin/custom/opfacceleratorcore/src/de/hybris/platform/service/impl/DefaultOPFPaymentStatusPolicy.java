@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.opf.dto.OPFPaymentAttribute;
+import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
+import de.hybris.platform.order.CartService;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.service.OPFPaymentStatusMatcher;
+import de.hybris.platform.service.OPFPaymentStatusPolicy;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+
+/**
+ * Matches the statuses of a submit-complete response against the {@link OPFPaymentStatusMatcher} compiled into the
+ * {@link OPFConfig} snapshot of the current base site. The payment provider is the payment option stored on the session
+ * cart; {@code opf.payment.statuses.provider.<provider>} overrides the accepted statuses for it.
+ */
+public class DefaultOPFPaymentStatusPolicy implements OPFPaymentStatusPolicy {
+
+    private static final String RESULT_CODE = "resultCode";
+
+    private final OPFConfigService opfConfigService;
+    private final CartService cartService;
+
+    /**
+     * Constructor for DefaultOPFPaymentStatusPolicy
+     *
+     * @param opfConfigService opfConfigService
+     * @param cartService cartService
+     */
+    public DefaultOPFPaymentStatusPolicy(final OPFConfigService opfConfigService, final CartService cartService) {
+        this.opfConfigService = opfConfigService;
+        this.cartService = cartService;
+    }
+
+    @Override
+    public boolean isAccepted(final OPFPaymentSubmitCompleteResponse response) {
+        return isAccepted(opfConfigService.getConfig(), getProvider(), response);
+    }
+
+    /**
+     * check both statuses of the response in a single pass over the custom fields
+     *
+     * @param config configuration snapshot
+     * @param provider payment provider, may be null
+     * @param response OPFPaymentSubmitCompleteResponse
+     * @return true when both statuses are accepted
+     */
+    protected boolean isAccepted(final OPFConfig config, final String provider,
+            final OPFPaymentSubmitCompleteResponse response) {
+        final OPFPaymentStatusMatcher matcher = config.getPaymentStatusMatcher(provider);
+        return matcher.matches(response.getStatus()) && matcher.matches(getResultCode(response.getCustomFields()));
+    }
+
+    /**
+     * @return payment option of the session cart, null without a session cart
+     */
+    protected String getProvider() {
+        return cartService.hasSessionCart() ? cartService.getSessionCart().getSapPaymentOptionId() : null;
+    }
+
+    private static String getResultCode(final List<OPFPaymentAttribute> customFields) {
+        if (customFields == null) {
+            return null;
+        }
+        // indexed loop, an iterator would be allocated per call
+        for (int i = 0; i < customFields.size(); i++) {
+            final OPFPaymentAttribute customField = customFields.get(i);
+            if (StringUtils.equalsIgnoreCase(RESULT_CODE, customField.getKey()) && customField.getValue() instanceof String) {
+                return (String) customField.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.opf.data.OPFPaymentTransactionQueueStatsData;
+import de.hybris.platform.service.OPFPaymentTransactionQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps one lane per cart: the first write of an idle cart is handed to the gateway executor, later writes of the same
+ * cart are chained behind the last one and run on the thread that finished it. A write the executor rejects runs on the
+ * calling thread, after the writes queued before it.
+ */
+public class DefaultOPFPaymentTransactionQueue implements OPFPaymentTransactionQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFPaymentTransactionQueue.class);
+
+    private final ExecutorService opfGatewayExecutor;
+    private final Map<String, CompletableFuture<Void>> lanes = new HashMap<>();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder drainWaits = new LongAdder();
+    private final LongAdder drainTimeouts = new LongAdder();
+
+    /**
+     * Constructor for DefaultOPFPaymentTransactionQueue
+     *
+     * @param opfGatewayExecutor executor of the OPF background work
+     */
+    public DefaultOPFPaymentTransactionQueue(final ExecutorService opfGatewayExecutor) {
+        this.opfGatewayExecutor = opfGatewayExecutor;
+    }
+
+    @Override
+    public CompletableFuture<Void> enqueue(final String cartCode, final Runnable write) {
+        final CompletableFuture<Void> queuedWrite = new CompletableFuture<>();
+        final CompletableFuture<Void> previous;
+        synchronized (lanes) {
+            previous = lanes.put(cartCode, queuedWrite);
+        }
+        queued.increment();
+        final Runnable task = () -> run(cartCode, write, queuedWrite);
+        if (previous != null) {
+            previous.whenComplete((result, failure) -> task.run());
+            return queuedWrite;
+        }
+        try {
+            opfGatewayExecutor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Payment transaction of cart [{}] is written on the request thread, the executor is saturated",
+                    cartCode);
+            task.run();
+        }
+        return queuedWrite;
+    }
+
+    private void run(final String cartCode, final Runnable write, final CompletableFuture<Void> queuedWrite) {
+        try {
+            write.run();
+            written.increment();
+        } catch (final RuntimeException e) {
+            failed.increment();
+            LOGGER.error("Payment transaction write of cart [{}] failed", cartCode, e);
+            queuedWrite.completeExceptionally(e);
+        } finally {
+            synchronized (lanes) {
+                lanes.remove(cartCode, queuedWrite);
+            }
+            queuedWrite.complete(null);
+        }
+    }
+
+    @Override
+    public boolean awaitDrained(final String cartCode, final long timeoutMillis) {
+        final CompletableFuture<Void> last;
+        synchronized (lanes) {
+            last = lanes.get(cartCode);
+        }
+        if (last == null) {
+            return true;
+        }
+        drainWaits.increment();
+        try {
+            last.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (final ExecutionException e) {
+            // drained, the failed write is reported by the caller's own check
+            return true;
+        } catch (final TimeoutException e) {
+            drainTimeouts.increment();
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public OPFPaymentTransactionQueueStatsData getQueueStats() {
+        final OPFPaymentTransactionQueueStatsData stats = new OPFPaymentTransactionQueueStatsData();
+        synchronized (lanes) {
+            stats.setPendingCarts(lanes.size());
+        }
+        stats.setQueued(queued.sum());
+        stats.setWritten(written.sum());
+        stats.setFailed(failed.sum());
+        stats.setDrainWaits(drainWaits.sum());
+        stats.setDrainTimeouts(drainTimeouts.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.basecommerce.model.site.BaseSiteModel;
+import de.hybris.platform.client.OPFAccessTokenManager;
+import de.hybris.platform.opf.data.OPFWarmUpStatsData;
+import de.hybris.platform.service.OPFAcceleratorService;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.service.OPFWarmUpService;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.servicelayer.session.SessionExecutionBody;
+import de.hybris.platform.servicelayer.session.SessionService;
+import de.hybris.platform.servicelayer.user.UserService;
+import de.hybris.platform.site.BaseSiteService;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Warms up each base site in a local session view as admin with the site set as current, so that the OPF configuration
+ * snapshot, access token and active configurations cache resolve the site the way a storefront request does. Sites
+ * without {@code opf.base.url} are skipped.
+ */
+public class DefaultOPFWarmUpService implements OPFWarmUpService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultOPFWarmUpService.class);
+
+    private static final String ENABLED = "opf.warmup.enabled";
+    private static final String READY_TIMEOUT_MS = "opf.warmup.ready.timeout.ms";
+    private static final String TOKEN_MANAGER_ENABLED = "opf.oauth.token.manager.enabled";
+
+    private final BaseSiteService baseSiteService;
+    private final SessionService sessionService;
+    private final UserService userService;
+    private final OPFConfigService opfConfigService;
+    private final OPFAcceleratorService opfAcceleratorService;
+    private final OPFAccessTokenManager opfAccessTokenManager;
+    private final ConfigurationService configurationService;
+    private final long createdAt = System.currentTimeMillis();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final LongAdder runs = new LongAdder();
+    private volatile boolean warmedUp;
+    private volatile long lastFinishedAt;
+    private volatile long lastDurationMs;
+    private volatile int sitesWarmed;
+    private volatile int sitesFailed;
+
+    /**
+     * Constructor for DefaultOPFWarmUpService
+     *
+     * @param baseSiteService baseSiteService
+     * @param sessionService sessionService
+     * @param userService userService
+     * @param opfConfigService opfConfigService
+     * @param opfAcceleratorService opfAcceleratorService
+     * @param opfAccessTokenManager opfAccessTokenManager
+     * @param configurationService configurationService
+     */
+    public DefaultOPFWarmUpService(final BaseSiteService baseSiteService, final SessionService sessionService,
+            final UserService userService, final OPFConfigService opfConfigService,
+            final OPFAcceleratorService opfAcceleratorService, final OPFAccessTokenManager opfAccessTokenManager,
+            final ConfigurationService configurationService) {
+        this.baseSiteService = baseSiteService;
+        this.sessionService = sessionService;
+        this.userService = userService;
+        this.opfConfigService = opfConfigService;
+        this.opfAcceleratorService = opfAcceleratorService;
+        this.opfAccessTokenManager = opfAccessTokenManager;
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public boolean warmUp() {
+        if (!configurationService.getConfiguration().getBoolean(ENABLED, true)) {
+            warmedUp = true;
+            return true;
+        }
+        if (!running.compareAndSet(false, true)) {
+            LOGGER.debug("OPF warm-up already running");
+            return false;
+        }
+        final long start = System.currentTimeMillis();
+        int warmed = 0;
+        int failed = 0;
+        try {
+            for (final BaseSiteModel site : baseSiteService.getAllBaseSites()) {
+                try {
+                    if (warmUp(site)) {
+                        warmed++;
+                    }
+                } catch (final RuntimeException e) {
+                    failed++;
+                    LOGGER.warn("OPF warm-up of base site [{}] failed", site.getUid(), e);
+                }
+            }
+        } finally {
+            sitesWarmed = warmed;
+            sitesFailed = failed;
+            lastFinishedAt = System.currentTimeMillis();
+            lastDurationMs = lastFinishedAt - start;
+            runs.increment();
+            warmedUp = true;
+            running.set(false);
+        }
+        LOGGER.info("OPF warm-up finished in {} ms, {} base sites warmed, {} failed", lastDurationMs, warmed, failed);
+        return failed == 0;
+    }
+
+    @Override
+    public boolean isReady() {
+        return warmedUp || System.currentTimeMillis() - createdAt
+                > configurationService.getConfiguration().getLong(READY_TIMEOUT_MS, 120_000L);
+    }
+
+    @Override
+    public OPFWarmUpStatsData getWarmUpStats() {
+        final OPFWarmUpStatsData stats = new OPFWarmUpStatsData();
+        stats.setReady(isReady());
+        stats.setRunning(running.get());
+        stats.setRuns(runs.sum());
+        stats.setLastFinishedAt(lastFinishedAt);
+        stats.setLastDurationMs(lastDurationMs);
+        stats.setSitesWarmed(sitesWarmed);
+        stats.setSitesFailed(sitesFailed);
+        return stats;
+    }
+
+    /**
+     * warm up one base site
+     *
+     * @param site base site
+     * @return false when the site has no OPF gateway configured
+     */
+    protected boolean warmUp(final BaseSiteModel site) {
+        if (StringUtils.isEmpty(opfConfigService.getConfig(site.getUid()).getBaseUrl())) {
+            return false;
+        }
+        sessionService.executeInLocalView(new SessionExecutionBody() {
+            @Override
+            public void executeWithoutResult() {
+                userService.setCurrentUser(userService.getAdminUser());
+                baseSiteService.setCurrentBaseSite(site, false);
+                if (configurationService.getConfiguration().getBoolean(TOKEN_MANAGER_ENABLED, true)) {
+                    opfAccessTokenManager.getAccessToken();
+                }
+                // opens the pooled gateway connection and replaces the cached active configurations
+                opfAcceleratorService.refreshActiveConfigurations();
+            }
+        });
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.event.OPFCacheInvalidationEvent;
+import de.hybris.platform.service.OPFCacheInvalidationService;
+import de.hybris.platform.servicelayer.event.impl.AbstractEventListener;
+
+/**
+ * Applies the {@link OPFCacheInvalidationEvent}s received by this node
+ */
+public class OPFCacheInvalidationEventListener extends AbstractEventListener<OPFCacheInvalidationEvent> {
+
+    private final OPFCacheInvalidationService opfCacheInvalidationService;
+
+    /**
+     * Constructor for OPFCacheInvalidationEventListener
+     *
+     * @param opfCacheInvalidationService opfCacheInvalidationService
+     */
+    public OPFCacheInvalidationEventListener(final OPFCacheInvalidationService opfCacheInvalidationService) {
+        this.opfCacheInvalidationService = opfCacheInvalidationService;
+    }
+
+    @Override
+    protected void onEvent(final OPFCacheInvalidationEvent event) {
+        opfCacheInvalidationService.applyInvalidation(event.getInvalidationId(), event.getSiteUid(), event.getRegions());
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.cronjob.enums.CronJobResult;
+import de.hybris.platform.cronjob.enums.CronJobStatus;
+import de.hybris.platform.cronjob.model.CronJobModel;
+import de.hybris.platform.service.OPFCacheInvalidationService;
+import de.hybris.platform.service.OPFCacheRegion;
+import de.hybris.platform.servicelayer.cronjob.AbstractJobPerformable;
+import de.hybris.platform.servicelayer.cronjob.PerformResult;
+
+import java.util.EnumSet;
+
+/**
+ * Invalidates all OPF caches of all base sites on every node. Run by the {@code opfCacheInvalidationCronJob} from
+ * Backoffice or the HAC, e.g. after the OPF settings or credentials were changed.
+ */
+public class OPFCacheInvalidationJob extends AbstractJobPerformable<CronJobModel> {
+
+    private final OPFCacheInvalidationService opfCacheInvalidationService;
+
+    /**
+     * Constructor for OPFCacheInvalidationJob
+     *
+     * @param opfCacheInvalidationService opfCacheInvalidationService
+     */
+    public OPFCacheInvalidationJob(final OPFCacheInvalidationService opfCacheInvalidationService) {
+        this.opfCacheInvalidationService = opfCacheInvalidationService;
+    }
+
+    @Override
+    public PerformResult perform(final CronJobModel cronJob) {
+        opfCacheInvalidationService.invalidateClusterWide(null, EnumSet.allOf(OPFCacheRegion.class));
+        return new PerformResult(CronJobResult.SUCCESS, CronJobStatus.FINISHED);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.constants.OpfacceleratorcoreConstants;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executor used for asynchronous OPF gateway calls. By default this is a bounded platform thread pool sized
+ * by the {@code opf.async.executor.*} properties; when the queue is full new calls are rejected instead of piling up.
+ * With {@code opf.http.executor=virtual} every call runs on its own virtual thread instead, and concurrency is capped
+ * per endpoint by {@link de.hybris.platform.client.impl.OPFEndpointConcurrencyInterceptor}.
+ */
+public class OPFGatewayExecutorFactoryBean implements FactoryBean<ExecutorService>, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFGatewayExecutorFactoryBean.class);
+
+    private static final String OPF_ASYNC_EXECUTOR_CORE_SIZE = "opf.async.executor.core.size";
+    private static final String OPF_ASYNC_EXECUTOR_MAX_SIZE = "opf.async.executor.max.size";
+    private static final String OPF_ASYNC_EXECUTOR_QUEUE_CAPACITY = "opf.async.executor.queue.capacity";
+    private static final String OPF_ASYNC_EXECUTOR_KEEP_ALIVE_SECONDS = "opf.async.executor.keepalive.seconds";
+    private static final String THREAD_NAME_PREFIX = "opf-gateway-";
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "opf-gateway-vt-";
+
+    private final ConfigurationService configurationService;
+    private ExecutorService executorService;
+
+    /**
+     * Constructor for OPFGatewayExecutorFactoryBean
+     *
+     * @param configurationService configurationService
+     */
+    public OPFGatewayExecutorFactoryBean(final ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public synchronized ExecutorService getObject() {
+        if (executorService == null) {
+            executorService = createExecutorService(configurationService.getConfiguration());
+        }
+        return executorService;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return ExecutorService.class;
+    }
+
+    /**
+     * create the executor service for gateway calls
+     *
+     * @param configuration configuration
+     * @return {@link ExecutorService}
+     */
+    protected ExecutorService createExecutorService(final Configuration configuration) {
+        if (OpfacceleratorcoreConstants.OPF_HTTP_EXECUTOR_VIRTUAL.equalsIgnoreCase(
+                configuration.getString(OpfacceleratorcoreConstants.OPF_HTTP_EXECUTOR, StringUtils.EMPTY))) {
+            LOGGER.info("OPF gateway executor initialised in virtual thread mode");
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(VIRTUAL_THREAD_NAME_PREFIX, 0).factory());
+        }
+        final int coreSize = configuration.getInt(OPF_ASYNC_EXECUTOR_CORE_SIZE, 8);
+        final int maxSize = Math.max(coreSize, configuration.getInt(OPF_ASYNC_EXECUTOR_MAX_SIZE, 32));
+        final int queueCapacity = configuration.getInt(OPF_ASYNC_EXECUTOR_QUEUE_CAPACITY, 200);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(coreSize, maxSize,
+                configuration.getLong(OPF_ASYNC_EXECUTOR_KEEP_ALIVE_SECONDS, 60L), TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), createThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        LOGGER.info("OPF gateway executor initialised: coreSize={}, maxSize={}, queueCapacity={}", coreSize, maxSize,
+                queueCapacity);
+        return executor;
+    }
+
+    private ThreadFactory createThreadFactory() {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+}
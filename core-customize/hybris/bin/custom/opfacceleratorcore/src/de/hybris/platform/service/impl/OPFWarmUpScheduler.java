@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.core.Registry;
+import de.hybris.platform.core.Tenant;
+import de.hybris.platform.core.TenantListener;
+import de.hybris.platform.service.OPFWarmUpService;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@link OPFWarmUpService} once the tenant has started and then every
+ * {@code opf.warmup.refresh.interval.ms} on each node. A cron job would only refresh the node it runs on, while the
+ * active configurations and access tokens are cached per node.
+ */
+public class OPFWarmUpScheduler implements TenantListener, InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OPFWarmUpScheduler.class);
+
+    private static final String REFRESH_INTERVAL_MS = "opf.warmup.refresh.interval.ms";
+
+    private final OPFWarmUpService opfWarmUpService;
+    private final ConfigurationService configurationService;
+    private Tenant tenant;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor for OPFWarmUpScheduler
+     *
+     * @param opfWarmUpService opfWarmUpService
+     * @param configurationService configurationService
+     */
+    public OPFWarmUpScheduler(final OPFWarmUpService opfWarmUpService, final ConfigurationService configurationService) {
+        this.opfWarmUpService = opfWarmUpService;
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        tenant = Registry.getCurrentTenantNoFallback();
+        Registry.registerTenantListener(this);
+    }
+
+    @Override
+    public void destroy() {
+        Registry.unregisterTenantListener(this);
+        stop();
+    }
+
+    @Override
+    public void afterTenantStartUp(final Tenant startedTenant) {
+        if (isOwnTenant(startedTenant)) {
+            start(startedTenant);
+        }
+    }
+
+    @Override
+    public void beforeTenantShutDown(final Tenant stoppingTenant) {
+        if (isOwnTenant(stoppingTenant)) {
+            stop();
+        }
+    }
+
+    @Override
+    public void afterSetActivateSession(final Tenant activeTenant) {
+        // nothing to do
+    }
+
+    @Override
+    public void beforeUnsetActivateSession(final Tenant activeTenant) {
+        // nothing to do
+    }
+
+    /**
+     * warm up now and schedule the refreshes
+     *
+     * @param startedTenant tenant the warm-ups run in
+     */
+    protected synchronized void start(final Tenant startedTenant) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "opf-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Runnable warmUp = () -> runInTenant(startedTenant);
+        final long interval = configurationService.getConfiguration().getLong(REFRESH_INTERVAL_MS, 240_000L);
+        if (interval > 0L) {
+            scheduler.scheduleWithFixedDelay(warmUp, 0L, interval, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler.execute(warmUp);
+        }
+    }
+
+    protected synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void runInTenant(final Tenant startedTenant) {
+        Registry.setCurrentTenant(startedTenant);
+        try {
+            opfWarmUpService.warmUp();
+        } catch (final RuntimeException e) {
+            // keep the schedule alive
+            LOGGER.warn("OPF warm-up failed", e);
+        } finally {
+            Registry.unsetCurrentTenant();
+        }
+    }
+
+    private boolean isOwnTenant(final Tenant candidate) {
+        return tenant == null || candidate == null || Objects.equals(tenant.getTenantID(), candidate.getTenantID());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.util;
+
+import de.hybris.platform.core.PK;
+import de.hybris.platform.core.Registry;
+import de.hybris.platform.core.Tenant;
+import de.hybris.platform.core.model.ItemModel;
+import de.hybris.platform.servicelayer.model.ModelService;
+import de.hybris.platform.servicelayer.session.Session;
+import de.hybris.platform.servicelayer.session.SessionService;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Carries the caller's tenant and session context over to OPF worker threads, so that session cart, current base site
+ * and configuration lookups behave the same as on the storefront request thread. Every task runs in a fresh session
+ * holding the caller's user, language, currency, base site and catalog versions, and its own instance of the caller's
+ * cart loaded by PK, as tasks may save the cart while the caller still uses it; the caller's session itself is never
+ * activated on a worker thread.
+ */
+public final class OPFSessionContextUtil
+{
+	/**
+	 * session attributes copied to the session of a task
+	 */
+	public static final List<String> SESSION_ATTRIBUTES = List.of("user", "language", "currency", "currentSite",
+			"catalogversions", "cart");
+
+	private static final String CART = "cart";
+	private static final String SESSION_SERVICE = "sessionService";
+	private static final String MODEL_SERVICE = "modelService";
+
+	private OPFSessionContextUtil(){
+	}
+
+	/**
+	 * Wrap the supplier so that it runs with the tenant and a copy of the session context of the calling thread
+	 * @param supplier the work to run on another thread
+	 * @param <T> result type
+	 * @return supplier bound to the current tenant and session context
+	 */
+	public static <T> Supplier<T> withCurrentSessionContext(final Supplier<T> supplier){
+		final Tenant tenant = Registry.getCurrentTenantNoFallback();
+		if (tenant == null) {
+			return supplier;
+		}
+		return withCurrentSessionContext(supplier, Registry.getApplicationContext().getBean(SESSION_SERVICE, SessionService.class),
+				Registry.getApplicationContext().getBean(MODEL_SERVICE, ModelService.class));
+	}
+
+	/**
+	 * Wrap the supplier so that it runs with the tenant and a copy of the session context of the calling thread
+	 * @param supplier the work to run on another thread
+	 * @param sessionService session service creating the session of the task
+	 * @param modelService model service loading the cart of the task
+	 * @param <T> result type
+	 * @return supplier bound to the current tenant and session context
+	 */
+	public static <T> Supplier<T> withCurrentSessionContext(final Supplier<T> supplier, final SessionService sessionService,
+			final ModelService modelService){
+		final Tenant tenant = Registry.getCurrentTenantNoFallback();
+		final Map<String, Object> attributes = new LinkedHashMap<>();
+		PK cartPk = null;
+		if (sessionService != null && sessionService.hasCurrentSession()) {
+			for (final String name : SESSION_ATTRIBUTES) {
+				final Object value = sessionService.getAttribute(name);
+				if (CART.equals(name)) {
+					cartPk = value instanceof ItemModel cart ? cart.getPk() : null;
+				}
+				else if (value != null) {
+					attributes.put(name, value);
+				}
+			}
+		}
+		final PK taskCartPk = cartPk;
+		final Thread callerThread = Thread.currentThread();
+		return () -> {
+			if (Thread.currentThread() == callerThread) {
+				return supplier.get();
+			}
+			final Tenant previousTenant = Registry.getCurrentTenantNoFallback();
+			if (tenant != null) {
+				Registry.setCurrentTenant(tenant);
+			}
+			try {
+				if (attributes.isEmpty() && taskCartPk == null) {
+					return supplier.get();
+				}
+				final Session session = sessionService.createNewSession();
+				try {
+					attributes.forEach(sessionService::setAttribute);
+					if (taskCartPk != null) {
+						sessionService.setAttribute(CART, modelService.get(taskCartPk));
+					}
+					return supplier.get();
+				}
+				finally {
+					sessionService.closeSession(session);
+				}
+			}
+			finally {
+				if (previousTenant == null) {
+					Registry.unsetCurrentTenant();
+				}
+				else {
+					Registry.setCurrentTenant(previousTenant);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Wrap the runnable so that it runs with the tenant and a copy of the session context of the calling thread
+	 * @param runnable the work to run on another thread
+	 * @return runnable bound to the current tenant and session context
+	 */
+	public static Runnable withCurrentSessionContext(final Runnable runnable){
+		final Supplier<Void> supplier = withCurrentSessionContext(() -> {
+			runnable.run();
+			return null;
+		});
+		return supplier::get;
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.basecommerce.model.site.BaseSiteModel;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.opf.data.OPFAccessTokenStatsData;
+import de.hybris.platform.opfservices.client.CCAdapterClientException;
+import de.hybris.platform.opfservices.client.OAuth2TokenException;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.site.BaseSiteService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOPFAccessTokenManagerTest {
+
+    private static final String AUTHORIZATION_OK = "Basic "
+            + Base64.getEncoder().encodeToString("client:secret".getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private BaseSiteService baseSiteService;
+
+    @Mock
+    private BaseSiteModel site;
+
+    @TempDir
+    Path securityDir;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final AtomicInteger issued = new AtomicInteger();
+    private OPFStandInGatewayServer tokenServer;
+    private DefaultOPFAccessTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(securityDir.resolve("opf-secret.properties"), "client_id=client\nclient_secret=secret\n"
+                + "opf.tenant.clientid=tenant\nopf.tenant.publickey=key\n");
+        tokenServer = new OPFStandInGatewayServer();
+        tokenServer.setBehaviour(tokenResponse(120L, 0L));
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getString("opf.oauth.token.url")).thenReturn(tokenServer.getBaseUrl() + "/oauth/token");
+        Mockito.when(configuration.getString("opf.oauth.client-secret.file")).thenReturn("opf-secret.properties");
+        Mockito.when(configuration.getString("opf.oauth.client-secret.file.location")).thenReturn(securityDir.toString());
+        Mockito.when(baseSiteService.getCurrentBaseSite()).thenReturn(site);
+        Mockito.when(site.getUid()).thenReturn("electronics");
+        final OPFSecurityCredentialsStore credentialsStore = new OPFSecurityCredentialsStore("opf.oauth.client-secret.file",
+                "opf.oauth.client-secret.file.location", configurationService);
+        tokenManager = new DefaultOPFAccessTokenManager("opf.oauth.token.url", credentialsStore, new RestTemplate(),
+                configurationService, baseSiteService, executor) {
+            @Override
+            protected long currentTimeMillis() {
+                return clock.get();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        tokenServer.close();
+    }
+
+    @Test
+    void concurrentAcquisitionsShareOneTokenRequest() throws Exception {
+        tokenServer.setBehaviour(tokenResponse(120L, 200L));
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            callers.add(executor.submit(() -> {
+                start.await();
+                return tokenManager.getAccessToken();
+            }));
+        }
+        start.countDown();
+
+        for (final Future<String> caller : callers) {
+            Assertions.assertEquals("token-1", caller.get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1L, tokenServer.getRequestCount());
+        Assertions.assertEquals("token-1", tokenManager.getAccessToken());
+        final OPFAccessTokenStatsData stats = tokenManager.getAccessTokenStats().get(0);
+        Assertions.assertEquals("/electronics", stats.getCacheKey());
+        Assertions.assertEquals(1L, stats.getRefreshes());
+        Assertions.assertTrue(stats.getLastRefreshLatencyMs() >= 200L);
+    }
+
+    @Test
+    void refreshesAheadOfExpiryWhileTheCachedTokenIsUsed() throws Exception {
+        Assertions.assertEquals("token-1", tokenManager.getAccessToken());
+
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(70L));
+        Assertions.assertEquals("token-1", tokenManager.getAccessToken());
+        Assertions.assertEquals(TimeUnit.SECONDS.toMillis(70L), tokenManager.getAccessTokenStats().get(0).getTokenAgeMs());
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (!"token-2".equals(tokenManager.getAccessToken()) && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        Assertions.assertEquals("token-2", tokenManager.getAccessToken());
+        Assertions.assertEquals(2L, tokenServer.getRequestCount());
+        Assertions.assertEquals(0L, tokenManager.getAccessTokenStats().get(0).getTokenAgeMs());
+    }
+
+    @Test
+    void expiredTokenIsNotUsed() {
+        Assertions.assertEquals("token-1", tokenManager.getAccessToken());
+
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(116L));
+
+        Assertions.assertEquals("token-2", tokenManager.getAccessToken());
+    }
+
+    @Test
+    void failedAcquisitionIsCounted() {
+        tokenServer.setBehaviour((exchange, inFlight) -> new OPFStandInGatewayServer.Response(500, "{}", 0L));
+
+        Assertions.assertThrows(OAuth2TokenException.class, () -> tokenManager.getAccessToken());
+        Assertions.assertEquals(1L, tokenManager.getAccessTokenStats().get(0).getRefreshFailures());
+        Assertions.assertEquals(-1L, tokenManager.getAccessTokenStats().get(0).getTokenAgeMs());
+    }
+
+    @Test
+    void unauthorizedCallIsRetriedOnceWithNewToken() {
+        final OPFAccessTokenInterceptor interceptor = new OPFAccessTokenInterceptor(configurationService, tokenManager);
+        final List<String> authorizations = new ArrayList<>();
+        final OPFHttpExchangeChain gateway = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                Assertions.assertFalse(request.isOAuth());
+                authorizations.add(request.getHeaders().get(HttpHeaders.AUTHORIZATION));
+                if (authorizations.size() == 1) {
+                    throw HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null);
+                }
+                return request.getResponseType().cast("ok");
+            }
+        };
+        final HttpClientRequestDto<String> request = oauthRequest();
+
+        Assertions.assertEquals("ok", interceptor.intercept("https://opf.example.com", request, gateway));
+        Assertions.assertEquals(List.of("Bearer token-1", "Bearer token-2"), authorizations);
+        Assertions.assertTrue(request.isOAuth());
+        Assertions.assertEquals(1L, tokenManager.getAccessTokenStats().get(0).getInvalidations());
+    }
+
+    @Test
+    void unauthorizedWrappedByTheGatewayClientIsRetriedWithNewToken() {
+        final OPFAccessTokenInterceptor interceptor = new OPFAccessTokenInterceptor(configurationService, tokenManager);
+        final List<String> authorizations = new ArrayList<>();
+        final OPFHttpExchangeChain gateway = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                authorizations.add(request.getHeaders().get(HttpHeaders.AUTHORIZATION));
+                if (authorizations.size() == 1) {
+                    throw new CCAdapterClientException("Unauthorized",
+                            HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null));
+                }
+                return request.getResponseType().cast("ok");
+            }
+        };
+
+        Assertions.assertEquals("ok", interceptor.intercept("https://opf.example.com", oauthRequest(), gateway));
+        Assertions.assertEquals(List.of("Bearer token-1", "Bearer token-2"), authorizations);
+        Assertions.assertEquals(1L, tokenManager.getAccessTokenStats().get(0).getInvalidations());
+    }
+
+    @Test
+    void otherWrappedClientErrorsAreNotRetried() {
+        final OPFAccessTokenInterceptor interceptor = new OPFAccessTokenInterceptor(configurationService, tokenManager);
+        final AtomicInteger calls = new AtomicInteger();
+        final OPFHttpExchangeChain gateway = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                calls.incrementAndGet();
+                throw new CCAdapterClientException("Bad Request",
+                        HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+            }
+        };
+
+        Assertions.assertThrows(CCAdapterClientException.class,
+                () -> interceptor.intercept("https://opf.example.com", oauthRequest(), gateway));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(0L, tokenManager.getAccessTokenStats().get(0).getInvalidations());
+    }
+
+    @Test
+    void secondUnauthorizedIsPropagated() {
+        final OPFAccessTokenInterceptor interceptor = new OPFAccessTokenInterceptor(configurationService, tokenManager);
+        final AtomicInteger calls = new AtomicInteger();
+        final OPFHttpExchangeChain gateway = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                calls.incrementAndGet();
+                throw HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null);
+            }
+        };
+
+        Assertions.assertThrows(HttpClientErrorException.Unauthorized.class,
+                () -> interceptor.intercept("https://opf.example.com", oauthRequest(), gateway));
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void tokenRequestUsesClientCredentials() {
+        tokenServer.setBehaviour((exchange, inFlight) -> AUTHORIZATION_OK.equals(
+                exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                ? tokenResponse(120L, 0L).respond(exchange, inFlight)
+                : new OPFStandInGatewayServer.Response(401, "{}", 0L));
+
+        Assertions.assertEquals("token-1", tokenManager.getAccessToken());
+    }
+
+    private OPFStandInGatewayServer.Behaviour tokenResponse(final long expiresIn, final long delayMs) {
+        return (exchange, inFlight) -> new OPFStandInGatewayServer.Response(200,
+                "{\"access_token\":\"token-" + issued.incrementAndGet() + "\",\"token_type\":\"Bearer\",\"expires_in\":"
+                        + expiresIn + "}", delayMs);
+    }
+
+    private static HttpClientRequestDto<String> oauthRequest() {
+        final HttpClientRequestDto<String> request = new HttpClientRequestDto<>();
+        request.setPath("/gateway/cta-scripts");
+        request.setResponseType(String.class);
+        request.setOAuth(true);
+        return request;
+    }
+}
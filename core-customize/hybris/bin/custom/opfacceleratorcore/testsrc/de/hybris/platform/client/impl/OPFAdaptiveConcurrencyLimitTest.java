@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFConcurrencyLimitExceededException;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.opfservices.client.CCAdapterClientException;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFAdaptiveConcurrencyLimitTest {
+
+    private static final int CLIENTS = 16;
+    private static final int GATEWAY_CAPACITY = 4;
+    private static final long GATEWAY_LATENCY_MS = 20L;
+    private static final long QUEUEING_MS = 50L;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    private OPFStandInGatewayServer gateway;
+    private OPFAdaptiveConcurrencyLimitInterceptor interceptor;
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+    private final OPFHttpExchangeChain gatewayChain = new OPFHttpExchangeChain() {
+        @Override
+        public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+            return restTemplate.getForObject(baseUrl + request.getPath(), request.getResponseType());
+        }
+    };
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getInt(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getDouble(anyString(), anyDouble())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getBoolean(eq("opf.limiter.enabled"), anyBoolean())).thenReturn(true);
+        Mockito.when(configuration.getInt(eq("opf.limiter.initial.limit"), anyInt())).thenReturn(CLIENTS);
+        Mockito.when(configuration.getLong(eq("opf.limiter.aimd.latency.threshold.ms"), anyLong())).thenReturn(150L);
+        Mockito.when(configuration.getString(eq(OPFGatewayEndpoint.CTA.getUrlKey()), any())).thenReturn("/cta");
+        interceptor = new OPFAdaptiveConcurrencyLimitInterceptor(configurationService);
+        gateway = new OPFStandInGatewayServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+        gateway.close();
+    }
+
+    @Test
+    void gradientLimitConvergesUnderOverloadAndRecovers() throws Exception {
+        assertConvergesAndRecovers();
+        Assertions.assertEquals("gradient", interceptor.getConcurrencyLimitStats().getAlgorithm());
+    }
+
+    @Test
+    void aimdLimitConvergesUnderOverloadAndRecovers() throws Exception {
+        Mockito.when(configuration.getString(eq("opf.limiter.algorithm"), any())).thenReturn("aimd");
+
+        assertConvergesAndRecovers();
+        Assertions.assertEquals("aimd", interceptor.getConcurrencyLimitStats().getAlgorithm());
+    }
+
+    @Test
+    void rejectsCallsOverTheLimit() {
+        final OPFGradientLimit limit = new OPFGradientLimit(1, 1, 1, 1.5d, 0.2d, 10, 4);
+        final OPFAdaptiveConcurrencyLimitInterceptor singleCall = new OPFAdaptiveConcurrencyLimitInterceptor(
+                configurationService) {
+            @Override
+            protected OPFAdaptiveLimit createLimit(final Configuration configuration) {
+                return limit;
+            }
+        };
+        final OPFHttpExchangeChain nestedCall = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                return singleCall.intercept(baseUrl, request, gatewayChain);
+            }
+        };
+
+        Assertions.assertThrows(OPFConcurrencyLimitExceededException.class,
+                () -> singleCall.intercept(gateway.getBaseUrl(), ctaRequest(), nestedCall));
+        Assertions.assertEquals(1L, singleCall.getConcurrencyLimitStats().getRejected());
+        Assertions.assertEquals(0, singleCall.getConcurrencyLimitStats().getInFlight());
+    }
+
+    @Test
+    void wrappedClientErrorsAreSampledAsAnswers() {
+        final OPFAdaptiveLimit limit = Mockito.mock(OPFAdaptiveLimit.class);
+        Mockito.when(limit.getLimit()).thenReturn(4);
+        final OPFAdaptiveConcurrencyLimitInterceptor sampled = new OPFAdaptiveConcurrencyLimitInterceptor(
+                configurationService) {
+            @Override
+            protected OPFAdaptiveLimit createLimit(final Configuration configuration) {
+                return limit;
+            }
+        };
+        final OPFHttpExchangeChain badRequest = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                throw new CCAdapterClientException("bad request",
+                        HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad request", null, null, null));
+            }
+        };
+
+        Assertions.assertThrows(CCAdapterClientException.class,
+                () -> sampled.intercept(gateway.getBaseUrl(), ctaRequest(), badRequest));
+        Mockito.verify(limit).onSample(anyLong(), eq(1), eq(false));
+        Assertions.assertEquals(0L, sampled.getConcurrencyLimitStats().getDropped());
+    }
+
+    @Test
+    void disabledByDefault() {
+        Mockito.when(configuration.getBoolean(eq("opf.limiter.enabled"), anyBoolean()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        interceptor.intercept(gateway.getBaseUrl(), ctaRequest(), new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                return null;
+            }
+        });
+
+        Assertions.assertEquals(0L, interceptor.getConcurrencyLimitStats().getAccepted());
+    }
+
+    private void assertConvergesAndRecovers() throws Exception {
+        gateway.setBehaviour((exchange, inFlight) -> new OPFStandInGatewayServer.Response(200, "\"ok\"", GATEWAY_LATENCY_MS));
+        drive(300L);
+
+        gateway.setBehaviour((exchange, inFlight) -> new OPFStandInGatewayServer.Response(200, "\"ok\"",
+                GATEWAY_LATENCY_MS + QUEUEING_MS * Math.max(0, inFlight - GATEWAY_CAPACITY)));
+        final double overloadLimit = drive(1000L);
+        Assertions.assertTrue(overloadLimit <= CLIENTS * 3 / 4, "limit under overload was " + overloadLimit);
+        Assertions.assertTrue(interceptor.getConcurrencyLimitStats().getRejected() > 0);
+
+        gateway.setBehaviour((exchange, inFlight) -> new OPFStandInGatewayServer.Response(200, "\"ok\"", GATEWAY_LATENCY_MS));
+        final double recoveredLimit = drive(1000L);
+        Assertions.assertTrue(recoveredLimit > overloadLimit,
+                "limit after recovery was " + recoveredLimit + ", under overload " + overloadLimit);
+    }
+
+    /**
+     * run the clients against the gateway
+     *
+     * @return mean limit over the second half of the run, the limit keeps probing around the gateway capacity
+     */
+    private double drive(final long durationMs) throws Exception {
+        final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(clients.submit(() -> {
+                while (System.nanoTime() < end) {
+                    try {
+                        interceptor.intercept(gateway.getBaseUrl(), ctaRequest(), gatewayChain);
+                    } catch (final OPFConcurrencyLimitExceededException e) {
+                        Thread.sleep(GATEWAY_LATENCY_MS);
+                    }
+                }
+                return null;
+            }));
+        }
+        Thread.sleep(durationMs / 2);
+        long limitSum = 0L;
+        int samples = 0;
+        while (System.nanoTime() < end) {
+            limitSum += interceptor.getConcurrencyLimitStats().getLimit();
+            samples++;
+            Thread.sleep(5L);
+        }
+        for (final Future<?> future : futures) {
+            future.get(durationMs + 5000L, TimeUnit.MILLISECONDS);
+        }
+        return samples == 0 ? interceptor.getConcurrencyLimitStats().getLimit() : (double) limitSum / samples;
+    }
+
+    private static HttpClientRequestDto<String> ctaRequest() {
+        final HttpClientRequestDto<String> request = new HttpClientRequestDto<>();
+        request.setPath("/cta");
+        request.setResponseType(String.class);
+        return request;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFBulkheadFullException;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.client.OPFOperationClass;
+import de.hybris.platform.opf.data.OPFBulkheadStatsData;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFBulkheadInterceptorTest {
+
+    private static final String BASE_URL = "https://opf.example.com";
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private OPFBulkheadInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getInt(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getBoolean(eq("opf.bulkhead.enabled"), anyBoolean())).thenReturn(true);
+        Mockito.when(configuration.getInt(eq("opf.bulkhead.max.concurrent.browse"), anyInt())).thenReturn(1);
+        Mockito.when(configuration.getInt(eq("opf.bulkhead.max.waiting.browse"), anyInt())).thenReturn(0);
+        Mockito.when(configuration.getLong(eq("opf.bulkhead.max.wait.ms.session"), anyLong())).thenReturn(20L);
+        Mockito.when(configuration.getInt(eq("opf.bulkhead.shared.max.concurrent"), anyInt())).thenReturn(1);
+        for (final OPFGatewayEndpoint endpoint : OPFGatewayEndpoint.values()) {
+            Mockito.when(configuration.getString(eq(endpoint.getUrlKey()), any())).thenReturn("/" + endpoint.getCode());
+        }
+        interceptor = new OPFBulkheadInterceptor(configurationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void paymentProceedsWhileBrowseIsSaturated() throws Exception {
+        final Future<String> browse = holdCall(OPFGatewayEndpoint.CTA);
+
+        final OPFBulkheadFullException rejected = Assertions.assertThrows(OPFBulkheadFullException.class,
+                () -> interceptor.intercept(BASE_URL, request(OPFGatewayEndpoint.ACTIVE_CONFIG), respondWith("config")));
+        Assertions.assertEquals(OPFOperationClass.BROWSE, rejected.getOperationClass());
+        Assertions.assertEquals("paid", interceptor.intercept(BASE_URL, request(OPFGatewayEndpoint.SUBMIT_COMPLETE),
+                respondWith("paid")));
+
+        release.countDown();
+        Assertions.assertEquals("held", browse.get(1, TimeUnit.SECONDS));
+        final OPFBulkheadStatsData browseStats = stats(OPFOperationClass.BROWSE);
+        Assertions.assertEquals(1L, browseStats.getAccepted());
+        Assertions.assertEquals(1L, browseStats.getRejectedQueueFull());
+        Assertions.assertEquals(0, browseStats.getInFlight());
+        Assertions.assertEquals(1L, stats(OPFOperationClass.PAYMENT).getAccepted());
+    }
+
+    @Test
+    void sessionCannotTakeCapacityReservedForPayment() throws Exception {
+        holdCall(OPFGatewayEndpoint.CTA);
+
+        Assertions.assertThrows(OPFBulkheadFullException.class,
+                () -> interceptor.intercept(BASE_URL, request(OPFGatewayEndpoint.INITIATE_PAYMENT), respondWith("session")));
+
+        final OPFBulkheadStatsData sessionStats = stats(OPFOperationClass.SESSION);
+        Assertions.assertEquals(1L, sessionStats.getRejectedReserved());
+        Assertions.assertEquals(0, sessionStats.getInFlight());
+    }
+
+    @Test
+    void waitForAPermitEndsAtTheRequestDeadline() throws Exception {
+        Mockito.when(configuration.getInt(eq("opf.bulkhead.max.concurrent.payment"), anyInt())).thenReturn(1);
+        Mockito.when(configuration.getLong(eq("opf.bulkhead.max.wait.ms.payment"), anyLong())).thenReturn(5000L);
+        holdCall(OPFGatewayEndpoint.SUBMIT);
+
+        final long start = System.nanoTime();
+        final OPFGatewayCallContext previous = OPFGatewayCallContext.open(OPFGatewayEndpoint.SUBMIT_COMPLETE, 50L);
+        try {
+            Assertions.assertThrows(OPFBulkheadFullException.class,
+                    () -> interceptor.intercept(BASE_URL, request(OPFGatewayEndpoint.SUBMIT_COMPLETE), respondWith("paid")));
+        } finally {
+            OPFGatewayCallContext.restore(previous);
+        }
+
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000L);
+        Assertions.assertEquals(1L, stats(OPFOperationClass.PAYMENT).getRejectedTimeout());
+    }
+
+    @Test
+    void disabledByDefault() throws Exception {
+        Mockito.when(configuration.getBoolean(eq("opf.bulkhead.enabled"), anyBoolean()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        holdCall(OPFGatewayEndpoint.CTA);
+
+        Assertions.assertEquals("config", interceptor.intercept(BASE_URL, request(OPFGatewayEndpoint.ACTIVE_CONFIG),
+                respondWith("config")));
+        Assertions.assertTrue(interceptor.getBulkheadStats().isEmpty());
+    }
+
+    @Test
+    void passesThroughUnknownPaths() {
+        final HttpClientRequestDto<String> request = new HttpClientRequestDto<>();
+        request.setPath("/oauth/token");
+        request.setResponseType(String.class);
+
+        Assertions.assertEquals("token", interceptor.intercept(BASE_URL, request, respondWith("token")));
+        Assertions.assertTrue(interceptor.getBulkheadStats().isEmpty());
+    }
+
+    private Future<String> holdCall(final OPFGatewayEndpoint endpoint) throws InterruptedException {
+        final OPFHttpExchangeChain holdingChain = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return request.getResponseType().cast("held");
+            }
+        };
+        final Future<String> future = executor.submit(() -> interceptor.intercept(BASE_URL, request(endpoint), holdingChain));
+        Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private static OPFHttpExchangeChain respondWith(final String response) {
+        return new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                return request.getResponseType().cast(response);
+            }
+        };
+    }
+
+    private OPFBulkheadStatsData stats(final OPFOperationClass operationClass) {
+        return interceptor.getBulkheadStats().stream()
+                .filter(stats -> operationClass.getCode().equals(stats.getOperationClass())).findFirst().orElseThrow();
+    }
+
+    private static HttpClientRequestDto<String> request(final OPFGatewayEndpoint endpoint) {
+        final HttpClientRequestDto<String> request = new HttpClientRequestDto<>();
+        request.setPath("/" + endpoint.getCode());
+        request.setResponseType(String.class);
+        return request;
+    }
+}
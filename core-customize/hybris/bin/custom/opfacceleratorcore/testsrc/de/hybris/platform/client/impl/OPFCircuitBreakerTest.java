@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFCircuitBreakerOpenException;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.opf.data.OPFCircuitBreakerStatsData;
+import de.hybris.platform.opfservices.client.CCAdapterClientException;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFCircuitBreakerTest {
+
+    private static final String BASE_URL = "https://opf.example.com";
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private OPFHttpExchangeChain chain;
+
+    private final AtomicLong clock = new AtomicLong(1000L);
+    private OPFCircuitBreakerInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getInt(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getString(eq(OPFGatewayEndpoint.CTA.getUrlKey()), Mockito.any())).thenReturn("/cta");
+        Mockito.when(configuration.getString(eq(OPFGatewayEndpoint.ACTIVE_CONFIG.getUrlKey()), Mockito.any()))
+                .thenReturn("/configurations");
+
+        interceptor = new OPFCircuitBreakerInterceptor(configurationService) {
+            @Override
+            protected OPFCircuitBreaker createCircuitBreaker(final OPFGatewayEndpoint endpoint,
+                    final Configuration configuration) {
+                return new OPFCircuitBreaker(4, 4, 50, 100, 1000L, 5000L, 2, clock::get);
+            }
+        };
+        interceptor.setFallbacks(List.of(new OPFLastGoodActiveConfigFallback(), new OPFEmptyCTAResponseFallback()));
+    }
+
+    @Test
+    void opensAfterFailureRateIsReachedAndProbesAfterWait() {
+        final OPFCircuitBreaker circuitBreaker = new OPFCircuitBreaker(4, 4, 50, 100, 1000L, 5000L, 2, clock::get);
+        circuitBreaker.onSuccess(10L);
+        circuitBreaker.onFailure(10L);
+        circuitBreaker.onSuccess(10L);
+        Assertions.assertEquals(OPFCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.onFailure(10L);
+
+        Assertions.assertEquals(OPFCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission());
+        Assertions.assertEquals(1L, circuitBreaker.getRejectedCalls());
+
+        clock.addAndGet(5000L);
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission());
+        Assertions.assertEquals(OPFCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess(10L);
+        circuitBreaker.onSuccess(10L);
+        Assertions.assertEquals(OPFCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void slowProbeReopensTheCircuit() {
+        final OPFCircuitBreaker circuitBreaker = new OPFCircuitBreaker(4, 2, 100, 50, 1000L, 5000L, 2, clock::get);
+        circuitBreaker.onSuccess(1500L);
+        circuitBreaker.onSuccess(1500L);
+        Assertions.assertEquals(OPFCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        clock.addAndGet(5000L);
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onSuccess(2000L);
+
+        Assertions.assertEquals(OPFCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void servesLastGoodActiveConfigWhileOpen() {
+        final HttpClientRequestDto<OPFActiveConfigResponse> request = activeConfigRequest();
+        final OPFActiveConfigResponse good = new OPFActiveConfigResponse();
+        Mockito.when(chain.proceed(BASE_URL, request)).thenReturn(good).thenThrow(serviceUnavailable());
+
+        Assertions.assertSame(good, interceptor.intercept(BASE_URL, request, chain));
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertSame(good, interceptor.intercept(BASE_URL, request, chain));
+        }
+        Assertions.assertSame(good, interceptor.intercept(BASE_URL, request, chain));
+
+        Mockito.verify(chain, Mockito.times(4)).proceed(BASE_URL, request);
+        final OPFCircuitBreakerStatsData stats = interceptor.getCircuitBreakerStats().get(0);
+        Assertions.assertEquals(OPFGatewayEndpoint.ACTIVE_CONFIG.getCode(), stats.getEndpoint());
+        Assertions.assertEquals("OPEN", stats.getState());
+        Assertions.assertEquals(1L, stats.getRejectedCalls());
+        Assertions.assertEquals(4L, stats.getFallbacksServed());
+    }
+
+    @Test
+    void servesEmptyCTAResponseOnFailure() {
+        final HttpClientRequestDto<OPFPaymentCTAResponse> request = new HttpClientRequestDto<>();
+        request.setPath("/cta");
+        request.setResponseType(OPFPaymentCTAResponse.class);
+        Mockito.when(chain.proceed(BASE_URL, request)).thenThrow(serviceUnavailable());
+
+        final OPFPaymentCTAResponse response = interceptor.intercept(BASE_URL, request, chain);
+
+        Assertions.assertTrue(response.getValue().isEmpty());
+    }
+
+    @Test
+    void failsFastWithoutFallbackAndIgnoresClientErrors() {
+        interceptor.setFallbacks(List.of());
+        final HttpClientRequestDto<OPFActiveConfigResponse> request = activeConfigRequest();
+        Mockito.when(chain.proceed(BASE_URL, request))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad request", null, null, null));
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertThrows(HttpClientErrorException.class, () -> interceptor.intercept(BASE_URL, request, chain));
+        }
+        Mockito.reset(chain);
+        Mockito.when(chain.proceed(BASE_URL, request)).thenThrow(serviceUnavailable());
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(HttpServerErrorException.class, () -> interceptor.intercept(BASE_URL, request, chain));
+        }
+
+        final OPFCircuitBreakerOpenException exception = Assertions.assertThrows(OPFCircuitBreakerOpenException.class,
+                () -> interceptor.intercept(BASE_URL, request, chain));
+        Assertions.assertEquals(OPFGatewayEndpoint.ACTIVE_CONFIG, exception.getEndpoint());
+    }
+
+    @Test
+    void ignoresClientErrorsWrappedByTheGatewayClient() {
+        interceptor.setFallbacks(List.of());
+        final HttpClientRequestDto<OPFActiveConfigResponse> request = activeConfigRequest();
+        Mockito.when(chain.proceed(BASE_URL, request)).thenThrow(new CCAdapterClientException("bad request",
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad request", null, null, null)));
+
+        for (int i = 0; i < 6; i++) {
+            Assertions.assertThrows(CCAdapterClientException.class, () -> interceptor.intercept(BASE_URL, request, chain));
+        }
+
+        final OPFCircuitBreakerStatsData stats = interceptor.getCircuitBreakerStats().get(0);
+        Assertions.assertEquals(OPFGatewayEndpoint.ACTIVE_CONFIG.getCode(), stats.getEndpoint());
+        Assertions.assertEquals("CLOSED", stats.getState());
+        Assertions.assertEquals(0, stats.getFailureRate());
+        Assertions.assertEquals(4, stats.getBufferedCalls());
+    }
+
+    @Test
+    void guardsTheSiteUrlOverrideOfAnEndpoint() {
+        final OPFConfigService opfConfigService = Mockito.mock(OPFConfigService.class);
+        final OPFConfig siteConfig = OPFConfig.builder().activeConfigUrl("/electronics/configurations").build();
+        Mockito.when(opfConfigService.getConfig()).thenReturn(siteConfig);
+        final OPFRequestDeadlineInterceptor deadlineInterceptor = new OPFRequestDeadlineInterceptor(configurationService,
+                new OPFRetryBudget(configurationService));
+        deadlineInterceptor.setOpfConfigService(opfConfigService);
+        interceptor.setFallbacks(List.of());
+        final HttpClientRequestDto<OPFActiveConfigResponse> request = activeConfigRequest();
+        request.setPath("/electronics/configurations");
+        Mockito.when(chain.proceed(BASE_URL, request)).thenThrow(serviceUnavailable());
+        final OPFHttpExchangeChain breakerChain = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> exchanged) {
+                return interceptor.intercept(baseUrl, exchanged, chain);
+            }
+        };
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertThrows(HttpServerErrorException.class,
+                    () -> deadlineInterceptor.intercept(BASE_URL, request, breakerChain));
+        }
+
+        final OPFCircuitBreakerOpenException exception = Assertions.assertThrows(OPFCircuitBreakerOpenException.class,
+                () -> deadlineInterceptor.intercept(BASE_URL, request, breakerChain));
+        Assertions.assertEquals(OPFGatewayEndpoint.ACTIVE_CONFIG, exception.getEndpoint());
+    }
+
+    @Test
+    void passesThroughUnknownPaths() {
+        final HttpClientRequestDto<String> request = new HttpClientRequestDto<>();
+        request.setPath("/oauth/token");
+        Mockito.when(chain.proceed(BASE_URL, request)).thenThrow(serviceUnavailable());
+
+        for (int i = 0; i < 6; i++) {
+            Assertions.assertThrows(HttpServerErrorException.class, () -> interceptor.intercept(BASE_URL, request, chain));
+        }
+        Assertions.assertTrue(interceptor.getCircuitBreakerStats().isEmpty());
+    }
+
+    private static HttpClientRequestDto<OPFActiveConfigResponse> activeConfigRequest() {
+        final HttpClientRequestDto<OPFActiveConfigResponse> request = new HttpClientRequestDto<>();
+        request.setPath("/configurations");
+        request.setResponseType(OPFActiveConfigResponse.class);
+        request.setQueryParams(Map.of("divisionId", "electronics"));
+        return request;
+    }
+
+    private static HttpServerErrorException serviceUnavailable() {
+        return HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "unavailable", null, null, null);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.opf.data.OPFEndpointConcurrencyStatsData;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFEndpointConcurrencyInterceptorTest {
+
+    private static final String BASE_URL = "https://opf.example.com";
+    private static final String CTA = "/cta";
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private OPFEndpointConcurrencyInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getString(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getInt(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getString(eq("opf.http.executor"), any())).thenReturn("virtual");
+        Mockito.when(configuration.getInt(eq("opf.http.virtual.endpoint.max.concurrent"), anyInt())).thenReturn(1);
+        Mockito.when(configuration.getLong(eq("opf.http.virtual.endpoint.acquire.timeout.ms"), anyLong())).thenReturn(20L);
+        interceptor = new OPFEndpointConcurrencyInterceptor(configurationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void permitIsReleasedAfterTheCall() {
+        Assertions.assertEquals("ok", interceptor.intercept(BASE_URL, request(CTA), respondWith("ok")));
+        Assertions.assertEquals("ok", interceptor.intercept(BASE_URL, request(CTA), respondWith("ok")));
+
+        final OPFEndpointConcurrencyStatsData stats = stats(CTA);
+        Assertions.assertEquals(1, stats.getMaxConcurrent());
+        Assertions.assertEquals(0, stats.getInFlight());
+        Assertions.assertEquals(0L, stats.getRejected());
+    }
+
+    @Test
+    void permitIsReleasedWhenTheCallFails() {
+        final OPFHttpExchangeChain failingChain = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                throw new IllegalStateException("gateway down");
+            }
+        };
+
+        Assertions.assertThrows(IllegalStateException.class, () -> interceptor.intercept(BASE_URL, request(CTA), failingChain));
+        Assertions.assertEquals(0, stats(CTA).getInFlight());
+        Assertions.assertEquals("ok", interceptor.intercept(BASE_URL, request(CTA), respondWith("ok")));
+    }
+
+    @Test
+    void callIsRejectedWhenTheEndpointIsAtItsCap() throws Exception {
+        final Future<String> held = holdCall(CTA);
+
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> interceptor.intercept(BASE_URL, request(CTA), respondWith("ok")));
+        final OPFEndpointConcurrencyStatsData stats = stats(CTA);
+        Assertions.assertEquals(1, stats.getInFlight());
+        Assertions.assertEquals(1L, stats.getRejected());
+
+        release.countDown();
+        Assertions.assertEquals("held", held.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, stats(CTA).getInFlight());
+        Assertions.assertEquals("ok", interceptor.intercept(BASE_URL, request(CTA), respondWith("ok")));
+    }
+
+    @Test
+    void capIsAppliedPerEndpoint() throws Exception {
+        holdCall(CTA);
+
+        Assertions.assertEquals("config", interceptor.intercept(BASE_URL, request("/active-config"), respondWith("config")));
+        Assertions.assertEquals(0L, stats("/active-config").getRejected());
+    }
+
+    @Test
+    void interruptedCallerIsRejectedAndKeepsItsInterrupt() throws Exception {
+        holdCall(CTA);
+
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(RejectedExecutionException.class,
+                    () -> interceptor.intercept(BASE_URL, request(CTA), respondWith("ok")));
+            Assertions.assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        Assertions.assertEquals(1, stats(CTA).getInFlight());
+    }
+
+    @Test
+    void passesThroughOutsideVirtualMode() {
+        Mockito.when(configuration.getString(eq("opf.http.executor"), any())).thenReturn("platform");
+
+        Assertions.assertEquals("ok", interceptor.intercept(BASE_URL, request(CTA), respondWith("ok")));
+        Assertions.assertTrue(interceptor.getEndpointStats().isEmpty());
+    }
+
+    private Future<String> holdCall(final String path) throws InterruptedException {
+        final OPFHttpExchangeChain holdingChain = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return request.getResponseType().cast("held");
+            }
+        };
+        final Future<String> future = executor.submit(() -> interceptor.intercept(BASE_URL, request(path), holdingChain));
+        Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private static OPFHttpExchangeChain respondWith(final String response) {
+        return new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                return request.getResponseType().cast(response);
+            }
+        };
+    }
+
+    private OPFEndpointConcurrencyStatsData stats(final String endpoint) {
+        return interceptor.getEndpointStats().stream().filter(stats -> endpoint.equals(stats.getEndpoint())).findFirst()
+                .orElseThrow();
+    }
+
+    private static HttpClientRequestDto<String> request(final String path) {
+        final HttpClientRequestDto<String> request = new HttpClientRequestDto<>();
+        request.setPath(path);
+        request.setResponseType(String.class);
+        return request;
+    }
+}
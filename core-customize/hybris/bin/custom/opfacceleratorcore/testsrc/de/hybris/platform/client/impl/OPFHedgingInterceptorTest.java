@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.client.OPFHttpExchangeChain;
+import de.hybris.platform.opf.data.OPFHedgingStatsData;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFHedgingInterceptorTest {
+
+    private static final String BASE_URL = "https://opf.example.com";
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final Map<Integer, Thread> attemptThreads = new ConcurrentHashMap<>();
+    private final CountDownLatch loserAborted = new CountDownLatch(1);
+    private OPFHedgingInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getInt(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getBoolean(eq("opf.hedging.enabled"), anyBoolean())).thenReturn(true);
+        Mockito.when(configuration.getLong(eq("opf.hedging.initial.delay.ms"), anyLong())).thenReturn(50L);
+        Mockito.when(configuration.getString(eq(OPFGatewayEndpoint.CTA.getUrlKey()), any())).thenReturn("/cta");
+        Mockito.when(configuration.getString(eq(OPFGatewayEndpoint.SUBMIT.getUrlKey()), any())).thenReturn("/submit");
+        interceptor = new OPFHedgingInterceptor(configurationService, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void hedgeAnswersWhenPrimaryIsSlowAndPrimaryRequestIsAborted() throws InterruptedException {
+        final String response = interceptor.intercept(BASE_URL, request("/cta"), attempts(Long.MAX_VALUE, 0L));
+
+        Assertions.assertEquals("attempt-2", response);
+        Assertions.assertTrue(loserAborted.await(1, TimeUnit.SECONDS));
+        Assertions.assertSame(Thread.currentThread(), attemptThreads.get(1));
+        Assertions.assertNotSame(Thread.currentThread(), attemptThreads.get(2));
+        final OPFHedgingStatsData stats = interceptor.getHedgingStats().get(0);
+        Assertions.assertEquals(OPFGatewayEndpoint.CTA.getCode(), stats.getEndpoint());
+        Assertions.assertEquals(1L, stats.getHedges());
+        Assertions.assertEquals(1L, stats.getHedgeWins());
+        Assertions.assertEquals(50L, stats.getDelayMs());
+    }
+
+    @Test
+    void hedgeRequestIsAbortedWhenPrimaryAnswersFirst() throws InterruptedException {
+        final String response = interceptor.intercept(BASE_URL, request("/cta"), attempts(150L, Long.MAX_VALUE));
+
+        Assertions.assertEquals("attempt-1", response);
+        Assertions.assertTrue(loserAborted.await(1, TimeUnit.SECONDS));
+        final OPFHedgingStatsData stats = interceptor.getHedgingStats().get(0);
+        Assertions.assertEquals(1L, stats.getHedges());
+        Assertions.assertEquals(0L, stats.getHedgeWins());
+    }
+
+    @Test
+    void failedPrimaryWaitsForTheHedge() {
+        final OPFHttpExchangeChain chain = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                final int attempt = attempts.incrementAndGet();
+                if (attempt == 1) {
+                    sleep(100L);
+                    throw new IllegalStateException("primary failed");
+                }
+                sleep(100L);
+                return request.getResponseType().cast("attempt-" + attempt);
+            }
+        };
+
+        Assertions.assertEquals("attempt-2", interceptor.intercept(BASE_URL, request("/cta"), chain));
+        Assertions.assertEquals(1L, interceptor.getHedgingStats().get(0).getHedgeWins());
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() {
+        final String response = interceptor.intercept(BASE_URL, request("/cta"), respond(0L));
+
+        Assertions.assertEquals("attempt-1", response);
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(0L, interceptor.getHedgingStats().get(0).getHedges());
+    }
+
+    @Test
+    void hedgeRateCapStopsHedging() {
+        Mockito.when(configuration.getLong(eq("opf.hedging.max.tokens"), anyLong())).thenReturn(1L);
+        Mockito.when(configuration.getLong(eq("opf.hedging.max.rate.percent"), anyLong())).thenReturn(0L);
+        interceptor = new OPFHedgingInterceptor(configurationService, executor);
+
+        interceptor.intercept(BASE_URL, request("/cta"), respond(150L));
+        interceptor.intercept(BASE_URL, request("/cta"), respond(150L));
+
+        final OPFHedgingStatsData stats = interceptor.getHedgingStats().get(0);
+        Assertions.assertEquals(2L, stats.getCalls());
+        Assertions.assertEquals(1L, stats.getHedges());
+        Assertions.assertEquals(1L, stats.getDeniedByRate());
+    }
+
+    @Test
+    void nonIdempotentCallsAreNotHedged() {
+        final Thread caller = Thread.currentThread();
+        final OPFHttpExchangeChain chain = new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                Assertions.assertSame(caller, Thread.currentThread());
+                return request.getResponseType().cast("submitted");
+            }
+        };
+
+        Assertions.assertEquals("submitted", interceptor.intercept(BASE_URL, request("/submit"), chain));
+        Assertions.assertTrue(interceptor.getHedgingStats().isEmpty());
+    }
+
+    /**
+     * stand-in transport answering the primary and the hedge after the given delays, a request that has not answered
+     * yet is aborted like the http request would be when its attempt is cancelled
+     */
+    private OPFHttpExchangeChain attempts(final long primaryDelayMs, final long hedgeDelayMs) {
+        return new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                final int attempt = attempts.incrementAndGet();
+                attemptThreads.put(attempt, Thread.currentThread());
+                final CountDownLatch aborted = new CountDownLatch(1);
+                OPFGatewayCallContext.current().register(() -> {
+                    aborted.countDown();
+                    return true;
+                });
+                final long delayMs = Math.min(attempt == 1 ? primaryDelayMs : hedgeDelayMs, 5000L);
+                try {
+                    if (aborted.await(delayMs, TimeUnit.MILLISECONDS)) {
+                        loserAborted.countDown();
+                        throw new IllegalStateException("Request aborted");
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return request.getResponseType().cast("attempt-" + attempt);
+            }
+        };
+    }
+
+    private OPFHttpExchangeChain respond(final long delayMs) {
+        return new OPFHttpExchangeChain() {
+            @Override
+            public <T> T proceed(final String baseUrl, final HttpClientRequestDto<T> request) {
+                final int attempt = attempts.incrementAndGet();
+                sleep(delayMs);
+                return request.getResponseType().cast("attempt-" + attempt);
+            }
+        };
+    }
+
+    private static void sleep(final long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static HttpClientRequestDto<String> request(final String path) {
+        final HttpClientRequestDto<String> request = new HttpClientRequestDto<>();
+        request.setPath(path);
+        request.setResponseType(String.class);
+        return request;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.opf.data.OPFHttpPoolStatsData;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFPoolingClientHttpRequestFactoryTest {
+
+    private static final URI GATEWAY = URI.create("https://opf.example.com/cta");
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    private OPFPoolingClientHttpRequestFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getInt(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getString(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        factory = new OPFPoolingClientHttpRequestFactory(configurationService);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        factory.destroy();
+    }
+
+    @Test
+    void attemptIsLimitedToTheRequestDeadline() {
+        final OPFGatewayCallContext previous = OPFGatewayCallContext.open(OPFGatewayEndpoint.CTA, 500L);
+        final RequestConfig requestConfig;
+        try {
+            requestConfig = ((HttpClientContext) factory.createHttpContext(HttpMethod.GET, GATEWAY)).getRequestConfig();
+        } finally {
+            OPFGatewayCallContext.restore(previous);
+        }
+
+        Assertions.assertTrue(requestConfig.getResponseTimeout().toMilliseconds() <= 500L);
+        Assertions.assertTrue(requestConfig.getResponseTimeout().toMilliseconds() > 0L);
+        Assertions.assertTrue(requestConfig.getConnectionRequestTimeout().toMilliseconds() <= 500L);
+    }
+
+    @Test
+    void attemptWithoutDeadlineUsesTheConfiguredTimeouts() {
+        Assertions.assertNull(factory.createHttpContext(HttpMethod.GET, GATEWAY));
+
+        final OPFGatewayCallContext previous = OPFGatewayCallContext.open(OPFGatewayEndpoint.CTA, 0L);
+        try {
+            Assertions.assertNull(factory.createHttpContext(HttpMethod.GET, GATEWAY));
+        } finally {
+            OPFGatewayCallContext.restore(previous);
+        }
+    }
+
+    @Test
+    void cancelledAttemptAbortsTheRequestInFlight() throws Exception {
+        try (OPFStandInGatewayServer gateway = new OPFStandInGatewayServer()) {
+            gateway.setBehaviour((exchange, inFlight) -> new OPFStandInGatewayServer.Response(200, "{}", 5000L));
+            final OPFGatewayCallContext attempt = OPFGatewayCallContext.newAttempt();
+            CompletableFuture.delayedExecutor(100L, TimeUnit.MILLISECONDS).execute(attempt::cancel);
+            final long start = System.nanoTime();
+
+            // the aborted exchange fails with an IOException or an IllegalStateException depending on where it was
+            Assertions.assertThrows(RuntimeException.class, () -> attempt.call(() -> {
+                try (ClientHttpResponse response = factory.createRequest(URI.create(gateway.getBaseUrl() + "/cta"),
+                        HttpMethod.GET).execute()) {
+                    return response.getStatusCode().value();
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+
+            Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000L);
+            // the aborting thread releases the connection
+            final long giveUp = System.nanoTime() + TimeUnit.SECONDS.toNanos(1L);
+            while (factory.getPoolStats().getLeased() > 0 && System.nanoTime() < giveUp) {
+                Thread.sleep(10L);
+            }
+            Assertions.assertEquals(0, factory.getPoolStats().getLeased());
+        }
+    }
+
+    @Test
+    void poolIsSizedFromTheConfiguration() throws Exception {
+        Mockito.when(configuration.getInt("opf.http.pool.max.total", 100)).thenReturn(40);
+        Mockito.when(configuration.getInt("opf.http.pool.max.per.route", 20)).thenReturn(10);
+        rebuildFactory();
+
+        final PoolingHttpClientConnectionManager manager = factory.getConnectionManager();
+        Assertions.assertEquals(40, manager.getMaxTotal());
+        Assertions.assertEquals(10, manager.getDefaultMaxPerRoute());
+
+        final OPFHttpPoolStatsData stats = factory.getPoolStats();
+        Assertions.assertEquals(40, stats.getMax());
+        Assertions.assertEquals(0, stats.getLeased());
+        Assertions.assertEquals(0, stats.getAvailable());
+        Assertions.assertEquals(0, stats.getRoutes());
+    }
+
+    @Test
+    void gatewayRouteUsesItsOwnLimit() throws Exception {
+        Mockito.when(configuration.getInt("opf.http.pool.max.per.route", 20)).thenReturn(10);
+        Mockito.when(configuration.getInt("opf.http.pool.max.per.route.gateway", 0)).thenReturn(30);
+        Mockito.when(configuration.getString("opf.base.url", "")).thenReturn("https://opf.example.com/commerce");
+        rebuildFactory();
+
+        final PoolingHttpClientConnectionManager manager = factory.getConnectionManager();
+        Assertions.assertEquals(30, manager.getMaxPerRoute(route("https", "opf.example.com", 443)));
+        Assertions.assertEquals(10, manager.getMaxPerRoute(route("https", "other.example.com", 443)));
+    }
+
+    @Test
+    void gatewayRouteKeepsTheDefaultLimitWhenNotConfigured() {
+        Mockito.when(configuration.getString("opf.base.url", "")).thenReturn("https://opf.example.com/commerce");
+
+        Assertions.assertEquals(20, factory.getConnectionManager().getMaxPerRoute(route("https", "opf.example.com", 443)));
+    }
+
+    @Test
+    void idleConnectionIsEvicted() throws Exception {
+        Mockito.when(configuration.getLong("opf.http.pool.idle.eviction.ms", 30000L)).thenReturn(100L);
+        rebuildFactory();
+
+        try (OPFStandInGatewayServer gateway = new OPFStandInGatewayServer()) {
+            try (ClientHttpResponse response = factory.createRequest(URI.create(gateway.getBaseUrl() + "/cta"), HttpMethod.GET)
+                    .execute()) {
+                Assertions.assertEquals(200, response.getStatusCode().value());
+                response.getBody().readAllBytes();
+            }
+            Assertions.assertEquals(1, factory.getPoolStats().getAvailable());
+            Assertions.assertEquals(1, factory.getPoolStats().getRoutes());
+
+            final long giveUp = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+            while (factory.getPoolStats().getAvailable() > 0 && System.nanoTime() < giveUp) {
+                Thread.sleep(50L);
+            }
+            Assertions.assertEquals(0, factory.getPoolStats().getAvailable());
+        }
+    }
+
+    private void rebuildFactory() throws Exception {
+        factory.destroy();
+        factory = new OPFPoolingClientHttpRequestFactory(configurationService);
+    }
+
+    private static HttpRoute route(final String scheme, final String host, final int port) {
+        return new HttpRoute(new HttpHost(scheme, host, port), null, "https".equals(scheme));
+    }
+}
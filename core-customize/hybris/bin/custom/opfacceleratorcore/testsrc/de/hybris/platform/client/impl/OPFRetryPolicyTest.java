@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.opf.data.OPFRetryStatsData;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFRetryPolicyTest {
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private OPFRetryBudget retryBudget;
+    private RetryTemplate retryTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getLong(eq("opf.retry.budget.percent"), anyLong())).thenReturn(10L);
+        Mockito.when(configuration.getLong(eq("opf.retry.budget.min.tokens"), anyLong())).thenReturn(2L);
+        Mockito.when(configuration.getLong(eq("opf.retry.budget.max.tokens"), anyLong())).thenReturn(100L);
+        retryBudget = new OPFRetryBudget(configurationService);
+
+        final OPFExponentialJitterBackOffPolicy backOffPolicy = new OPFExponentialJitterBackOffPolicy() {
+            @Override
+            protected long computeSleep(final int attempt) {
+                // a jitter of 0 ms skips the sleeper, keep every back off visible to the assertions
+                return Math.max(1L, super.computeSleep(attempt));
+            }
+        };
+        backOffPolicy.setInitialInterval(100L);
+        backOffPolicy.setMaxInterval(1000L);
+        backOffPolicy.setSleeper(sleeps::add);
+
+        retryTemplate = new RetryTemplate();
+        retryTemplate.setBackOffPolicy(backOffPolicy);
+        retryTemplate.setRetryPolicy(new OPFRetryPolicy(5,
+                Map.of(HttpServerErrorException.ServiceUnavailable.class, Boolean.TRUE), retryBudget));
+    }
+
+    @AfterEach
+    void tearDown() {
+        OPFGatewayCallContext.restore(null);
+    }
+
+    @Test
+    void retriesUntilSuccessWithJitteredBackOff() {
+        final AtomicInteger attempts = new AtomicInteger();
+        OPFGatewayCallContext.open(OPFGatewayEndpoint.CTA, 0L);
+
+        final String result = retryTemplate.execute(context -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw serviceUnavailable();
+            }
+            return "ok";
+        });
+
+        Assertions.assertEquals("ok", result);
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(2, sleeps.size());
+        Assertions.assertTrue(sleeps.get(0) <= 100L);
+        Assertions.assertTrue(sleeps.get(1) <= 200L);
+        final OPFRetryStatsData stats = retryBudget.getRetryStats();
+        Assertions.assertEquals(2L, stats.getRetries());
+        Assertions.assertEquals(2L, stats.getRetriesByEndpoint().get(OPFGatewayEndpoint.CTA.getCode()));
+    }
+
+    @Test
+    void stopsRetryingWhenBudgetIsExhausted() {
+        final AtomicInteger attempts = new AtomicInteger();
+        OPFGatewayCallContext.open(OPFGatewayEndpoint.ACTIVE_CONFIG, 0L);
+
+        Assertions.assertThrows(HttpServerErrorException.ServiceUnavailable.class, () -> retryTemplate.execute(context -> {
+            attempts.incrementAndGet();
+            throw serviceUnavailable();
+        }));
+
+        Assertions.assertEquals(3, attempts.get());
+        final OPFRetryStatsData stats = retryBudget.getRetryStats();
+        Assertions.assertEquals(2L, stats.getRetries());
+        Assertions.assertEquals(1L, stats.getDeniedByBudget());
+        Assertions.assertEquals("active-config:budget", stats.getLastDenial());
+    }
+
+    @Test
+    void callsRefillTheBudget() {
+        for (int i = 0; i < 30; i++) {
+            retryBudget.recordCall();
+        }
+
+        Assertions.assertEquals(5L, retryBudget.getRetryStats().getAvailableTokens());
+    }
+
+    @Test
+    void doesNotRetryPastTheDeadline() {
+        final AtomicInteger attempts = new AtomicInteger();
+        OPFGatewayCallContext.open(OPFGatewayEndpoint.SUBMIT_COMPLETE, 50L);
+
+        Assertions.assertThrows(HttpServerErrorException.ServiceUnavailable.class, () -> retryTemplate.execute(context -> {
+            attempts.incrementAndGet();
+            throw serviceUnavailable();
+        }));
+
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertTrue(sleeps.isEmpty());
+        Assertions.assertEquals(1L, retryBudget.getRetryStats().getDeniedByDeadline());
+    }
+
+    @Test
+    void doesNotRetryACancelledAttempt() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final OPFGatewayCallContext attempt = OPFGatewayCallContext.newAttempt();
+
+        Assertions.assertThrows(HttpServerErrorException.ServiceUnavailable.class,
+                () -> attempt.call(() -> retryTemplate.execute(context -> {
+                    attempts.incrementAndGet();
+                    attempt.cancel();
+                    throw serviceUnavailable();
+                })));
+
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void doesNotRetryNonRetryableExceptions() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> retryTemplate.execute(context -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("not retryable");
+        }));
+
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(0L, retryBudget.getRetryStats().getRetries());
+    }
+
+    private static HttpServerErrorException serviceUnavailable() {
+        return HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "unavailable", null, null, null);
+    }
+}
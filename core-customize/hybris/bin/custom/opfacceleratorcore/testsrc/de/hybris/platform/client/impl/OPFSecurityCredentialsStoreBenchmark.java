@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.util.OPFMicroBenchmark;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compares {@link DefaultOPFHttpClient#getSecurityProperties()} reading the security file on every call with serving
+ * it from the snapshot of {@link OPFSecurityCredentialsStore}. Not part of the unit test run, see
+ * {@link OPFMicroBenchmark}.
+ */
+public class OPFSecurityCredentialsStoreBenchmark {
+
+    private static final String SECURITY_FILE = "opf-secret.properties";
+    private static final int CALLS = 20_000;
+
+    public static void main(final String[] args) throws IOException {
+        final Path securityDir = Files.createTempDirectory("opf-security");
+        final Path securityFile = securityDir.resolve(SECURITY_FILE);
+        Files.writeString(securityFile, "opf.tenant.clientid=tenant-1\nopf.tenant.publickey=key-1\n");
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty("opf.oauth.client-secret.file", SECURITY_FILE);
+        configuration.setProperty("opf.oauth.client-secret.file.location", securityDir.toString());
+        configuration.setProperty("opf.oauth.client-secret.watch.enabled", false);
+        final ConfigurationService configurationService = Mockito.mock(ConfigurationService.class);
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+
+        final OPFSecurityCredentialsStore store = new OPFSecurityCredentialsStore("opf.oauth.client-secret.file",
+                "opf.oauth.client-secret.file.location", configurationService);
+        try {
+            store.afterPropertiesSet();
+            final DefaultOPFHttpClient fileClient = newClient(configurationService);
+            final DefaultOPFHttpClient snapshotClient = newClient(configurationService);
+            snapshotClient.setSecurityCredentialsStore(store);
+
+            OPFMicroBenchmark.nanosPerCall("getSecurityProperties reading the file", CALLS,
+                    () -> fileClient.getSecurityProperties().hashCode());
+            OPFMicroBenchmark.nanosPerCall("getSecurityProperties from the snapshot", CALLS,
+                    () -> snapshotClient.getSecurityProperties().hashCode());
+        } finally {
+            store.destroy();
+            Files.delete(securityFile);
+            Files.delete(securityDir);
+        }
+    }
+
+    private static DefaultOPFHttpClient newClient(final ConfigurationService configurationService) {
+        return new DefaultOPFHttpClient("opf.oauth.token.url", "opf.oauth.client-secret.file",
+                "opf.oauth.client-secret.file.location", null, configurationService);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.opfservices.client.OAuth2TokenException;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFSecurityCredentialsStoreTest {
+
+    private static final String SECURITY_FILE = "opf-secret.properties";
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    @TempDir
+    Path securityDir;
+
+    private OPFSecurityCredentialsStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        writeSecurityFile("tenant-1", "key-1");
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getString("opf.oauth.client-secret.file")).thenReturn(SECURITY_FILE);
+        Mockito.when(configuration.getString("opf.oauth.client-secret.file.location")).thenReturn(securityDir.toString());
+        store = new OPFSecurityCredentialsStore("opf.oauth.client-secret.file", "opf.oauth.client-secret.file.location",
+                configurationService);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.destroy();
+    }
+
+    @Test
+    void changedFileReplacesTheSnapshot() throws Exception {
+        store.afterPropertiesSet();
+        Assertions.assertEquals("tenant-1", store.getCredentials().get("opf.tenant.clientid"));
+        Assertions.assertTrue(store.getSecurityCredentialsStats().isWatching());
+
+        writeSecurityFile("tenant-2", "key-2");
+
+        awaitTrue(() -> "tenant-2".equals(store.getCredentials().get("opf.tenant.clientid")));
+        Assertions.assertEquals("key-2", store.getCredentials().get("opf.tenant.publickey"));
+        Assertions.assertTrue(store.getSecurityCredentialsStats().getReloads() >= 2L);
+    }
+
+    @Test
+    void malformedFileKeepsTheLastGoodSnapshot() throws Exception {
+        store.afterPropertiesSet();
+
+        Files.writeString(securityDir.resolve(SECURITY_FILE), "opf.tenant.clientid=\\uZZZZ\nopf.tenant.publickey=key-2\n");
+
+        awaitTrue(() -> store.getSecurityCredentialsStats().getRejectedReloads() > 0L);
+        Assertions.assertEquals("tenant-1", store.getCredentials().get("opf.tenant.clientid"));
+        Assertions.assertEquals("key-1", store.getCredentials().get("opf.tenant.publickey"));
+    }
+
+    @Test
+    void incompleteFileIsRejected() throws IOException {
+        store.afterPropertiesSet();
+        Files.writeString(securityDir.resolve(SECURITY_FILE), "opf.tenant.clientid=tenant-2\n");
+
+        Assertions.assertFalse(store.reload());
+        Assertions.assertEquals("tenant-1", store.getCredentials().get("opf.tenant.clientid"));
+    }
+
+    @Test
+    void missingFileFailsOnFirstUse() throws IOException {
+        Files.delete(securityDir.resolve(SECURITY_FILE));
+
+        Assertions.assertThrows(OAuth2TokenException.class, () -> store.getCredentials());
+    }
+
+    @Test
+    void snapshotServesTheCredentialsOfTheFile() {
+        store.afterPropertiesSet();
+        final DefaultOPFHttpClient fileClient = new DefaultOPFHttpClient("opf.oauth.token.url",
+                "opf.oauth.client-secret.file", "opf.oauth.client-secret.file.location", null, configurationService);
+        final DefaultOPFHttpClient snapshotClient = new DefaultOPFHttpClient("opf.oauth.token.url",
+                "opf.oauth.client-secret.file", "opf.oauth.client-secret.file.location", null, configurationService);
+        snapshotClient.setSecurityCredentialsStore(store);
+
+        Assertions.assertEquals(fileClient.getSecurityProperties(), snapshotClient.getSecurityProperties());
+    }
+
+    private void writeSecurityFile(final String clientId, final String publicKey) throws IOException {
+        Files.writeString(securityDir.resolve(SECURITY_FILE),
+                "opf.tenant.clientid=" + clientId + "\nopf.tenant.publickey=" + publicKey + "\n");
+    }
+
+    private static void awaitTrue(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20L);
+        }
+        Assertions.assertTrue(condition.getAsBoolean());
+    }
+}
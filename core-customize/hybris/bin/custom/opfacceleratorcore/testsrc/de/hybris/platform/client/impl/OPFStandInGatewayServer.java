@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for the OPF gateway, listening on a free loopback port. What it answers and how long it takes is
+ * decided by a pluggable {@link Behaviour}, which can be swapped while the server runs to simulate a degrading or
+ * recovering gateway.
+ */
+public class OPFStandInGatewayServer implements AutoCloseable {
+
+    /**
+     * Answer of the stand-in gateway
+     *
+     * @param status HTTP status
+     * @param body JSON body
+     * @param delayMs time taken before answering
+     */
+    public record Response(int status, String body, long delayMs) {
+    }
+
+    /**
+     * Decides the answer to a request
+     */
+    @FunctionalInterface
+    public interface Behaviour {
+        /**
+         * @param exchange request received
+         * @param inFlight requests being served, including this one
+         * @return the answer
+         */
+        Response respond(HttpExchange exchange, int inFlight);
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private volatile Behaviour behaviour = (exchange, calls) -> new Response(200, "{}", 0L);
+
+    /**
+     * Start the server
+     *
+     * @throws IOException if the server cannot be bound
+     */
+    public OPFStandInGatewayServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        final int calls = inFlight.incrementAndGet();
+        requests.increment();
+        try (exchange) {
+            final Response response = behaviour.respond(exchange, calls);
+            if (response.delayMs() > 0) {
+                Thread.sleep(response.delayMs());
+            }
+            final byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public void setBehaviour(final Behaviour behaviour) {
+        this.behaviour = behaviour;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
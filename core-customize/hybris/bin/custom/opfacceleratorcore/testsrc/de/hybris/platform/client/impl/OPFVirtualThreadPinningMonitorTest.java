@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.client.impl;
+
+import de.hybris.platform.opf.data.OPFVirtualThreadPinningStatsData;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OPFVirtualThreadPinningMonitorTest {
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    private OPFVirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getString(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        monitor = new OPFVirtualThreadPinningMonitor(configurationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.destroy();
+    }
+
+    @Test
+    void notStartedOutsideVirtualMode() {
+        monitor.afterPropertiesSet();
+
+        final OPFVirtualThreadPinningStatsData stats = monitor.getPinningStats();
+        Assertions.assertFalse(stats.isEnabled());
+        Assertions.assertEquals(0L, stats.getPinnedEvents());
+    }
+
+    @Test
+    void startedInVirtualMode() {
+        Mockito.when(configuration.getString(eq("opf.http.executor"), any())).thenReturn("virtual");
+
+        monitor.afterPropertiesSet();
+
+        Assertions.assertTrue(monitor.getPinningStats().isEnabled());
+    }
+
+    @Test
+    void pinnedEventsAreCounted() {
+        monitor.onPinned(pinnedEvent(Duration.ofMillis(30L), "de.hybris.platform.client.impl.Example", "call"));
+        monitor.onPinned(pinnedEvent(Duration.ofMillis(50L), "de.hybris.platform.client.impl.Example", "lock"));
+
+        final OPFVirtualThreadPinningStatsData stats = monitor.getPinningStats();
+        Assertions.assertEquals(2L, stats.getPinnedEvents());
+        Assertions.assertEquals(80L, stats.getPinnedTimeMs());
+        Assertions.assertEquals("de.hybris.platform.client.impl.Example.lock", stats.getLastPinnedFrame());
+    }
+
+    @Test
+    void pinnedEventWithoutStackTraceIsCounted() {
+        final RecordedEvent event = Mockito.mock(RecordedEvent.class);
+        Mockito.when(event.getDuration()).thenReturn(Duration.ofMillis(25L));
+
+        monitor.onPinned(event);
+
+        final OPFVirtualThreadPinningStatsData stats = monitor.getPinningStats();
+        Assertions.assertEquals(1L, stats.getPinnedEvents());
+        Assertions.assertEquals(25L, stats.getPinnedTimeMs());
+        Assertions.assertNull(stats.getLastPinnedFrame());
+    }
+
+    private static RecordedEvent pinnedEvent(final Duration duration, final String type, final String method) {
+        final RecordedClass recordedClass = Mockito.mock(RecordedClass.class);
+        Mockito.when(recordedClass.getName()).thenReturn(type);
+        final RecordedMethod recordedMethod = Mockito.mock(RecordedMethod.class);
+        Mockito.when(recordedMethod.getType()).thenReturn(recordedClass);
+        Mockito.when(recordedMethod.getName()).thenReturn(method);
+        final RecordedFrame frame = Mockito.mock(RecordedFrame.class);
+        Mockito.when(frame.getMethod()).thenReturn(recordedMethod);
+        final RecordedStackTrace stackTrace = Mockito.mock(RecordedStackTrace.class);
+        Mockito.when(stackTrace.getFrames()).thenReturn(List.of(frame));
+        final RecordedEvent event = Mockito.mock(RecordedEvent.class);
+        Mockito.when(event.getDuration()).thenReturn(duration);
+        Mockito.when(event.getStackTrace()).thenReturn(stackTrace);
+        return event;
+    }
+}
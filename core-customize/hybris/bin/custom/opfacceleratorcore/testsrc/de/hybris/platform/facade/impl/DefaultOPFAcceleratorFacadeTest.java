@@ -3,6 +3,8 @@
  */
 package de.hybris.platform.facade.impl;
 
+import com.opf.dto.cta.CTABatchRequestDTO;
+import com.opf.dto.cta.CTABatchResponseDTO;
 import com.opf.dto.cta.CTARequestDTO;
 import com.opf.dto.cta.CTAResponseDTO;
 import com.opf.dto.cta.OPFActiveConfigDTO;
@@ -20,11 +22,16 @@ import de.hybris.platform.opf.data.response.OPFApplePayResponse;
 import de.hybris.platform.opf.data.response.OPFPaymentSubmitResponse;
 import de.hybris.platform.opf.dto.*;
 import de.hybris.platform.service.OPFAcceleratorService;
+import de.hybris.platform.service.OPFAsyncAcceleratorService;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
 import de.hybris.platform.servicelayer.dto.converter.Converter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -36,6 +43,15 @@ import de.hybris.platform.opf.dto.user.CountryWsDTO;
 import de.hybris.platform.opf.dto.user.RegionWsDTO;
 import de.hybris.platform.commercefacades.user.data.AddressData;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 
@@ -141,6 +157,55 @@ public class DefaultOPFAcceleratorFacadeTest {
         Mockito.verifyNoInteractions(opfAcceleratorService, opfAcceleratorCTAResponseConverter);
     }
 
+    @Test
+    void getCTAResponses_requestsAllScriptLocationsBeforeWaiting() {
+        OPFAsyncAcceleratorService opfAsyncAcceleratorService = Mockito.mock(OPFAsyncAcceleratorService.class);
+        List<CompletableFuture<OPFPaymentCTAResponse>> requested = new ArrayList<>();
+        Mockito.when(opfAsyncAcceleratorService.getCTAResponse(any(OPFPaymentCTARequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<OPFPaymentCTAResponse> ctaResponse = new CompletableFuture<>();
+            requested.add(ctaResponse);
+            if (requested.size() == 2) {
+                requested.forEach(future -> future.complete(new OPFPaymentCTAResponse()));
+            }
+            return ctaResponse;
+        });
+        paymentFacade.setOpfAsyncAcceleratorService(opfAsyncAcceleratorService);
+        CTABatchRequestDTO batch = new CTABatchRequestDTO();
+        batch.setRequests(Map.of("CART_MESSAGING", new CTARequestDTO(), "MINI_CART_MESSAGING", new CTARequestDTO()));
+
+        CTABatchResponseDTO result = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> paymentFacade.getCTAResponses(batch));
+
+        Assertions.assertEquals(Set.of("CART_MESSAGING", "MINI_CART_MESSAGING"), result.getResponses().keySet());
+        Assertions.assertEquals(List.of("CART_MESSAGING"), batch.getRequests().get("CART_MESSAGING").getScriptLocations());
+    }
+
+    @Test
+    void getCTAResponses_failedScriptLocationGetsEmptyResponse() {
+        OPFAsyncAcceleratorService opfAsyncAcceleratorService = Mockito.mock(OPFAsyncAcceleratorService.class);
+        Mockito.when(opfAsyncAcceleratorService.getCTAResponse(any(OPFPaymentCTARequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("gateway down")))
+                .thenReturn(CompletableFuture.completedFuture(new OPFPaymentCTAResponse()));
+        paymentFacade.setOpfAsyncAcceleratorService(opfAsyncAcceleratorService);
+        Map<String, CTARequestDTO> requests = new LinkedHashMap<>();
+        requests.put("PDP_MESSAGING", new CTARequestDTO());
+        requests.put("PDP_STICKY_MESSAGING", new CTARequestDTO());
+        CTABatchRequestDTO batch = new CTABatchRequestDTO();
+        batch.setRequests(requests);
+
+        CTABatchResponseDTO result = paymentFacade.getCTAResponses(batch);
+
+        Assertions.assertNull(result.getResponses().get("PDP_MESSAGING").getValue());
+        Assertions.assertNotNull(result.getResponses().get("PDP_STICKY_MESSAGING"));
+    }
+
+    @Test
+    void getCTAResponses_emptyBatch_returnsEmptyResponses() {
+        Assertions.assertTrue(paymentFacade.getCTAResponses(null).getResponses().isEmpty());
+        Assertions.assertTrue(paymentFacade.getCTAResponses(new CTABatchRequestDTO()).getResponses().isEmpty());
+        Mockito.verifyNoInteractions(opfAcceleratorService);
+    }
+
     @Test
     void testGetInitiatePaymentResponse_withValidRequest_shouldReturnConvertedData() {
         Mockito.doAnswer(invocation -> {
@@ -242,6 +307,37 @@ public class DefaultOPFAcceleratorFacadeTest {
 
     }
 
+    @Test
+    void getActiveConfigurations_sameResponse_isConvertedOnce() {
+        OPFActiveConfigResponse activeConfigResponse = new OPFActiveConfigResponse();
+        OPFConfigService opfConfigService = Mockito.mock(OPFConfigService.class);
+        Mockito.when(opfConfigService.getConfig()).thenReturn(OPFConfig.builder().siteUid("electronics").build());
+        Mockito.when(opfAcceleratorService.getActiveConfigurations()).thenReturn(activeConfigResponse);
+        paymentFacade.setOpfActiveConfigProjectionStore(new DefaultOPFActiveConfigProjectionStore(opfConfigService,
+                opfAcceleratorActiveConfigResponseConverter, Mockito.mock(Converter.class)));
+
+        OPFActiveConfigDTO first = paymentFacade.getActiveConfigurations();
+
+        Assertions.assertSame(first, paymentFacade.getActiveConfigurations());
+    }
+
+    @Test
+    void getActiveConfigurations_changedResponseOrConfig_isConvertedAgain() {
+        OPFConfigService opfConfigService = Mockito.mock(OPFConfigService.class);
+        Mockito.when(opfConfigService.getConfig()).thenReturn(OPFConfig.builder().siteUid("electronics").build());
+        Mockito.when(opfAcceleratorService.getActiveConfigurations()).thenReturn(new OPFActiveConfigResponse());
+        paymentFacade.setOpfActiveConfigProjectionStore(new DefaultOPFActiveConfigProjectionStore(opfConfigService,
+                opfAcceleratorActiveConfigResponseConverter, Mockito.mock(Converter.class)));
+
+        OPFActiveConfigDTO first = paymentFacade.getActiveConfigurations();
+        Mockito.when(opfAcceleratorService.getActiveConfigurations()).thenReturn(new OPFActiveConfigResponse());
+        OPFActiveConfigDTO second = paymentFacade.getActiveConfigurations();
+        Mockito.when(opfConfigService.getConfig()).thenReturn(OPFConfig.builder().siteUid("electronics").build());
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertNotSame(second, paymentFacade.getActiveConfigurations());
+    }
+
     @Test
     void submitPayment_validRequestWithSessionId_returnsPopulatedResponse() {
         OPFPaymentSubmitRequestDTO requestDTO = new OPFPaymentSubmitRequestDTO();
@@ -456,6 +552,93 @@ public class DefaultOPFAcceleratorFacadeTest {
 
         Mockito.verify(opfAcceleratorService).verifyPayment(any(OPFPaymentVerifyRequest.class));
     }
+
+    @Test
+    void getInitiatePaymentResponseAsync_nullRequest_returnsEmptyDataWithoutGatewayCall() {
+        OPFAsyncAcceleratorService opfAsyncAcceleratorService = Mockito.mock(OPFAsyncAcceleratorService.class);
+        paymentFacade.setOpfAsyncAcceleratorService(opfAsyncAcceleratorService);
+
+        OPFInitiatePaymentData result = paymentFacade.getInitiatePaymentResponseAsync(null).join();
+
+        Assertions.assertNotNull(result);
+        Mockito.verifyNoInteractions(opfAsyncAcceleratorService);
+    }
+
+    @Test
+    void getInitiatePaymentResponseAsync_convertsTheResponseOfTheFuture() {
+        OPFAsyncAcceleratorService opfAsyncAcceleratorService = Mockito.mock(OPFAsyncAcceleratorService.class);
+        Mockito.when(opfAsyncAcceleratorService.getInitiatePaymentResponse(any(OPFInitiatePaymentSessionRequestData.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        paymentFacade.setOpfAsyncAcceleratorService(opfAsyncAcceleratorService);
+
+        OPFInitiatePaymentData result = paymentFacade.getInitiatePaymentResponseAsync(paymentRequest).join();
+
+        Assertions.assertNotNull(result);
+        Mockito.verify(opfAsyncAcceleratorService).getInitiatePaymentResponse(any(OPFInitiatePaymentSessionRequestData.class));
+        Mockito.verifyNoInteractions(opfAcceleratorService);
+    }
+
+    @Test
+    void submitPaymentAsync_passesSessionIdAndIpAddressToTheService() {
+        OPFAsyncAcceleratorService opfAsyncAcceleratorService = Mockito.mock(OPFAsyncAcceleratorService.class);
+        Mockito.when(opfAsyncAcceleratorService.submitPayment(any(OPFPaymentSubmitRequest.class), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(new OPFPaymentSubmitResponse()));
+        paymentFacade.setOpfAsyncAcceleratorService(opfAsyncAcceleratorService);
+
+        OPFPaymentSubmitResponseDTO result = paymentFacade
+                .submitPaymentAsync(new OPFPaymentSubmitRequestDTO(), "session-1", "10.0.0.1").join();
+
+        Assertions.assertNotNull(result);
+        ArgumentCaptor<OPFPaymentSubmitRequest> submitRequest = ArgumentCaptor.forClass(OPFPaymentSubmitRequest.class);
+        Mockito.verify(opfAsyncAcceleratorService).submitPayment(submitRequest.capture(), Mockito.eq(false));
+        Assertions.assertEquals("session-1", submitRequest.getValue().getPaymentSessionId());
+        Assertions.assertEquals("10.0.0.1", submitRequest.getValue().getBrowserInfo().getIpAddress());
+    }
+
+    @Test
+    void getCompletedPaymentResponseAsync_awaitsQueuedPaymentTransactionsFirst() {
+        OPFAsyncAcceleratorService opfAsyncAcceleratorService = Mockito.mock(OPFAsyncAcceleratorService.class);
+        OPFPaymentSubmitCompleteResponse completeResponse = new OPFPaymentSubmitCompleteResponse();
+        completeResponse.setPaymentSessionId("session-1");
+        completeResponse.setStatus("ACCEPTED");
+        Mockito.when(opfAsyncAcceleratorService.getCompletedPaymentResponse(any(OPFPaymentSubmitCompleteRequestData.class)))
+                .thenReturn(CompletableFuture.completedFuture(completeResponse));
+        paymentFacade.setOpfAsyncAcceleratorService(opfAsyncAcceleratorService);
+
+        OPFPaymentSubmitCompleteResponseData result = paymentFacade
+                .getCompletedPaymentResponseAsync(new OPFPaymentSubmitCompleteRequest()).join();
+
+        Assertions.assertNotNull(result);
+        InOrder inOrder = Mockito.inOrder(opfAcceleratorService, opfAsyncAcceleratorService);
+        inOrder.verify(opfAcceleratorService).awaitPaymentTransaction();
+        inOrder.verify(opfAsyncAcceleratorService).getCompletedPaymentResponse(any(OPFPaymentSubmitCompleteRequestData.class));
+    }
+
+    @Test
+    void getApplePayWebSessionAsync_nullServiceResponse_returnsEmptyResponse() {
+        OPFAsyncAcceleratorService opfAsyncAcceleratorService = Mockito.mock(OPFAsyncAcceleratorService.class);
+        Mockito.when(opfAsyncAcceleratorService.getApplePayWebSession(any(OPFApplePayRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        paymentFacade.setOpfAsyncAcceleratorService(opfAsyncAcceleratorService);
+
+        OPFApplePayResponse result = paymentFacade.getApplePayWebSessionAsync(new OPFApplePayRequestDTO()).join();
+
+        Assertions.assertNotNull(result);
+    }
+
+    @Test
+    void getActiveConfigurationsAsync_failedGatewayCall_failsTheFuture() {
+        OPFAsyncAcceleratorService opfAsyncAcceleratorService = Mockito.mock(OPFAsyncAcceleratorService.class);
+        Mockito.when(opfAsyncAcceleratorService.getActiveConfigurations())
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("gateway down")));
+        paymentFacade.setOpfAsyncAcceleratorService(opfAsyncAcceleratorService);
+
+        CompletableFuture<OPFActiveConfigDTO> result = paymentFacade.getActiveConfigurationsAsync();
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        Mockito.verifyNoInteractions(opfAcceleratorActiveConfigResponseConverter);
+    }
 }
 
 
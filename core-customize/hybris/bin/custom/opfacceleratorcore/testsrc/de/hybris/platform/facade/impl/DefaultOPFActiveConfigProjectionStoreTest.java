@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.facade.impl;
+
+import com.opf.dto.cta.OPFActiveConfigDTO;
+import com.opf.dto.cta.OPFActiveConfigValueDTO;
+import com.opf.order.data.OPFB2BPaymentTypeData;
+import de.hybris.platform.converters.Populator;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.data.response.OPFActiveConfigValue;
+import de.hybris.platform.data.response.OPFPageableData;
+import de.hybris.platform.facade.OPFActiveConfigProjection;
+import de.hybris.platform.populator.OPFAcceleratorPaymentActiveConfigResponsePopulator;
+import de.hybris.platform.populator.OPFB2BAcceleratorPaymentActiveConfigResponsePopulator;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.servicelayer.dto.converter.Converter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Converts the active configurations with the populators of the converters the facade uses
+ */
+public class DefaultOPFActiveConfigProjectionStoreTest {
+
+    private static final int ALLOCATION_CALLS = 20_000;
+    // bytes per call left for the allocation counter itself
+    private static final long ALLOCATION_TOLERANCE_BYTES = 8L;
+
+    private final ConfigService configService = new ConfigService();
+    private Converter<OPFActiveConfigResponse, OPFActiveConfigDTO> activeConfigConverter;
+    private Converter<OPFActiveConfigValue, OPFB2BPaymentTypeData> b2bConverter;
+    private DefaultOPFActiveConfigProjectionStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final OPFAcceleratorPaymentActiveConfigResponsePopulator activeConfigPopulator =
+                new OPFAcceleratorPaymentActiveConfigResponsePopulator();
+        final Field opfConfigService =
+                OPFAcceleratorPaymentActiveConfigResponsePopulator.class.getDeclaredField("opfConfigService");
+        opfConfigService.setAccessible(true);
+        opfConfigService.set(activeConfigPopulator, configService);
+        activeConfigConverter = new PopulatingConverter<>(OPFActiveConfigDTO::new, activeConfigPopulator);
+        b2bConverter = new PopulatingConverter<>(OPFB2BPaymentTypeData::new,
+                new OPFB2BAcceleratorPaymentActiveConfigResponsePopulator());
+        store = new DefaultOPFActiveConfigProjectionStore(configService, activeConfigConverter, b2bConverter);
+    }
+
+    @Test
+    void inactiveEntriesAreLeftOutOfBothViews() {
+        configService.config = OPFConfig.builder().siteUid("electronics").activeConfigPaymentType(true).build();
+
+        final OPFActiveConfigProjection projection = store.getProjection(response(8));
+
+        Assertions.assertEquals(List.of(1, 3, 5, 7), projection.activeConfig().getValue().stream()
+                .map(OPFActiveConfigValueDTO::getId).toList());
+        Assertions.assertEquals(List.of(1, 3, 5, 7), projection.b2bPaymentTypes().stream()
+                .map(OPFB2BPaymentTypeData::getId).toList());
+        Assertions.assertEquals(8, projection.activeConfig().getPageable().getTotalElements());
+        Assertions.assertEquals(4L, store.getProjectionStats().getRemovedInactive());
+    }
+
+    @Test
+    void inactiveEntriesAreKeptWhenTheSiteShowsAllPaymentTypes() {
+        final OPFActiveConfigProjection projection = store.getProjection(response(8));
+
+        Assertions.assertEquals(8, projection.activeConfig().getValue().size());
+        Assertions.assertEquals(8, projection.b2bPaymentTypes().size());
+        Assertions.assertTrue(projection.activeConfig().getValue().stream().allMatch(value -> value.getId() != null));
+    }
+
+    @Test
+    void sameResponseIsServedFromUnmodifiableViews() {
+        final OPFActiveConfigResponse response = response(8);
+        final OPFActiveConfigProjection first = store.getProjection(response);
+
+        final OPFActiveConfigProjection second = store.getProjection(response);
+
+        Assertions.assertSame(first.activeConfig(), second.activeConfig());
+        Assertions.assertSame(first.b2bPaymentTypes(), second.b2bPaymentTypes());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> second.activeConfig().getValue().add(new OPFActiveConfigValueDTO()));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> second.b2bPaymentTypes().add(new OPFB2BPaymentTypeData()));
+        Assertions.assertEquals(1L, store.getProjectionStats().getConversions());
+        Assertions.assertEquals(1L, store.getProjectionStats().getHits());
+    }
+
+    @Test
+    void newConfigurationSnapshotConvertsAgain() {
+        final OPFActiveConfigResponse response = response(8);
+        final OPFActiveConfigProjection first = store.getProjection(response);
+
+        configService.config = OPFConfig.builder().siteUid("electronics").activeConfigPaymentType(true).build();
+
+        Assertions.assertEquals(4, store.getProjection(response).b2bPaymentTypes().size());
+        Assertions.assertEquals(8, first.b2bPaymentTypes().size());
+        Assertions.assertEquals(2L, store.getProjectionStats().getConversions());
+    }
+
+    @Test
+    void nullResponseHasEmptyViews() {
+        final OPFActiveConfigProjection projection = store.getProjection(null);
+
+        Assertions.assertNotNull(projection.activeConfig());
+        Assertions.assertTrue(projection.b2bPaymentTypes().isEmpty());
+    }
+
+    @Test
+    void servedViewsAllocateNothingUnlikeConvertingEveryCall() {
+        configService.config = OPFConfig.builder().siteUid("electronics").activeConfigPaymentType(true).build();
+        final OPFActiveConfigResponse response = response(40);
+        final Supplier<Integer> converting = () -> {
+            final OPFActiveConfigDTO activeConfig = new OPFActiveConfigDTO();
+            activeConfigConverter.convert(response, activeConfig);
+            return activeConfig.getValue().size() + b2bConverter.convertAll(response.getValue()).size();
+        };
+        final Supplier<Integer> projected = () -> {
+            final OPFActiveConfigProjection projection = store.getProjection(response);
+            return projection.activeConfig().getValue().size() + projection.b2bPaymentTypes().size();
+        };
+
+        final long convertingBytes = bytesPerCall(converting);
+        final long projectedBytes = bytesPerCall(projected);
+
+        Assertions.assertTrue(convertingBytes > 40 * 64, "converted per call " + convertingBytes + " bytes/call");
+        Assertions.assertTrue(projectedBytes <= ALLOCATION_TOLERANCE_BYTES, "projected " + projectedBytes + " bytes/call");
+    }
+
+    /**
+     * average bytes the current thread allocates per call, after a warm-up
+     */
+    private static long bytesPerCall(final Supplier<Integer> call) {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+        long sizes = 0;
+        for (int i = 0; i < ALLOCATION_CALLS / 10; i++) {
+            sizes += call.get();
+        }
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ALLOCATION_CALLS; i++) {
+            sizes += call.get();
+        }
+        final long bytes = (threads.getThreadAllocatedBytes(threadId) - before) / ALLOCATION_CALLS;
+        Assertions.assertTrue(sizes > 0);
+        return bytes;
+    }
+
+    /**
+     * every other payment type is inactive
+     */
+    private static OPFActiveConfigResponse response(final int size) {
+        final OPFPageableData pageable = new OPFPageableData();
+        pageable.setNumber(1);
+        pageable.setSize(size);
+        pageable.setTotalElements(size);
+        pageable.setTotalPages(1);
+        final OPFActiveConfigResponse response = new OPFActiveConfigResponse();
+        response.setPageable(pageable);
+        response.setValue(IntStream.rangeClosed(1, size).mapToObj(id -> {
+            final OPFActiveConfigValue value = new OPFActiveConfigValue();
+            value.setId(id);
+            value.setActive(id % 2 == 1);
+            value.setProvider(id == 1 ? "ACCOUNT_PAYMENT" : "ADYEN");
+            value.setDisplayName("Payment type " + id);
+            value.setMerchantId("merchant");
+            return value;
+        }).toList());
+        return response;
+    }
+
+    private static final class ConfigService implements OPFConfigService {
+        private OPFConfig config = OPFConfig.builder().siteUid("electronics").build();
+
+        @Override
+        public OPFConfig getConfig() {
+            return config;
+        }
+
+        @Override
+        public OPFConfig getConfig(final String siteUid) {
+            return config;
+        }
+
+        @Override
+        public void invalidate() {
+            // single snapshot
+        }
+    }
+
+    /**
+     * the populating converter the facade is wired with
+     */
+    private static final class PopulatingConverter<S, T> implements Converter<S, T> {
+        private final Supplier<T> targetFactory;
+        private final Populator<S, T> populator;
+
+        private PopulatingConverter(final Supplier<T> targetFactory, final Populator<S, T> populator) {
+            this.targetFactory = targetFactory;
+            this.populator = populator;
+        }
+
+        @Override
+        public T convert(final S source) {
+            return convert(source, targetFactory.get());
+        }
+
+        @Override
+        public T convert(final S source, final T target) {
+            populator.populate(source, target);
+            return target;
+        }
+
+        @Override
+        public List<T> convertAll(final Collection<? extends S> sources) {
+            final List<T> targets = new ArrayList<>(sources.size());
+            for (final S source : sources) {
+                targets.add(convert(source));
+            }
+            return targets;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.client.OPFHttpClient;
+import de.hybris.platform.client.impl.OPFConditionalRequestInterceptor;
+import de.hybris.platform.client.impl.OPFStandInGatewayServer;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.data.response.OPFActiveConfigValue;
+import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Fetches the active configurations from a local stand-in gateway serving them in pages with an ETag per page. The
+ * active configuration cache expires at once, so every call revalidates the pages with the validators of its entry.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOPFAcceleratorServicePagingTest {
+
+    private static final String ACTIVE_CONFIG_URL = "/gateway/configurations";
+    private static final int PAGE_SIZE = 10;
+    private static final long PAGE_DELAY_MS = 50L;
+
+    @Mock
+    private OPFHttpClient opfHttpClient;
+
+    @Mock
+    private OPFConfigService opfConfigService;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final OPFConditionalRequestInterceptor conditionalRequestInterceptor = new OPFConditionalRequestInterceptor();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final Set<Integer> changedPages = ConcurrentHashMap.newKeySet();
+    private Configuration configuration;
+    private OPFStandInGatewayServer gateway;
+    private ExecutorService executor;
+    private DefaultOPFActiveConfigCache activeConfigCache;
+    private DefaultOPFAcceleratorService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gateway = new OPFStandInGatewayServer();
+        restTemplate.getInterceptors().add(conditionalRequestInterceptor);
+        executor = Executors.newFixedThreadPool(8);
+        configuration = new BaseConfiguration();
+        configuration.setProperty("opf.active.config.page.parallelism", 3);
+        configuration.setProperty("opf.active.config.cache.ttl.ms", 0L);
+        configuration.setProperty("opf.active.config.cache.stale.ms", 0L);
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(opfConfigService.getConfig()).thenReturn(OPFConfig.builder()
+                .siteUid("electronics")
+                .baseUrl(gateway.getBaseUrl())
+                .activeConfigUrl(ACTIVE_CONFIG_URL)
+                .activeConfigQueryParams(Map.of("pageSize", String.valueOf(PAGE_SIZE), "pageNumber", "1"))
+                .build());
+        Mockito.when(opfHttpClient.httpExchange(Mockito.anyString(), Mockito.any(HttpClientRequestDto.class)))
+                .thenAnswer(invocation -> exchange(invocation.getArgument(0), invocation.getArgument(1)));
+        service = new DefaultOPFAcceleratorService(opfHttpClient, configurationService, null, null, null);
+        service.setOpfConfigService(opfConfigService);
+        service.setOpfGatewayExecutor(executor);
+        service.setOpfConditionalRequestInterceptor(conditionalRequestInterceptor);
+        activeConfigCache = new DefaultOPFActiveConfigCache(configurationService, executor);
+        service.setOpfActiveConfigCache(activeConfigCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void allPagesAreFetchedAndMergedInOrder() {
+        servePages(65);
+
+        final OPFActiveConfigResponse response = service.getActiveConfigurations();
+
+        Assertions.assertEquals(IntStream.rangeClosed(1, 65).boxed().toList(), ids(response));
+        Assertions.assertEquals(7L, gateway.getRequestCount());
+        Assertions.assertEquals(65, response.getPageable().getSize());
+        Assertions.assertEquals(65, response.getPageable().getTotalElements());
+        Assertions.assertEquals(1, response.getPageable().getTotalPages());
+    }
+
+    @Test
+    void remainingPagesAreFetchedInParallelWithinTheLimit() {
+        servePages(95);
+
+        service.getActiveConfigurations();
+
+        Assertions.assertTrue(maxInFlight.get() > 1, "pages were fetched one at a time");
+        Assertions.assertTrue(maxInFlight.get() <= 3, maxInFlight.get() + " pages were fetched at once");
+    }
+
+    @Test
+    void pagesAreFetchedOnTheCallingThreadWithoutExecutor() {
+        service.setOpfGatewayExecutor(null);
+        servePages(35);
+
+        Assertions.assertEquals(35, ids(service.getActiveConfigurations()).size());
+        Assertions.assertEquals(1, maxInFlight.get());
+    }
+
+    @Test
+    void singlePageIsFetchedOnce() {
+        servePages(7);
+
+        Assertions.assertEquals(7, ids(service.getActiveConfigurations()).size());
+        Assertions.assertEquals(1L, gateway.getRequestCount());
+    }
+
+    @Test
+    void pagesBeyondTheMaximumAreNotFetched() {
+        configuration.setProperty("opf.active.config.max.pages", 3);
+        servePages(95);
+
+        Assertions.assertEquals(30, ids(service.getActiveConfigurations()).size());
+        Assertions.assertEquals(3L, gateway.getRequestCount());
+    }
+
+    @Test
+    void failedPageFailsTheWholeLoad() {
+        final OPFStandInGatewayServer.Behaviour pages = pageBehaviour(65);
+        gateway.setBehaviour((exchange, inFlight) -> exchange.getRequestURI().getQuery().contains("pageNumber=4")
+                ? new OPFStandInGatewayServer.Response(500, "{}", 0L) : pages.respond(exchange, inFlight));
+
+        Assertions.assertThrows(RuntimeException.class, () -> service.getActiveConfigurations());
+    }
+
+    @Test
+    void unchangedPagesReturnTheSameResponse() {
+        servePages(65);
+        final OPFActiveConfigResponse first = service.getActiveConfigurations();
+
+        final OPFActiveConfigResponse second = service.getActiveConfigurations();
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(7, notModified.get());
+        Assertions.assertEquals(14L, gateway.getRequestCount());
+    }
+
+    @Test
+    void changedPageIsMergedWithTheUnchangedOnes() {
+        servePages(65);
+        final OPFActiveConfigResponse first = service.getActiveConfigurations();
+        changedPages.add(3);
+
+        final OPFActiveConfigResponse second = service.getActiveConfigurations();
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(6, notModified.get());
+        Assertions.assertEquals(ids(first), ids(second));
+        Assertions.assertSame(first.getValue().get(0), second.getValue().get(0));
+        Assertions.assertNotSame(first.getValue().get(20), second.getValue().get(20));
+    }
+
+    @Test
+    void unchangedSinglePageIsReturnedAgain() {
+        servePages(7);
+        final OPFActiveConfigResponse first = service.getActiveConfigurations();
+
+        Assertions.assertSame(first, service.getActiveConfigurations());
+        Assertions.assertEquals(1, notModified.get());
+    }
+
+    @Test
+    void invalidatedEntryDropsTheValidators() {
+        servePages(65);
+        final OPFActiveConfigResponse first = service.getActiveConfigurations();
+        activeConfigCache.invalidate("electronics");
+
+        Assertions.assertNotSame(first, service.getActiveConfigurations());
+        Assertions.assertEquals(0, notModified.get());
+        Assertions.assertEquals(14L, gateway.getRequestCount());
+    }
+
+    @Test
+    void pagesAreFetchedUnconditionallyWhenDisabled() {
+        configuration.setProperty("opf.active.config.conditional.enabled", false);
+        servePages(65);
+        final OPFActiveConfigResponse first = service.getActiveConfigurations();
+
+        Assertions.assertNotSame(first, service.getActiveConfigurations());
+        Assertions.assertEquals(0, notModified.get());
+    }
+
+    private void servePages(final int totalElements) {
+        gateway.setBehaviour(pageBehaviour(totalElements));
+    }
+
+    private OPFStandInGatewayServer.Behaviour pageBehaviour(final int totalElements) {
+        final int totalPages = (totalElements + PAGE_SIZE - 1) / PAGE_SIZE;
+        return (exchange, inFlight) -> {
+            maxInFlight.accumulateAndGet(inFlight, Math::max);
+            final int page = Integer.parseInt(UriComponentsBuilder.fromUri(exchange.getRequestURI()).build()
+                    .getQueryParams().getFirst("pageNumber"));
+            final String eTag = "\"page-" + page + (changedPages.contains(page) ? "-v2" : "-v1") + "\"";
+            exchange.getResponseHeaders().add(HttpHeaders.ETAG, eTag);
+            if (eTag.equals(exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+                notModified.incrementAndGet();
+                return new OPFStandInGatewayServer.Response(304, "", PAGE_DELAY_MS);
+            }
+            final String values = IntStream.rangeClosed((page - 1) * PAGE_SIZE + 1, Math.min(page * PAGE_SIZE, totalElements))
+                    .mapToObj(id -> "{\"id\":" + id + ",\"active\":true}")
+                    .collect(Collectors.joining(","));
+            return new OPFStandInGatewayServer.Response(200, "{\"value\":[" + values + "],\"pageable\":{\"number\":" + page
+                    + ",\"size\":" + PAGE_SIZE + ",\"totalElements\":" + totalElements + ",\"totalPages\":" + totalPages
+                    + "}}", PAGE_DELAY_MS);
+        };
+    }
+
+    /**
+     * the GET the http client sends for the request
+     */
+    private <T> T exchange(final String baseUrl, final HttpClientRequestDto<T> request) {
+        final UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(baseUrl).path(request.getPath());
+        request.getQueryParams().forEach((name, value) -> uri.queryParam(name, value));
+        final HttpHeaders headers = new HttpHeaders();
+        if (request.getHeaders() != null) {
+            request.getHeaders().forEach(headers::set);
+        }
+        return restTemplate.exchange(uri.toUriString(), HttpMethod.GET, new HttpEntity<>(headers),
+                request.getResponseType()).getBody();
+    }
+
+    private static List<Integer> ids(final OPFActiveConfigResponse response) {
+        return response.getValue().stream().map(OPFActiveConfigValue::getId).toList();
+    }
+}
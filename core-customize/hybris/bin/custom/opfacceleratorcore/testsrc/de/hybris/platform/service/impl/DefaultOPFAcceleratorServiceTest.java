@@ -4,10 +4,16 @@
 package de.hybris.platform.service.impl;
 
 import de.hybris.platform.client.OPFHttpClient;
+import de.hybris.platform.commercefacades.order.CheckoutFacade;
+import de.hybris.platform.commercefacades.order.data.CartData;
+import de.hybris.platform.commercefacades.product.data.PriceData;
 import de.hybris.platform.core.model.user.UserModel;
 import de.hybris.platform.cta.request.OPFPaymentCTARequest;
 import de.hybris.platform.data.response.OPFActiveConfigResponse;
 import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.daos.OPFPaymentSessionDao;
+import de.hybris.platform.enums.OPFPaymentSessionStatus;
+import de.hybris.platform.model.OPFPaymentSessionModel;
 import de.hybris.platform.opf.data.OPFInitiatePaymentSessionRequestData;
 import de.hybris.platform.opf.data.OPFPaymentSubmitCompleteRequestData;
 import de.hybris.platform.opf.data.request.OPFApplePayRequest;
@@ -18,7 +24,11 @@ import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
 import de.hybris.platform.opfservices.client.CCAdapterClientException;
 import de.hybris.platform.opfservices.dtos.http.HttpClientRequestDto;
 import de.hybris.platform.order.CartService;
+import de.hybris.platform.payment.model.PaymentTransactionModel;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFPaymentTransactionQueue;
 import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.servicelayer.exceptions.ModelSavingException;
 import de.hybris.platform.opf.data.request.OPFPaymentSubmitRequest;
 import de.hybris.platform.opf.data.response.OPFPaymentSubmitResponse;
 import de.hybris.platform.core.model.order.CartModel;
@@ -27,12 +37,16 @@ import de.hybris.platform.core.model.order.payment.SAPGenericPaymentInfoModel;
 import de.hybris.platform.opf.dto.OPFPaymentVerifyRequest;
 import de.hybris.platform.opf.dto.OPFPaymentVerifyResponse;
 import de.hybris.platform.servicelayer.model.ModelService;
+import de.hybris.platform.site.BaseSiteService;
+import org.apache.commons.configuration2.BaseConfiguration;
 import org.apache.commons.configuration2.Configuration;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -41,8 +55,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.Mockito.*;
 
@@ -68,10 +84,21 @@ public class DefaultOPFAcceleratorServiceTest {
     @Mock
     private ModelService modelService;
 
+    @Mock
+    private BaseSiteService baseSiteService;
+
     String clientId = "mock-client-id";
     String publicKey = "mock-public-key";
     private String HTTPS = "https://";
     private String BASE_URL = "mock-base-url";
+
+    @BeforeEach
+    void setUp() {
+        final DefaultOPFConfigService opfConfigService = new DefaultOPFConfigService(configurationService, baseSiteService);
+        paymentService.setOpfConfigService(opfConfigService);
+        paymentService.setOpfPaymentStatusPolicy(new DefaultOPFPaymentStatusPolicy(opfConfigService, cartService));
+    }
+
     @Test
     public void getCTAResponseReturnsValidResponseWhenRequestIsSuccessful() {
         OPFPaymentCTAResponse expectedResponse = new OPFPaymentCTAResponse();
@@ -357,7 +384,7 @@ public class DefaultOPFAcceleratorServiceTest {
         response.setStatus("FAILED"); // not in list
         response.setCustomFields(List.of(customField));
 
-        doReturn("COMPLETED,PENDING").when(paymentService).getConfigurationValueForKey("opf.payment.statuses");
+        mockPaymentStatuses("COMPLETED,PENDING");
 
         // Act
         Boolean result = paymentService.validatePaymentStatus(response);
@@ -375,7 +402,7 @@ public class DefaultOPFAcceleratorServiceTest {
         response.setStatus("COMPLETED"); // valid
         response.setCustomFields(List.of(customField));
 
-        doReturn("COMPLETED,PENDING").when(paymentService).getConfigurationValueForKey("opf.payment.statuses");
+        mockPaymentStatuses("COMPLETED,PENDING");
 
         Boolean result = paymentService.validatePaymentStatus(response);
         Assertions.assertFalse(result);
@@ -387,7 +414,7 @@ public class DefaultOPFAcceleratorServiceTest {
         response.setStatus("COMPLETED"); // valid
         response.setCustomFields(List.of()); // no custom field
 
-        doReturn("COMPLETED,PENDING").when(paymentService).getConfigurationValueForKey("opf.payment.statuses");
+        mockPaymentStatuses("COMPLETED,PENDING");
 
         Boolean result = paymentService.validatePaymentStatus(response);
         Assertions.assertFalse(result);
@@ -484,6 +511,325 @@ public class DefaultOPFAcceleratorServiceTest {
         Assertions.assertThrows(RuntimeException.class, () -> paymentService.getApplePayWebSession(request));
     }
 
-}
+    @Test
+    void awaitPaymentTransaction_queueNotDrained_throwsException() {
+        final OPFPaymentTransactionQueue queue = mock(OPFPaymentTransactionQueue.class);
+        final DefaultOPFAcceleratorService service = newWriteBehindService(queue, mock(CheckoutFacade.class),
+                mock(OPFPaymentSessionDao.class));
+        when(queue.awaitDrained("cart-1", 250L)).thenReturn(false);
+
+        Assertions.assertThrows(IllegalStateException.class, service::awaitPaymentTransaction);
+        verify(modelService, never()).save(any());
+    }
 
+    @Test
+    void awaitPaymentTransaction_pendingPaymentSession_writesTransaction() {
+        final OPFPaymentTransactionQueue queue = mock(OPFPaymentTransactionQueue.class);
+        final CheckoutFacade checkoutFacade = mock(CheckoutFacade.class);
+        final OPFPaymentSessionDao paymentSessionDao = mock(OPFPaymentSessionDao.class);
+        final DefaultOPFAcceleratorService service = newWriteBehindService(queue, checkoutFacade, paymentSessionDao);
+        final CartModel cart = cartService.getSessionCart();
+        final PaymentTransactionModel transaction = mock(PaymentTransactionModel.class);
+        final OPFPaymentSessionModel previousPaymentSession = new OPFPaymentSessionModel();
+        previousPaymentSession.setSessionId("session-0");
+        previousPaymentSession.setStatus(OPFPaymentSessionStatus.INITIATED);
+        previousPaymentSession.setPaymentTransaction(transaction);
+        final OPFPaymentSessionModel paymentSession = pendingPaymentSession("session-1", cart);
+        when(queue.awaitDrained("cart-1", 250L)).thenReturn(true);
+        when(paymentSessionDao.findLatestByOrder(cart)).thenReturn(Optional.of(paymentSession));
+        when(paymentSessionDao.findBySessionId("session-1")).thenReturn(Optional.of(paymentSession));
+        when(paymentSessionDao.findByOrder(cart)).thenReturn(List.of(paymentSession, previousPaymentSession));
+
+        service.awaitPaymentTransaction();
+
+        verify(transaction).setCode("session-1");
+        verify(transaction).setPlannedAmount(BigDecimal.TEN);
+        verify(modelService).save(transaction);
+        verify(modelService).save(paymentSession);
+        verify(cart, never()).getPaymentTransactions();
+        verify(checkoutFacade).prepareCartForCheckout();
+        verifyNoMoreInteractions(checkoutFacade);
+        Assertions.assertEquals(OPFPaymentSessionStatus.SUPERSEDED, previousPaymentSession.getStatus());
+        Assertions.assertNull(previousPaymentSession.getPaymentTransaction());
+        Assertions.assertSame(transaction, paymentSession.getPaymentTransaction());
+        Assertions.assertEquals(OPFPaymentSessionStatus.INITIATED, paymentSession.getStatus());
+        Assertions.assertEquals(BigDecimal.TEN, paymentSession.getAmount());
+    }
 
+    @Test
+    void awaitPaymentTransaction_paymentSessionAlreadyWritten_writesNothing() {
+        final OPFPaymentTransactionQueue queue = mock(OPFPaymentTransactionQueue.class);
+        final OPFPaymentSessionDao paymentSessionDao = mock(OPFPaymentSessionDao.class);
+        final DefaultOPFAcceleratorService service = newWriteBehindService(queue, mock(CheckoutFacade.class),
+                paymentSessionDao);
+        final OPFPaymentSessionModel paymentSession = pendingPaymentSession("session-1", cartService.getSessionCart());
+        paymentSession.setStatus(OPFPaymentSessionStatus.INITIATED);
+        when(queue.awaitDrained("cart-1", 250L)).thenReturn(true);
+        when(paymentSessionDao.findLatestByOrder(any())).thenReturn(Optional.of(paymentSession));
+
+        service.awaitPaymentTransaction();
+
+        verify(modelService, never()).save(any());
+    }
+
+    @Test
+    void getInitiatePaymentResponse_writeBehind_queuesAWriteThatReloadsTheCart() {
+        final OPFPaymentTransactionQueue queue = mock(OPFPaymentTransactionQueue.class);
+        final CheckoutFacade checkoutFacade = mock(CheckoutFacade.class);
+        final OPFPaymentSessionDao paymentSessionDao = mock(OPFPaymentSessionDao.class);
+        final OPFConfig config = OPFConfig.builder().baseUrl(HTTPS + BASE_URL).build();
+        final DefaultOPFAcceleratorService service = new DefaultOPFAcceleratorService(opfHttpClient, configurationService,
+                checkoutFacade, cartService, modelService) {
+            @Override
+            protected OPFConfig getOPFConfig() {
+                return config;
+            }
+        };
+        service.setOpfPaymentTransactionQueue(queue);
+        service.setOpfPaymentSessionDao(paymentSessionDao);
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty("opf.payment.transaction.writebehind.enabled", true);
+        when(configurationService.getConfiguration()).thenReturn(configuration);
+        final CartModel requestCart = mock(CartModel.class);
+        when(requestCart.getCode()).thenReturn("cart-1");
+        when(cartService.getSessionCart()).thenReturn(requestCart);
+        when(checkoutFacade.getCheckoutCart()).thenReturn(cartData(BigDecimal.TEN));
+        when(opfHttpClient.getSecurityProperties()).thenReturn(Pair.of(clientId, publicKey));
+        final OPFInitiatePaymentSessionResponse response = new OPFInitiatePaymentSessionResponse();
+        response.setPaymentSessionId("session-1");
+        when(opfHttpClient.httpExchange(eq(HTTPS + BASE_URL), any(HttpClientRequestDto.class))).thenReturn(response);
+        final OPFPaymentSessionModel paymentSession = new OPFPaymentSessionModel();
+        when(modelService.create(OPFPaymentSessionModel.class)).thenReturn(paymentSession);
+
+        service.getInitiatePaymentResponse(new OPFInitiatePaymentSessionRequestData());
+
+        Assertions.assertEquals(OPFPaymentSessionStatus.PENDING, paymentSession.getStatus());
+        Assertions.assertEquals(BigDecimal.TEN, paymentSession.getAmount());
+        Assertions.assertSame(requestCart, paymentSession.getOrder());
+        verify(modelService).save(paymentSession);
+        verify(checkoutFacade, never()).prepareCartForCheckout();
+        verifyNoInteractions(paymentSessionDao);
+        verify(modelService, never()).create(PaymentTransactionModel.class);
+        final ArgumentCaptor<Runnable> write = ArgumentCaptor.forClass(Runnable.class);
+        verify(queue).enqueue(eq("cart-1"), write.capture());
+
+        final CartModel reloadedCart = mock(CartModel.class);
+        paymentSession.setOrder(reloadedCart);
+        final PaymentTransactionModel transaction = new PaymentTransactionModel();
+        when(modelService.create(PaymentTransactionModel.class)).thenReturn(transaction);
+        when(paymentSessionDao.findBySessionId("session-1")).thenReturn(Optional.of(paymentSession));
+        when(paymentSessionDao.findByOrder(reloadedCart)).thenReturn(List.of(paymentSession));
+        clearInvocations(requestCart, cartService, checkoutFacade);
+        write.getValue().run();
+
+        Assertions.assertEquals("session-1", transaction.getCode());
+        Assertions.assertSame(transaction, paymentSession.getPaymentTransaction());
+        Assertions.assertEquals(OPFPaymentSessionStatus.INITIATED, paymentSession.getStatus());
+        verify(checkoutFacade).prepareCartForCheckout();
+        verifyNoMoreInteractions(checkoutFacade);
+        verifyNoInteractions(requestCart, cartService);
+    }
+
+    @Test
+    void getInitiatePaymentResponse_writeBehindWithKnownSessionId_updatesItsPaymentSession() {
+        final OPFPaymentTransactionQueue queue = mock(OPFPaymentTransactionQueue.class);
+        final CheckoutFacade checkoutFacade = mock(CheckoutFacade.class);
+        final OPFPaymentSessionDao paymentSessionDao = mock(OPFPaymentSessionDao.class);
+        final OPFConfig config = OPFConfig.builder().baseUrl(HTTPS + BASE_URL).build();
+        final DefaultOPFAcceleratorService service = new DefaultOPFAcceleratorService(opfHttpClient, configurationService,
+                checkoutFacade, cartService, modelService) {
+            @Override
+            protected OPFConfig getOPFConfig() {
+                return config;
+            }
+        };
+        service.setOpfPaymentTransactionQueue(queue);
+        service.setOpfPaymentSessionDao(paymentSessionDao);
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty("opf.payment.transaction.writebehind.enabled", true);
+        when(configurationService.getConfiguration()).thenReturn(configuration);
+        final CartModel cart = mock(CartModel.class);
+        when(cart.getCode()).thenReturn("cart-1");
+        when(cartService.getSessionCart()).thenReturn(cart);
+        when(checkoutFacade.getCheckoutCart()).thenReturn(cartData(BigDecimal.TEN));
+        when(opfHttpClient.getSecurityProperties()).thenReturn(Pair.of(clientId, publicKey));
+        final OPFInitiatePaymentSessionResponse response = new OPFInitiatePaymentSessionResponse();
+        response.setPaymentSessionId("session-1");
+        when(opfHttpClient.httpExchange(eq(HTTPS + BASE_URL), any(HttpClientRequestDto.class))).thenReturn(response);
+        final OPFPaymentSessionModel duplicate = new OPFPaymentSessionModel();
+        when(modelService.create(OPFPaymentSessionModel.class)).thenReturn(duplicate);
+        doThrow(new ModelSavingException("ambiguous unique keys")).when(modelService).save(duplicate);
+        final OPFPaymentSessionModel paymentSession = pendingPaymentSession("session-1", cart);
+        paymentSession.setStatus(OPFPaymentSessionStatus.INITIATED);
+        when(paymentSessionDao.findBySessionId("session-1")).thenReturn(Optional.of(paymentSession));
+
+        service.getInitiatePaymentResponse(new OPFInitiatePaymentSessionRequestData());
+
+        verify(modelService).detach(duplicate);
+        verify(modelService).save(paymentSession);
+        Assertions.assertEquals(OPFPaymentSessionStatus.PENDING, paymentSession.getStatus());
+        verify(queue).enqueue(eq("cart-1"), any(Runnable.class));
+    }
+
+    @Test
+    void getInitiatePaymentResponse_initiatedTwice_supersedesFirstPaymentSession() {
+        final OPFPaymentSessionDao paymentSessionDao = mock(OPFPaymentSessionDao.class);
+        final CheckoutFacade checkoutFacade = mock(CheckoutFacade.class);
+        final OPFConfig config = OPFConfig.builder().baseUrl(HTTPS + BASE_URL).build();
+        final DefaultOPFAcceleratorService service = new DefaultOPFAcceleratorService(opfHttpClient, configurationService,
+                checkoutFacade, cartService, modelService) {
+            @Override
+            protected OPFConfig getOPFConfig() {
+                return config;
+            }
+        };
+        service.setOpfPaymentSessionDao(paymentSessionDao);
+        when(configurationService.getConfiguration()).thenReturn(new BaseConfiguration());
+        final CartModel cart = mock(CartModel.class);
+        when(cartService.getSessionCart()).thenReturn(cart);
+        final PriceData totalPrice = new PriceData();
+        totalPrice.setValue(BigDecimal.TEN);
+        final CartData cartData = new CartData();
+        cartData.setTotalPrice(totalPrice);
+        when(checkoutFacade.getCheckoutCart()).thenReturn(cartData);
+        when(opfHttpClient.getSecurityProperties()).thenReturn(Pair.of(clientId, publicKey));
+        final OPFInitiatePaymentSessionResponse first = new OPFInitiatePaymentSessionResponse();
+        first.setPaymentSessionId("session-1");
+        final OPFInitiatePaymentSessionResponse second = new OPFInitiatePaymentSessionResponse();
+        second.setPaymentSessionId("session-2");
+        when(opfHttpClient.httpExchange(eq(HTTPS + BASE_URL), any(HttpClientRequestDto.class))).thenReturn(first, second);
+        final PaymentTransactionModel transaction = new PaymentTransactionModel();
+        when(modelService.create(PaymentTransactionModel.class)).thenReturn(transaction);
+        final OPFPaymentSessionModel firstSession = new OPFPaymentSessionModel();
+        final OPFPaymentSessionModel secondSession = new OPFPaymentSessionModel();
+        when(modelService.create(OPFPaymentSessionModel.class)).thenReturn(firstSession, secondSession);
+        when(paymentSessionDao.findBySessionId(anyString())).thenReturn(Optional.empty());
+        when(paymentSessionDao.findLatestByOrder(cart)).thenReturn(Optional.empty(), Optional.of(firstSession));
+
+        service.getInitiatePaymentResponse(new OPFInitiatePaymentSessionRequestData());
+        service.getInitiatePaymentResponse(new OPFInitiatePaymentSessionRequestData());
+
+        Assertions.assertEquals(OPFPaymentSessionStatus.SUPERSEDED, firstSession.getStatus());
+        Assertions.assertNull(firstSession.getPaymentTransaction());
+        Assertions.assertEquals("session-2", secondSession.getSessionId());
+        Assertions.assertEquals(OPFPaymentSessionStatus.INITIATED, secondSession.getStatus());
+        Assertions.assertSame(transaction, secondSession.getPaymentTransaction());
+        Assertions.assertEquals("session-2", transaction.getCode());
+    }
+
+    @Test
+    void getInitiatePaymentResponse_afterCompletedPayment_keepsItsTransaction() {
+        final OPFPaymentSessionDao paymentSessionDao = mock(OPFPaymentSessionDao.class);
+        final CheckoutFacade checkoutFacade = mock(CheckoutFacade.class);
+        final OPFConfig config = OPFConfig.builder().baseUrl(HTTPS + BASE_URL).build();
+        final DefaultOPFAcceleratorService service = new DefaultOPFAcceleratorService(opfHttpClient, configurationService,
+                checkoutFacade, cartService, modelService) {
+            @Override
+            protected OPFConfig getOPFConfig() {
+                return config;
+            }
+        };
+        service.setOpfPaymentSessionDao(paymentSessionDao);
+        when(configurationService.getConfiguration()).thenReturn(new BaseConfiguration());
+        final CartModel cart = mock(CartModel.class);
+        when(cartService.getSessionCart()).thenReturn(cart);
+        final PriceData totalPrice = new PriceData();
+        totalPrice.setValue(BigDecimal.TEN);
+        final CartData cartData = new CartData();
+        cartData.setTotalPrice(totalPrice);
+        when(checkoutFacade.getCheckoutCart()).thenReturn(cartData);
+        when(opfHttpClient.getSecurityProperties()).thenReturn(Pair.of(clientId, publicKey));
+        final OPFInitiatePaymentSessionResponse response = new OPFInitiatePaymentSessionResponse();
+        response.setPaymentSessionId("session-2");
+        when(opfHttpClient.httpExchange(eq(HTTPS + BASE_URL), any(HttpClientRequestDto.class))).thenReturn(response);
+        final PaymentTransactionModel completedTransaction = new PaymentTransactionModel();
+        completedTransaction.setCode("session-1");
+        final OPFPaymentSessionModel completedSession = new OPFPaymentSessionModel();
+        completedSession.setSessionId("session-1");
+        completedSession.setStatus(OPFPaymentSessionStatus.COMPLETED);
+        completedSession.setPaymentTransaction(completedTransaction);
+        final PaymentTransactionModel transaction = new PaymentTransactionModel();
+        when(modelService.create(PaymentTransactionModel.class)).thenReturn(transaction);
+        when(modelService.create(OPFPaymentSessionModel.class)).thenReturn(new OPFPaymentSessionModel());
+        when(paymentSessionDao.findBySessionId(anyString())).thenReturn(Optional.empty());
+        when(paymentSessionDao.findLatestByOrder(cart)).thenReturn(Optional.of(completedSession));
+
+        service.getInitiatePaymentResponse(new OPFInitiatePaymentSessionRequestData());
+
+        Assertions.assertEquals(OPFPaymentSessionStatus.COMPLETED, completedSession.getStatus());
+        Assertions.assertSame(completedTransaction, completedSession.getPaymentTransaction());
+        Assertions.assertEquals("session-1", completedTransaction.getCode());
+        Assertions.assertEquals("session-2", transaction.getCode());
+    }
+
+    @Test
+    void getCompletedPaymentResponse_acceptedPayment_completesPaymentSession() {
+        final OPFPaymentSessionDao paymentSessionDao = mock(OPFPaymentSessionDao.class);
+        final OPFConfig config = OPFConfig.builder().baseUrl(HTTPS + BASE_URL).build();
+        final DefaultOPFAcceleratorService service = new DefaultOPFAcceleratorService(opfHttpClient, configurationService,
+                mock(CheckoutFacade.class), cartService, modelService) {
+            @Override
+            protected OPFConfig getOPFConfig() {
+                return config;
+            }
+
+            @Override
+            public Boolean validatePaymentStatus(final OPFPaymentSubmitCompleteResponse response) {
+                return Boolean.TRUE;
+            }
+        };
+        service.setOpfPaymentSessionDao(paymentSessionDao);
+        final OPFPaymentSessionModel paymentSession = new OPFPaymentSessionModel();
+        final OPFPaymentSubmitCompleteRequestData requestData = new OPFPaymentSubmitCompleteRequestData();
+        requestData.setPaymentSessionId("session-1");
+        when(opfHttpClient.httpExchange(eq(HTTPS + BASE_URL), any(HttpClientRequestDto.class)))
+                .thenReturn(new OPFPaymentSubmitCompleteResponse());
+        when(paymentSessionDao.findBySessionId("session-1")).thenReturn(Optional.of(paymentSession));
+
+        service.getCompletedPaymentResponse(requestData);
+
+        Assertions.assertEquals(OPFPaymentSessionStatus.COMPLETED, paymentSession.getStatus());
+        Assertions.assertNotNull(paymentSession.getCompletedTime());
+        verify(modelService).save(paymentSession);
+    }
+
+    private DefaultOPFAcceleratorService newWriteBehindService(final OPFPaymentTransactionQueue queue,
+            final CheckoutFacade checkoutFacade, final OPFPaymentSessionDao paymentSessionDao) {
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty("opf.payment.transaction.writebehind.enabled", true);
+        configuration.setProperty("opf.payment.transaction.writebehind.drain.timeout.ms", 250L);
+        when(configurationService.getConfiguration()).thenReturn(configuration);
+        final CartModel cart = mock(CartModel.class);
+        when(cart.getCode()).thenReturn("cart-1");
+        when(cartService.hasSessionCart()).thenReturn(true);
+        when(cartService.getSessionCart()).thenReturn(cart);
+        final DefaultOPFAcceleratorService service = new DefaultOPFAcceleratorService(opfHttpClient, configurationService,
+                checkoutFacade, cartService, modelService);
+        service.setOpfPaymentTransactionQueue(queue);
+        service.setOpfPaymentSessionDao(paymentSessionDao);
+        return service;
+    }
+
+    private static OPFPaymentSessionModel pendingPaymentSession(final String sessionId, final CartModel cart) {
+        final OPFPaymentSessionModel paymentSession = new OPFPaymentSessionModel();
+        paymentSession.setSessionId(sessionId);
+        paymentSession.setOrder(cart);
+        paymentSession.setStatus(OPFPaymentSessionStatus.PENDING);
+        paymentSession.setAmount(BigDecimal.TEN);
+        return paymentSession;
+    }
+
+    private static CartData cartData(final BigDecimal total) {
+        final PriceData totalPrice = new PriceData();
+        totalPrice.setValue(total);
+        final CartData cartData = new CartData();
+        cartData.setTotalPrice(totalPrice);
+        return cartData;
+    }
+
+    private void mockPaymentStatuses(final String paymentStatuses) {
+        Configuration configuration = mock(Configuration.class);
+        when(configurationService.getConfiguration()).thenReturn(configuration);
+        when(configuration.getString(eq("opf.payment.statuses"), anyString())).thenReturn(paymentStatuses);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.service.OPFActiveConfigValidators;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOPFActiveConfigCacheTest {
+
+    private static final long TTL_MS = 1000L;
+    private static final long STALE_MS = 2000L;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final AtomicInteger loads = new AtomicInteger();
+    private Configuration configuration;
+    private ExecutorService executor;
+    private DefaultOPFActiveConfigCache cache;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new BaseConfiguration();
+        configuration.setProperty("opf.active.config.cache.ttl.ms", TTL_MS);
+        configuration.setProperty("opf.active.config.cache.stale.ms", STALE_MS);
+        configuration.setProperty("opf.active.config.cache.max.entries", 2);
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        executor = Executors.newSingleThreadExecutor();
+        cache = new DefaultOPFActiveConfigCache(configurationService, executor) {
+            @Override
+            protected long currentTimeMillis() {
+                return clock.get();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void freshResponseIsServedFromTheCache() {
+        final OPFActiveConfigResponse first = cache.get(config("electronics"), loader());
+
+        Assertions.assertSame(first, cache.get(config("electronics"), loader()));
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1L, cache.getActiveConfigCacheStats().getHits());
+        Assertions.assertEquals(1L, cache.getActiveConfigCacheStats().getMisses());
+    }
+
+    @Test
+    void staleResponseIsServedWhileRefreshedInTheBackground() throws Exception {
+        final OPFActiveConfigResponse first = cache.get(config("electronics"), loader());
+        clock.addAndGet(TTL_MS + 1L);
+
+        Assertions.assertSame(first, cache.get(config("electronics"), loader()));
+        executor.submit(() -> { }).get(5L, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertNotSame(first, cache.get(config("electronics"), loader()));
+        Assertions.assertEquals(1L, cache.getActiveConfigCacheStats().getStaleHits());
+        Assertions.assertEquals(1L, cache.getActiveConfigCacheStats().getRefreshes());
+    }
+
+    @Test
+    void expiredResponseIsLoadedOnTheCallingThread() {
+        final OPFActiveConfigResponse first = cache.get(config("electronics"), loader());
+        clock.addAndGet(TTL_MS + STALE_MS);
+
+        Assertions.assertNotSame(first, cache.get(config("electronics"), loader()));
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0L, cache.getActiveConfigCacheStats().getRefreshes());
+    }
+
+    @Test
+    void failedRefreshKeepsTheStaleResponse() throws Exception {
+        final OPFActiveConfigResponse first = cache.get(config("electronics"), loader());
+        clock.addAndGet(TTL_MS + 1L);
+
+        cache.get(config("electronics"), validators -> {
+            throw new IllegalStateException("gateway down");
+        });
+        executor.submit(() -> { }).get(5L, TimeUnit.SECONDS);
+
+        Assertions.assertSame(first, cache.get(config("electronics"), loader()));
+        Assertions.assertEquals(1L, cache.getActiveConfigCacheStats().getRefreshFailures());
+    }
+
+    @Test
+    void refreshReplacesTheFreshResponse() {
+        final OPFActiveConfigResponse first = cache.get(config("electronics"), loader());
+
+        final OPFActiveConfigResponse refreshed = cache.refresh(config("electronics"), loader());
+
+        Assertions.assertNotSame(first, refreshed);
+        Assertions.assertSame(refreshed, cache.get(config("electronics"), loader()));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void unchangedRefreshKeepsTheResponse() {
+        final OPFActiveConfigResponse first = cache.get(config("electronics"), loader());
+        clock.addAndGet(TTL_MS + STALE_MS);
+
+        Assertions.assertSame(first, cache.get(config("electronics"), validators -> first));
+        clock.addAndGet(TTL_MS - 1L);
+        Assertions.assertSame(first, cache.get(config("electronics"), loader()));
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1L, cache.getActiveConfigCacheStats().getUnchangedLoads());
+    }
+
+    @Test
+    void sitesAreCachedAndInvalidatedSeparately() {
+        final OPFActiveConfigResponse electronics = cache.get(config("electronics"), loader());
+        final OPFActiveConfigResponse apparel = cache.get(config("apparel"), loader());
+        Assertions.assertNotSame(electronics, apparel);
+
+        cache.invalidate("electronics");
+
+        Assertions.assertSame(apparel, cache.get(config("apparel"), loader()));
+        Assertions.assertNotSame(electronics, cache.get(config("electronics"), loader()));
+        Assertions.assertEquals(3, loads.get());
+
+        cache.invalidate();
+        Assertions.assertEquals(0, cache.getActiveConfigCacheStats().getSize());
+    }
+
+    @Test
+    void leastRecentlyUsedSiteIsEvicted() {
+        cache.get(config("electronics"), loader());
+        clock.incrementAndGet();
+        cache.get(config("apparel"), loader());
+        clock.incrementAndGet();
+        cache.get(config("electronics"), loader());
+        clock.incrementAndGet();
+
+        cache.get(config("powertools"), loader());
+
+        Assertions.assertEquals(2, cache.getActiveConfigCacheStats().getSize());
+        Assertions.assertEquals(1L, cache.getActiveConfigCacheStats().getEvictions());
+        cache.get(config("electronics"), loader());
+        Assertions.assertEquals(3, loads.get());
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Function<OPFActiveConfigValidators, OPFActiveConfigResponse> slowLoader = validators -> {
+            try {
+                release.await(5L, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader().apply(validators);
+        };
+        final ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<OPFActiveConfigResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                responses.add(callers.submit(() -> cache.get(config("electronics"), slowLoader)));
+            }
+            Thread.sleep(100L);
+            release.countDown();
+            final OPFActiveConfigResponse response = responses.get(0).get(5L, TimeUnit.SECONDS);
+            for (final Future<OPFActiveConfigResponse> other : responses) {
+                Assertions.assertSame(response, other.get(5L, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void validatorsAreKeptWithTheEntryAndDroppedWithIt() {
+        final List<OPFActiveConfigValidators> validators = new ArrayList<>();
+        final Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader = entryValidators -> {
+            validators.add(entryValidators);
+            return loader().apply(entryValidators);
+        };
+
+        cache.get(config("electronics"), loader);
+        cache.refresh(config("electronics"), loader);
+        cache.invalidate("electronics");
+        cache.get(config("electronics"), loader);
+
+        Assertions.assertEquals(3, validators.size());
+        Assertions.assertSame(validators.get(0), validators.get(1));
+        Assertions.assertNotSame(validators.get(1), validators.get(2));
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        configuration.setProperty("opf.active.config.cache.enabled", false);
+
+        cache.get(config("electronics"), loader());
+        cache.get(config("electronics"), loader());
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader() {
+        return validators -> {
+            loads.incrementAndGet();
+            return new OPFActiveConfigResponse();
+        };
+    }
+
+    private static OPFConfig config(final String siteUid) {
+        return OPFConfig.builder()
+                .siteUid(siteUid)
+                .baseUrl("https://opf.example.com")
+                .activeConfigUrl("/gateway/configurations")
+                .activeConfigQueryParams(Map.of("pageSize", "10", "divisionId", siteUid))
+                .build();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.service.OPFAssetType;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves the assets of a stand-in payment provider host from a temporary directory
+ */
+public class DefaultOPFAssetProxyServiceTest {
+
+    private static final String SDK_URL = "https://cdn.provider.com/sdk.js";
+    private static final byte[] SDK = "window.provider = {};".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+    private final Map<URI, byte[]> host = new HashMap<>();
+    private final List<URI> downloaded = new ArrayList<>();
+    private Configuration configuration;
+    private DefaultOPFAssetProxyService proxy;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new BaseConfiguration();
+        configuration.setProperty("opf.asset.proxy.enabled", true);
+        configuration.setProperty("opf.asset.proxy.secret", "cluster-secret");
+        configuration.setProperty("opf.asset.proxy.cache.dir", directory.toString());
+        configuration.setProperty("opf.asset.proxy.hosts", "cdn.provider.com");
+        host.put(URI.create(SDK_URL), SDK);
+        proxy = newProxy();
+    }
+
+    @Test
+    void urlIsKeptWhenTheProxyIsDisabledOrHasNoSecret() {
+        configuration.setProperty("opf.asset.proxy.enabled", false);
+        Assertions.assertEquals(SDK_URL, proxy.getProxyUrl(SDK_URL, sri("sha384", SDK), OPFAssetType.SCRIPT));
+
+        configuration.setProperty("opf.asset.proxy.enabled", true);
+        configuration.setProperty("opf.asset.proxy.secret", "");
+        Assertions.assertEquals(SDK_URL, proxy.getProxyUrl(SDK_URL, sri("sha384", SDK), OPFAssetType.SCRIPT));
+        Assertions.assertTrue(proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT).isEmpty());
+        Assertions.assertTrue(downloaded.isEmpty());
+    }
+
+    @Test
+    void urlIsKeptWithoutIntegrity() {
+        Assertions.assertEquals(SDK_URL, proxy.getProxyUrl(SDK_URL, null, OPFAssetType.SCRIPT));
+        Assertions.assertEquals(SDK_URL, proxy.getProxyUrl(SDK_URL, "md5-abc", OPFAssetType.SCRIPT));
+    }
+
+    @Test
+    void proxyUrlIsSignedForItsSourceAndIntegrity() {
+        final String sri = sri("sha384", SDK);
+        final String proxyUrl = proxy.getProxyUrl(SDK_URL, sri, OPFAssetType.SCRIPT);
+
+        Assertions.assertTrue(proxyUrl.startsWith("/opf-payment/assets/"));
+        final String signature = proxyUrl.substring("/opf-payment/assets/".length(), proxyUrl.indexOf(".js?"));
+        Assertions.assertEquals(SDK_URL, parameter(proxyUrl, "src"));
+        Assertions.assertEquals(sri, parameter(proxyUrl, "integrity"));
+        Assertions.assertTrue(proxy.isSigned(sri, SDK_URL, OPFAssetType.SCRIPT, signature));
+        Assertions.assertFalse(proxy.isSigned(sri, "https://attacker.com/sdk.js", OPFAssetType.SCRIPT, signature));
+        Assertions.assertFalse(proxy.isSigned(sri, SDK_URL, OPFAssetType.STYLE, signature));
+    }
+
+    @Test
+    void verifiedAssetIsDownloadedOnce() throws IOException {
+        final Optional<Path> first = proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT);
+        final Optional<Path> second = proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT);
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertArrayEquals(SDK, Files.readAllBytes(second.orElseThrow()));
+        Assertions.assertTrue(second.get().getFileName().toString().endsWith(".js"));
+        Assertions.assertEquals(1, downloaded.size());
+        Assertions.assertEquals(1L, proxy.getAssetProxyStats().getHits());
+        Assertions.assertEquals(SDK.length, proxy.getAssetProxyStats().getBytes());
+    }
+
+    @Test
+    void tamperedAssetIsNotStored() throws IOException {
+        host.put(URI.create(SDK_URL), "window.provider = steal();".getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertTrue(proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT).isEmpty());
+        Assertions.assertEquals(1L, proxy.getAssetProxyStats().getIntegrityFailures());
+        try (var stored = Files.list(directory)) {
+            Assertions.assertEquals(0L, stored.count());
+        }
+    }
+
+    @Test
+    void onlyTheStrongestIntegrityAlgorithmIsChecked() {
+        final byte[] other = "other".getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertTrue(proxy.getAsset(sri("sha256", other) + " " + sri("sha512", SDK), SDK_URL,
+                OPFAssetType.SCRIPT).isPresent());
+        Assertions.assertTrue(proxy.getAsset(sri("sha256", SDK) + " " + sri("sha512", other), SDK_URL,
+                OPFAssetType.SCRIPT).isEmpty());
+    }
+
+    @Test
+    void leastRecentlyServedAssetsAreDeletedBeyondTheCacheSize() {
+        final byte[] css = ".provider { color: red }".getBytes(StandardCharsets.UTF_8);
+        configuration.setProperty("opf.asset.proxy.cache.max.bytes", (long) SDK.length + css.length);
+        configuration.setProperty("opf.asset.proxy.evict.grace.ms", 0L);
+        final byte[] widget = "window.widget = {};".getBytes(StandardCharsets.UTF_8);
+        host.put(URI.create("https://cdn.provider.com/sdk.css"), css);
+        host.put(URI.create("https://cdn.provider.com/widget.js"), widget);
+
+        final Path sdk = proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT).orElseThrow();
+        final Path style = proxy.getAsset(sri("sha384", css), "https://cdn.provider.com/sdk.css", OPFAssetType.STYLE)
+                .orElseThrow();
+        proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT);
+        proxy.getAsset(sri("sha384", widget), "https://cdn.provider.com/widget.js", OPFAssetType.SCRIPT);
+
+        Assertions.assertTrue(Files.exists(sdk));
+        Assertions.assertFalse(Files.exists(style));
+        Assertions.assertEquals(1L, proxy.getAssetProxyStats().getEvictions());
+        Assertions.assertEquals(2, proxy.getAssetProxyStats().getFiles());
+    }
+
+    @Test
+    void evictedAssetIsKeptForResponsesStillReadingIt() {
+        configuration.setProperty("opf.asset.proxy.cache.max.bytes", (long) SDK.length);
+        final byte[] widget = "window.widget = {};".getBytes(StandardCharsets.UTF_8);
+        host.put(URI.create("https://cdn.provider.com/widget.js"), widget);
+
+        final Path sdk = proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT).orElseThrow();
+        proxy.getAsset(sri("sha384", widget), "https://cdn.provider.com/widget.js", OPFAssetType.SCRIPT);
+
+        Assertions.assertTrue(Files.exists(sdk));
+        Assertions.assertEquals(1L, proxy.getAssetProxyStats().getEvictions());
+        Assertions.assertEquals(1, proxy.getAssetProxyStats().getFiles());
+    }
+
+    @Test
+    void assetsOfAnEarlierRunAreServed() {
+        proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT);
+
+        final DefaultOPFAssetProxyService restarted = newProxy();
+
+        Assertions.assertTrue(restarted.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT).isPresent());
+        Assertions.assertEquals(1, downloaded.size());
+        Assertions.assertEquals(SDK.length, restarted.getAssetProxyStats().getBytes());
+    }
+
+    @Test
+    void tamperedAssetOfAnEarlierRunIsDownloadedAgain() throws IOException {
+        final Path stored = proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT).orElseThrow();
+        Files.write(stored, "window.provider = steal();".getBytes(StandardCharsets.UTF_8));
+
+        final DefaultOPFAssetProxyService restarted = newProxy();
+        final Path served = restarted.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT).orElseThrow();
+
+        Assertions.assertArrayEquals(SDK, Files.readAllBytes(served));
+        Assertions.assertEquals(2, downloaded.size());
+        Assertions.assertEquals(1L, restarted.getAssetProxyStats().getIntegrityFailures());
+        Assertions.assertEquals(SDK.length, restarted.getAssetProxyStats().getBytes());
+    }
+
+    @Test
+    void noHostIsProxiedWithoutConfiguredHosts() {
+        configuration.setProperty("opf.asset.proxy.hosts", "");
+
+        Assertions.assertEquals(SDK_URL, proxy.getProxyUrl(SDK_URL, sri("sha384", SDK), OPFAssetType.SCRIPT));
+        Assertions.assertTrue(proxy.getAsset(sri("sha384", SDK), SDK_URL, OPFAssetType.SCRIPT).isEmpty());
+        Assertions.assertTrue(downloaded.isEmpty());
+    }
+
+    @Test
+    void onlyConfiguredHostsAreProxied() {
+        configuration.setProperty("opf.asset.proxy.hosts", "cdn.provider.com, static.other.com");
+
+        Assertions.assertNotEquals(SDK_URL, proxy.getProxyUrl(SDK_URL, sri("sha384", SDK), OPFAssetType.SCRIPT));
+        Assertions.assertEquals("https://js.unknown.com/sdk.js",
+                proxy.getProxyUrl("https://js.unknown.com/sdk.js", sri("sha384", SDK), OPFAssetType.SCRIPT));
+        Assertions.assertEquals("javascript:alert(1)",
+                proxy.getProxyUrl("javascript:alert(1)", sri("sha384", SDK), OPFAssetType.SCRIPT));
+    }
+
+    @Test
+    void unavailableAssetIsNotServed() {
+        Assertions.assertTrue(proxy.getAsset(sri("sha384", SDK), "https://cdn.provider.com/missing.js",
+                OPFAssetType.SCRIPT).isEmpty());
+        Assertions.assertEquals(1L, proxy.getAssetProxyStats().getFailures());
+    }
+
+    @Test
+    void failedDownloadIsNotRepeatedWithinTheFailureTtl() {
+        final URI missing = URI.create("https://cdn.provider.com/missing.js");
+
+        proxy.getAsset(sri("sha384", SDK), missing.toString(), OPFAssetType.SCRIPT);
+        proxy.getAsset(sri("sha384", SDK), missing.toString(), OPFAssetType.SCRIPT);
+        Assertions.assertEquals(List.of(missing), downloaded);
+
+        configuration.setProperty("opf.asset.proxy.failure.ttl.ms", 0L);
+        final DefaultOPFAssetProxyService retrying = newProxy();
+        retrying.getAsset(sri("sha384", SDK), missing.toString(), OPFAssetType.SCRIPT);
+        retrying.getAsset(sri("sha384", SDK), missing.toString(), OPFAssetType.SCRIPT);
+        Assertions.assertEquals(3, downloaded.size());
+    }
+
+    private DefaultOPFAssetProxyService newProxy() {
+        final ConfigurationService configurationService = Mockito.mock(ConfigurationService.class);
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        return new DefaultOPFAssetProxyService(configurationService) {
+            @Override
+            protected byte[] download(final URI uri, final int maxBytes) throws IOException {
+                downloaded.add(uri);
+                final byte[] content = host.get(uri);
+                if (content == null) {
+                    throw new IOException("404 " + uri);
+                }
+                return content;
+            }
+        };
+    }
+
+    private static String sri(final String algorithm, final byte[] content) {
+        try {
+            return algorithm + "-" + Base64.getEncoder().encodeToString(
+                    MessageDigest.getInstance(algorithm.replace("sha", "SHA-")).digest(content));
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String parameter(final String url, final String name) {
+        for (final String parameter : url.substring(url.indexOf('?') + 1).split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                return URLDecoder.decode(parameter.substring(name.length() + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
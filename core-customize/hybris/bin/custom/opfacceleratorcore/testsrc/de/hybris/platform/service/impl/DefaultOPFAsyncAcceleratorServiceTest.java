@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.cta.request.OPFPaymentCTARequest;
+import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.opf.data.request.OPFPaymentSubmitRequest;
+import de.hybris.platform.opf.data.response.OPFPaymentSubmitResponse;
+import de.hybris.platform.service.OPFAcceleratorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class DefaultOPFAsyncAcceleratorServiceTest {
+
+    private OPFAcceleratorService opfAcceleratorService;
+    private ExecutorService executor;
+    private DefaultOPFAsyncAcceleratorService asyncAcceleratorService;
+
+    @BeforeEach
+    void setUp() {
+        opfAcceleratorService = Mockito.mock(OPFAcceleratorService.class);
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "opf-gateway-test"));
+        asyncAcceleratorService = new DefaultOPFAsyncAcceleratorService(opfAcceleratorService, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void gatewayCallRunsOnTheGatewayExecutor() {
+        final OPFPaymentCTARequest request = new OPFPaymentCTARequest();
+        final OPFPaymentCTAResponse response = new OPFPaymentCTAResponse();
+        final AtomicReference<String> callingThread = new AtomicReference<>();
+        Mockito.when(opfAcceleratorService.getCTAResponse(request)).thenAnswer(invocation -> {
+            callingThread.set(Thread.currentThread().getName());
+            return response;
+        });
+
+        Assertions.assertSame(response, asyncAcceleratorService.getCTAResponse(request).join());
+        Assertions.assertEquals("opf-gateway-test", callingThread.get());
+    }
+
+    @Test
+    void submitPaymentPassesTheQuickBuyFlag() {
+        final OPFPaymentSubmitRequest request = new OPFPaymentSubmitRequest();
+        final OPFPaymentSubmitResponse response = new OPFPaymentSubmitResponse();
+        Mockito.when(opfAcceleratorService.submitPayment(request, true)).thenReturn(response);
+
+        Assertions.assertSame(response, asyncAcceleratorService.submitPayment(request, true).join());
+        Mockito.verify(opfAcceleratorService).submitPayment(request, true);
+    }
+
+    @Test
+    void failedGatewayCallFailsTheFuture() {
+        Mockito.when(opfAcceleratorService.getActiveConfigurations()).thenThrow(new IllegalStateException("gateway down"));
+
+        final CompletableFuture<?> result = asyncAcceleratorService.getActiveConfigurations();
+
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void saturatedExecutorFailsTheFutureInsteadOfThrowing() {
+        executor.shutdown();
+
+        final CompletableFuture<?> result = asyncAcceleratorService.getActiveConfigurations();
+
+        Assertions.assertTrue(result.isCompletedExceptionally());
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        Mockito.verifyNoInteractions(opfAcceleratorService);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOPFCTAEdgeCacheServiceTest {
+
+    private static final String PATH = "/opf-payment/cta-scripts-rendering";
+    private static final byte[] RENDERING = "{\"value\":[{\"html\":\"<div></div>\"}]}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    private DefaultOPFCTAEdgeCacheService edgeCacheService;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        edgeCacheService = new DefaultOPFCTAEdgeCacheService(configurationService);
+    }
+
+    @Test
+    void canonicalQueryIsSortedByNameAndEncoded() {
+        final String query = edgeCacheService.getCanonicalQuery(Map.of("quantity", "2", "productId", "camera 1/2",
+                "accountIds", "11,7", "locale", "en~US"));
+
+        Assertions.assertEquals("accountIds=11%2C7&locale=en~US&productId=camera%201%2F2&quantity=2", query);
+    }
+
+    @Test
+    void redirectToTheCanonicalUrlIsTemporaryAndShortLived() {
+        final ResponseEntity<byte[]> response = edgeCacheService.createRedirect(PATH, "accountIds=7&quantity=1", true);
+
+        Assertions.assertEquals(HttpStatus.FOUND, response.getStatusCode());
+        Assertions.assertEquals(URI.create(PATH + "?accountIds=7&quantity=1"), response.getHeaders().getLocation());
+        Assertions.assertEquals("max-age=60, public, s-maxage=60", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void redirectOfALoggedInCustomerIsPrivate() {
+        final ResponseEntity<byte[]> response = edgeCacheService.createRedirect(PATH, "accountIds=7&quantity=1", false);
+
+        Assertions.assertEquals(HttpStatus.FOUND, response.getStatusCode());
+        Assertions.assertEquals("max-age=60, private", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void anonymousRenderingIsCachedPublicly() {
+        final ResponseEntity<byte[]> response = edgeCacheService.createResponse(RENDERING, true, null, true);
+
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertArrayEquals(RENDERING, response.getBody());
+        Assertions.assertEquals("max-age=60, public, s-maxage=300", response.getHeaders().getCacheControl());
+        Assertions.assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getVary().get(0));
+        Assertions.assertTrue(response.getHeaders().getETag().startsWith("W/\""));
+    }
+
+    @Test
+    void renderingOfALoggedInCustomerIsPrivate() {
+        final ResponseEntity<byte[]> response = edgeCacheService.createResponse(RENDERING, true, null, false);
+
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertEquals("max-age=60, private", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void matchingETagIsAnsweredWithNotModified() {
+        final String eTag = edgeCacheService.createResponse(RENDERING, true, null, true).getHeaders().getETag();
+
+        final ResponseEntity<byte[]> weak = edgeCacheService.createResponse(RENDERING, true, "\"other\", " + eTag, true);
+        final ResponseEntity<byte[]> strong = edgeCacheService.createResponse(RENDERING, true, eTag.substring(2), true);
+
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, weak.getStatusCode());
+        Assertions.assertNull(weak.getBody());
+        Assertions.assertEquals(eTag, weak.getHeaders().getETag());
+        Assertions.assertEquals("max-age=60, public, s-maxage=300", weak.getHeaders().getCacheControl());
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, strong.getStatusCode());
+    }
+
+    @Test
+    void differentETagGetsTheRendering() {
+        final ResponseEntity<byte[]> response = edgeCacheService.createResponse(RENDERING, true, "W/\"other\"", true);
+
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertArrayEquals(RENDERING, response.getBody());
+    }
+
+    @Test
+    void emptyFallbackIsNotStored() {
+        final byte[] body = "{\"value\":[]}".getBytes(StandardCharsets.UTF_8);
+
+        final ResponseEntity<byte[]> response = edgeCacheService.createResponse(body, false, "*", true);
+
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertArrayEquals(body, response.getBody());
+        Assertions.assertEquals("no-store", response.getHeaders().getCacheControl());
+        Assertions.assertNull(response.getHeaders().getETag());
+    }
+}
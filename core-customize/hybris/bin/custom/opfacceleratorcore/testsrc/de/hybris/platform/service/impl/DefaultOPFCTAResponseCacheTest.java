@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.cta.request.OPFPaymentCTAProductItems;
+import de.hybris.platform.cta.request.OPFPaymentCTARequest;
+import de.hybris.platform.cta.response.OPFPaymentCTAAttributes;
+import de.hybris.platform.cta.response.OPFPaymentCTADynamicScript;
+import de.hybris.platform.cta.response.OPFPaymentCTAResponse;
+import de.hybris.platform.cta.response.OPFPaymentCTAUrlsData;
+import de.hybris.platform.cta.response.OPFPaymentCTAValue;
+import de.hybris.platform.opf.data.OPFCTAResponseCacheStatsData;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Serves the CTA scripts of a stand-in gateway that writes the script identifier into the html and the script url
+ */
+public class DefaultOPFCTAResponseCacheTest {
+
+    private final OPFConfig config = OPFConfig.builder().siteUid("electronics").baseUrl("https://gateway")
+            .ctaUrl("/cta-scripts").build();
+    private final List<OPFPaymentCTARequest> sent = new ArrayList<>();
+    private final Function<OPFPaymentCTARequest, OPFPaymentCTAResponse> gateway = this::render;
+    private Configuration configuration;
+    private long now = 1_000_000L;
+    private DefaultOPFCTAResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new BaseConfiguration();
+        final ConfigurationService configurationService = Mockito.mock(ConfigurationService.class);
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        cache = new DefaultOPFCTAResponseCache(configurationService) {
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    void otherScriptIdentifierIsServedFromTheCache() {
+        final OPFPaymentCTAResponse first = cache.get(config, request("0001", "PDP", item("A", 1L)), gateway);
+        final OPFPaymentCTAResponse second = cache.get(config, request("0002", "PDP", item("A", 1L)), gateway);
+
+        Assertions.assertEquals(1, sent.size());
+        Assertions.assertEquals("<div data-script-id=\"0001\">A</div>", first.getValue().get(0).getDynamicScript().getHtml());
+        Assertions.assertEquals("<div data-script-id=\"0002\">A</div>", second.getValue().get(0).getDynamicScript().getHtml());
+        final OPFPaymentCTAUrlsData jsUrl = second.getValue().get(0).getDynamicScript().getJsUrls().get(0);
+        Assertions.assertEquals("https://cdn/cta.js?id=0002", jsUrl.getUrl());
+        Assertions.assertEquals("0002", jsUrl.getAttributes().get(0).getValue());
+        Assertions.assertEquals("sha384-cta", jsUrl.getSri());
+    }
+
+    @Test
+    void gatewayIsCalledWithAPlaceholderInsteadOfTheScriptIdentifier() {
+        cache.get(config, request("0001", "PDP", item("A", 1L)), gateway);
+
+        final String sentIdentifier = identifier(sent.get(0));
+        Assertions.assertNotEquals("0001", sentIdentifier);
+        Assertions.assertTrue(sentIdentifier.startsWith("opfcta"));
+    }
+
+    @Test
+    void productItemsAreKeyedRegardlessOfOrderAndSplitQuantities() {
+        cache.get(config, request("0001", "CART", item("A", 1L), item("B", 2L)), gateway);
+
+        cache.get(config, request("0002", "CART", item("B", 2L), item("A", 1L)), gateway);
+        cache.get(config, request("0003", "CART", item("B", 1L), item("A", 1L), item("B", 1L)), gateway);
+        Assertions.assertEquals(1, sent.size());
+
+        cache.get(config, request("0004", "CART", item("A", 1L), item("B", 3L)), gateway);
+        Assertions.assertEquals(2, sent.size());
+    }
+
+    @Test
+    void localeCurrencyAccountsAndLocationsAreKeyed() {
+        cache.get(config, request("0001", "PDP", item("A", 1L)), gateway);
+
+        final OPFPaymentCTARequest otherLocale = request("0002", "PDP", item("A", 1L));
+        otherLocale.getAdditionalData().get(0).setValue("de");
+        cache.get(config, otherLocale, gateway);
+        final OPFPaymentCTARequest otherCurrency = request("0003", "PDP", item("A", 1L));
+        otherCurrency.getAdditionalData().get(1).setValue("EUR");
+        cache.get(config, otherCurrency, gateway);
+        final OPFPaymentCTARequest otherAccount = request("0004", "PDP", item("A", 1L));
+        otherAccount.setAccountIds(List.of("2"));
+        cache.get(config, otherAccount, gateway);
+        cache.get(config, request("0005", "CART", item("A", 1L)), gateway);
+
+        Assertions.assertEquals(5, sent.size());
+    }
+
+    @Test
+    void expiredScriptsAreLoadedAgain() {
+        configuration.setProperty("opf.cta.cache.ttl.ms", 1000L);
+        cache.get(config, request("0001", "PDP", item("A", 1L)), gateway);
+
+        now += 999L;
+        cache.get(config, request("0002", "PDP", item("A", 1L)), gateway);
+        now += 1L;
+        cache.get(config, request("0003", "PDP", item("A", 1L)), gateway);
+
+        Assertions.assertEquals(2, sent.size());
+    }
+
+    @Test
+    void leastRecentlyUsedScriptsAreEvicted() {
+        configuration.setProperty("opf.cta.cache.max.entries", 2);
+        cache.get(config, request("0001", "PDP", item("A", 1L)), gateway);
+        cache.get(config, request("0002", "PDP", item("B", 1L)), gateway);
+        cache.get(config, request("0003", "PDP", item("A", 1L)), gateway);
+
+        cache.get(config, request("0004", "PDP", item("C", 1L)), gateway);
+        cache.get(config, request("0005", "PDP", item("A", 1L)), gateway);
+        cache.get(config, request("0006", "PDP", item("B", 1L)), gateway);
+
+        Assertions.assertEquals(4, sent.size());
+        Assertions.assertEquals(2, cache.getCTAResponseCacheStats().getEvictions());
+    }
+
+    @Test
+    void emptyScriptsAreNotCached() {
+        // what the circuit breaker fallback answers
+        final Function<OPFPaymentCTARequest, OPFPaymentCTAResponse> failing = request -> {
+            sent.add(request);
+            return new OPFPaymentCTAResponse();
+        };
+
+        cache.get(config, request("0001", "PDP", item("A", 1L)), failing);
+        cache.get(config, request("0002", "PDP", item("A", 1L)), failing);
+
+        Assertions.assertEquals(2, sent.size());
+        Assertions.assertEquals(0, cache.getCTAResponseCacheStats().getSize());
+    }
+
+    @Test
+    void siteInvalidationKeepsTheOtherSites() {
+        final OPFConfig apparel = OPFConfig.builder().siteUid("apparel").baseUrl("https://gateway").ctaUrl("/cta-scripts").build();
+        cache.get(config, request("0001", "PDP", item("A", 1L)), gateway);
+        cache.get(apparel, request("0002", "PDP", item("A", 1L)), gateway);
+
+        cache.invalidate("electronics");
+        cache.get(config, request("0003", "PDP", item("A", 1L)), gateway);
+        cache.get(apparel, request("0004", "PDP", item("A", 1L)), gateway);
+
+        Assertions.assertEquals(3, sent.size());
+    }
+
+    @Test
+    void hitRatioIsReported() {
+        cache.get(config, request("0001", "PDP", item("A", 1L)), gateway);
+        cache.get(config, request("0002", "PDP", item("A", 1L)), gateway);
+        cache.get(config, request("0003", "PDP", item("A", 1L)), gateway);
+        cache.get(config, request("0004", "PDP", item("B", 1L)), gateway);
+
+        final OPFCTAResponseCacheStatsData stats = cache.getCTAResponseCacheStats();
+        Assertions.assertEquals(2L, stats.getHits());
+        Assertions.assertEquals(2L, stats.getMisses());
+        Assertions.assertEquals(0.5d, stats.getHitRatio());
+        Assertions.assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    void disabledCacheCallsTheGatewayWithTheRequest() {
+        configuration.setProperty("opf.cta.cache.enabled", false);
+        final OPFPaymentCTARequest request = request("0001", "PDP", item("A", 1L));
+
+        cache.get(config, request, gateway);
+        cache.get(config, request, gateway);
+
+        Assertions.assertEquals(List.of(request, request), sent);
+    }
+
+    /**
+     * the gateway writes the identifier into the html and the script url
+     */
+    private OPFPaymentCTAResponse render(final OPFPaymentCTARequest request) {
+        sent.add(request);
+        final String identifier = identifier(request);
+        final OPFPaymentCTAAttributes attribute = new OPFPaymentCTAAttributes();
+        attribute.setKey("data-script-id");
+        attribute.setValue(identifier);
+        final OPFPaymentCTAUrlsData jsUrl = new OPFPaymentCTAUrlsData();
+        jsUrl.setUrl("https://cdn/cta.js?id=" + identifier);
+        jsUrl.setSri("sha384-cta");
+        jsUrl.setAttributes(List.of(attribute));
+        final OPFPaymentCTADynamicScript script = new OPFPaymentCTADynamicScript();
+        script.setHtml("<div data-script-id=\"" + identifier + "\">" + request.getCtaProductItems().get(0).getProductId()
+                + "</div>");
+        script.setJsUrls(List.of(jsUrl));
+        script.setCssUrls(List.of());
+        final OPFPaymentCTAValue value = new OPFPaymentCTAValue();
+        value.setAccountId(request.getAccountIds().get(0));
+        value.setDynamicScript(script);
+        final OPFPaymentCTAResponse response = new OPFPaymentCTAResponse();
+        response.setValue(List.of(value));
+        return response;
+    }
+
+    private static String identifier(final OPFPaymentCTARequest request) {
+        return request.getAdditionalData().stream()
+                .filter(attribute -> DefaultOPFCTAResponseCache.SCRIPT_IDENTIFIER.equals(attribute.getKey()))
+                .map(OPFPaymentCTAAttributes::getValue).findFirst().orElseThrow();
+    }
+
+    private static OPFPaymentCTARequest request(final String scriptIdentifier, final String location,
+            final OPFPaymentCTAProductItems... items) {
+        final OPFPaymentCTARequest request = new OPFPaymentCTARequest();
+        request.setAccountIds(List.of("1"));
+        request.setScriptLocations(List.of(location));
+        request.setCtaProductItems(List.of(items));
+        request.setAdditionalData(List.of(attribute("locale", "en"), attribute("currency", "USD"),
+                attribute(DefaultOPFCTAResponseCache.SCRIPT_IDENTIFIER, scriptIdentifier)));
+        return request;
+    }
+
+    private static OPFPaymentCTAAttributes attribute(final String key, final String value) {
+        final OPFPaymentCTAAttributes attribute = new OPFPaymentCTAAttributes();
+        attribute.setKey(key);
+        attribute.setValue(value);
+        return attribute;
+    }
+
+    private static OPFPaymentCTAProductItems item(final String productId, final Long quantity) {
+        final OPFPaymentCTAProductItems item = new OPFPaymentCTAProductItems();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.client.OPFAccessTokenManager;
+import de.hybris.platform.cronjob.enums.CronJobResult;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.event.OPFCacheInvalidationEvent;
+import de.hybris.platform.service.OPFActiveConfigValidators;
+import de.hybris.platform.service.OPFCacheRegion;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.servicelayer.event.EventService;
+import de.hybris.platform.servicelayer.event.events.AbstractEvent;
+import de.hybris.platform.site.BaseSiteService;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Two nodes in one JVM, connected by a cluster that serializes every event and delivers it to all nodes like the
+ * platform's cluster broadcast
+ */
+public class DefaultOPFCacheInvalidationServiceTest {
+
+    private final Cluster cluster = new Cluster();
+    private Node first;
+    private Node second;
+
+    @BeforeEach
+    void setUp() {
+        first = new Node(cluster);
+        second = new Node(cluster);
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.executor.shutdownNow();
+        second.executor.shutdownNow();
+    }
+
+    @Test
+    void invalidationOnOneNodeReachesAllNodes() {
+        final OPFActiveConfigResponse firstResponse = first.getActiveConfigurations("electronics");
+        final OPFActiveConfigResponse secondResponse = second.getActiveConfigurations("electronics");
+        final OPFConfig firstConfig = first.configService.getConfig("electronics");
+        final OPFConfig secondConfig = second.configService.getConfig("electronics");
+
+        first.invalidationService.invalidateClusterWide(null,
+                EnumSet.of(OPFCacheRegion.CONFIGURATION, OPFCacheRegion.ACTIVE_CONFIGURATIONS));
+
+        Assertions.assertNotSame(firstResponse, first.getActiveConfigurations("electronics"));
+        Assertions.assertNotSame(secondResponse, second.getActiveConfigurations("electronics"));
+        Assertions.assertNotSame(firstConfig, first.configService.getConfig("electronics"));
+        Assertions.assertNotSame(secondConfig, second.configService.getConfig("electronics"));
+        Mockito.verify(first.accessTokenManager, Mockito.never()).invalidateAll();
+        Assertions.assertEquals(1L, first.invalidationService.getCacheInvalidationStats().getPublished());
+        Assertions.assertEquals(1L, second.invalidationService.getCacheInvalidationStats().getApplied());
+    }
+
+    @Test
+    void invalidationDeliveredTwiceIsAppliedOnce() {
+        cluster.deliveries = 2;
+        first.getActiveConfigurations("electronics");
+
+        second.invalidationService.invalidateClusterWide(null, EnumSet.of(OPFCacheRegion.ACTIVE_CONFIGURATIONS));
+        first.getActiveConfigurations("electronics");
+
+        Assertions.assertEquals(2, first.loads.get());
+        for (final Node node : List.of(first, second)) {
+            Assertions.assertEquals(1L, node.invalidationService.getCacheInvalidationStats().getApplied());
+            Assertions.assertEquals(1L, node.invalidationService.getCacheInvalidationStats().getDuplicates());
+        }
+    }
+
+    @Test
+    void siteInvalidationKeepsTheOtherSites() {
+        final OPFActiveConfigResponse electronics = second.getActiveConfigurations("electronics");
+        final OPFActiveConfigResponse apparel = second.getActiveConfigurations("apparel");
+
+        first.invalidationService.invalidateClusterWide("electronics", EnumSet.of(OPFCacheRegion.ACTIVE_CONFIGURATIONS));
+
+        Assertions.assertNotSame(electronics, second.getActiveConfigurations("electronics"));
+        Assertions.assertSame(apparel, second.getActiveConfigurations("apparel"));
+    }
+
+    @Test
+    void jobInvalidatesAllCachesOnAllNodes() {
+        Assertions.assertEquals(CronJobResult.SUCCESS,
+                new OPFCacheInvalidationJob(first.invalidationService).perform(null).getResult());
+
+        Mockito.verify(first.accessTokenManager).invalidateAll();
+        Mockito.verify(second.accessTokenManager).invalidateAll();
+        Assertions.assertEquals(first.invalidationService.getCacheInvalidationStats().getLastInvalidationId(),
+                second.invalidationService.getCacheInvalidationStats().getLastInvalidationId());
+    }
+
+    /**
+     * storefront node with its own caches
+     */
+    private static final class Node {
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+        private final AtomicInteger loads = new AtomicInteger();
+        private final DefaultOPFConfigService configService;
+        private final DefaultOPFActiveConfigCache activeConfigCache;
+        private final OPFAccessTokenManager accessTokenManager = Mockito.mock(OPFAccessTokenManager.class);
+        private final DefaultOPFCacheInvalidationService invalidationService;
+
+        private Node(final Cluster cluster) {
+            final ConfigurationService configurationService = Mockito.mock(ConfigurationService.class);
+            Mockito.when(configurationService.getConfiguration()).thenReturn(new BaseConfiguration());
+            configService = new DefaultOPFConfigService(configurationService, Mockito.mock(BaseSiteService.class));
+            activeConfigCache = new DefaultOPFActiveConfigCache(configurationService, executor);
+            invalidationService = new DefaultOPFCacheInvalidationService(cluster, configService, activeConfigCache,
+                    accessTokenManager);
+            cluster.listeners.add(new OPFCacheInvalidationEventListener(invalidationService));
+        }
+
+        private OPFActiveConfigResponse getActiveConfigurations(final String siteUid) {
+            final Function<OPFActiveConfigValidators, OPFActiveConfigResponse> loader = validators -> {
+                loads.incrementAndGet();
+                return new OPFActiveConfigResponse();
+            };
+            return activeConfigCache.get(configService.getConfig(siteUid), loader);
+        }
+    }
+
+    /**
+     * event service delivering cluster aware events to every node, including the publishing one
+     */
+    private static final class Cluster implements EventService {
+        private final List<OPFCacheInvalidationEventListener> listeners = new CopyOnWriteArrayList<>();
+        private int deliveries = 1;
+
+        @Override
+        public void publishEvent(final AbstractEvent event) {
+            for (int i = 0; i < deliveries; i++) {
+                for (final OPFCacheInvalidationEventListener listener : listeners) {
+                    listener.onApplicationEvent(overTheWire((OPFCacheInvalidationEvent) event));
+                }
+            }
+        }
+
+        private static OPFCacheInvalidationEvent overTheWire(final OPFCacheInvalidationEvent event) {
+            try {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(event);
+                }
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                    return (OPFCacheInvalidationEvent) in.readObject();
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (final ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.commercefacades.order.CartFacade;
+import de.hybris.platform.commercefacades.order.CheckoutFacade;
+import de.hybris.platform.commercefacades.order.data.AbstractOrderData;
+import de.hybris.platform.commercefacades.order.data.CartData;
+import de.hybris.platform.core.model.ItemModel;
+import de.hybris.platform.interceptor.OPFCartSnapshotInvalidationInterceptor;
+import de.hybris.platform.opf.data.OPFCartSnapshotStatsData;
+import de.hybris.platform.opf.data.OPFOrderData;
+import de.hybris.platform.servicelayer.dto.converter.Converter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class DefaultOPFCartSnapshotTest {
+
+    private CartFacade cartFacade;
+    private CheckoutFacade checkoutFacade;
+    private Converter<AbstractOrderData, OPFOrderData> opfPaymentOrderConverter;
+    private DefaultOPFCartSnapshot snapshot;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cartFacade = Mockito.mock(CartFacade.class);
+        checkoutFacade = Mockito.mock(CheckoutFacade.class);
+        opfPaymentOrderConverter = Mockito.mock(Converter.class);
+        Mockito.when(cartFacade.getSessionCart()).thenAnswer(invocation -> new CartData());
+        Mockito.when(checkoutFacade.getCheckoutCart()).thenAnswer(invocation -> new CartData());
+        Mockito.when(opfPaymentOrderConverter.convert(ArgumentMatchers.any())).thenAnswer(invocation -> new OPFOrderData());
+        snapshot = new DefaultOPFCartSnapshot(cartFacade, checkoutFacade, opfPaymentOrderConverter);
+        RequestContextHolder.setRequestAttributes(newRequest());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void conversionsAreSharedWithinARequest() {
+        final CartData sessionCart = snapshot.getSessionCart();
+        final OPFOrderData order = snapshot.getOrder();
+
+        Assertions.assertSame(sessionCart, snapshot.getSessionCart());
+        Assertions.assertSame(order, snapshot.getOrder());
+        Mockito.verify(cartFacade).getSessionCart();
+        Mockito.verify(opfPaymentOrderConverter).convert(sessionCart);
+
+        final OPFCartSnapshotStatsData stats = snapshot.getSnapshotStats();
+        Assertions.assertEquals(2L, stats.getConversions());
+        Assertions.assertEquals(3L, stats.getHits());
+        Assertions.assertEquals(3L, stats.getTotalHits());
+    }
+
+    @Test
+    void savedCartDropsTheConversions() throws Exception {
+        final CartData checkoutCart = snapshot.getCheckoutCart();
+
+        new OPFCartSnapshotInvalidationInterceptor(snapshot).onPrepare(Mockito.mock(ItemModel.class), null);
+
+        Assertions.assertNotSame(checkoutCart, snapshot.getCheckoutCart());
+        Mockito.verify(checkoutFacade, Mockito.times(2)).getCheckoutCart();
+        Assertions.assertEquals(1L, snapshot.getSnapshotStats().getInvalidations());
+    }
+
+    @Test
+    void conversionThatSavesTheCartIsNotKept() {
+        snapshot.get("createdCart", () -> {
+            snapshot.invalidate();
+            return new CartData();
+        });
+        snapshot.get("createdCart", CartData::new);
+
+        Assertions.assertEquals(2L, snapshot.getSnapshotStats().getConversions());
+        Assertions.assertEquals(0L, snapshot.getSnapshotStats().getHits());
+    }
+
+    @Test
+    void eachRequestConvertsAgain() {
+        snapshot.getSessionCart();
+
+        RequestContextHolder.setRequestAttributes(newRequest());
+        snapshot.getSessionCart();
+
+        Mockito.verify(cartFacade, Mockito.times(2)).getSessionCart();
+        Assertions.assertEquals(1L, snapshot.getSnapshotStats().getConversions());
+        Assertions.assertEquals(2L, snapshot.getSnapshotStats().getTotalConversions());
+    }
+
+    @Test
+    void outsideARequestEveryCallConverts() {
+        RequestContextHolder.resetRequestAttributes();
+
+        snapshot.getCheckoutCart();
+        snapshot.getCheckoutCart();
+        snapshot.invalidate();
+
+        Mockito.verify(checkoutFacade, Mockito.times(2)).getCheckoutCart();
+        Assertions.assertEquals(0L, snapshot.getSnapshotStats().getConversions());
+        Assertions.assertEquals(2L, snapshot.getSnapshotStats().getTotalConversions());
+    }
+
+    private static RequestAttributes newRequest() {
+        final Map<String, Object> attributes = new HashMap<>();
+        final RequestAttributes request = Mockito.mock(RequestAttributes.class);
+        Mockito.when(request.getAttribute(ArgumentMatchers.anyString(), ArgumentMatchers.eq(RequestAttributes.SCOPE_REQUEST)))
+                .thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        Mockito.doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(request).setAttribute(ArgumentMatchers.anyString(), ArgumentMatchers.any(),
+                        ArgumentMatchers.eq(RequestAttributes.SCOPE_REQUEST));
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.site.BaseSiteService;
+import de.hybris.platform.util.OPFMicroBenchmark;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares building the active configuration query parameters from property lookups on every call, as the
+ * accelerator service did before, with reading them from the per-site snapshot of {@link DefaultOPFConfigService}.
+ * Not part of the unit test run, see {@link OPFMicroBenchmark}.
+ */
+public class DefaultOPFConfigServiceBenchmark {
+
+    private static final String SITE_UID = "electronics";
+    private static final int CALLS = 200_000;
+
+    private final Configuration configuration = new BaseConfiguration();
+    private final ConfigurationService configurationService = Mockito.mock(ConfigurationService.class);
+    private final DefaultOPFConfigService configService;
+
+    DefaultOPFConfigServiceBenchmark() {
+        configuration.setProperty("opf.base.url", "https://opf.example.com");
+        configuration.setProperty("opf.active.config.url", "/active-configurations");
+        configuration.setProperty("opf.active.config.pageSize", "20");
+        configuration.setProperty("opf.active.config.pageNumber", "1");
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        configService = new DefaultOPFConfigService(configurationService, Mockito.mock(BaseSiteService.class));
+    }
+
+    public static void main(final String[] args) {
+        final DefaultOPFConfigServiceBenchmark benchmark = new DefaultOPFConfigServiceBenchmark();
+        OPFMicroBenchmark.nanosPerCall("active configuration query parameters from property lookups", CALLS,
+                () -> benchmark.lookupQueryParams().size());
+        OPFMicroBenchmark.nanosPerCall("active configuration query parameters from the snapshot", CALLS,
+                () -> benchmark.configService.getConfig(SITE_UID).getActiveConfigQueryParams().size());
+    }
+
+    /**
+     * the property lookups the active configurations request did on every call before the snapshot
+     */
+    private Map<String, String> lookupQueryParams() {
+        final Map<String, String> queryParams = new HashMap<>();
+        putLookedUp(queryParams, "pageSize", "opf.active.config.pageSize");
+        putLookedUp(queryParams, "pageNumber", "opf.active.config.pageNumber");
+        putLookedUp(queryParams, "configurationId", "opf.active.config.configuration.id");
+        queryParams.put("divisionId", SITE_UID);
+        return queryParams;
+    }
+
+    private void putLookedUp(final Map<String, String> queryParams, final String name, final String key) {
+        if (StringUtils.isNotEmpty(configurationService.getConfiguration().getString(key))) {
+            queryParams.put(name, configurationService.getConfiguration().getString(key));
+        }
+    }
+}
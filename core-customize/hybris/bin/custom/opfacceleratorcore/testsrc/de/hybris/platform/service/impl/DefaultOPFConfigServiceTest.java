@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.basecommerce.model.site.BaseSiteModel;
+import de.hybris.platform.client.OPFGatewayEndpoint;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.site.BaseSiteService;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Map;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOPFConfigServiceTest {
+
+    private static final String SITE_UID = "electronics";
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private BaseSiteService baseSiteService;
+
+    @Mock
+    private BaseSiteModel baseSite;
+
+    private Configuration configuration;
+
+    private DefaultOPFConfigService configService;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new BaseConfiguration();
+        configuration.setProperty("opf.base.url", "https://opf.example.com");
+        configuration.setProperty("opf.cta.url", "/cta-scripts-rendering");
+        configuration.setProperty("opf.active.config.url", "/active-configurations");
+        configuration.setProperty("opf.active.config.pageSize", "20");
+        configuration.setProperty("opf.active.config.pageNumber", "1");
+        configuration.setProperty("opf.active.config.payment.type", "true");
+        configuration.setProperty("opf.payment.statuses", "completed,PENDING");
+        configuration.setProperty("opf.active.config.division.id", "default-division");
+        configuration.setProperty("opf.active.config.division.id." + SITE_UID, "electronics-division");
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(baseSite.getUid()).thenReturn(SITE_UID);
+        Mockito.when(baseSiteService.getCurrentBaseSite()).thenReturn(baseSite);
+        configService = new DefaultOPFConfigService(configurationService, baseSiteService);
+    }
+
+    @Test
+    void snapshotAppliesSiteOverrides() {
+        final OPFConfig config = configService.getConfig();
+
+        Assertions.assertEquals(SITE_UID, config.getSiteUid());
+        Assertions.assertEquals("https://opf.example.com", config.getBaseUrl());
+        Assertions.assertEquals("electronics-division", config.getDivisionId());
+        Assertions.assertEquals("default-division", configService.getConfig("").getDivisionId());
+        Assertions.assertTrue(config.isActiveConfigPaymentType());
+        Assertions.assertTrue(config.getPaymentStatusMatcher().matches("Completed"));
+        Assertions.assertFalse(config.getPaymentStatusMatcher().matches("FAILED"));
+        Assertions.assertEquals(Map.of("pageSize", "20", "pageNumber", "1", "divisionId", SITE_UID),
+                config.getActiveConfigQueryParams());
+        Assertions.assertSame(config, configService.getConfig(SITE_UID));
+    }
+
+    @Test
+    void snapshotResolvesTheEndpointOfSiteUrlOverrides() {
+        configuration.setProperty("opf.cta.url." + SITE_UID, "/electronics/cta-scripts-rendering");
+
+        final OPFConfig config = configService.getConfig(SITE_UID);
+
+        Assertions.assertEquals(Optional.of(OPFGatewayEndpoint.CTA),
+                config.getEndpoint("/electronics/cta-scripts-rendering"));
+        Assertions.assertEquals(Optional.of(OPFGatewayEndpoint.ACTIVE_CONFIG), config.getEndpoint("/active-configurations"));
+        Assertions.assertTrue(config.getEndpoint("/cta-scripts-rendering").isEmpty());
+        Assertions.assertEquals(Optional.of(OPFGatewayEndpoint.CTA),
+                configService.getConfig("").getEndpoint("/cta-scripts-rendering"));
+        Assertions.assertTrue(config.getEndpoint(null).isEmpty());
+    }
+
+    @Test
+    void opfPropertyChangeRebuildsTheSnapshot() {
+        final OPFConfig config = configService.getConfig(SITE_UID);
+
+        configuration.setProperty("opf.cta.url", "/cta-scripts-rendering/v2");
+        configService.configChanged("opf.cta.url", "/cta-scripts-rendering/v2");
+
+        final OPFConfig rebuilt = configService.getConfig(SITE_UID);
+        Assertions.assertNotSame(config, rebuilt);
+        Assertions.assertEquals("/cta-scripts-rendering/v2", rebuilt.getCtaUrl());
+    }
+
+    @Test
+    void otherPropertyChangeKeepsTheSnapshot() {
+        final OPFConfig config = configService.getConfig(SITE_UID);
+
+        configService.configChanged("mail.smtp.server", "localhost");
+
+        Assertions.assertSame(config, configService.getConfig(SITE_UID));
+    }
+
+    @Test
+    void snapshotIsImmutable() {
+        final OPFConfig config = configService.getConfig(SITE_UID);
+
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> config.getPaymentStatusMatcher().getStatuses().add("FAILED"));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> config.getActiveConfigQueryParams().put("pageSize", "50"));
+    }
+}
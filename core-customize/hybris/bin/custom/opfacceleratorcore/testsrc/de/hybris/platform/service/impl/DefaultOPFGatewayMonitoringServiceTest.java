@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.client.impl.OPFEndpointConcurrencyInterceptor;
+import de.hybris.platform.client.impl.OPFPoolingClientHttpRequestFactory;
+import de.hybris.platform.client.impl.OPFVirtualThreadPinningMonitor;
+import de.hybris.platform.opf.data.OPFEndpointConcurrencyStatsData;
+import de.hybris.platform.opf.data.OPFGatewayStatsData;
+import de.hybris.platform.opf.data.OPFHttpPoolStatsData;
+import de.hybris.platform.opf.data.OPFVirtualThreadPinningStatsData;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOPFGatewayMonitoringServiceTest {
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private OPFPoolingClientHttpRequestFactory requestFactory;
+
+    @Mock
+    private OPFEndpointConcurrencyInterceptor endpointConcurrencyInterceptor;
+
+    @Mock
+    private OPFVirtualThreadPinningMonitor pinningMonitor;
+
+    private DefaultOPFGatewayMonitoringService monitoringService;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        monitoringService = new DefaultOPFGatewayMonitoringService(configurationService);
+    }
+
+    @Test
+    void statsOfTheWiredCollaboratorsArePublished() {
+        final OPFHttpPoolStatsData poolStats = new OPFHttpPoolStatsData();
+        final OPFEndpointConcurrencyStatsData endpointStats = new OPFEndpointConcurrencyStatsData();
+        final OPFVirtualThreadPinningStatsData pinningStats = new OPFVirtualThreadPinningStatsData();
+        Mockito.when(requestFactory.getPoolStats()).thenReturn(poolStats);
+        Mockito.when(endpointConcurrencyInterceptor.getEndpointStats()).thenReturn(List.of(endpointStats));
+        Mockito.when(pinningMonitor.getPinningStats()).thenReturn(pinningStats);
+        monitoringService.setOpfPoolingClientHttpRequestFactory(requestFactory);
+        monitoringService.setOpfEndpointConcurrencyInterceptor(endpointConcurrencyInterceptor);
+        monitoringService.setOpfVirtualThreadPinningMonitor(pinningMonitor);
+
+        final OPFGatewayStatsData stats = monitoringService.getGatewayStats();
+
+        Assertions.assertSame(poolStats, stats.getHttpPool());
+        Assertions.assertEquals(List.of(endpointStats), stats.getEndpointConcurrency());
+        Assertions.assertSame(pinningStats, stats.getVirtualThreadPinning());
+    }
+
+    @Test
+    void missingCollaboratorsLeaveTheirStatsEmpty() {
+        final OPFGatewayStatsData stats = monitoringService.getGatewayStats();
+
+        Assertions.assertNull(stats.getHttpPool());
+        Assertions.assertTrue(stats.getEndpointConcurrency().isEmpty());
+        Assertions.assertNull(stats.getVirtualThreadPinning());
+    }
+
+    @Test
+    void disabledByDefault() {
+        Assertions.assertFalse(monitoringService.isEnabled());
+
+        Mockito.when(configuration.getBoolean(eq("opf.monitoring.gateway.stats.enabled"), anyBoolean())).thenReturn(true);
+        Assertions.assertTrue(monitoringService.isEnabled());
+    }
+}
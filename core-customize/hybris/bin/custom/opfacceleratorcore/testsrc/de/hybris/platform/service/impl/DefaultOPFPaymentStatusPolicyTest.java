@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.core.model.order.CartModel;
+import de.hybris.platform.opf.dto.OPFPaymentAttribute;
+import de.hybris.platform.opf.dto.OPFPaymentSubmitCompleteResponse;
+import de.hybris.platform.order.CartService;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.site.BaseSiteService;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOPFPaymentStatusPolicyTest {
+
+    private static final String SITE_UID = "electronics";
+    private static final String PROVIDER = "adyen";
+    private static final int ALLOCATION_CALLS = 200_000;
+    // bytes per call left for the allocation counter itself
+    private static final long ALLOCATION_TOLERANCE_BYTES = 1L;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private BaseSiteService baseSiteService;
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private CartModel cart;
+
+    private Configuration configuration;
+
+    private DefaultOPFConfigService configService;
+
+    private DefaultOPFPaymentStatusPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new BaseConfiguration();
+        configuration.setProperty("opf.payment.statuses", "SUCCESS, ACCEPTED,Authorised");
+        configuration.setProperty("opf.payment.statuses." + SITE_UID, "SUCCESS,SETTLED");
+        configuration.setProperty("opf.payment.statuses.provider." + PROVIDER, "Authorised,Pending");
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(cartService.hasSessionCart()).thenReturn(true);
+        Mockito.when(cartService.getSessionCart()).thenReturn(cart);
+        configService = new DefaultOPFConfigService(configurationService, baseSiteService);
+        policy = new DefaultOPFPaymentStatusPolicy(configService, cartService);
+    }
+
+    @Test
+    void statusesAreMatchedIgnoringCase() {
+        Assertions.assertTrue(policy.isAccepted(response("authorised", "AUTHORISED")));
+        Assertions.assertTrue(policy.isAccepted(response("accepted", "Success")));
+        Assertions.assertFalse(policy.isAccepted(response("REFUSED", "Authorised")));
+        Assertions.assertFalse(policy.isAccepted(response("Authorised", "Refused")));
+    }
+
+    @Test
+    void missingResultCodeIsNotAccepted() {
+        final OPFPaymentSubmitCompleteResponse response = response("SUCCESS", "SUCCESS");
+        response.getCustomFields().get(1).setKey("status");
+
+        Assertions.assertFalse(policy.isAccepted(response));
+        response.setCustomFields(null);
+        Assertions.assertFalse(policy.isAccepted(response));
+        response.setStatus(null);
+        Assertions.assertFalse(policy.isAccepted(response));
+    }
+
+    @Test
+    void siteAndProviderOverrideTheAcceptedStatuses() {
+        final OPFConfig siteConfig = configService.getConfig(SITE_UID);
+        Assertions.assertTrue(policy.isAccepted(siteConfig, null, response("SETTLED", "SETTLED")));
+        Assertions.assertFalse(policy.isAccepted(siteConfig, null, response("ACCEPTED", "ACCEPTED")));
+
+        Mockito.when(cart.getSapPaymentOptionId()).thenReturn(PROVIDER);
+        Assertions.assertTrue(policy.isAccepted(response("pending", "Pending")));
+        Assertions.assertFalse(policy.isAccepted(response("SUCCESS", "SUCCESS")));
+    }
+
+    @Test
+    void compiledMatcherAllocatesNothingUnlikeSplitting() {
+        final OPFConfig config = configService.getConfig(StringUtils.EMPTY);
+        final OPFPaymentSubmitCompleteResponse response = response("Authorised", "authorised");
+        final BooleanSupplier splitting = () -> isAcceptedBySplitting(response);
+        final BooleanSupplier compiled = () -> policy.isAccepted(config, PROVIDER, response);
+        Assertions.assertTrue(splitting.getAsBoolean());
+        Assertions.assertTrue(compiled.getAsBoolean());
+
+        final long splittingBytes = bytesPerCall(splitting);
+        final long compiledBytes = bytesPerCall(compiled);
+
+        Assertions.assertTrue(splittingBytes > 100L, "split and stream " + splittingBytes + " bytes/call");
+        Assertions.assertTrue(compiledBytes <= ALLOCATION_TOLERANCE_BYTES, "compiled " + compiledBytes + " bytes/call");
+    }
+
+    /**
+     * the validation submit-complete did on every call before the status policy
+     */
+    private boolean isAcceptedBySplitting(final OPFPaymentSubmitCompleteResponse response) {
+        final String customFieldStatus = response.getCustomFields().stream()
+                .filter(cf -> StringUtils.equalsIgnoreCase("resultCode", cf.getKey()))
+                .map(OPFPaymentAttribute::getValue).filter(String.class::isInstance).map(String.class::cast)
+                .findFirst().orElse(null);
+        return isStatusValidBySplitting(response.getStatus()) && customFieldStatus != null
+                && isStatusValidBySplitting(customFieldStatus);
+    }
+
+    private boolean isStatusValidBySplitting(final String status) {
+        final List<String> statuses = Arrays.stream(configuration.getString("opf.payment.statuses").split(","))
+                .map(value -> value.trim().toUpperCase(Locale.ENGLISH)).toList();
+        return statuses.contains(status.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * average bytes the current thread allocates per call, after a warm-up
+     */
+    private static long bytesPerCall(final BooleanSupplier call) {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+        int accepted = 0;
+        for (int i = 0; i < ALLOCATION_CALLS / 10; i++) {
+            accepted += call.getAsBoolean() ? 1 : 0;
+        }
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ALLOCATION_CALLS; i++) {
+            accepted += call.getAsBoolean() ? 1 : 0;
+        }
+        final long bytes = (threads.getThreadAllocatedBytes(threadId) - before) / ALLOCATION_CALLS;
+        Assertions.assertTrue(accepted > 0);
+        return bytes;
+    }
+
+    private static OPFPaymentSubmitCompleteResponse response(final String status, final String resultCode) {
+        final List<OPFPaymentAttribute> customFields = new ArrayList<>();
+        customFields.add(attribute("merchantReference", "00012345"));
+        customFields.add(attribute("resultCode", resultCode));
+        customFields.add(attribute("pspReference", "8815"));
+        final OPFPaymentSubmitCompleteResponse response = new OPFPaymentSubmitCompleteResponse();
+        response.setStatus(status);
+        response.setCustomFields(customFields);
+        return response;
+    }
+
+    private static OPFPaymentAttribute attribute(final String key, final String value) {
+        final OPFPaymentAttribute attribute = new OPFPaymentAttribute();
+        attribute.setKey(key);
+        attribute.setValue(value);
+        return attribute;
+    }
+}
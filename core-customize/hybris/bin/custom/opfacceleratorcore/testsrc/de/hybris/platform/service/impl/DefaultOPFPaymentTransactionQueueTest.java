@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.opf.data.OPFPaymentTransactionQueueStatsData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class DefaultOPFPaymentTransactionQueueTest {
+
+    private ExecutorService executor;
+    private DefaultOPFPaymentTransactionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        queue = new DefaultOPFPaymentTransactionQueue(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void writesOfACartRunInTheOrderTheyWereQueued() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> writes = new CopyOnWriteArrayList<>();
+
+        queue.enqueue("cart", () -> {
+            await(release);
+            writes.add("initiate");
+        });
+        queue.enqueue("cart", () -> writes.add("quick buy"));
+        release.countDown();
+
+        Assertions.assertTrue(queue.awaitDrained("cart", 5000));
+        Assertions.assertEquals(List.of("initiate", "quick buy"), writes);
+        Assertions.assertEquals(0, queue.getQueueStats().getPendingCarts());
+        Assertions.assertEquals(2L, queue.getQueueStats().getWritten());
+    }
+
+    @Test
+    void writesOfOtherCartsDoNotWait() {
+        final CountDownLatch release = new CountDownLatch(1);
+        queue.enqueue("slow", () -> await(release));
+
+        final CompletableFuture<Void> other = queue.enqueue("other", () -> {
+        });
+
+        Assertions.assertTrue(queue.awaitDrained("other", 5000));
+        Assertions.assertTrue(other.isDone());
+        Assertions.assertEquals(1, queue.getQueueStats().getPendingCarts());
+        release.countDown();
+    }
+
+    @Test
+    void drainTimesOutWhileAWriteIsRunning() {
+        final CountDownLatch release = new CountDownLatch(1);
+        queue.enqueue("cart", () -> await(release));
+
+        Assertions.assertFalse(queue.awaitDrained("cart", 50));
+        release.countDown();
+        Assertions.assertTrue(queue.awaitDrained("cart", 5000));
+
+        final OPFPaymentTransactionQueueStatsData stats = queue.getQueueStats();
+        Assertions.assertEquals(1L, stats.getDrainTimeouts());
+        Assertions.assertTrue(stats.getDrainWaits() >= 1L);
+        Assertions.assertTrue(queue.awaitDrained("idle", 0));
+    }
+
+    @Test
+    void failedWriteDoesNotBlockTheNextWriteOfTheCart() {
+        final CompletableFuture<Void> failed = queue.enqueue("cart", () -> {
+            throw new IllegalStateException("model saving failed");
+        });
+        final CompletableFuture<Void> next = queue.enqueue("cart", () -> {
+        });
+
+        Assertions.assertTrue(queue.awaitDrained("cart", 5000));
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> failed.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        Assertions.assertDoesNotThrow(() -> next.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1L, queue.getQueueStats().getFailed());
+    }
+
+    @Test
+    void rejectedWriteRunsOnTheCallingThread() {
+        final ExecutorService saturated = Executors.newSingleThreadExecutor();
+        saturated.shutdown();
+        final DefaultOPFPaymentTransactionQueue rejecting = new DefaultOPFPaymentTransactionQueue(saturated);
+        final Thread caller = Thread.currentThread();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        final CompletableFuture<Void> write = rejecting.enqueue("cart", () -> threads.add(Thread.currentThread()));
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> saturated.execute(() -> {
+        }));
+        Assertions.assertTrue(write.isDone());
+        Assertions.assertEquals(List.of(caller), threads);
+        Assertions.assertEquals(0, rejecting.getQueueStats().getPendingCarts());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
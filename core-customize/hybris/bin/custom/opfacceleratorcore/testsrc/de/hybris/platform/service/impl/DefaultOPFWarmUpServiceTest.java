@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.service.impl;
+
+import de.hybris.platform.basecommerce.model.site.BaseSiteModel;
+import de.hybris.platform.client.OPFAccessTokenManager;
+import de.hybris.platform.data.response.OPFActiveConfigResponse;
+import de.hybris.platform.service.OPFAcceleratorService;
+import de.hybris.platform.service.OPFConfig;
+import de.hybris.platform.service.OPFConfigService;
+import de.hybris.platform.servicelayer.config.ConfigurationService;
+import de.hybris.platform.servicelayer.session.SessionExecutionBody;
+import de.hybris.platform.servicelayer.session.SessionService;
+import de.hybris.platform.servicelayer.user.UserService;
+import de.hybris.platform.site.BaseSiteService;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DefaultOPFWarmUpServiceTest {
+
+    @Mock
+    private BaseSiteService baseSiteService;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private OPFConfigService opfConfigService;
+
+    @Mock
+    private OPFAcceleratorService opfAcceleratorService;
+
+    @Mock
+    private OPFAccessTokenManager opfAccessTokenManager;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private BaseSiteModel electronics;
+
+    @Mock
+    private BaseSiteModel apparel;
+
+    private DefaultOPFWarmUpService warmUpService;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationService.getConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(configuration.getLong(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        Mockito.when(electronics.getUid()).thenReturn("electronics");
+        Mockito.when(apparel.getUid()).thenReturn("apparel");
+        Mockito.when(baseSiteService.getAllBaseSites()).thenReturn(List.of(electronics, apparel));
+        Mockito.when(opfConfigService.getConfig(anyString()))
+                .thenReturn(OPFConfig.builder().baseUrl("https://opf.example.com").build());
+        Mockito.when(sessionService.executeInLocalView(any(SessionExecutionBody.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, SessionExecutionBody.class).execute());
+        warmUpService = new DefaultOPFWarmUpService(baseSiteService, sessionService, userService, opfConfigService,
+                opfAcceleratorService, opfAccessTokenManager, configurationService);
+    }
+
+    @Test
+    void everySiteIsWarmedUpBeforeTheNodeIsReady() {
+        Assertions.assertFalse(warmUpService.isReady());
+
+        Assertions.assertTrue(warmUpService.warmUp());
+
+        final InOrder inOrder = Mockito.inOrder(baseSiteService, opfAccessTokenManager, opfAcceleratorService);
+        inOrder.verify(baseSiteService).setCurrentBaseSite(electronics, false);
+        inOrder.verify(opfAccessTokenManager).getAccessToken();
+        inOrder.verify(opfAcceleratorService).refreshActiveConfigurations();
+        inOrder.verify(baseSiteService).setCurrentBaseSite(apparel, false);
+        inOrder.verify(opfAccessTokenManager).getAccessToken();
+        inOrder.verify(opfAcceleratorService).refreshActiveConfigurations();
+        Assertions.assertTrue(warmUpService.isReady());
+        Assertions.assertEquals(2, warmUpService.getWarmUpStats().getSitesWarmed());
+    }
+
+    @Test
+    void failingSiteDoesNotStopTheOthers() {
+        Mockito.when(opfAcceleratorService.refreshActiveConfigurations())
+                .thenThrow(new IllegalStateException("gateway down"))
+                .thenReturn(new OPFActiveConfigResponse());
+
+        Assertions.assertFalse(warmUpService.warmUp());
+
+        Mockito.verify(opfAcceleratorService, Mockito.times(2)).refreshActiveConfigurations();
+        Assertions.assertTrue(warmUpService.isReady());
+        Assertions.assertEquals(1, warmUpService.getWarmUpStats().getSitesWarmed());
+        Assertions.assertEquals(1, warmUpService.getWarmUpStats().getSitesFailed());
+    }
+
+    @Test
+    void siteWithoutGatewayIsSkipped() {
+        Mockito.when(opfConfigService.getConfig("apparel")).thenReturn(OPFConfig.builder().baseUrl("").build());
+
+        Assertions.assertTrue(warmUpService.warmUp());
+
+        Mockito.verify(baseSiteService, Mockito.never()).setCurrentBaseSite(apparel, false);
+        Assertions.assertEquals(1, warmUpService.getWarmUpStats().getSitesWarmed());
+    }
+
+    @Test
+    void nodeIsReadyAfterTheTimeoutWithoutWarmUp() {
+        Mockito.when(configuration.getLong("opf.warmup.ready.timeout.ms", 120_000L)).thenReturn(-1L);
+
+        Assertions.assertTrue(warmUpService.isReady());
+        Assertions.assertEquals(0L, warmUpService.getWarmUpStats().getRuns());
+    }
+
+    @Test
+    void disabledWarmUpOnlyReportsReady() {
+        Mockito.when(configuration.getBoolean("opf.warmup.enabled", true)).thenReturn(false);
+
+        Assertions.assertTrue(warmUpService.warmUp());
+
+        Mockito.verifyNoInteractions(opfAcceleratorService, opfAccessTokenManager);
+        Assertions.assertTrue(warmUpService.isReady());
+    }
+}
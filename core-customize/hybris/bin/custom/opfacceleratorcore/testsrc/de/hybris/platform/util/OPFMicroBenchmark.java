@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Wall-clock loop for the {@code *Benchmark} classes of this extension. JMH is not part of the extension's build, so
+ * those classes are plain {@code main} programs run from the IDE on the test classpath. They hold no tests and are not
+ * part of the unit test run, and they report through the log.
+ */
+public final class OPFMicroBenchmark
+{
+	private static final Logger LOGGER = LoggerFactory.getLogger(OPFMicroBenchmark.class);
+
+	private static volatile int sink;
+
+	private OPFMicroBenchmark(){
+	}
+
+	/**
+	 * Measure the average time of a call after a warm-up of a tenth of the calls
+	 * @param name name of the variant, used in the log
+	 * @param calls number of measured calls
+	 * @param call the work to measure, its result is consumed so the call cannot be optimised away
+	 * @return nanoseconds per call
+	 */
+	public static long nanosPerCall(final String name, final int calls, final IntSupplier call){
+		int result = 0;
+		for (int i = 0; i < calls / 10; i++) {
+			result += call.getAsInt();
+		}
+		final long start = System.nanoTime();
+		for (int i = 0; i < calls; i++) {
+			result += call.getAsInt();
+		}
+		final long nanos = (System.nanoTime() - start) / calls;
+		sink = result;
+		LOGGER.info("{}: {} ns/call", name, nanos);
+		return nanos;
+	}
+}
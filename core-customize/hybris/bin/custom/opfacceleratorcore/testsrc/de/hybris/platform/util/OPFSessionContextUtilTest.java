@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 SAP SE or an SAP affiliate company. All rights reserved.
+ */
+package de.hybris.platform.util;
+
+import de.hybris.platform.core.PK;
+import de.hybris.platform.core.model.order.CartModel;
+import de.hybris.platform.servicelayer.model.ModelService;
+import de.hybris.platform.servicelayer.session.Session;
+import de.hybris.platform.servicelayer.session.SessionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+public class OPFSessionContextUtilTest {
+
+    private SessionService sessionService;
+    private ModelService modelService;
+    private Session workerSession;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        sessionService = Mockito.mock(SessionService.class);
+        modelService = Mockito.mock(ModelService.class);
+        workerSession = Mockito.mock(Session.class);
+        executor = Executors.newSingleThreadExecutor();
+        Mockito.when(sessionService.hasCurrentSession()).thenReturn(true);
+        Mockito.when(sessionService.getAttribute("currentSite")).thenReturn("electronics");
+        Mockito.when(sessionService.getAttribute("currency")).thenReturn("USD");
+        Mockito.when(sessionService.createNewSession()).thenReturn(workerSession);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void workerRunsInAFreshSessionHoldingTheCallersAttributes() {
+        final Supplier<String> task = OPFSessionContextUtil.withCurrentSessionContext(() -> "done", sessionService, modelService);
+
+        Assertions.assertEquals("done", CompletableFuture.supplyAsync(task, executor).join());
+
+        final InOrder inOrder = Mockito.inOrder(sessionService);
+        inOrder.verify(sessionService).createNewSession();
+        inOrder.verify(sessionService).setAttribute("currency", "USD");
+        inOrder.verify(sessionService).setAttribute("currentSite", "electronics");
+        inOrder.verify(sessionService).closeSession(workerSession);
+        Mockito.verify(sessionService, Mockito.never()).setAttribute(Mockito.eq("language"), Mockito.any());
+    }
+
+    @Test
+    void workerLoadsItsOwnInstanceOfTheCart() {
+        final PK cartPk = PK.fromLong(8796093054977L);
+        final CartModel callerCart = Mockito.mock(CartModel.class);
+        final CartModel workerCart = Mockito.mock(CartModel.class);
+        Mockito.when(callerCart.getPk()).thenReturn(cartPk);
+        Mockito.when(sessionService.getAttribute("cart")).thenReturn(callerCart);
+        Mockito.when(modelService.get(cartPk)).thenReturn(workerCart);
+        final Supplier<String> task = OPFSessionContextUtil.withCurrentSessionContext(() -> "done", sessionService,
+                modelService);
+
+        CompletableFuture.supplyAsync(task, executor).join();
+
+        Mockito.verify(sessionService).setAttribute("cart", workerCart);
+        Mockito.verify(sessionService, Mockito.never()).setAttribute("cart", callerCart);
+    }
+
+    @Test
+    void everyTaskGetsItsOwnSession() {
+        final Supplier<String> task = OPFSessionContextUtil.withCurrentSessionContext(() -> "done", sessionService, modelService);
+
+        CompletableFuture.supplyAsync(task, executor).join();
+        CompletableFuture.supplyAsync(task, executor).join();
+
+        Mockito.verify(sessionService, Mockito.times(2)).createNewSession();
+        Mockito.verify(sessionService, Mockito.times(2)).closeSession(workerSession);
+    }
+
+    @Test
+    void sessionIsClosedWhenTheTaskFails() {
+        final Supplier<String> task = OPFSessionContextUtil.withCurrentSessionContext(() -> {
+            throw new IllegalStateException("gateway down");
+        }, sessionService, modelService);
+
+        Assertions.assertThrows(RuntimeException.class, () -> CompletableFuture.supplyAsync(task, executor).join());
+        Mockito.verify(sessionService).closeSession(workerSession);
+    }
+
+    @Test
+    void callerThreadKeepsItsOwnSession() {
+        final Supplier<String> task = OPFSessionContextUtil.withCurrentSessionContext(() -> "done", sessionService, modelService);
+
+        Assertions.assertEquals("done", task.get());
+        Mockito.verify(sessionService, Mockito.never()).createNewSession();
+    }
+}
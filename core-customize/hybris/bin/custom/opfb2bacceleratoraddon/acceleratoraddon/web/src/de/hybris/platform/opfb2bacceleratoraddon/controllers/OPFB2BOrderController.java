@@ -10,9 +10,11 @@ import de.hybris.platform.commercefacades.order.data.CartData;
 import de.hybris.platform.commercefacades.order.data.CartModificationData;
 import de.hybris.platform.commercefacades.order.data.OrderData;
 import de.hybris.platform.commerceservices.order.CommerceCartModificationException;
+import de.hybris.platform.facade.OPFAcceleratorFacade;
 import de.hybris.platform.opfb2bacceleratoraddon.exception.OPFAcceleratorException;
 import de.hybris.platform.opfb2bacceleratoraddon.exception.OPFRequestValidationException;
 import de.hybris.platform.opfb2bacceleratoraddon.validation.OPFB2BOrderCartValidator;
+import de.hybris.platform.service.OPFCartSnapshot;
 import de.hybris.platform.servicelayer.i18n.I18NService;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
@@ -41,6 +43,10 @@ public class OPFB2BOrderController {
     private OPFB2BOrderCartValidator opfB2BOrderCartValidator;
     @Resource(name = "b2bCheckoutFacade")
     private CheckoutFacade b2bCheckoutFacade;
+    @Resource(name = "opfAcceleratorFacade")
+    private OPFAcceleratorFacade opfAcceleratorFacade;
+    @Resource(name = "opfCartSnapshot")
+    private OPFCartSnapshot opfCartSnapshot;
     @Resource(name = "messageSource")
     private MessageSource messageSource;
     @Resource(name = "i18nService")
@@ -61,7 +67,8 @@ public class OPFB2BOrderController {
         if (!termsChecked) {
             throw new OPFRequestValidationException("Some required fields are missing or contain errors");
         }
-        final CartData cartData = b2bCheckoutFacade.getCheckoutCart();
+        opfAcceleratorFacade.awaitPaymentTransaction();
+        final CartData cartData = getSessionCart();
         final Errors errors = new BeanPropertyBindingResult(cartData, "sessionCart");
         opfB2BOrderCartValidator.validate(cartData, errors);
         if (errors.hasErrors()) {
@@ -95,7 +102,7 @@ public class OPFB2BOrderController {
     }
 
     protected CartData getSessionCart() {
-        return b2bCheckoutFacade.getCheckoutCart();
+        return opfCartSnapshot.get(OPFCartSnapshot.B2B_CHECKOUT_CART, b2bCheckoutFacade::getCheckoutCart);
     }
 
     public MessageSource getMessageSource() {